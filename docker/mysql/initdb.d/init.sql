@@ -7,11 +7,13 @@ create table sys_user (
   user_name         varchar(30)     not null                   comment '用户账号',
   password          varchar(100)    default ''                 comment '密码',
   email             varchar(255)    default null               comment '邮箱',
+  status            tinyint(1)      default 0                  comment '帐号状态（0-正常，1-停用）',
   created_at        datetime        default current_timestamp  comment '创建时间',
   updated_at        datetime        default current_timestamp on update current_timestamp  comment '更新时间',
   created_by        varchar(32)     default null               comment '创建人',
   updated_by        varchar(32)     default null               comment '更新人',
   deleted           tinyint(1)      default 0                  comment '删除标记（0-正常，1-删除）',
+  version           int             default 0                  comment '乐观锁版本号',
   primary key (user_id)
 ) engine=innodb comment = '用户信息表';
 
@@ -20,12 +22,42 @@ create table sys_user (
 -- NULL 不参与唯一约束，因此允许多个已删除用户同名
 create unique index uk_username_active on sys_user((if(deleted = 0, user_name, null)));
 
+-- 数据范围“本人创建”按创建人过滤
+create index idx_created_by on sys_user(created_by);
+
 -- ----------------------------
 -- 初始化-用户信息表数据
 -- ----------------------------
 insert into sys_user (user_id, user_name, password, email) values('1', 'admin', '$2a$10$rzvwIEtaoGJ/rJyuES1iL.zn42G2vHmjfeXrZXuArrUgIR/8SKHSG', 'admin@example.com');
 insert into sys_user (user_id, user_name, password, email) values('2', 'user',  '$2a$10$rzvwIEtaoGJ/rJyuES1iL.zn42G2vHmjfeXrZXuArrUgIR/8SKHSG', 'user@example.com');
 
+-- ----------------------------
+-- 用户变更事件表（事务性发件箱，与 sys_user 同库同事务写入）
+-- ----------------------------
+drop table if exists sys_user_outbox;
+create table sys_user_outbox (
+  event_id          bigint          not null auto_increment    comment '事件ID（本库内的变更流位点）',
+  user_id           varchar(32)     not null                   comment '用户ID',
+  event_type        varchar(16)     not null                   comment '变更类型（CREATED/UPDATED/DELETED/DISABLED）',
+  created_at        datetime        default current_timestamp  comment '变更时间',
+  primary key (event_id),
+  key idx_created_at (created_at)
+) engine=innodb comment = '用户变更事件表';
+
+-- ----------------------------
+-- 用户名目录表（sys_user 分片时使用，位于全局库）
+-- ----------------------------
+drop table if exists sys_user_directory;
+create table sys_user_directory (
+  user_name         varchar(30)     not null                   comment '用户账号',
+  user_id           varchar(32)     not null                   comment '用户ID（决定所在分片）',
+  primary key (user_name),
+  key idx_user_id (user_id)
+) engine=innodb comment = '用户名目录表';
+
+insert into sys_user_directory values('admin', '1');
+insert into sys_user_directory values('user',  '2');
+
 -- ----------------------------
 -- 角色信息表
 -- ----------------------------
@@ -34,14 +66,16 @@ create table sys_role (
   role_id           varchar(32)     not null                   comment '角色ID',
   role_name         varchar(30)     not null                   comment '角色名称',
   role_desc         varchar(100)    not null                   comment '角色说明',
-  primary key (role_id)
+  data_scope        tinyint         not null default 3         comment '数据范围（1全部 2本人创建 3仅本人）',
+  primary key (role_id),
+  unique key uk_role_name (role_name)
 ) engine=innodb comment = '角色信息表';
 
 -- ----------------------------
 -- 初始化-角色信息表数据
 -- ----------------------------
-insert into sys_role values('1', 'ADMIN', '超级管理员');
-insert into sys_role values('2', 'USER',  '普通角色');
+insert into sys_role values('1', 'ADMIN', '超级管理员', 1);
+insert into sys_role values('2', 'USER',  '普通角色', 3);
 
 -- ----------------------------
 -- 权限信息表
@@ -51,7 +85,8 @@ create table sys_perm (
   perm_id           varchar(32)     not null                   comment '权限ID',
   perm_name         varchar(30)     not null                   comment '权限名称',
   perm_desc         varchar(100)    not null                   comment '权限说明',
-  primary key (perm_id)
+  primary key (perm_id),
+  unique key uk_perm_name (perm_name)
 ) engine=innodb comment = '权限信息表';
 
 -- ----------------------------
@@ -59,6 +94,7 @@ create table sys_perm (
 -- ----------------------------
 insert into sys_perm values('1', 'admin',  '超级管理员');
 insert into sys_perm values('2', 'common', '普通角色');
+insert into sys_perm values('3', 'user:list', '查询用户列表（按数据范围）');
 
 -- ----------------------------
 -- 用户和角色关联表  用户N-1角色
@@ -67,7 +103,8 @@ drop table if exists sys_user_role;
 create table sys_user_role (
   user_id   varchar(32) not null comment '用户ID',
   role_id   varchar(32) not null comment '角色ID',
-  primary key(user_id, role_id)
+  primary key(user_id, role_id),
+  key idx_role_id (role_id)
 ) engine=innodb comment = '用户和角色关联表';
 
 -- ----------------------------
@@ -76,6 +113,47 @@ create table sys_user_role (
 insert into sys_user_role values ('1', '1');
 insert into sys_user_role values ('2', '2');
 
+-- ----------------------------
+-- 角色继承关系表（父角色拥有子角色的全部权限）
+-- ----------------------------
+drop table if exists sys_role_inherit;
+create table sys_role_inherit (
+  parent_id varchar(32) not null comment '父角色ID',
+  child_id  varchar(32) not null comment '子角色ID',
+  primary key(parent_id, child_id),
+  key idx_child_id (child_id)
+) engine=innodb comment = '角色继承关系表';
+
+-- ----------------------------
+-- 角色继承闭包表（含自身，path_count 为路径条数，随继承关系增量维护）
+-- ----------------------------
+drop table if exists sys_role_closure;
+create table sys_role_closure (
+  ancestor_id   varchar(32) not null comment '祖先角色ID',
+  descendant_id varchar(32) not null comment '后代角色ID',
+  path_count    bigint      not null comment '路径条数',
+  primary key(ancestor_id, descendant_id),
+  key idx_descendant_id (descendant_id)
+) engine=innodb comment = '角色继承闭包表';
+
+insert into sys_role_closure values ('1', '1', 1);
+insert into sys_role_closure values ('2', '2', 1);
+
+-- ----------------------------
+-- 角色有效权限表（预计算：自身及继承角色的 ROLE_ 名称和权限）
+-- ----------------------------
+drop table if exists sys_role_authority;
+create table sys_role_authority (
+  role_id   varchar(32)  not null comment '角色ID',
+  authority varchar(64)  not null comment '权限标识',
+  primary key(role_id, authority)
+) engine=innodb comment = '角色有效权限表';
+
+insert into sys_role_authority values ('1', 'ROLE_ADMIN');
+insert into sys_role_authority values ('1', 'admin');
+insert into sys_role_authority values ('2', 'ROLE_USER');
+insert into sys_role_authority values ('2', 'common');
+
 -- ----------------------------
 -- 角色和权限关联表  角色N-1权限
 -- ----------------------------
@@ -83,7 +161,8 @@ drop table if exists sys_role_perm;
 create table sys_role_perm (
    role_id   varchar(32) not null comment '用户ID',
    perm_id   varchar(32) not null comment '权限ID',
-   primary key(role_id, perm_id)
+   primary key(role_id, perm_id),
+   key idx_perm_id (perm_id)
 ) engine=innodb comment = '脚色和权限关联表';
 
 -- ----------------------------
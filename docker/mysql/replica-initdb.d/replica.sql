@@ -0,0 +1,15 @@
+-- ----------------------------
+-- 从库复制配置（表结构与数据由主库复制而来）
+-- ----------------------------
+-- 应用账号需要查看复制延迟（SHOW REPLICA STATUS）
+grant replication client on *.* to 'admin_user'@'%';
+
+change replication source to
+  source_host = 'database',
+  source_port = 3306,
+  source_user = 'root',
+  source_password = 'rootpass',
+  source_auto_position = 1,
+  get_source_public_key = 1;
+
+start replica;
@@ -0,0 +1,45 @@
+#!/bin/bash
+# ----------------------------
+# sys_user 分片初始化：表结构与 init.sql 保持一致，
+# 初始化用户只写入 crc32(user_id) % SHARD_COUNT = SHARD_NO 的分片
+# ----------------------------
+set -e
+
+mysql -uroot -p"${MYSQL_ROOT_PASSWORD}" "${MYSQL_DATABASE}" <<SQL
+drop table if exists sys_user;
+create table sys_user (
+  user_id           varchar(32)     not null                   comment '用户ID',
+  user_name         varchar(30)     not null                   comment '用户账号',
+  password          varchar(100)    default ''                 comment '密码',
+  email             varchar(255)    default null               comment '邮箱',
+  status            tinyint(1)      default 0                  comment '帐号状态（0-正常，1-停用）',
+  created_at        datetime        default current_timestamp  comment '创建时间',
+  updated_at        datetime        default current_timestamp on update current_timestamp  comment '更新时间',
+  created_by        varchar(32)     default null               comment '创建人',
+  updated_by        varchar(32)     default null               comment '更新人',
+  deleted           tinyint(1)      default 0                  comment '删除标记（0-正常，1-删除）',
+  version           int             default 0                  comment '乐观锁版本号',
+  primary key (user_id)
+) engine=innodb comment = '用户信息表';
+
+create unique index uk_username_active on sys_user((if(deleted = 0, user_name, null)));
+create index idx_created_by on sys_user(created_by);
+
+drop table if exists sys_user_outbox;
+create table sys_user_outbox (
+  event_id          bigint          not null auto_increment    comment '事件ID（本库内的变更流位点）',
+  user_id           varchar(32)     not null                   comment '用户ID',
+  event_type        varchar(16)     not null                   comment '变更类型（CREATED/UPDATED/DELETED/DISABLED）',
+  created_at        datetime        default current_timestamp  comment '变更时间',
+  primary key (event_id),
+  key idx_created_at (created_at)
+) engine=innodb comment = '用户变更事件表';
+
+insert into sys_user (user_id, user_name, password, email)
+select user_id, user_name, password, email from (
+  select '1' as user_id, 'admin' as user_name, '\$2a\$10\$rzvwIEtaoGJ/rJyuES1iL.zn42G2vHmjfeXrZXuArrUgIR/8SKHSG' as password, 'admin@example.com' as email
+  union all
+  select '2', 'user', '\$2a\$10\$rzvwIEtaoGJ/rJyuES1iL.zn42G2vHmjfeXrZXuArrUgIR/8SKHSG', 'user@example.com'
+) seed
+where crc32(seed.user_id) % ${SHARD_COUNT} = ${SHARD_NO};
+SQL
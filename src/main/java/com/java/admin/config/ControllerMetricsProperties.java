@@ -0,0 +1,31 @@
+package com.java.admin.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "controller.metrics")
+public class ControllerMetricsProperties {
+
+    /**
+     * Latency above which a controller call is logged as slow
+     */
+    private Duration slowThreshold = Duration.ofSeconds(1);
+
+    /**
+     * Per-route overrides of the slow threshold, keyed by "Controller.method"
+     * (e.g. {@code "[SysUserController.importUsers]": 30s})
+     */
+    private Map<String, Duration> slowThresholds = new HashMap<>();
+
+    /**
+     * Latency percentiles published per route
+     */
+    private double[] percentiles = {0.5, 0.99, 0.999};
+}
@@ -0,0 +1,79 @@
+package com.java.admin.config;
+
+import com.alibaba.druid.pool.DruidDataSource;
+import com.java.admin.infrastructure.datasource.DataSourceRole;
+import com.java.admin.infrastructure.datasource.ReadYourWritesTracker;
+import com.java.admin.infrastructure.datasource.ReplicaLagMonitor;
+import com.java.admin.infrastructure.datasource.RoutingDataSource;
+import com.java.admin.infrastructure.datasource.WriteTrackingInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Read/write splitting: primary from {@code spring.datasource}, replica from {@code datasource.replica}
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    public DruidDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(DruidDataSource.class).build();
+    }
+
+    @Bean
+    public DruidDataSource replicaDataSource(DataSourceProperties dataSourceProperties,
+                                             ReplicaDataSourceProperties replicaProperties) {
+        return DataSourceBuilder.create()
+                .type(DruidDataSource.class)
+                .driverClassName(dataSourceProperties.determineDriverClassName())
+                .url(replicaProperties.getUrl())
+                .username(replicaProperties.getUsername())
+                .password(replicaProperties.getPassword())
+                .build();
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                               ReplicaDataSourceProperties replicaProperties,
+                                               MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(new JdbcTemplate(replicaDataSource), replicaProperties, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor) {
+        RoutingDataSource routingDataSource = new RoutingDataSource(replicaLagMonitor);
+        routingDataSource.setTargetDataSources(Map.of(
+                DataSourceRole.PRIMARY, primaryDataSource,
+                DataSourceRole.REPLICA, replicaDataSource));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+        // Defer the physical connection so routing sees the role set by ReplicaReadAspect
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(ReplicaDataSourceProperties replicaProperties) {
+        return new ReadYourWritesTracker(Duration.ofMillis(replicaProperties.getStickyWindowMillis()));
+    }
+
+    @Bean
+    public WriteTrackingInterceptor writeTrackingInterceptor(ReadYourWritesTracker readYourWritesTracker) {
+        return new WriteTrackingInterceptor(readYourWritesTracker);
+    }
+}
@@ -0,0 +1,49 @@
+package com.java.admin.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "idempotency")
+public class IdempotencyProperties {
+
+    /**
+     * Whether the Idempotency-Key header is honoured
+     */
+    private boolean enabled = true;
+
+    /**
+     * How long a completed response is replayed for the same key
+     */
+    private Duration recordTtl = Duration.ofHours(24);
+
+    /**
+     * How long a key stays reserved while its request runs; bounds the lock left by a crashed node
+     */
+    private Duration inFlightTtl = Duration.ofMinutes(2);
+
+    /**
+     * How long a duplicate waits for the in-flight request before giving up with 409
+     */
+    private Duration waitTimeout = Duration.ofSeconds(10);
+
+    /**
+     * How often a waiting duplicate checks for the stored response
+     */
+    private Duration pollInterval = Duration.ofMillis(50);
+
+    /**
+     * Largest request body buffered whole for the request fingerprint, with or without a
+     * Content-Length; of a larger body only the first this many bytes (plus one) are fingerprinted
+     */
+    private int maxFingerprintBodySize = 64 * 1024;
+
+    /**
+     * Largest response stored for replay; a larger response releases the key instead
+     */
+    private int maxResponseSize = 256 * 1024;
+}
@@ -0,0 +1,36 @@
+package com.java.admin.config;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.java.admin.infrastructure.handler.SparseFieldsetAdvice;
+import com.java.admin.modules.system.model.SysUser;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Jackson Configuration
+ */
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Attach the sparse fieldset filter to response beans, and let them serialize in full unless a
+     * response sets a filter (see {@link SparseFieldsetAdvice})
+     *
+     * <p>The filter is mixed in on the MVC mapper only: other mappers (the Redis serializer) have no
+     * filter provider and would fail on a class-level {@code @JsonFilter}.
+     *
+     * @return Object mapper customizer
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer jsonFilterCustomizer() {
+        return builder -> builder
+                .mixIn(SysUser.class, SparseFieldsetMixIn.class)
+                .filters(new SimpleFilterProvider().setFailOnUnknownId(false));
+    }
+
+    @JsonFilter(SparseFieldsetAdvice.FILTER_ID)
+    private interface SparseFieldsetMixIn {
+    }
+}
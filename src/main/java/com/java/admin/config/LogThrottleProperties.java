@@ -0,0 +1,38 @@
+package com.java.admin.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "log-throttle")
+public class LogThrottleProperties {
+
+    /**
+     * Whether repeated events are collapsed; when off every event is logged
+     */
+    private boolean enabled = true;
+
+    /**
+     * Length of the window over which repeated events are counted
+     */
+    private Duration window = Duration.ofSeconds(10);
+
+    /**
+     * Events per call site and code logged in full at the start of each window
+     */
+    private int burst = 1;
+
+    /**
+     * Formatted messages of suppressed events kept as samples for the summary
+     */
+    private int samples = 3;
+
+    /**
+     * Call site and code combinations tracked at most; events beyond it are logged in full
+     */
+    private int maxKeys = 1000;
+}
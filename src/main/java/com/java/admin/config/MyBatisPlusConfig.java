@@ -3,6 +3,9 @@ package com.java.admin.config;
 import com.baomidou.mybatisplus.annotation.DbType;
 import com.baomidou.mybatisplus.extension.plugins.MybatisPlusInterceptor;
 import com.baomidou.mybatisplus.extension.plugins.inner.PaginationInnerInterceptor;
+import com.java.admin.infrastructure.datascope.DataScopeInterceptor;
+import com.java.admin.infrastructure.jfr.SqlStatementInterceptor;
+import io.micrometer.tracing.Tracer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -12,7 +15,14 @@ public class MyBatisPlusConfig {
     @Bean
     public MybatisPlusInterceptor mybatisPlusInterceptor() {
         MybatisPlusInterceptor mybatisPlusInterceptor = new MybatisPlusInterceptor();
+        // Before pagination so the count query is scoped as well
+        mybatisPlusInterceptor.addInnerInterceptor(new DataScopeInterceptor());
         mybatisPlusInterceptor.addInnerInterceptor(new PaginationInnerInterceptor(DbType.MYSQL));
         return mybatisPlusInterceptor;
     }
+
+    @Bean
+    public SqlStatementInterceptor sqlStatementInterceptor(Tracer tracer) {
+        return new SqlStatementInterceptor(tracer);
+    }
 }
@@ -1,5 +1,6 @@
 package com.java.admin.config;
 
+import com.java.admin.infrastructure.jfr.RecordingPasswordEncoder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -16,11 +17,12 @@ public class PasswordEncoderConfig {
      *
      * <p>Uses BCrypt algorithm with default strength (10 rounds).
      * BCrypt is a one-way hashing algorithm suitable for password storage.
+     * Each hash and comparison is recorded as a JFR event.
      *
      * @return BCryptPasswordEncoder instance
      */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new RecordingPasswordEncoder(new BCryptPasswordEncoder());
     }
 }
@@ -1,9 +1,13 @@
 package com.java.admin.config;
 
+import com.java.admin.modules.system.mapper.UserCacheMapper;
+import com.java.admin.modules.system.service.SysUserCache;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -28,4 +32,16 @@ public class RedisConfig {
 
         return redisTemplate;
     }
+
+    /**
+     * Subscribes this node to user cache invalidations published by other nodes
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                       SysUserCache sysUserCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(sysUserCache, new ChannelTopic(UserCacheMapper.INVALIDATION_CHANNEL));
+        return container;
+    }
 }
@@ -0,0 +1,35 @@
+package com.java.admin.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "datasource.replica")
+public class ReplicaDataSourceProperties {
+
+    /**
+     * Whether read routing to the replica is enabled (false = single primary DataSource)
+     */
+    private boolean enabled = false;
+
+    private String url;
+    private String username;
+    private String password;
+
+    /**
+     * Replication lag above which reads fall back to the primary
+     */
+    private long maxLagSeconds = 2;
+
+    /**
+     * Interval between replica lag checks
+     */
+    private long lagCheckIntervalMillis = 5000;
+
+    /**
+     * How long a user's reads stay on the primary after that user wrote (read-your-writes)
+     */
+    private long stickyWindowMillis = 5000;
+}
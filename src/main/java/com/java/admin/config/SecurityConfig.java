@@ -1,6 +1,8 @@
 package com.java.admin.config;
 
+import com.java.admin.infrastructure.filter.IdempotencyFilter;
 import com.java.admin.infrastructure.filter.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
@@ -26,6 +28,7 @@ public class SecurityConfig {
 
     private final UserDetailsService userDetailsService;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final IdempotencyFilter idempotencyFilter;
     private final AuthProperties authProperties;
 
     @Bean
@@ -33,9 +36,18 @@ public class SecurityConfig {
         log.info("Spring Security configuration started - SkipPaths: {}", authProperties.getSkipPaths());
 
         http.authorizeHttpRequests(requests -> requests
+                        // Async results (long polls, event streams) were authorized on the original request
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(authProperties.getSkipPaths().toArray(String[]::new)).permitAll()
+                        // Diagnostics expose statement IDs, URIs and user IDs
+                        .requestMatchers("/actuator/jfr/**", "/actuator/jfr").hasRole("ADMIN")
+                        .requestMatchers("/actuator/slowrequests").hasRole("ADMIN")
+                        // Debug logging writes request details of every selected request to the log files
+                        .requestMatchers("/actuator/debuglog").hasRole("ADMIN")
                         .anyRequest().authenticated())
                 .addFilterBefore(jwtAuthenticationFilter, AuthorizationFilter.class)
+                // Keys are scoped to the authenticated caller
+                .addFilterAfter(idempotencyFilter, JwtAuthenticationFilter.class)
                 .csrf(AbstractHttpConfigurer::disable)
                 .formLogin(AbstractHttpConfigurer::disable)
                 .logout(AbstractHttpConfigurer::disable)
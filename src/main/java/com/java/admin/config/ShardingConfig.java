@@ -0,0 +1,58 @@
+package com.java.admin.config;
+
+import com.alibaba.druid.pool.DruidDataSource;
+import com.java.admin.infrastructure.datasource.ShardRoutingDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * sys_user sharding: global database from {@code spring.datasource}, shards from {@code datasource.sharding}
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.sharding", name = "enabled", havingValue = "true")
+public class ShardingConfig {
+
+    @Bean
+    public ShardRoutingDataSource shardRoutingDataSource(DataSourceProperties dataSourceProperties,
+                                                         ShardingProperties shardingProperties,
+                                                         ReplicaDataSourceProperties replicaProperties) {
+        if (replicaProperties.isEnabled()) {
+            throw new IllegalStateException("datasource.sharding and datasource.replica cannot be enabled together");
+        }
+
+        DruidDataSource globalDataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(DruidDataSource.class).build();
+        Map<Object, Object> shards = new HashMap<>();
+        for (int i = 0; i < shardingProperties.getShards().size(); i++) {
+            ShardingProperties.Shard shard = shardingProperties.getShards().get(i);
+            shards.put(i, DataSourceBuilder.create()
+                    .type(DruidDataSource.class)
+                    .driverClassName(dataSourceProperties.determineDriverClassName())
+                    .url(shard.getUrl())
+                    .username(shard.getUsername())
+                    .password(shard.getPassword())
+                    .build());
+        }
+
+        ShardRoutingDataSource routingDataSource = new ShardRoutingDataSource();
+        routingDataSource.setTargetDataSources(shards);
+        routingDataSource.setDefaultTargetDataSource(globalDataSource);
+        return routingDataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardRoutingDataSource shardRoutingDataSource) {
+        // Defer the physical connection so routing sees the shard set by ShardRouter
+        return new LazyConnectionDataSourceProxy(shardRoutingDataSource);
+    }
+}
@@ -0,0 +1,37 @@
+package com.java.admin.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "datasource.sharding")
+public class ShardingProperties {
+
+    /**
+     * Whether sys_user is hash-sharded across {@link #shards} (false = single database)
+     */
+    private boolean enabled = false;
+
+    /**
+     * sys_user shards; a user lives on shard {@code crc32(user_id) % shards.size()}.
+     * All other tables, including the username directory, stay on {@code spring.datasource}
+     */
+    private List<Shard> shards = new ArrayList<>();
+
+    /**
+     * Threads used to query shards in parallel for scatter-gather reads
+     */
+    private int scatterThreads = 8;
+
+    @Data
+    public static class Shard {
+        private String url;
+        private String username;
+        private String password;
+    }
+}
@@ -0,0 +1,43 @@
+package com.java.admin.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "slow-requests")
+public class SlowRequestProperties {
+
+    /**
+     * Whether requests are profiled at all
+     */
+    private boolean enabled = true;
+
+    /**
+     * Requests taking at least this long are captured
+     */
+    private Duration threshold = Duration.ofSeconds(1);
+
+    /**
+     * Number of most recent slow requests kept
+     */
+    private int capacity = 100;
+
+    /**
+     * Fraction of requests profiled (0.0 - 1.0)
+     */
+    private double sampleRate = 1.0;
+
+    /**
+     * Slow requests captured per second at most; the rest are only counted
+     */
+    private int maxCapturesPerSecond = 10;
+
+    /**
+     * Spans kept per request; further spans only add to the phase totals
+     */
+    private int maxSpans = 200;
+}
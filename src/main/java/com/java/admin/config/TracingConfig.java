@@ -0,0 +1,39 @@
+package com.java.admin.config;
+
+import io.lettuce.core.tracing.MicrometerTracing;
+import io.micrometer.observation.ObservationRegistry;
+import io.opentelemetry.exporter.logging.otlp.OtlpJsonLoggingSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.data.redis.ClientResourcesBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Tracing configuration
+ *
+ * <p>Spans go through the Micrometer Tracing OpenTelemetry bridge and are head-sampled per trace
+ * (management.tracing.sampling.probability, parent-based). The auth filter, controller aspect and
+ * SQL interceptor open their spans directly; Redis commands are traced by Lettuce itself.
+ */
+@Configuration
+public class TracingConfig {
+
+    /**
+     * Trace every Redis command as a child of the current span
+     * Command arguments are left out of the tags since they carry session keys and values
+     */
+    @Bean
+    public ClientResourcesBuilderCustomizer lettuceTracingCustomizer(ObservationRegistry observationRegistry) {
+        return builder -> builder.tracing(new MicrometerTracing(observationRegistry, "redis", false));
+    }
+
+    /**
+     * Export sampled spans as OTLP JSON lines through the exporter's logger (see logback-spring.xml)
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "tracing.file-export", name = "enabled", havingValue = "true")
+    public SpanExporter fileSpanExporter() {
+        return OtlpJsonLoggingSpanExporter.create();
+    }
+}
@@ -0,0 +1,44 @@
+package com.java.admin.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "user.cache")
+public class UserCacheProperties {
+
+    /**
+     * Whether id/username lookups go through the cache (false = always query the database)
+     */
+    private boolean enabled = true;
+
+    /**
+     * Maximum entries per local (in-process) cache tier
+     */
+    private long localMaxSize = 10_000;
+
+    /**
+     * Time-to-live of local entries; bounds staleness if an invalidation message is lost
+     */
+    private Duration localTtl = Duration.ofSeconds(60);
+
+    /**
+     * Time-to-live of shared Redis entries
+     */
+    private Duration remoteTtl = Duration.ofMinutes(10);
+
+    /**
+     * Time-to-live of negative ("not found") entries in both tiers
+     */
+    private Duration negativeTtl = Duration.ofSeconds(30);
+
+    /**
+     * Time-to-live of the tombstones evictions leave in Redis; a load that read the database
+     * before the write cannot cache its row until they expire, so this must outlast the slowest load
+     */
+    private Duration tombstoneTtl = Duration.ofSeconds(5);
+}
@@ -0,0 +1,60 @@
+package com.java.admin.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "user.feed")
+public class UserFeedProperties {
+
+    /**
+     * How often waiting consumers are checked for new outbox rows (local writes wake them at once)
+     */
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    /**
+     * Upper bound for a long-poll wait; keep below the servlet async timeout
+     */
+    private Duration maxWait = Duration.ofSeconds(25);
+
+    /**
+     * Maximum changes returned per poll or pushed per stream round
+     */
+    private int maxBatchSize = 500;
+
+    /**
+     * Lifetime of an event stream; clients reconnect with Last-Event-ID
+     */
+    private Duration streamTimeout = Duration.ofMinutes(30);
+
+    /**
+     * Idle interval after which a stream gets a keep-alive comment (also detects gone clients)
+     */
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+    /**
+     * Threads writing to event streams; a slow client holds one of them, never the dispatch thread
+     */
+    private int sendThreads = 4;
+
+    /**
+     * Pending stream writes (at most one per stream); streams beyond it are retried on the next round
+     */
+    private int sendQueueCapacity = 1000;
+
+    /**
+     * Age after which outbox rows are purged; consumers must resume within this window
+     */
+    private Duration retention = Duration.ofDays(7);
+
+    /**
+     * Age after which an event behind a gap in event IDs is delivered anyway. IDs are allocated on
+     * insert but become visible on commit, so a gap may be a transaction still in flight; keep this
+     * above the longest sys_user transaction plus the one-second created_at precision
+     */
+    private Duration gapTimeout = Duration.ofSeconds(5);
+}
@@ -0,0 +1,31 @@
+package com.java.admin.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "user.import")
+public class UserImportProperties {
+
+    /**
+     * Number of rows written per JDBC batch
+     */
+    private int batchSize = 500;
+
+    /**
+     * Password hashing worker threads (defaults to available processors)
+     */
+    private int hashThreads = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Pending hashing tasks before the request thread hashes inline (back-pressure)
+     */
+    private int hashQueueCapacity = 2000;
+
+    /**
+     * Maximum number of failed rows reported in the import result
+     */
+    private int maxReportedFailures = 1000;
+}
@@ -1,23 +1,57 @@
 package com.java.admin.infrastructure.aspect;
 
+import com.java.admin.config.ControllerMetricsProperties;
+import com.java.admin.infrastructure.model.SecurityUserDetails;
+import com.java.admin.infrastructure.profile.RequestProfile;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
 import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
 /**
  * Controller request logging aspect
- * Automatically logs request and response information for all Controller methods
+ * Records a latency timer per controller method and logs slow calls; failed calls are logged
+ * at DEBUG only, as GlobalExceptionHandler logs every exception (throttled) by its error code
+ *
+ * <p>Timers ({@value #TIMER_NAME}, tagged controller/action/outcome) publish the configured
+ * percentiles from Micrometer's HdrHistogram-based recorder, which records without locking.
+ * Names, timers and the slow threshold are resolved once per method; arguments and the
+ * request line are only read when the line is actually logged.
+ *
+ * <p>Calls are also added to the {@link RequestProfile} of profiled requests, and each call runs
+ * in a span named after the method, so SQL and Redis spans nest under it.
  */
 @Aspect
 @Component
+@RequiredArgsConstructor
 @Slf4j
 public class ControllerLogAspect {
 
+    public static final String TIMER_NAME = "controller.requests";
+
+    private final MeterRegistry meterRegistry;
+    private final ControllerMetricsProperties properties;
+    private final Tracer tracer;
+
+    private final Map<Method, Endpoint> endpoints = new ConcurrentHashMap<>();
+
     /**
      * Around advice: Logs request and response for Controller methods
      */
@@ -28,40 +62,97 @@ public class ControllerLogAspect {
             return joinPoint.proceed();
         }
 
-        HttpServletRequest request = attributes.getRequest();
-        String method = request.getMethod();
-        String uri = request.getRequestURI();
-        String className = joinPoint.getSignature().getDeclaringTypeName();
-        String methodName = joinPoint.getSignature().getName();
-        Object[] args = joinPoint.getArgs();
+        Endpoint endpoint = endpoints.computeIfAbsent(((MethodSignature) joinPoint.getSignature()).getMethod(),
+                this::register);
 
         // Log request information (DEBUG level to avoid excessive logs)
-        log.debug("Request started - Method: {}, URI: {}, Controller: {}, Action: {}, Args: {}",
-                method, uri, className, methodName, args);
+        if (log.isDebugEnabled()) {
+            HttpServletRequest request = attributes.getRequest();
+            log.debug("Request started - Method: {}, URI: {}, Controller: {}, Action: {}, Args: {}",
+                    request.getMethod(), request.getRequestURI(), endpoint.controller(), endpoint.action(),
+                    joinPoint.getArgs());
+        }
 
-        long start = System.currentTimeMillis();
-        try {
+        RequestProfile profile = RequestProfile.current();
+        if (profile != null) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.getPrincipal() instanceof SecurityUserDetails user) {
+                RequestProfile.identify(user.getUserid());
+            }
+        }
+
+        Span span = tracer.nextSpan().name(endpoint.name())
+                .tag("code.namespace", endpoint.controller())
+                .tag("code.function", endpoint.action())
+                .start();
+        long start = System.nanoTime();
+        try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
             Object result = joinPoint.proceed();
-            long cost = System.currentTimeMillis() - start;
+            long cost = System.nanoTime() - start;
+            endpoint.success().record(cost, TimeUnit.NANOSECONDS);
+            if (profile != null) {
+                profile.add(RequestProfile.Kind.CONTROLLER, endpoint.name(), start, 0);
+            }
 
             // Log successful response
-            if (cost > 1000) {
-                log.warn("Slow response - Method: {}, URI: {}, Cost: {}ms, Controller: {}, Action: {}",
-                        method, uri, cost, className, methodName);
-            } else {
+            if (cost > endpoint.slowThresholdNanos()) {
+                HttpServletRequest request = attributes.getRequest();
+                log.warn("Slow response - Method: {}, URI: {}, Cost: {}ms, Threshold: {}ms, Controller: {}, Action: {}",
+                        request.getMethod(), request.getRequestURI(), TimeUnit.NANOSECONDS.toMillis(cost),
+                        TimeUnit.NANOSECONDS.toMillis(endpoint.slowThresholdNanos()),
+                        endpoint.controller(), endpoint.action());
+            } else if (log.isDebugEnabled()) {
+                HttpServletRequest request = attributes.getRequest();
                 log.debug("Response completed - Method: {}, URI: {}, Cost: {}ms",
-                        method, uri, cost);
+                        request.getMethod(), request.getRequestURI(), TimeUnit.NANOSECONDS.toMillis(cost));
             }
 
             return result;
         } catch (Exception e) {
-            long cost = System.currentTimeMillis() - start;
+            long cost = System.nanoTime() - start;
+            endpoint.error().record(cost, TimeUnit.NANOSECONDS);
+            span.error(e);
+            if (profile != null) {
+                profile.add(RequestProfile.Kind.CONTROLLER, endpoint.name(), start, 0);
+            }
 
-            // Log exception
-            log.error("Controller exception - Method: {}, URI: {}, Cost: {}ms, Error: {}",
-                    method, uri, cost, e.getMessage(), e);
+            // GlobalExceptionHandler logs the exception at its level, through LogThrottle
+            if (log.isDebugEnabled()) {
+                HttpServletRequest request = attributes.getRequest();
+                log.debug("Controller exception - Method: {}, URI: {}, Cost: {}ms, Error: {}",
+                        request.getMethod(), request.getRequestURI(), TimeUnit.NANOSECONDS.toMillis(cost),
+                        e.getMessage());
+            }
 
             throw e;
+        } finally {
+            span.end();
         }
     }
-}
\ No newline at end of file
+
+    private Endpoint register(Method method) {
+        String controller = method.getDeclaringClass().getSimpleName();
+        String action = method.getName();
+        String name = controller + "." + action;
+        long slowThreshold = properties.getSlowThresholds()
+                .getOrDefault(name, properties.getSlowThreshold())
+                .toNanos();
+        return new Endpoint(controller, action, name, timer(controller, action, "success"),
+                timer(controller, action, "error"), slowThreshold);
+    }
+
+    private Timer timer(String controller, String action, String outcome) {
+        return Timer.builder(TIMER_NAME)
+                .description("Controller method latency")
+                .tags("controller", controller, "action", action, "outcome", outcome)
+                .publishPercentiles(properties.getPercentiles())
+                .register(meterRegistry);
+    }
+
+    /**
+     * Per-method metadata, resolved on the first call
+     */
+    private record Endpoint(String controller, String action, String name, Timer success, Timer error,
+                            long slowThresholdNanos) {
+    }
+}
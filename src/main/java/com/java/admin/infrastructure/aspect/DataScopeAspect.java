@@ -0,0 +1,50 @@
+package com.java.admin.infrastructure.aspect;
+
+import com.java.admin.infrastructure.datascope.DataScope;
+import com.java.admin.infrastructure.datascope.DataScopeContextHolder;
+import com.java.admin.infrastructure.handler.PermissionHandler;
+import com.java.admin.infrastructure.model.SecurityUserDetails;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Binds the current principal's data scope around {@link com.java.admin.infrastructure.datascope.DataScoped} methods
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class DataScopeAspect {
+
+    private final PermissionHandler permissionHandler;
+
+    @Around("@annotation(com.java.admin.infrastructure.datascope.DataScoped)")
+    public Object applyDataScope(ProceedingJoinPoint joinPoint) throws Throwable {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        // System calls without a logged-in user are not restricted
+        if (authentication == null || !(authentication.getPrincipal() instanceof SecurityUserDetails details)) {
+            return joinPoint.proceed();
+        }
+
+        DataScope scope = details.getDataScope();
+        if (scope == null) {
+            // Session created before data scopes existed
+            scope = permissionHandler.isAdmin(authentication) ? DataScope.ALL : DataScope.SELF;
+        }
+        if (scope == DataScope.ALL) {
+            return joinPoint.proceed();
+        }
+
+        DataScopeContextHolder.Context previous = DataScopeContextHolder.set(
+                new DataScopeContextHolder.Context(details.getUserid(), scope));
+        try {
+            return joinPoint.proceed();
+        } finally {
+            DataScopeContextHolder.restore(previous);
+        }
+    }
+}
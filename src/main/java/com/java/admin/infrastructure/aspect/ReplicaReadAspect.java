@@ -0,0 +1,42 @@
+package com.java.admin.infrastructure.aspect;
+
+import com.java.admin.infrastructure.datasource.DataSourceContextHolder;
+import com.java.admin.infrastructure.datasource.DataSourceRole;
+import com.java.admin.infrastructure.datasource.ReadYourWritesTracker;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Routes {@link com.java.admin.infrastructure.datasource.ReplicaRead} methods to the replica
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+public class ReplicaReadAspect {
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    @Around("@annotation(com.java.admin.infrastructure.datasource.ReplicaRead)")
+    public Object routeToReplica(ProceedingJoinPoint joinPoint) throws Throwable {
+        // Never switch inside a transaction or a caller's primary scope,
+        // and keep recent writers on the primary
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                || DataSourceContextHolder.isPrimaryRequested()
+                || readYourWritesTracker.isPinnedToPrimary()) {
+            return joinPoint.proceed();
+        }
+
+        DataSourceRole previous = DataSourceContextHolder.set(DataSourceRole.REPLICA);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            DataSourceContextHolder.restore(previous);
+        }
+    }
+}
@@ -16,6 +16,10 @@ public enum ErrorCode {
     DATA_NOT_FOUND("20002", "Data not found", HttpStatus.NOT_FOUND),
     USERNAME_ALREADY_EXISTS("20003", "Username already exists", HttpStatus.BAD_REQUEST),
     CANNOT_DELETE_YOURSELF("20004", "Cannot delete yourself", HttpStatus.BAD_REQUEST),
+    DATA_CONFLICT("20005", "Data has been modified by another request", HttpStatus.CONFLICT),
+    DATA_ALREADY_EXISTS("20006", "Data already exists", HttpStatus.BAD_REQUEST),
+    IDEMPOTENCY_KEY_REUSED("20007", "Idempotency key was already used for a different request", HttpStatus.UNPROCESSABLE_ENTITY),
+    REQUEST_IN_PROGRESS("20008", "A request with this idempotency key is still in progress", HttpStatus.CONFLICT),
 
     // Authentication Errors (30000-39999)
     AUTHENTICATION_ERROR("30000", "Authentication failed", HttpStatus.UNAUTHORIZED),
@@ -34,4 +38,11 @@ public enum ErrorCode {
         this.message = message;
         this.httpStatus = httpStatus;
     }
+
+    /**
+     * Client errors are expected in normal operation; their exceptions skip the stack trace
+     */
+    public boolean isExpected() {
+        return httpStatus.is4xxClientError();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.java.admin.infrastructure.datascope;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Row-level visibility of sys_user granted by a role; the lower the code the wider the scope
+ */
+@Getter
+@RequiredArgsConstructor
+public enum DataScope {
+
+    /**
+     * Every user
+     */
+    ALL(1),
+
+    /**
+     * Users created by the principal, plus the principal itself
+     */
+    CREATED(2),
+
+    /**
+     * Only the principal itself
+     */
+    SELF(3);
+
+    private final int code;
+
+    /**
+     * @param code Stored code, as returned by {@code MIN(data_scope)} over the principal's roles
+     * @return Matching scope, SELF for null or unknown codes
+     */
+    public static DataScope fromCode(Integer code) {
+        if (code != null) {
+            for (DataScope scope : values()) {
+                if (scope.code == code) {
+                    return scope;
+                }
+            }
+        }
+        return SELF;
+    }
+}
@@ -0,0 +1,51 @@
+package com.java.admin.infrastructure.datascope;
+
+/**
+ * Thread-bound data scope read by {@link DataScopeInterceptor}; unset means unrestricted
+ */
+public final class DataScopeContextHolder {
+
+    private static final ThreadLocal<Context> CONTEXT = new ThreadLocal<>();
+
+    private DataScopeContextHolder() {
+    }
+
+    /**
+     * @param userId Principal user ID
+     * @param scope  Principal data scope (never {@link DataScope#ALL})
+     */
+    public record Context(String userId, DataScope scope) {
+    }
+
+    /**
+     * @return the scope of the current thread, or null when queries are not restricted
+     */
+    public static Context get() {
+        return CONTEXT.get();
+    }
+
+    /**
+     * Set the scope for the current thread
+     *
+     * @param context Scope, or null to lift the restriction
+     * @return The previous scope (possibly null), to be passed to {@link #restore}
+     */
+    public static Context set(Context context) {
+        Context previous = CONTEXT.get();
+        if (context == null) {
+            CONTEXT.remove();
+        } else {
+            CONTEXT.set(context);
+        }
+        return previous;
+    }
+
+    /**
+     * Restore the scope returned by {@link #set}
+     *
+     * @param previous Previous scope
+     */
+    public static void restore(Context previous) {
+        set(previous);
+    }
+}
@@ -0,0 +1,76 @@
+package com.java.admin.infrastructure.datascope;
+
+import com.baomidou.mybatisplus.extension.plugins.handler.MultiDataPermissionHandler;
+import com.baomidou.mybatisplus.extension.plugins.inner.DataPermissionInterceptor;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.StringValue;
+import net.sf.jsqlparser.expression.operators.conditional.OrExpression;
+import net.sf.jsqlparser.expression.operators.relational.EqualsTo;
+import net.sf.jsqlparser.expression.operators.relational.ParenthesedExpressionList;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.schema.Table;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Appends the principal's {@link DataScope} predicate to statements on sys_user
+ *
+ * <p>Must be registered before the pagination interceptor so the count query is filtered too.
+ * Statements run outside a {@link DataScoped} method are passed through without being parsed.
+ */
+public class DataScopeInterceptor extends DataPermissionInterceptor {
+
+    static final String USER_TABLE = "sys_user";
+
+    public DataScopeInterceptor() {
+        super((MultiDataPermissionHandler) (table, where, mappedStatementId) -> predicate(table));
+    }
+
+    @Override
+    public void beforeQuery(Executor executor, MappedStatement ms, Object parameter, RowBounds rowBounds,
+                            ResultHandler resultHandler, BoundSql boundSql) throws SQLException {
+        if (DataScopeContextHolder.get() != null) {
+            super.beforeQuery(executor, ms, parameter, rowBounds, resultHandler, boundSql);
+        }
+    }
+
+    @Override
+    public void beforePrepare(StatementHandler sh, Connection connection, Integer transactionTimeout) {
+        if (DataScopeContextHolder.get() != null) {
+            super.beforePrepare(sh, connection, transactionTimeout);
+        }
+    }
+
+    /**
+     * Build the predicate for one table of the statement
+     *
+     * @param table Table referenced by the statement
+     * @return Predicate to AND into the WHERE clause, or null to leave the table unfiltered
+     */
+    static Expression predicate(Table table) {
+        DataScopeContextHolder.Context context = DataScopeContextHolder.get();
+        if (context == null || !USER_TABLE.equalsIgnoreCase(table.getName().replace("`", ""))) {
+            return null;
+        }
+
+        Table qualifier = table.getAlias() != null ? new Table(table.getAlias().getName()) : table;
+        Expression self = equalsUser(qualifier, "user_id", context.userId());
+        return switch (context.scope()) {
+            case ALL -> null;
+            case SELF -> self;
+            case CREATED -> new ParenthesedExpressionList<>(
+                    new OrExpression(equalsUser(qualifier, "created_by", context.userId()), self));
+        };
+    }
+
+    private static Expression equalsUser(Table qualifier, String column, String userId) {
+        return new EqualsTo(new Column(qualifier, column), new StringValue(userId.replace("'", "''")));
+    }
+}
@@ -0,0 +1,19 @@
+package com.java.admin.infrastructure.datascope;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Restricts sys_user queries issued by the method to the current principal's {@link DataScope}
+ *
+ * <p>Only listing methods opt in: internal lookups (uniqueness checks, existence checks, cache
+ * loaders) must keep seeing every row. Principals with {@link DataScope#ALL} are not filtered.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface DataScoped {
+}
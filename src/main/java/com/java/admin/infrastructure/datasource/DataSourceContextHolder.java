@@ -0,0 +1,70 @@
+package com.java.admin.infrastructure.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Thread-bound routing decision read by {@link RoutingDataSource} when a connection is fetched
+ */
+public final class DataSourceContextHolder {
+
+    private static final ThreadLocal<DataSourceRole> CONTEXT = new ThreadLocal<>();
+
+    private DataSourceContextHolder() {
+    }
+
+    /**
+     * @return the role requested by the current thread, PRIMARY by default
+     */
+    public static DataSourceRole get() {
+        DataSourceRole role = CONTEXT.get();
+        return role == null ? DataSourceRole.PRIMARY : role;
+    }
+
+    /**
+     * @return true if the current thread asked for the primary explicitly, rather than by default
+     */
+    public static boolean isPrimaryRequested() {
+        return CONTEXT.get() == DataSourceRole.PRIMARY;
+    }
+
+    /**
+     * Set the role for the current thread
+     *
+     * @param role Requested role
+     * @return The previous role (possibly null), to be passed to {@link #restore}
+     */
+    public static DataSourceRole set(DataSourceRole role) {
+        DataSourceRole previous = CONTEXT.get();
+        CONTEXT.set(role);
+        return previous;
+    }
+
+    /**
+     * Restore the role returned by {@link #set}
+     *
+     * @param previous Previous role
+     */
+    public static void restore(DataSourceRole previous) {
+        if (previous == null) {
+            CONTEXT.remove();
+        } else {
+            CONTEXT.set(previous);
+        }
+    }
+
+    /**
+     * Run an action with the given role
+     *
+     * @param role   Requested role
+     * @param action Action
+     * @return Action result
+     */
+    public static <T> T callWith(DataSourceRole role, Supplier<T> action) {
+        DataSourceRole previous = set(role);
+        try {
+            return action.get();
+        } finally {
+            restore(previous);
+        }
+    }
+}
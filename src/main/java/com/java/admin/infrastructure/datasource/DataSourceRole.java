@@ -0,0 +1,9 @@
+package com.java.admin.infrastructure.datasource;
+
+/**
+ * Routing keys of {@link RoutingDataSource}
+ */
+public enum DataSourceRole {
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,55 @@
+package com.java.admin.infrastructure.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.java.admin.infrastructure.model.SecurityUserDetails;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+
+/**
+ * Remembers which users wrote recently so their reads stay on the primary
+ *
+ * <p>The window is tracked per node; with several nodes behind a load balancer it relies on the
+ * window outlasting typical replica lag rather than on session affinity.
+ */
+public class ReadYourWritesTracker {
+
+    private static final long MAX_TRACKED_USERS = 100_000;
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(Duration stickyWindow) {
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(MAX_TRACKED_USERS)
+                .expireAfterWrite(stickyWindow)
+                .build();
+    }
+
+    /**
+     * Record a write by the current user (no-op for anonymous requests)
+     */
+    public void recordWrite() {
+        String userId = currentUserId();
+        if (userId != null) {
+            recentWriters.put(userId, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * @return true if the current user wrote within the sticky window
+     */
+    public boolean isPinnedToPrimary() {
+        String userId = currentUserId();
+        return userId != null && recentWriters.getIfPresent(userId) != null;
+    }
+
+    private static String currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof SecurityUserDetails details) {
+            return details.getUserid();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,83 @@
+package com.java.admin.infrastructure.datasource;
+
+import com.java.admin.config.ReplicaDataSourceProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Periodically reads {@code Seconds_Behind_Source} from the replica
+ *
+ * <p>The replica is usable only after a successful check showing a running replication thread
+ * with lag within {@code datasource.replica.max-lag-seconds}; until the first check, on errors,
+ * or when replication is stopped, reads go to the primary.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String REPLICA_STATUS_SQL = "SHOW REPLICA STATUS";
+    private static final String LAG_COLUMN = "Seconds_Behind_Source";
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final ReplicaDataSourceProperties properties;
+
+    private volatile boolean replicaUsable;
+    private volatile long lagSeconds = -1;
+
+    public ReplicaLagMonitor(JdbcTemplate replicaJdbcTemplate, ReplicaDataSourceProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.replicaJdbcTemplate = replicaJdbcTemplate;
+        this.properties = properties;
+        Gauge.builder("datasource.replica.lag.seconds", this, ReplicaLagMonitor::getLagSeconds)
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.usable", this, monitor -> monitor.isReplicaUsable() ? 1 : 0)
+                .register(meterRegistry);
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    /**
+     * @return last observed lag in seconds, or -1 if unknown
+     */
+    public long getLagSeconds() {
+        return lagSeconds;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval-millis:5000}")
+    public void checkLag() {
+        Long lag;
+        try {
+            lag = replicaJdbcTemplate.query(REPLICA_STATUS_SQL,
+                    rs -> rs.next() ? rs.getObject(LAG_COLUMN, Long.class) : null);
+        } catch (DataAccessException e) {
+            update(false, -1, "check failed: " + e.getMessage());
+            return;
+        }
+
+        if (lag == null) {
+            // No status row (not a replica) or SQL thread stopped
+            update(false, -1, "replication not running");
+        } else if (lag > properties.getMaxLagSeconds()) {
+            update(false, lag, "lag above " + properties.getMaxLagSeconds() + "s");
+        } else {
+            update(true, lag, "lag within threshold");
+        }
+    }
+
+    private void update(boolean usable, long lag, String reason) {
+        this.lagSeconds = lag;
+        if (usable != replicaUsable) {
+            if (usable) {
+                log.info("Replica usable, routing reads to replica - Lag: {}s", lag);
+            } else {
+                log.warn("Replica unusable, routing reads to primary - Lag: {}s, Reason: {}", lag, reason);
+            }
+        }
+        this.replicaUsable = usable;
+    }
+}
@@ -0,0 +1,21 @@
+package com.java.admin.infrastructure.datasource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a read-only method whose queries may be served by the replica
+ *
+ * <p>Ignored unless {@code datasource.replica.enabled=true}. The call still runs on the primary
+ * when it joins an existing transaction, when the caller asked for the primary explicitly
+ * ({@link DataSourceContextHolder#callWith} with PRIMARY), when the current user wrote within the
+ * sticky window, or when the replica is lagging or unreachable.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ReplicaRead {
+}
@@ -0,0 +1,29 @@
+package com.java.admin.infrastructure.datasource;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * DataSource that picks the primary or the replica per connection
+ *
+ * <p>Replica requests fall back to the primary while {@link ReplicaLagMonitor} reports the
+ * replica as unusable. Wrap in a {@code LazyConnectionDataSourceProxy} so that the lookup key is
+ * resolved at the first statement rather than when a transaction begins.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        DataSourceRole role = DataSourceContextHolder.get();
+        if (role == DataSourceRole.REPLICA && !replicaLagMonitor.isReplicaUsable()) {
+            log.debug("Replica unusable, routing read to primary");
+            return DataSourceRole.PRIMARY;
+        }
+        return role;
+    }
+}
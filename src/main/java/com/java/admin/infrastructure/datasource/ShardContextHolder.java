@@ -0,0 +1,36 @@
+package com.java.admin.infrastructure.datasource;
+
+/**
+ * Thread-bound shard index read by {@link ShardRoutingDataSource}; null means the global database
+ */
+public final class ShardContextHolder {
+
+    private static final ThreadLocal<Integer> CONTEXT = new ThreadLocal<>();
+
+    private ShardContextHolder() {
+    }
+
+    public static Integer get() {
+        return CONTEXT.get();
+    }
+
+    /**
+     * Set the shard for the current thread
+     *
+     * @param shard Shard index, or null for the global database
+     * @return The previous shard, to be passed to {@link #restore}
+     */
+    public static Integer set(Integer shard) {
+        Integer previous = CONTEXT.get();
+        CONTEXT.set(shard);
+        return previous;
+    }
+
+    public static void restore(Integer previous) {
+        if (previous == null) {
+            CONTEXT.remove();
+        } else {
+            CONTEXT.set(previous);
+        }
+    }
+}
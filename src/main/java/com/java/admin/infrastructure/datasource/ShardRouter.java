@@ -0,0 +1,170 @@
+package com.java.admin.infrastructure.datasource;
+
+import com.java.admin.config.ShardingProperties;
+import com.java.admin.infrastructure.datascope.DataScopeContextHolder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+
+/**
+ * Runs sys_user statements on the right shard
+ *
+ * <p>A user lives on shard {@code crc32(user_id) % shardCount} (same as MySQL {@code CRC32()}, so
+ * seed scripts can place rows). With sharding disabled there is one shard and every method
+ * simply runs the action on the default DataSource.
+ */
+@Component
+@Slf4j
+public class ShardRouter {
+
+    private final boolean sharded;
+    private final int shardCount;
+    private final ExecutorService scatterExecutor;
+
+    public ShardRouter(ShardingProperties properties) {
+        this.sharded = properties.isEnabled();
+        this.shardCount = sharded ? properties.getShards().size() : 1;
+        if (sharded && shardCount == 0) {
+            throw new IllegalStateException("datasource.sharding.enabled=true requires at least one shard");
+        }
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("shard-scatter-");
+        threadFactory.setDaemon(true);
+        this.scatterExecutor = sharded && shardCount > 1
+                ? Executors.newFixedThreadPool(Math.min(properties.getScatterThreads(), shardCount), threadFactory)
+                : null;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scatterExecutor != null) {
+            scatterExecutor.shutdown();
+        }
+    }
+
+    public boolean isSharded() {
+        return sharded;
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    /**
+     * @param userId User ID
+     * @return Index of the shard holding the user
+     */
+    public int shardOf(String userId) {
+        if (shardCount == 1) {
+            return 0;
+        }
+        CRC32 crc32 = new CRC32();
+        crc32.update(userId.getBytes(StandardCharsets.UTF_8));
+        return (int) (crc32.getValue() % shardCount);
+    }
+
+    /**
+     * Group user IDs by shard, preserving order within each shard
+     *
+     * @param userIds User IDs
+     * @return Shard index to user IDs
+     */
+    public Map<Integer, List<String>> groupByShard(Collection<String> userIds) {
+        Map<Integer, List<String>> groups = new LinkedHashMap<>();
+        for (String userId : userIds) {
+            groups.computeIfAbsent(shardOf(userId), shard -> new ArrayList<>()).add(userId);
+        }
+        return groups;
+    }
+
+    /**
+     * Run an action on the shard holding the user
+     */
+    public <T> T onShardOf(String userId, Supplier<T> action) {
+        return onShard(shardOf(userId), action);
+    }
+
+    /**
+     * Run an action on the given shard
+     */
+    public <T> T onShard(int shard, Supplier<T> action) {
+        if (!sharded) {
+            return action.get();
+        }
+        Integer previous = ShardContextHolder.set(shard);
+        try {
+            return action.get();
+        } finally {
+            ShardContextHolder.restore(previous);
+        }
+    }
+
+    /**
+     * Run an action on the global database (everything except sys_user)
+     */
+    public <T> T onGlobal(Supplier<T> action) {
+        if (!sharded) {
+            return action.get();
+        }
+        Integer previous = ShardContextHolder.set(null);
+        try {
+            return action.get();
+        } finally {
+            ShardContextHolder.restore(previous);
+        }
+    }
+
+    /**
+     * Run an action on every shard in parallel
+     *
+     * @param action Action receiving the shard index
+     * @return Results in shard order
+     */
+    public <T> List<T> onAllShards(IntFunction<T> action) {
+        if (scatterExecutor == null) {
+            List<T> results = new ArrayList<>(shardCount);
+            for (int shard = 0; shard < shardCount; shard++) {
+                int current = shard;
+                results.add(onShard(current, () -> action.apply(current)));
+            }
+            return results;
+        }
+
+        // Worker threads do not inherit the caller's data scope
+        DataScopeContextHolder.Context dataScope = DataScopeContextHolder.get();
+        List<CompletableFuture<T>> futures = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            int current = shard;
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                DataScopeContextHolder.Context previous = DataScopeContextHolder.set(dataScope);
+                try {
+                    return onShard(current, () -> action.apply(current));
+                } finally {
+                    DataScopeContextHolder.restore(previous);
+                }
+            }, scatterExecutor));
+        }
+        try {
+            return futures.stream().map(CompletableFuture::join).toList();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.java.admin.infrastructure.datasource;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+
+/**
+ * MyBatis plugin that records every INSERT/UPDATE/DELETE with {@link ReadYourWritesTracker}
+ */
+@Intercepts(@Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class}))
+@RequiredArgsConstructor
+public class WriteTrackingInterceptor implements Interceptor {
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        Object result = invocation.proceed();
+        readYourWritesTracker.recordWrite();
+        return result;
+    }
+}
@@ -23,6 +23,10 @@ import org.springframework.http.HttpStatus;
  * // Exception with custom message and cause
  * throw new AppException(ErrorCode.SYSTEM_ERROR, "System error", throwable);
  * </pre>
+ *
+ * <p>Exceptions of expected (4xx) error codes without a cause carry no stack trace: they are
+ * thrown on ordinary requests and only ever reported by code and message, so capturing the
+ * trace would be wasted work.
  */
 @Getter
 public class AppException extends RuntimeException {
@@ -30,12 +34,12 @@ public class AppException extends RuntimeException {
     private final ErrorCode errorCode;
 
     public AppException(ErrorCode errorCode) {
-        super(errorCode.getMessage());
+        super(errorCode.getMessage(), null, true, !errorCode.isExpected());
         this.errorCode = errorCode;
     }
 
     public AppException(ErrorCode errorCode, String customMessage) {
-        super(customMessage);
+        super(customMessage, null, true, !errorCode.isExpected());
         this.errorCode = errorCode;
     }
 
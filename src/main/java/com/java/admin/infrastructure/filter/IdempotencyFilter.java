@@ -0,0 +1,356 @@
+package com.java.admin.infrastructure.filter;
+
+import com.java.admin.config.IdempotencyProperties;
+import com.java.admin.infrastructure.constants.ErrorCode;
+import com.java.admin.infrastructure.model.SecurityUserDetails;
+import com.java.admin.infrastructure.util.ServletUtil;
+import com.java.admin.modules.system.mapper.IdempotencyMapper;
+import com.java.admin.modules.system.model.IdempotencyRecord;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Replays the stored response of a mutating request retried with the same Idempotency-Key
+ *
+ * <p>Runs after authentication; keys are scoped to the caller, and anonymous requests are not
+ * covered. The first request reserves the key in Redis (SET NX) and runs; its response is stored
+ * unless it failed with 5xx, in which case the key is released so a retry runs again. A duplicate
+ * arriving while the first one runs polls for the stored response instead of running the handler
+ * (no BCrypt hash, no insert), and gives up with 409 after the configured wait. Reusing a key for
+ * a different method, URI or body is rejected with 422. The body is buffered for the fingerprint
+ * whether or not the client sent a Content-Length; form and multipart bodies, which the container
+ * parses itself, are fingerprinted by method and URI only.
+ *
+ * <p>Each reservation carries a random owner token, and the response is stored or the key
+ * released only while the token still matches, so a request that outlived its reservation
+ * cannot overwrite or free the key of a newer request.
+ *
+ * <p>Redis failures fall back to running the request without idempotency.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final Set<String> MUTATING_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+
+    private final IdempotencyMapper idempotencyMapper;
+    private final IdempotencyProperties properties;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled()
+                || !MUTATING_METHODS.contains(request.getMethod())
+                || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof SecurityUserDetails user)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            log.warn("Invalid idempotency key - URI: {}, Length: {}", request.getRequestURI(), idempotencyKey.length());
+            ServletUtil.renderErrorResponse(response, ErrorCode.PARAM_VALIDATION_ERROR);
+            return;
+        }
+
+        HttpServletRequest cachedRequest = cacheBody(request);
+        String fingerprint = fingerprint(cachedRequest);
+        String key = user.getUserid() + ":" + idempotencyKey;
+        String owner = UUID.randomUUID().toString();
+
+        long deadline = System.nanoTime() + properties.getWaitTimeout().toNanos();
+        while (true) {
+            boolean started;
+            try {
+                started = idempotencyMapper.tryStart(key, IdempotencyRecord.inFlight(fingerprint, owner),
+                        properties.getInFlightTtl());
+            } catch (RuntimeException e) {
+                log.warn("Idempotency store unavailable, running request without it - URI: {}, Error: {}",
+                        request.getRequestURI(), e.getMessage());
+                filterChain.doFilter(cachedRequest, response);
+                return;
+            }
+            if (started) {
+                execute(cachedRequest, response, filterChain, key, fingerprint, owner);
+                return;
+            }
+
+            IdempotencyRecord record = idempotencyMapper.find(key);
+            if (record != null && !fingerprint.equals(record.getFingerprint())) {
+                log.warn("Idempotency key reused for a different request - UserId: {}, URI: {}",
+                        user.getUserid(), request.getRequestURI());
+                ServletUtil.renderErrorResponse(response, ErrorCode.IDEMPOTENCY_KEY_REUSED);
+                return;
+            }
+            if (record != null && record.isCompleted()) {
+                log.info("Operation [IDEMPOTENT_REPLAY] - UserId: {}, URI: {}, Status: {}",
+                        user.getUserid(), request.getRequestURI(), record.getStatus());
+                replay(response, record);
+                return;
+            }
+            // In flight elsewhere (or just released): wait and try again
+            if (System.nanoTime() > deadline || !sleep()) {
+                log.warn("Idempotent request still in progress - UserId: {}, URI: {}",
+                        user.getUserid(), request.getRequestURI());
+                ServletUtil.renderErrorResponse(response, ErrorCode.REQUEST_IN_PROGRESS);
+                return;
+            }
+        }
+    }
+
+    private void execute(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain,
+                         String key, String fingerprint, String owner) throws ServletException, IOException {
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            filterChain.doFilter(request, responseWrapper);
+            stored = store(request, responseWrapper, key, fingerprint, owner);
+            responseWrapper.copyBodyToResponse();
+        } finally {
+            if (!stored) {
+                release(key, owner);
+            }
+        }
+    }
+
+    private boolean store(HttpServletRequest request, ContentCachingResponseWrapper response,
+                          String key, String fingerprint, String owner) {
+        byte[] body = response.getContentAsByteArray();
+        if (request.isAsyncStarted()
+                || response.getStatus() >= HttpServletResponse.SC_INTERNAL_SERVER_ERROR
+                || body.length > properties.getMaxResponseSize()) {
+            return false;
+        }
+        IdempotencyRecord record = IdempotencyRecord.inFlight(fingerprint, owner);
+        record.setStatus(response.getStatus());
+        record.setContentType(response.getContentType());
+        record.setBody(new String(body, StandardCharsets.UTF_8));
+        try {
+            if (!idempotencyMapper.complete(key, owner, record, properties.getRecordTtl())) {
+                log.warn("Idempotency reservation lost before the response was stored - URI: {}",
+                        request.getRequestURI());
+                return false;
+            }
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Failed to store idempotent response - Error: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void release(String key, String owner) {
+        try {
+            idempotencyMapper.release(key, owner);
+        } catch (RuntimeException e) {
+            // The reservation expires after the in-flight TTL
+            log.warn("Failed to release idempotency key - Error: {}", e.getMessage());
+        }
+    }
+
+    private static void replay(HttpServletResponse response, IdempotencyRecord record) throws IOException {
+        response.setStatus(record.getStatus());
+        if (record.getContentType() != null) {
+            response.setContentType(record.getContentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (record.getBody() != null) {
+            response.getOutputStream().write(record.getBody().getBytes(StandardCharsets.UTF_8));
+        }
+        response.flushBuffer();
+    }
+
+    private boolean sleep() {
+        try {
+            Thread.sleep(properties.getPollInterval().toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Read up to {@code maxFingerprintBodySize + 1} bytes of the body up front, whatever the
+     * Content-Length says, so they can be both fingerprinted and consumed; a longer body is
+     * fingerprinted by that head and streamed on to the handler after it
+     */
+    private HttpServletRequest cacheBody(HttpServletRequest request) throws IOException {
+        if (request.getContentLengthLong() == 0 || isParsedByContainer(request)) {
+            return request;
+        }
+        ServletInputStream input = request.getInputStream();
+        byte[] head = input.readNBytes(properties.getMaxFingerprintBodySize() + 1);
+        return new CachedBodyRequest(request, head,
+                head.length > properties.getMaxFingerprintBodySize() ? input : null);
+    }
+
+    private static boolean isParsedByContainer(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        if (contentType == null) {
+            return false;
+        }
+        String type = contentType.toLowerCase(Locale.ROOT);
+        return type.startsWith("multipart/") || type.startsWith("application/x-www-form-urlencoded");
+    }
+
+    private static String fingerprint(HttpServletRequest request) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        digest.update((request.getMethod() + " " + request.getRequestURI() + "?" + request.getQueryString() + "\n")
+                .getBytes(StandardCharsets.UTF_8));
+        if (request instanceof CachedBodyRequest cached) {
+            digest.update(cached.head);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Request whose body head was read into memory; the handler reads the head again, followed
+     * by the unread rest of the body, if any, with blocking or non-blocking reads
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] head;
+        private final ServletInputStream rest;
+        private ServletInputStream input;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] head, ServletInputStream rest) {
+            super(request);
+            this.head = head;
+            this.rest = rest;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            if (input == null) {
+                input = new CachedBodyInputStream(new ByteArrayInputStream(head), rest);
+            }
+            return input;
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding)));
+        }
+    }
+
+    /**
+     * The buffered head, always ready, then the container's stream for the rest
+     */
+    private static final class CachedBodyInputStream extends ServletInputStream {
+
+        private final ByteArrayInputStream head;
+        private final ServletInputStream rest;
+
+        CachedBodyInputStream(ByteArrayInputStream head, ServletInputStream rest) {
+            this.head = head;
+            this.rest = rest;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return head.available() == 0 && (rest == null || rest.isFinished());
+        }
+
+        @Override
+        public boolean isReady() {
+            return head.available() > 0 || rest == null || rest.isReady();
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            if (rest != null) {
+                rest.setReadListener(new ReadListener() {
+                    @Override
+                    public void onDataAvailable() throws IOException {
+                        readListener.onDataAvailable();
+                    }
+
+                    @Override
+                    public void onAllDataRead() throws IOException {
+                        // The container may see the end of the rest before the head was read
+                        if (head.available() > 0) {
+                            readListener.onDataAvailable();
+                        }
+                        readListener.onAllDataRead();
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        readListener.onError(t);
+                    }
+                });
+                return;
+            }
+            // Everything is in memory: available now, and all read once the listener returns
+            try {
+                if (!isFinished()) {
+                    readListener.onDataAvailable();
+                }
+                if (isFinished()) {
+                    readListener.onAllDataRead();
+                }
+            } catch (IOException e) {
+                readListener.onError(e);
+            }
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = head.read();
+            return b != -1 || rest == null ? b : rest.read();
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (head.available() > 0 || rest == null) {
+                return head.read(buffer, offset, length);
+            }
+            return rest.read(buffer, offset, length);
+        }
+    }
+}
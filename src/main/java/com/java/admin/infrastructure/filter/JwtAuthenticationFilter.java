@@ -2,12 +2,18 @@ package com.java.admin.infrastructure.filter;
 
 import com.java.admin.config.AuthProperties;
 import com.java.admin.infrastructure.constants.ErrorCode;
+import com.java.admin.infrastructure.jfr.TokenEvent;
+import com.java.admin.infrastructure.logging.DebugLogContextHolder;
+import com.java.admin.infrastructure.logging.DebugLogRules;
+import com.java.admin.infrastructure.logging.LogThrottle;
 import com.java.admin.infrastructure.model.SecurityUserDetails;
 import com.java.admin.infrastructure.util.JwtUtil;
 import com.java.admin.infrastructure.util.ServletUtil;
 import com.java.admin.modules.system.mapper.SessionMapper;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -28,8 +34,16 @@ import java.io.IOException;
 @Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final String SPAN_NAME = "auth.filter";
+    private static final String OUTCOME_TAG = "auth.outcome";
+    private static final String USER_TAG = "enduser.id";
+
     private final SessionMapper sessionMapper;
     private final AuthProperties authProperties;
+    private final AuthMetrics authMetrics;
+    private final Tracer tracer;
+    private final LogThrottle logThrottle;
+    private final DebugLogRules debugLogRules;
     private final AntPathMatcher pathMatcher = new AntPathMatcher();
 
     @Override
@@ -42,8 +56,31 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     }
 
     @Override
-    protected void doFilterInternal(HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain filterChain)
-            throws ServletException, IOException {
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        // The span covers authentication only; the rest of the chain runs under the request span
+        Span span = tracer.nextSpan().name(SPAN_NAME).start();
+        boolean authenticated;
+        try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+            authenticated = authenticate(request, response);
+        } catch (IOException | RuntimeException e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+
+        if (authenticated) {
+            filterChain.doFilter(request, response);
+        }
+    }
+
+    /**
+     * Authenticate the request, refreshing an expired access token when the session allows
+     *
+     * @return true if authenticated; otherwise the error response has been written
+     */
+    private boolean authenticate(HttpServletRequest request, HttpServletResponse response) throws IOException {
 
         String requestURI = request.getRequestURI();
         log.debug("Authentication filter started - URI: {}", requestURI);
@@ -51,32 +88,41 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // Get access token
         String accessToken = request.getHeader("access_token");
         if (accessToken == null || accessToken.isEmpty()) {
-            log.warn("Token missing - URI: {}", requestURI);
-            ServletUtil.renderErrorResponse(response, ErrorCode.TOKEN_MISSING);
-            return;
+            logThrottle.warn(log, ErrorCode.TOKEN_MISSING, "Token missing - URI: {}", requestURI);
+            reject(response, ErrorCode.TOKEN_MISSING);
+            return false;
         }
 
         // Verify access token and session
         String userId;
         SecurityUserDetails user;
+        boolean refreshed = false;
+        long parseStart = System.nanoTime();
+        TokenEvent verifyEvent = TokenEvent.start(TokenEvent.VERIFY);
         try {
 
             // Access token valid
             userId = JwtUtil.parseClaims(accessToken).getSubject();
-            user = sessionMapper.find(userId);
+            authMetrics.record(AuthMetrics.Phase.TOKEN_PARSE, parseStart);
+            verifyEvent.finish(userId, "VALID");
+            enableDebugLog(userId);
+            user = findSession(userId);
             log.debug("Token valid - UserId: {}", userId);
 
             // Access token expired
         } catch (ExpiredJwtException e) {
+            authMetrics.record(AuthMetrics.Phase.TOKEN_PARSE, parseStart);
             userId = e.getClaims().getSubject();
+            verifyEvent.finish(userId, "EXPIRED");
+            enableDebugLog(userId);
             log.debug("Token expired - UserId: {}, Attempting refresh", userId);
-            user = sessionMapper.find(userId);
+            user = findSession(userId);
 
             // Session expired
             if (user == null) {
-                log.warn("Session expired - UserId: {}", userId);
-                ServletUtil.renderErrorResponse(response, ErrorCode.SESSION_EXPIRED);
-                return;
+                logThrottle.warn(log, ErrorCode.SESSION_EXPIRED, "Session expired - UserId: {}", userId);
+                reject(response, ErrorCode.SESSION_EXPIRED);
+                return false;
             }
 
             // Verify token fingerprint
@@ -84,17 +130,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             if (!tokenFingerprint.equals(user.getCurrentTokenFingerprint())) {
                 log.warn("Token fingerprint mismatch - UserId: {}, Expected: {}, Actual: {}",
                         userId, user.getCurrentTokenFingerprint(), tokenFingerprint);
-                ServletUtil.renderErrorResponse(response, ErrorCode.TOKEN_FINGERPRINT_MISMATCH);
-                return;
+                reject(response, ErrorCode.TOKEN_FINGERPRINT_MISMATCH);
+                return false;
             }
 
             // Create new access token
+            TokenEvent refreshEvent = TokenEvent.start(TokenEvent.REFRESH);
+            long refreshStart = System.nanoTime();
             String newToken = JwtUtil.createToken(userId, authProperties.getAccessExpireMillis());
             String newFingerprint = JwtUtil.parseClaims(newToken).getId();
+            authMetrics.record(AuthMetrics.Phase.TOKEN_REFRESH, refreshStart);
 
             // Refresh session
             user.setCurrentTokenFingerprint(newFingerprint);
+            long saveStart = System.nanoTime();
             sessionMapper.save(user);
+            authMetrics.record(AuthMetrics.Phase.SESSION_SAVE, saveStart);
+            refreshEvent.finish(userId, "REFRESHED");
+            refreshed = true;
 
             // Return new access token
             response.setHeader("new_access_token", newToken);
@@ -102,16 +155,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
             // Access token invalid
         } catch (JwtException e) {
-            log.error("Token invalid - URI: {}, Error: {}", requestURI, e.getMessage(), e);
-            ServletUtil.renderErrorResponse(response, ErrorCode.TOKEN_INVALID);
-            return;
+            authMetrics.record(AuthMetrics.Phase.TOKEN_PARSE, parseStart);
+            verifyEvent.finish(null, "INVALID");
+            // A client error: no stack trace, and repeats are collapsed
+            logThrottle.warn(log, ErrorCode.TOKEN_INVALID, "Token invalid - URI: {}, Error: {}", requestURI, e.getMessage());
+            reject(response, ErrorCode.TOKEN_INVALID);
+            return false;
         }
 
         // session expired
         if (user == null) {
-            log.warn("Session not found - UserId: {}", userId);
-            ServletUtil.renderErrorResponse(response, ErrorCode.SESSION_EXPIRED);
-            return;
+            logThrottle.warn(log, ErrorCode.SESSION_EXPIRED, "Session not found - UserId: {}", userId);
+            reject(response, ErrorCode.SESSION_EXPIRED);
+            return false;
         }
 
         SecurityContextHolder.getContext().setAuthentication(
@@ -120,6 +176,38 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         log.debug("Authentication successful - UserId: {}, Username: {}, URI: {}",
                 user.getUserid(), user.getUsername(), requestURI);
 
-        filterChain.doFilter(request, response);
+        authMetrics.authenticated(refreshed);
+        Span span = tracer.currentSpan();
+        if (span != null) {
+            span.tag(OUTCOME_TAG, refreshed ? "REFRESHED" : "AUTHENTICATED").tag(USER_TAG, user.getUserid());
+        }
+        return true;
+    }
+
+    /**
+     * Turn on debug logging for the rest of the request if the user is being debugged
+     */
+    private void enableDebugLog(String userId) {
+        if (DebugLogContextHolder.isActive() && debugLogRules.matchesUser(userId)) {
+            DebugLogContextHolder.enable();
+        }
+    }
+
+    private SecurityUserDetails findSession(String userId) {
+        long start = System.nanoTime();
+        try {
+            return sessionMapper.find(userId);
+        } finally {
+            authMetrics.record(AuthMetrics.Phase.SESSION_LOOKUP, start);
+        }
+    }
+
+    private void reject(HttpServletResponse response, ErrorCode errorCode) throws IOException {
+        authMetrics.rejected(errorCode);
+        Span span = tracer.currentSpan();
+        if (span != null) {
+            span.tag(OUTCOME_TAG, errorCode.name());
+        }
+        ServletUtil.renderErrorResponse(response, errorCode);
     }
 }
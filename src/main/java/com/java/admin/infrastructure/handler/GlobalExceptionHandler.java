@@ -2,10 +2,12 @@ package com.java.admin.infrastructure.handler;
 
 import com.java.admin.infrastructure.constants.ErrorCode;
 import com.java.admin.infrastructure.exception.AppException;
+import com.java.admin.infrastructure.logging.LogThrottle;
 import com.java.admin.infrastructure.model.Result;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -18,15 +20,18 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import java.util.stream.Collectors;
 
 @RestControllerAdvice
+@RequiredArgsConstructor
 @Slf4j
 public class GlobalExceptionHandler {
 
+    private final LogThrottle logThrottle;
+
     /**
      * Handle authentication exception (spring security)
      */
     @ExceptionHandler(AuthenticationException.class)
     public ResponseEntity<Result<Void>> handleAuthenticationException(AuthenticationException e, HttpServletRequest request) {
-        log.warn("Authentication failed - URI: {}, Method: {}, Error: {}",
+        logThrottle.warn(log, ErrorCode.AUTHENTICATION_ERROR, "Authentication failed - URI: {}, Method: {}, Error: {}",
             request.getRequestURI(), request.getMethod(), e.getMessage());
 
         Result<Void> result = Result.error(ErrorCode.AUTHENTICATION_ERROR.getCode(), ErrorCode.AUTHENTICATION_ERROR.getMessage());
@@ -38,7 +43,7 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(AccessDeniedException.class)
     public ResponseEntity<Result<Void>> handleAccessDeniedException(AccessDeniedException e, HttpServletRequest request) {
-        log.warn("Access denied - URI: {}, Method: {}, Error: {}",
+        logThrottle.warn(log, ErrorCode.AUTHORIZATION_ERROR, "Access denied - URI: {}, Method: {}, Error: {}",
             request.getRequestURI(), request.getMethod(), e.getMessage());
 
         Result<Void> result = Result.error(ErrorCode.AUTHORIZATION_ERROR.getCode(), ErrorCode.AUTHORIZATION_ERROR.getMessage());
@@ -50,7 +55,7 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(AppException.class)
     public ResponseEntity<Result<Void>> handleAppException(AppException e, HttpServletRequest request) {
-        log.warn("Business exception - Type: {}, Code: {}, Message: {}, URI: {}",
+        logThrottle.warn(log, e.getErrorCode(), "Business exception - Type: {}, Code: {}, Message: {}, URI: {}",
             e.getClass().getSimpleName(), e.getErrorCode().getCode(), e.getErrorMessage(), request.getRequestURI());
 
         Result<Void> result = Result.error(e.getErrorCode().getCode(), e.getErrorMessage());
@@ -75,7 +80,7 @@ public class GlobalExceptionHandler {
                 .map(FieldError::getDefaultMessage)
                 .collect(Collectors.joining(", "));
 
-        log.warn("Validation failed - URI: {}, Method: {}, Errors: {}",
+        logThrottle.warn(log, ErrorCode.PARAM_VALIDATION_ERROR, "Validation failed - URI: {}, Method: {}, Errors: {}",
                 request.getRequestURI(), request.getMethod(), errorMessage);
 
         Result<Void> result = Result.error(ErrorCode.PARAM_VALIDATION_ERROR.getCode(), errorMessage);
@@ -99,7 +104,7 @@ public class GlobalExceptionHandler {
                 .map(ConstraintViolation::getMessage)
                 .collect(Collectors.joining(", "));
 
-        log.warn("Constraint violation - URI: {}, Method: {}, Errors: {}",
+        logThrottle.warn(log, ErrorCode.PARAM_VALIDATION_ERROR, "Constraint violation - URI: {}, Method: {}, Errors: {}",
                 request.getRequestURI(), request.getMethod(), errorMessage);
 
         Result<Void> result = Result.error(ErrorCode.PARAM_VALIDATION_ERROR.getCode(), errorMessage);
@@ -111,7 +116,8 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Result<Void>> handleException(Exception e, HttpServletRequest request) {
-        log.error("System exception - Type: {}, Message: {}, URI: {}",
+        // Keyed by exception type; the first of each window keeps its stack trace
+        logThrottle.error(log, e.getClass().getSimpleName(), "System exception - Type: {}, Message: {}, URI: {}",
             e.getClass().getSimpleName(), e.getMessage(), request.getRequestURI(), e);
 
         Result<Void> result = Result.error(ErrorCode.SYSTEM_ERROR.getCode(), ErrorCode.SYSTEM_ERROR.getMessage());
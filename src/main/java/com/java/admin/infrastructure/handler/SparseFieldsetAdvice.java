@@ -0,0 +1,57 @@
+package com.java.admin.infrastructure.handler;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+import java.util.Set;
+
+/**
+ * Serializes only the requested properties of beans filtered with {@code FILTER_ID}
+ * (mixed in on the MVC mapper by {@code JacksonConfig})
+ *
+ * <p>Controllers opt in per request with {@link #restrict}; everything else in the response
+ * (the Result envelope, page metadata) is written as usual.
+ */
+@RestControllerAdvice
+public class SparseFieldsetAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    /**
+     * Jackson filter ID of beans that support sparse fieldsets
+     */
+    public static final String FILTER_ID = "fieldset";
+
+    private static final String FIELDS_ATTRIBUTE = SparseFieldsetAdvice.class.getName() + ".fields";
+
+    /**
+     * Limit the serialized properties of the current response
+     *
+     * @param request Current request
+     * @param fields  Property names to write, or null to write all
+     */
+    public static void restrict(RequestAttributes request, Set<String> fields) {
+        if (fields != null) {
+            request.setAttribute(FIELDS_ATTRIBUTE, fields, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+                                           MethodParameter returnType, ServerHttpRequest request,
+                                           ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest
+                && servletRequest.getServletRequest().getAttribute(FIELDS_ATTRIBUTE) instanceof Set<?> fields) {
+            bodyContainer.setFilters(new SimpleFilterProvider()
+                    .addFilter(FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept((Set<String>) fields)));
+        }
+    }
+}
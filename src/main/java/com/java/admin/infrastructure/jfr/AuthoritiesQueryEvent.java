@@ -0,0 +1,25 @@
+package com.java.admin.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Authorities and data scope lookup while loading a user for login
+ */
+@Name("com.java.admin.AuthoritiesQuery")
+@Label("Authorities Query")
+@Category({"Java Admin", "Authentication"})
+@Description("Authorities and data scope queries for a user")
+@StackTrace(false)
+public class AuthoritiesQueryEvent extends Event {
+
+    @Label("User ID")
+    public String userId;
+
+    @Label("Authorities")
+    public int authorities;
+}
@@ -0,0 +1,188 @@
+package com.java.admin.infrastructure.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Actuator endpoint ({@code /actuator/jfr}) to start, stop and dump Flight Recorder recordings
+ *
+ * <ul>
+ *   <li>{@code GET /actuator/jfr}: recordings, including ones started with
+ *       {@code -XX:StartFlightRecording}</li>
+ *   <li>{@code POST /actuator/jfr/{name}}: start a recording; optional {@code settings}
+ *       ({@code default} or {@code profile}) and {@code duration}</li>
+ *   <li>{@code GET /actuator/jfr/{name}}: download a dump of the recording so far</li>
+ *   <li>{@code DELETE /actuator/jfr/{name}}: stop and discard the recording</li>
+ * </ul>
+ *
+ * <p>The application's own events ({@code com.java.admin.*}) are enabled in every recording.
+ */
+@Component
+@Endpoint(id = "jfr")
+@Slf4j
+public class FlightRecorderEndpoint {
+
+    private static final String DEFAULT_SETTINGS = "default";
+
+    /**
+     * List recordings
+     */
+    @ReadOperation
+    public List<RecordingDescriptor> recordings() {
+        if (!FlightRecorder.isAvailable()) {
+            return List.of();
+        }
+        return FlightRecorder.getFlightRecorder().getRecordings().stream()
+                .map(RecordingDescriptor::of)
+                .toList();
+    }
+
+    /**
+     * Start a recording
+     *
+     * @param name     Recording name, unique among live recordings
+     * @param settings Predefined configuration name (default: "default")
+     * @param duration Stop automatically after this long (default: until stopped)
+     */
+    @WriteOperation
+    public RecordingDescriptor start(@Selector String name, @Nullable String settings, @Nullable Duration duration) {
+        if (!FlightRecorder.isAvailable()) {
+            throw new InvalidEndpointRequestException("Flight Recorder is not available", "JFR unavailable");
+        }
+        if (find(name) != null) {
+            throw new InvalidEndpointRequestException("Recording already exists: " + name, "Duplicate recording");
+        }
+
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(settings != null ? settings : DEFAULT_SETTINGS);
+        } catch (IOException | ParseException e) {
+            throw new InvalidEndpointRequestException("Unknown settings: " + settings, "Unknown settings");
+        }
+
+        Recording recording = new Recording(configuration);
+        recording.setName(name);
+        recording.setToDisk(true);
+        if (duration != null) {
+            recording.setDuration(duration);
+        }
+        recording.start();
+        log.info("Operation [JFR_START] - Name: {}, Settings: {}, Duration: {}",
+                name, configuration.getName(), duration);
+        return RecordingDescriptor.of(recording);
+    }
+
+    /**
+     * Dump the recording so far
+     *
+     * @return The .jfr file, deleted once it has been read, or null if there is no such recording
+     */
+    @ReadOperation(produces = "application/octet-stream")
+    public Resource dump(@Selector String name) throws IOException {
+        Recording recording = find(name);
+        if (recording == null) {
+            return null;
+        }
+        if (recording.getState() == RecordingState.NEW) {
+            throw new InvalidEndpointRequestException("Recording not started: " + name, "Recording not started");
+        }
+
+        Path file = Files.createTempFile("recording-", ".jfr");
+        try {
+            recording.dump(file);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        log.info("Operation [JFR_DUMP] - Name: {}, Size: {}", name, Files.size(file));
+        return new TemporaryFileResource(file);
+    }
+
+    /**
+     * Stop and discard a recording
+     *
+     * @return The recording as it was stopped, or null if there is no such recording
+     */
+    @DeleteOperation
+    public RecordingDescriptor stop(@Selector String name) {
+        Recording recording = find(name);
+        if (recording == null) {
+            return null;
+        }
+        if (recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+        }
+        RecordingDescriptor descriptor = RecordingDescriptor.of(recording);
+        recording.close();
+        log.info("Operation [JFR_STOP] - Name: {}", name);
+        return descriptor;
+    }
+
+    @Nullable
+    private static Recording find(String name) {
+        if (!FlightRecorder.isAvailable()) {
+            return null;
+        }
+        return FlightRecorder.getFlightRecorder().getRecordings().stream()
+                .filter(recording -> recording.getName().equals(name))
+                .filter(recording -> recording.getState() != RecordingState.CLOSED)
+                .findFirst()
+                .orElse(null);
+    }
+
+    public record RecordingDescriptor(long id, String name, RecordingState state, Instant startTime,
+                                      Duration duration, long size) {
+
+        static RecordingDescriptor of(Recording recording) {
+            return new RecordingDescriptor(recording.getId(), recording.getName(), recording.getState(),
+                    recording.getStartTime(), recording.getDuration(), recording.getSize());
+        }
+    }
+
+    /**
+     * Dump file that is deleted when the response has been streamed
+     */
+    private static final class TemporaryFileResource extends FileSystemResource {
+
+        TemporaryFileResource(Path file) {
+            super(file);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return new FilterInputStream(super.getInputStream()) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        Files.deleteIfExists(getFile().toPath());
+                    }
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.java.admin.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Username/password login, from authentication to the saved session
+ *
+ * <p>Password checking and the authorities query are recorded as nested
+ * {@link PasswordEncoderEvent} and {@link AuthoritiesQueryEvent}s on the same thread.
+ */
+@Name("com.java.admin.Login")
+@Label("Login")
+@Category({"Java Admin", "Authentication"})
+@Description("Username/password login")
+@StackTrace(false)
+public class LoginEvent extends Event {
+
+    @Label("Username")
+    public String username;
+
+    @Label("Success")
+    public boolean success;
+}
@@ -0,0 +1,28 @@
+package com.java.admin.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One password hash or hash comparison (BCrypt)
+ */
+@Name("com.java.admin.PasswordEncoder")
+@Label("Password Encoder")
+@Category({"Java Admin", "Authentication"})
+@Description("Password hashing or comparison")
+@StackTrace(false)
+public class PasswordEncoderEvent extends Event {
+
+    public static final String ENCODE = "encode";
+    public static final String MATCHES = "matches";
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Matched")
+    public boolean matched;
+}
@@ -0,0 +1,43 @@
+package com.java.admin.infrastructure.jfr;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Password encoder that records each hash and comparison as a {@link PasswordEncoderEvent}
+ */
+@RequiredArgsConstructor
+public class RecordingPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        PasswordEncoderEvent event = new PasswordEncoderEvent();
+        event.begin();
+        String encoded = delegate.encode(rawPassword);
+        if (event.shouldCommit()) {
+            event.operation = PasswordEncoderEvent.ENCODE;
+            event.commit();
+        }
+        return encoded;
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        PasswordEncoderEvent event = new PasswordEncoderEvent();
+        event.begin();
+        boolean matched = delegate.matches(rawPassword, encodedPassword);
+        if (event.shouldCommit()) {
+            event.operation = PasswordEncoderEvent.MATCHES;
+            event.matched = matched;
+            event.commit();
+        }
+        return matched;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
@@ -0,0 +1,28 @@
+package com.java.admin.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One Redis command issued by the session mapper
+ */
+@Name("com.java.admin.SessionRedis")
+@Label("Session Redis Call")
+@Category({"Java Admin", "Redis"})
+@Description("Session store command")
+@StackTrace(false)
+public class SessionRedisEvent extends Event {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Keys")
+    public int keys;
+
+    @Label("Found")
+    public boolean found;
+}
@@ -0,0 +1,31 @@
+package com.java.admin.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One MyBatis statement execution
+ */
+@Name("com.java.admin.SqlStatement")
+@Label("SQL Statement")
+@Category({"Java Admin", "Database"})
+@Description("MyBatis statement execution")
+@StackTrace(false)
+public class SqlStatementEvent extends Event {
+
+    @Label("Statement ID")
+    public String statementId;
+
+    @Label("Command")
+    public String command;
+
+    @Label("Rows")
+    public long rows;
+
+    @Label("Failed")
+    public boolean failed;
+}
@@ -0,0 +1,97 @@
+package com.java.admin.infrastructure.jfr;
+
+import com.java.admin.infrastructure.profile.RequestProfile;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import lombok.RequiredArgsConstructor;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+import java.util.List;
+
+/**
+ * MyBatis plugin that records every statement as a {@link SqlStatementEvent}, adds it to
+ * the {@link RequestProfile} of profiled requests and traces it as a child of the current span
+ *
+ * <p>Both query signatures are intercepted because MyBatis-Plus re-enters the executor
+ * through the six-argument one; the executor calls it internally on itself, so a statement
+ * is still recorded once. Statements outside a traced request (startup, scheduled jobs) do not
+ * start traces of their own. With the event disabled, no profile and no current span the plugin
+ * only checks {@link SqlStatementEvent#isEnabled()}.
+ */
+@Intercepts({
+        @Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class,
+                        CacheKey.class, BoundSql.class})
+})
+@RequiredArgsConstructor
+public class SqlStatementInterceptor implements Interceptor {
+
+    private final Tracer tracer;
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        RequestProfile profile = RequestProfile.current();
+        SqlStatementEvent event = new SqlStatementEvent();
+        Span parent = tracer.currentSpan();
+        if (profile == null && parent == null && !event.isEnabled()) {
+            return invocation.proceed();
+        }
+
+        MappedStatement statement = (MappedStatement) invocation.getArgs()[0];
+        Span span = parent == null ? null : tracer.nextSpan(parent)
+                .name(statement.getId())
+                .tag("db.system", "mysql")
+                .tag("db.operation", statement.getSqlCommandType().name())
+                .start();
+        long start = System.nanoTime();
+        event.begin();
+        Object result = null;
+        boolean failed = true;
+        try {
+            result = invocation.proceed();
+            failed = false;
+            return result;
+        } catch (Throwable e) {
+            if (span != null) {
+                span.error(e);
+            }
+            throw e;
+        } finally {
+            if (span != null) {
+                span.tag("db.rows", rows(result)).end();
+            }
+            if (profile != null) {
+                profile.add(RequestProfile.Kind.SQL, statement.getId(), start, rows(result));
+            }
+            if (event.shouldCommit()) {
+                event.statementId = statement.getId();
+                event.command = statement.getSqlCommandType().name();
+                event.rows = rows(result);
+                event.failed = failed;
+                event.commit();
+            }
+        }
+    }
+
+    private static long rows(Object result) {
+        if (result instanceof List<?> list) {
+            return list.size();
+        }
+        if (result instanceof Number count) {
+            return count.longValue();
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,52 @@
+package com.java.admin.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Access token verification or refresh in the authentication filter
+ */
+@Name("com.java.admin.Token")
+@Label("Token")
+@Category({"Java Admin", "Authentication"})
+@Description("Access token verification or refresh")
+@StackTrace(false)
+public class TokenEvent extends Event {
+
+    public static final String VERIFY = "verify";
+    public static final String REFRESH = "refresh";
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("User ID")
+    public String userId;
+
+    @Label("Outcome")
+    public String outcome;
+
+    /**
+     * Begin timing an operation
+     */
+    public static TokenEvent start(String operation) {
+        TokenEvent event = new TokenEvent();
+        event.operation = operation;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * End timing and commit, if the event is enabled and above its threshold
+     */
+    public void finish(String userId, String outcome) {
+        if (shouldCommit()) {
+            this.userId = userId;
+            this.outcome = outcome;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.java.admin.infrastructure.logging;
+
+/**
+ * Thread-bound debug logging flag read by {@link DebugLogTurboFilter}
+ *
+ * <p>A request scope is opened by {@link DebugLogFilter} only while debug rules are active, so
+ * with no rules the turbo filter reads a single volatile field and nothing thread-bound.
+ */
+public final class DebugLogContextHolder {
+
+    private static final ThreadLocal<Boolean> ENABLED = new ThreadLocal<>();
+
+    private static volatile boolean active;
+
+    private DebugLogContextHolder() {
+    }
+
+    /**
+     * @return true if debug rules are active at all
+     */
+    public static boolean isActive() {
+        return active;
+    }
+
+    static void setActive(boolean value) {
+        active = value;
+    }
+
+    /**
+     * @return true if debug logging is on for the current thread
+     */
+    public static boolean isEnabled() {
+        return active && ENABLED.get() == Boolean.TRUE;
+    }
+
+    /**
+     * Open the debug scope of the current request
+     *
+     * @param enabled Whether debug logging starts out on
+     */
+    public static void begin(boolean enabled) {
+        ENABLED.set(enabled);
+    }
+
+    /**
+     * Turn debug logging on for the rest of the current request; no-op outside a request scope
+     */
+    public static void enable() {
+        if (ENABLED.get() != null) {
+            ENABLED.set(Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Close the debug scope of the current request
+     */
+    public static void end() {
+        ENABLED.remove();
+    }
+}
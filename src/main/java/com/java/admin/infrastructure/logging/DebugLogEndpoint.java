@@ -0,0 +1,88 @@
+package com.java.admin.infrastructure.logging;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Actuator endpoint ({@code /actuator/debuglog}) to turn on DEBUG logging for selected requests
+ *
+ * <ul>
+ *   <li>{@code GET /actuator/debuglog}: the active rules, if any</li>
+ *   <li>{@code POST /actuator/debuglog}: replace the rules; any of {@code userIds}
+ *       (comma-separated), {@code headerToken} and {@code sampleRate}, plus {@code duration}</li>
+ *   <li>{@code DELETE /actuator/debuglog}: lift the rules</li>
+ * </ul>
+ *
+ * <p>Restricted to ADMIN (see SecurityConfig): selected requests write their details to the log files.
+ */
+@Component
+@Endpoint(id = "debuglog")
+@RequiredArgsConstructor
+@Slf4j
+public class DebugLogEndpoint {
+
+    private static final Duration DEFAULT_DURATION = Duration.ofMinutes(15);
+    private static final Duration MAX_DURATION = Duration.ofHours(4);
+
+    private final DebugLogRules rules;
+
+    @ReadOperation
+    public DebugLogRules.Rules rules() {
+        return rules.get();
+    }
+
+    /**
+     * Replace the rules
+     *
+     * @param userIds     Comma-separated user IDs
+     * @param headerToken Value of the X-Debug-Log header that selects a request
+     * @param sampleRate  Fraction of all requests selected (0.0 - 1.0)
+     * @param duration    Lift the rules after this long (default: 15 minutes, at most 4 hours)
+     */
+    @WriteOperation
+    public DebugLogRules.Rules enable(@Nullable String userIds, @Nullable String headerToken,
+                                      @Nullable Double sampleRate, @Nullable Duration duration) {
+        Set<String> users = userIds == null ? Set.of() : Arrays.stream(userIds.split(","))
+                .map(String::trim)
+                .filter(userId -> !userId.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+        double rate = sampleRate != null ? sampleRate : 0.0;
+        if (rate < 0.0 || rate > 1.0) {
+            throw new InvalidEndpointRequestException("Sample rate out of range: " + rate, "Invalid sample rate");
+        }
+        String token = headerToken == null || headerToken.isBlank() ? null : headerToken;
+        if (users.isEmpty() && token == null && rate == 0.0) {
+            throw new InvalidEndpointRequestException("No user IDs, header token or sample rate given", "No rules");
+        }
+        Duration ttl = duration != null ? duration : DEFAULT_DURATION;
+        if (ttl.isNegative() || ttl.isZero() || ttl.compareTo(MAX_DURATION) > 0) {
+            throw new InvalidEndpointRequestException("Duration out of range: " + ttl, "Invalid duration");
+        }
+
+        DebugLogRules.Rules enabled = new DebugLogRules.Rules(users, token, rate,
+                Clock.systemUTC().instant().plus(ttl));
+        rules.set(enabled);
+        log.warn("Operation [DEBUG_LOG_ENABLE] - Users: {}, Header: {}, SampleRate: {}, Expires: {}",
+                users, token != null, rate, enabled.expiresAt());
+        return enabled;
+    }
+
+    @DeleteOperation
+    public void disable() {
+        rules.clear();
+        log.warn("Operation [DEBUG_LOG_DISABLE]");
+    }
+}
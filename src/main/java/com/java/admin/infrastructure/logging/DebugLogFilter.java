@@ -0,0 +1,45 @@
+package com.java.admin.infrastructure.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.NonNull;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Opens the debug logging scope of each request while {@link DebugLogRules} are active
+ *
+ * <p>Header and sampling rules are decided here, ahead of the security filter chain; the user
+ * rule is applied by the authentication filter once the principal is known. The flag is bound
+ * to the request thread, so work handed to other threads is not covered.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class DebugLogFilter extends OncePerRequestFilter {
+
+    private final DebugLogRules rules;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !DebugLogContextHolder.isActive();
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        DebugLogContextHolder.begin(rules.matches(request));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            DebugLogContextHolder.end();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.java.admin.infrastructure.logging;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Selects the requests that get debug logging, managed through {@link DebugLogEndpoint}
+ *
+ * <p>A request is selected when any rule matches: the principal is one of the user IDs, the
+ * {@value #HEADER} header carries the configured token, or it falls in the sample. Rules expire
+ * on their own so a forgotten debug session does not stay on in production.
+ */
+@Component
+public class DebugLogRules {
+
+    public static final String HEADER = "X-Debug-Log";
+
+    private final Clock clock;
+    private volatile Rules rules;
+
+    public DebugLogRules() {
+        this(Clock.systemUTC());
+    }
+
+    DebugLogRules(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * @param userIds     Users whose requests are logged at DEBUG
+     * @param headerToken Value of the {@value #HEADER} header that selects a request, or null
+     * @param sampleRate  Fraction of all requests selected (0.0 - 1.0)
+     * @param expiresAt   When the rules are lifted
+     */
+    public record Rules(Set<String> userIds, String headerToken, double sampleRate, Instant expiresAt) {
+    }
+
+    /**
+     * @return the active rules, or null if there are none or they have expired
+     */
+    public Rules get() {
+        Rules current = rules;
+        if (current != null && !clock.instant().isBefore(current.expiresAt())) {
+            if (rules == current) {
+                clear();
+            }
+            return null;
+        }
+        return current;
+    }
+
+    public void set(Rules rules) {
+        this.rules = rules;
+        DebugLogContextHolder.setActive(true);
+    }
+
+    public void clear() {
+        rules = null;
+        DebugLogContextHolder.setActive(false);
+    }
+
+    /**
+     * Whether the request is selected by header or sampling
+     */
+    public boolean matches(HttpServletRequest request) {
+        Rules current = get();
+        if (current == null) {
+            return false;
+        }
+        if (current.headerToken() != null) {
+            String header = request.getHeader(HEADER);
+            if (header != null && MessageDigest.isEqual(header.getBytes(StandardCharsets.UTF_8),
+                    current.headerToken().getBytes(StandardCharsets.UTF_8))) {
+                return true;
+            }
+        }
+        return current.sampleRate() > 0 && ThreadLocalRandom.current().nextDouble() < current.sampleRate();
+    }
+
+    /**
+     * Whether requests of the authenticated user are selected
+     */
+    public boolean matchesUser(String userId) {
+        Rules current = rules;
+        return current != null && current.userIds().contains(userId);
+    }
+}
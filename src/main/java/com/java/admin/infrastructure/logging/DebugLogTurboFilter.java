@@ -0,0 +1,41 @@
+package com.java.admin.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+/**
+ * Accepts DEBUG and TRACE events of the application's loggers for requests selected by {@link DebugLogRules}
+ *
+ * <p>Turbo filters run before the logger level check, so an accepted event is logged (and
+ * {@code isDebugEnabled()} is true) although the logger is at INFO. While no rules are active,
+ * every call pays one volatile read and returns NEUTRAL.
+ */
+public class DebugLogTurboFilter extends TurboFilter {
+
+    private String loggerPrefix = "com.java.admin";
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params,
+                              Throwable t) {
+        if (!DebugLogContextHolder.isActive()) {
+            return FilterReply.NEUTRAL;
+        }
+        if (level != null && level.levelInt >= Level.INFO_INT) {
+            return FilterReply.NEUTRAL;
+        }
+        if (!DebugLogContextHolder.isEnabled() || !logger.getName().startsWith(loggerPrefix)) {
+            return FilterReply.NEUTRAL;
+        }
+        return FilterReply.ACCEPT;
+    }
+
+    /**
+     * Only loggers under this prefix are switched to DEBUG (default: com.java.admin)
+     */
+    public void setLoggerPrefix(String loggerPrefix) {
+        this.loggerPrefix = loggerPrefix;
+    }
+}
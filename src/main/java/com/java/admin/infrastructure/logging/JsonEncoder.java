@@ -0,0 +1,469 @@
+package com.java.admin.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.StackTraceElementProxy;
+import ch.qos.logback.core.encoder.EncoderBase;
+import org.slf4j.event.KeyValuePair;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Logback encoder writing one JSON object per line
+ *
+ * <pre>{@code
+ * {"@timestamp":"2026-10-18T08:15:30.123Z","level":"WARN","thread":"http-nio-8000-exec-1",
+ *  "logger":"c.j.a.i.h.GlobalExceptionHandler","message":"Business exception - ... URI: /api/users",
+ *  "traceId":"...","spanId":"...","type":"AppException","errorCode":"20002","uri":"/api/users"}
+ * }</pre>
+ *
+ * <p>Fields come from the MDC (trace and span IDs), SLF4J key-value pairs and the {@code Label: {}}
+ * placeholders our messages already use: {@code "UserId: {}"} and {@code "User ID: {}"} become
+ * {@code userId}, {@code "URI: {}"} becomes {@code uri}, {@code "Code: {}"} becomes {@code errorCode}.
+ * Numbers and booleans are written as JSON numbers and booleans. The label positions are parsed
+ * once per message pattern; labels that clash with the fixed keys are left in the message only.
+ *
+ * <p>Events are written straight into a reusable per-thread buffer: keys, levels and logger names
+ * are pre-encoded, numbers are written digit by digit, text is escaped and UTF-8 encoded char by
+ * char, and the timestamp prefix is formatted once per second. The only allocation per event is
+ * the returned array (Encoder API), plus whatever {@code toString()} of non-numeric arguments costs.
+ *
+ * <p>Usage in logback-spring.xml: {@code <encoder class="com.java.admin.infrastructure.logging.JsonEncoder"/>}
+ */
+public class JsonEncoder extends EncoderBase<ILoggingEvent> {
+
+    private static final byte[] TIMESTAMP = ascii("{\"@timestamp\":\"");
+    private static final byte[] LEVEL = ascii("Z\",\"level\":");
+    private static final byte[] THREAD = ascii(",\"thread\":");
+    private static final byte[] LOGGER = ascii(",\"logger\":");
+    private static final byte[] MESSAGE = ascii(",\"message\":");
+    private static final byte[] EXCEPTION = ascii(",\"exception\":");
+    private static final byte[] NULL = ascii("null");
+    private static final byte[] TRUE = ascii("true");
+    private static final byte[] FALSE = ascii("false");
+    private static final byte[] HEX = ascii("0123456789abcdef");
+    private static final byte[] LINE_END = ascii("}\n");
+
+    private static final Map<Level, byte[]> LEVELS = Map.of(
+            Level.TRACE, ascii("\"TRACE\""),
+            Level.DEBUG, ascii("\"DEBUG\""),
+            Level.INFO, ascii("\"INFO\""),
+            Level.WARN, ascii("\"WARN\""),
+            Level.ERROR, ascii("\"ERROR\""));
+
+    private static final Set<String> RESERVED = Set.of("@timestamp", "level", "thread", "logger", "message",
+            "exception");
+    private static final Map<String, String> ALIASES = Map.of("code", "errorCode");
+
+    private static final int MAX_CACHED_PATTERNS = 10_000;
+    private static final int MAX_LABEL_WORDS = 4;
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+    private static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Field name per placeholder of a message pattern (null where the placeholder has no label)
+     */
+    private final Map<String, byte[][]> patternFields = new ConcurrentHashMap<>();
+    private final Map<String, byte[]> loggerNames = new ConcurrentHashMap<>();
+    private final ThreadLocal<Buffer> buffers = ThreadLocal.withInitial(Buffer::new);
+
+    private boolean includeMdc = true;
+    private boolean includeFields = true;
+
+    @Override
+    public byte[] headerBytes() {
+        return null;
+    }
+
+    @Override
+    public byte[] footerBytes() {
+        return null;
+    }
+
+    @Override
+    public byte[] encode(ILoggingEvent event) {
+        Buffer buffer = buffers.get();
+        buffer.length = 0;
+
+        buffer.write(TIMESTAMP);
+        buffer.writeTimestamp(event.getTimeStamp());
+        buffer.write(LEVEL);
+        buffer.write(LEVELS.get(event.getLevel()));
+        buffer.write(THREAD);
+        buffer.writeString(event.getThreadName());
+        buffer.write(LOGGER);
+        buffer.write(loggerNames.computeIfAbsent(event.getLoggerName(), JsonEncoder::quoted));
+        buffer.write(MESSAGE);
+        buffer.writeString(event.getFormattedMessage());
+
+        if (includeMdc) {
+            Map<String, String> mdc = event.getMDCPropertyMap();
+            if (mdc != null && !mdc.isEmpty()) {
+                for (Map.Entry<String, String> entry : mdc.entrySet()) {
+                    if (!RESERVED.contains(entry.getKey())) {
+                        buffer.writeKey(entry.getKey());
+                        buffer.writeString(entry.getValue());
+                    }
+                }
+            }
+        }
+        if (includeFields) {
+            writeArguments(buffer, event);
+            List<KeyValuePair> keyValuePairs = event.getKeyValuePairs();
+            if (keyValuePairs != null) {
+                for (KeyValuePair pair : keyValuePairs) {
+                    if (!RESERVED.contains(pair.key)) {
+                        buffer.writeKey(pair.key);
+                        buffer.writeValue(pair.value);
+                    }
+                }
+            }
+        }
+
+        IThrowableProxy throwable = event.getThrowableProxy();
+        if (throwable != null) {
+            buffer.write(EXCEPTION);
+            buffer.write((byte) '"');
+            buffer.writeThrowable(throwable, null, "");
+            buffer.write((byte) '"');
+        }
+        buffer.write(LINE_END);
+
+        byte[] encoded = Arrays.copyOf(buffer.bytes, buffer.length);
+        buffer.trim();
+        return encoded;
+    }
+
+    private void writeArguments(Buffer buffer, ILoggingEvent event) {
+        Object[] arguments = event.getArgumentArray();
+        String pattern = event.getMessage();
+        if (arguments == null || arguments.length == 0 || pattern == null) {
+            return;
+        }
+        byte[][] fields = patternFields.get(pattern);
+        if (fields == null) {
+            fields = parseFields(pattern);
+            if (patternFields.size() < MAX_CACHED_PATTERNS) {
+                patternFields.put(pattern, fields);
+            }
+        }
+        for (int i = 0; i < fields.length && i < arguments.length; i++) {
+            if (fields[i] != null) {
+                buffer.write(fields[i]);
+                buffer.writeValue(arguments[i]);
+            }
+        }
+    }
+
+    /**
+     * Resolve the field name of every {@code {}} placeholder from the label in front of it
+     */
+    private static byte[][] parseFields(String pattern) {
+        List<byte[]> fields = new ArrayList<>();
+        List<String> seen = new ArrayList<>();
+        int placeholder = pattern.indexOf("{}");
+        while (placeholder >= 0) {
+            String name = fieldName(pattern, placeholder);
+            if (name != null && !RESERVED.contains(name) && !seen.contains(name)) {
+                seen.add(name);
+                fields.add(ascii(",\"" + name + "\":"));
+            } else {
+                fields.add(null);
+            }
+            placeholder = pattern.indexOf("{}", placeholder + 2);
+        }
+        return fields.toArray(new byte[0][]);
+    }
+
+    private static String fieldName(String pattern, int placeholder) {
+        int colon = placeholder - 2;
+        if (colon < 1 || pattern.charAt(colon) != ':' || pattern.charAt(colon + 1) != ' ') {
+            return null;
+        }
+        int start = colon;
+        while (start > 0 && (Character.isLetter(pattern.charAt(start - 1)) || pattern.charAt(start - 1) == ' ')) {
+            start--;
+        }
+        String[] words = pattern.substring(start, colon).trim().split(" +");
+        if (words.length == 0 || words[0].isEmpty() || words.length > MAX_LABEL_WORDS) {
+            return null;
+        }
+
+        // "User ID" -> userId, "URI" -> uri, "UserId" -> userId, "Role name" -> roleName
+        StringBuilder name = new StringBuilder();
+        for (String word : words) {
+            boolean upperCase = word.equals(word.toUpperCase());
+            if (name.isEmpty()) {
+                name.append(upperCase ? word.toLowerCase() : Character.toLowerCase(word.charAt(0)) + word.substring(1));
+            } else {
+                name.append(Character.toUpperCase(word.charAt(0)))
+                        .append(upperCase ? word.substring(1).toLowerCase() : word.substring(1));
+            }
+        }
+        return ALIASES.getOrDefault(name.toString(), name.toString());
+    }
+
+    private static byte[] quoted(String value) {
+        Buffer buffer = new Buffer();
+        buffer.writeString(value);
+        return Arrays.copyOf(buffer.bytes, buffer.length);
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    public boolean isIncludeMdc() {
+        return includeMdc;
+    }
+
+    public void setIncludeMdc(boolean includeMdc) {
+        this.includeMdc = includeMdc;
+    }
+
+    public boolean isIncludeFields() {
+        return includeFields;
+    }
+
+    public void setIncludeFields(boolean includeFields) {
+        this.includeFields = includeFields;
+    }
+
+    /**
+     * Growable byte buffer reused by one thread
+     */
+    private static final class Buffer {
+
+        private byte[] bytes = new byte[INITIAL_BUFFER_SIZE];
+        private int length;
+
+        private long timestampSecond = Long.MIN_VALUE;
+        private final byte[] timestampPrefix = new byte[20];
+
+        void write(byte[] value) {
+            ensure(value.length);
+            System.arraycopy(value, 0, bytes, length, value.length);
+            length += value.length;
+        }
+
+        void write(byte value) {
+            ensure(1);
+            bytes[length++] = value;
+        }
+
+        /**
+         * "yyyy-MM-ddTHH:mm:ss.SSS" in UTC; the part up to the seconds is formatted once per second
+         */
+        void writeTimestamp(long epochMillis) {
+            long second = Math.floorDiv(epochMillis, 1000);
+            if (second != timestampSecond) {
+                String prefix = DateTimeFormatter.ISO_INSTANT.format(Instant.ofEpochSecond(second));
+                // "2026-10-18T08:15:30Z" -> "2026-10-18T08:15:30."
+                for (int i = 0; i < 19; i++) {
+                    timestampPrefix[i] = (byte) prefix.charAt(i);
+                }
+                timestampPrefix[19] = '.';
+                timestampSecond = second;
+            }
+            write(timestampPrefix);
+            int millis = (int) Math.floorMod(epochMillis, 1000);
+            ensure(3);
+            bytes[length++] = (byte) ('0' + millis / 100);
+            bytes[length++] = (byte) ('0' + millis / 10 % 10);
+            bytes[length++] = (byte) ('0' + millis % 10);
+        }
+
+        void writeKey(String key) {
+            write((byte) ',');
+            writeString(key);
+            write((byte) ':');
+        }
+
+        void writeValue(Object value) {
+            if (value == null) {
+                write(NULL);
+            } else if (value instanceof Long || value instanceof Integer || value instanceof Short
+                    || value instanceof Byte) {
+                writeLong(((Number) value).longValue());
+            } else if (value instanceof Boolean bool) {
+                write(bool ? TRUE : FALSE);
+            } else if (value instanceof Enum<?> constant) {
+                writeString(constant.name());
+            } else if (value instanceof Number number && Double.isFinite(number.doubleValue())) {
+                writeAscii(number.toString());
+            } else {
+                writeString(value.toString());
+            }
+        }
+
+        void writeLong(long value) {
+            if (value == Long.MIN_VALUE) {
+                writeAscii(Long.toString(value));
+                return;
+            }
+            ensure(20);
+            if (value < 0) {
+                bytes[length++] = '-';
+                value = -value;
+            }
+            int digits = 1;
+            for (long rest = value / 10; rest > 0; rest /= 10) {
+                digits++;
+            }
+            for (int i = length + digits - 1; i >= length; i--) {
+                bytes[i] = (byte) ('0' + value % 10);
+                value /= 10;
+            }
+            length += digits;
+        }
+
+        private void writeAscii(String value) {
+            ensure(value.length());
+            for (int i = 0; i < value.length(); i++) {
+                bytes[length++] = (byte) value.charAt(i);
+            }
+        }
+
+        /**
+         * Quoted, escaped and UTF-8 encoded
+         */
+        void writeString(CharSequence value) {
+            if (value == null) {
+                write(NULL);
+                return;
+            }
+            write((byte) '"');
+            writeEscaped(value);
+            write((byte) '"');
+        }
+
+        /**
+         * Stack trace in the usual text layout, escaped in place (without the surrounding quotes)
+         */
+        void writeThrowable(IThrowableProxy throwable, String prefix, String indent) {
+            writeEscaped(indent);
+            if (prefix != null) {
+                writeEscaped(prefix);
+            }
+            writeEscaped(throwable.getClassName());
+            if (throwable.getMessage() != null) {
+                writeEscaped(": ");
+                writeEscaped(throwable.getMessage());
+            }
+            StackTraceElementProxy[] frames = throwable.getStackTraceElementProxyArray();
+            int common = throwable.getCommonFrames();
+            for (int i = 0; i < frames.length - common; i++) {
+                writeEscaped("\n\t");
+                writeEscaped(indent);
+                writeEscaped(frames[i].getSTEAsString());
+            }
+            if (common > 0) {
+                writeEscaped("\n\t");
+                writeEscaped(indent);
+                writeEscaped("... ");
+                writeLong(common);
+                writeEscaped(" common frames omitted");
+            }
+            IThrowableProxy[] suppressed = throwable.getSuppressed();
+            if (suppressed != null) {
+                for (IThrowableProxy each : suppressed) {
+                    writeEscaped("\n");
+                    writeThrowable(each, "Suppressed: ", indent + "\t");
+                }
+            }
+            if (throwable.getCause() != null) {
+                writeEscaped("\n");
+                writeThrowable(throwable.getCause(), "Caused by: ", indent);
+            }
+        }
+
+        @SuppressWarnings("deprecation")
+        private void writeEscaped(CharSequence value) {
+            int size = value.length();
+            if (value instanceof String text && isPlainAscii(text)) {
+                // Nothing to escape: copy the low bytes in one go
+                ensure(size);
+                text.getBytes(0, size, bytes, length);
+                length += size;
+                return;
+            }
+            // Worst case: every char is a 6-byte escape
+            ensure(size * 6);
+            byte[] out = bytes;
+            int position = length;
+            for (int i = 0; i < size; i++) {
+                char c = value.charAt(i);
+                if (c >= 0x20 && c < 0x80) {
+                    if (c == '"' || c == '\\') {
+                        out[position++] = '\\';
+                    }
+                    out[position++] = (byte) c;
+                } else if (c < 0x20) {
+                    out[position++] = '\\';
+                    switch (c) {
+                        case '\n' -> out[position++] = 'n';
+                        case '\r' -> out[position++] = 'r';
+                        case '\t' -> out[position++] = 't';
+                        default -> {
+                            out[position++] = 'u';
+                            out[position++] = '0';
+                            out[position++] = '0';
+                            out[position++] = HEX[c >> 4];
+                            out[position++] = HEX[c & 0xF];
+                        }
+                    }
+                } else if (c < 0x800) {
+                    out[position++] = (byte) (0xC0 | c >> 6);
+                    out[position++] = (byte) (0x80 | c & 0x3F);
+                } else if (Character.isHighSurrogate(c) && i + 1 < size && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    out[position++] = (byte) (0xF0 | codePoint >> 18);
+                    out[position++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+                    out[position++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+                    out[position++] = (byte) (0x80 | codePoint & 0x3F);
+                } else if (Character.isSurrogate(c)) {
+                    out[position++] = '?';
+                } else {
+                    out[position++] = (byte) (0xE0 | c >> 12);
+                    out[position++] = (byte) (0x80 | c >> 6 & 0x3F);
+                    out[position++] = (byte) (0x80 | c & 0x3F);
+                }
+            }
+            length = position;
+        }
+
+        private static boolean isPlainAscii(String text) {
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c < 0x20 || c >= 0x80 || c == '"' || c == '\\') {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void ensure(int additional) {
+            if (length + additional > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + additional));
+            }
+        }
+
+        /**
+         * Do not keep a buffer grown by one huge event (e.g. a long stack trace)
+         */
+        void trim() {
+            if (bytes.length > MAX_RETAINED_BUFFER_SIZE) {
+                bytes = new byte[INITIAL_BUFFER_SIZE];
+            }
+        }
+    }
+}
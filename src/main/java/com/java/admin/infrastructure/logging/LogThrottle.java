@@ -0,0 +1,170 @@
+package com.java.admin.infrastructure.logging;
+
+import com.java.admin.config.LogThrottleProperties;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+import org.slf4j.helpers.MessageFormatter;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Collapses repeated log events into periodic summaries
+ *
+ * <p>Events are keyed by call site (logger, level and message pattern) and a code such as an
+ * {@code ErrorCode}. The first {@code burst} events of a key in each window are logged in full;
+ * the rest only increment a counter, and the first {@code samples} of those keep their formatted
+ * message. When the window ends, one summary with the count and the samples is logged through
+ * the same logger and level. The hot path is a map lookup and an atomic increment, so a flood of
+ * identical warnings costs neither the encoder nor the disk.
+ *
+ * <p>Windows are closed by the next event of the key or by {@link #flush()}, whichever comes
+ * first. Counts are best effort: an event racing with the close of its window may be left out
+ * of the summary.
+ */
+@Component
+public class LogThrottle {
+
+    private static final String SUMMARY =
+            "Repeated log suppressed - Code: {}, Suppressed: {}, Window: {}ms, Pattern: {}, Samples: {}";
+
+    private final LogThrottleProperties properties;
+    private final long windowNanos;
+    private final Map<Key, Window> windows = new ConcurrentHashMap<>();
+
+    public LogThrottle(LogThrottleProperties properties) {
+        this.properties = properties;
+        this.windowNanos = properties.getWindow().toNanos();
+    }
+
+    public void warn(Logger logger, Object code, String format, Object... arguments) {
+        if (logger.isWarnEnabled()) {
+            log(new Key(logger, Level.WARN, code, format), arguments);
+        }
+    }
+
+    public void error(Logger logger, Object code, String format, Object... arguments) {
+        if (logger.isErrorEnabled()) {
+            log(new Key(logger, Level.ERROR, code, format), arguments);
+        }
+    }
+
+    /**
+     * Log the summaries of all windows that have ended and forget their keys
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void flush() {
+        flush(System.nanoTime());
+    }
+
+    void flush(long now) {
+        windows.forEach((key, window) -> {
+            if (now - window.start >= windowNanos && windows.remove(key, window)) {
+                summarize(key, window);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void close() {
+        windows.forEach((key, window) -> {
+            if (windows.remove(key, window)) {
+                summarize(key, window);
+            }
+        });
+    }
+
+    private void log(Key key, Object[] arguments) {
+        if (!properties.isEnabled()) {
+            write(key, arguments);
+            return;
+        }
+
+        Window window = window(key, System.nanoTime());
+        if (window == null) {
+            write(key, arguments);
+            return;
+        }
+
+        long count = window.count.incrementAndGet();
+        if (count <= properties.getBurst()) {
+            write(key, arguments);
+            return;
+        }
+        long sample = count - properties.getBurst() - 1;
+        if (sample < window.samples.length()) {
+            window.samples.set((int) sample, MessageFormatter.arrayFormat(key.format, arguments).getMessage());
+        }
+    }
+
+    /**
+     * @return the open window of the key, or null if too many keys are tracked already
+     */
+    private Window window(Key key, long now) {
+        while (true) {
+            Window current = windows.get(key);
+            if (current != null && now - current.start < windowNanos) {
+                return current;
+            }
+            if (current == null && windows.size() >= properties.getMaxKeys()) {
+                return null;
+            }
+            Window next = new Window(now, properties.getSamples());
+            if (current == null ? windows.putIfAbsent(key, next) == null : windows.replace(key, current, next)) {
+                if (current != null) {
+                    summarize(key, current);
+                }
+                return next;
+            }
+        }
+    }
+
+    private void summarize(Key key, Window window) {
+        long suppressed = window.count.get() - properties.getBurst();
+        if (suppressed <= 0) {
+            return;
+        }
+        List<String> samples = new ArrayList<>(window.samples.length());
+        for (int i = 0; i < window.samples.length(); i++) {
+            String sample = window.samples.get(i);
+            if (sample != null) {
+                samples.add(sample);
+            }
+        }
+        long windowMillis = (System.nanoTime() - window.start) / 1_000_000;
+        key.logger.atLevel(key.level).log(SUMMARY, key.code, suppressed, windowMillis, key.format, samples);
+    }
+
+    private static void write(Key key, Object[] arguments) {
+        if (key.level == Level.ERROR) {
+            key.logger.error(key.format, arguments);
+        } else {
+            key.logger.warn(key.format, arguments);
+        }
+    }
+
+    /**
+     * Call site and code; the message pattern is a constant, so it identifies the call site
+     */
+    private record Key(Logger logger, Level level, Object code, String format) {
+    }
+
+    private static final class Window {
+
+        private final long start;
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicReferenceArray<String> samples;
+
+        private Window(long start, int samples) {
+            this.start = start;
+            this.samples = new AtomicReferenceArray<>(samples);
+        }
+    }
+}
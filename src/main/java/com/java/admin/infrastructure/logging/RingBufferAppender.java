@@ -0,0 +1,416 @@
+package com.java.admin.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asynchronous appender backed by a pre-allocated ring buffer
+ *
+ * <p>Replaces Logback's AsyncAppender, whose blocking queue makes every logging thread take the
+ * same lock and, with discardingThreshold 0, wait on a slow disk. Here a logging thread claims a
+ * slot with a single CAS and returns; one worker thread drains the buffer in batches into the
+ * attached appenders and flushes output-stream appenders configured with
+ * {@code immediateFlush=false} once per batch instead of once per event.
+ *
+ * <p>When the buffer is full the overflow policy decides what the logging thread does:
+ * <ul>
+ *   <li>BLOCK - wait for a free slot; nothing is lost</li>
+ *   <li>DROP - drop events at or below {@code discardLevel}; more severe events wait</li>
+ *   <li>SAMPLE - as DROP, but once the buffer is {@code sampleThreshold} full only one in
+ *       {@code sampleRate} of those events is kept, so the buffer drains before it fills up</li>
+ * </ul>
+ * Dropped events are counted and reported through the attached appenders at most once a second.
+ *
+ * <p>Usage in logback-spring.xml:
+ * <pre>{@code
+ * <appender name="ASYNC_FILE" class="com.java.admin.infrastructure.logging.RingBufferAppender">
+ *     <appender-ref ref="FILE"/>
+ *     <bufferSize>16384</bufferSize>
+ *     <overflowPolicy>DROP</overflowPolicy>
+ *     <discardLevel>INFO</discardLevel>
+ * </appender>
+ * }</pre>
+ */
+public class RingBufferAppender extends UnsynchronizedAppenderBase<ILoggingEvent>
+        implements AppenderAttachable<ILoggingEvent> {
+
+    public enum OverflowPolicy {
+        BLOCK, DROP, SAMPLE
+    }
+
+    // Spinning only helps when the worker runs on another core
+    private static final int SPIN_ATTEMPTS = Runtime.getRuntime().availableProcessors() > 1 ? 100 : 0;
+    private static final int YIELD_ATTEMPTS = 100;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long DROP_REPORT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final AppenderAttachableImpl<ILoggingEvent> appenders = new AppenderAttachableImpl<>();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder droppedTotal = new LongAdder();
+
+    /**
+     * Next sequence to claim (producers)
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * Next sequence to consume (worker only; read by producers for the fill level)
+     */
+    private volatile long head;
+
+    /**
+     * Per slot: the sequence it can be claimed for, or that sequence + 1 once published
+     */
+    private AtomicLongArray sequences;
+    private AtomicReferenceArray<ILoggingEvent> events;
+    private int mask;
+
+    private Thread worker;
+    private volatile boolean workerParked;
+    private long lastDropReport;
+
+    private int bufferSize = 8192;
+    private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+    private Level discardLevel = Level.INFO;
+    private int sampleRate = 10;
+    private double sampleThreshold = 0.8;
+    private int batchSize = 256;
+    private int maxFlushTime = 1000;
+    private boolean includeCallerData = false;
+
+    @Override
+    public void start() {
+        if (isStarted()) {
+            return;
+        }
+        if (!appenders.iteratorForAppenders().hasNext()) {
+            addError("No attached appenders found for [" + getName() + "]");
+            return;
+        }
+        if (bufferSize < 1 || batchSize < 1 || sampleRate < 1) {
+            addError("bufferSize, batchSize and sampleRate must be positive for [" + getName() + "]");
+            return;
+        }
+
+        // Round up to a power of two so the slot index is a mask
+        int capacity = Integer.highestOneBit(Math.max(bufferSize - 1, 1)) << 1;
+        sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+        events = new AtomicReferenceArray<>(capacity);
+        mask = capacity - 1;
+        tail.set(0);
+        head = 0;
+
+        worker = new Thread(this::drain, "RingBufferAppender-Worker-" + getName());
+        worker.setDaemon(true);
+        super.start();
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) {
+            return;
+        }
+        // The worker drains what was published before it sees the stop, then stops the attached appenders
+        super.stop();
+        LockSupport.unpark(worker);
+        try {
+            worker.join(maxFlushTime);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (worker.isAlive()) {
+            addWarn("Max flush time (" + maxFlushTime + "ms) exceeded, " + (tail.get() - head)
+                    + " queued events may be discarded");
+        }
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        boolean discardable = overflowPolicy != OverflowPolicy.BLOCK
+                && event.getLevel().toInt() <= discardLevel.toInt();
+        if (discardable && overflowPolicy == OverflowPolicy.SAMPLE
+                && fillRatio() >= sampleThreshold
+                && ThreadLocalRandom.current().nextInt(sampleRate) != 0) {
+            drop();
+            return;
+        }
+
+        event.prepareForDeferredProcessing();
+        if (includeCallerData) {
+            event.getCallerData();
+        }
+
+        int attempts = 0;
+        while (!tryPublish(event)) {
+            if (discardable || !isStarted() || !worker.isAlive()) {
+                drop();
+                return;
+            }
+            LockSupport.unpark(worker);
+            backOff(attempts++);
+        }
+        if (workerParked) {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    private boolean tryPublish(ILoggingEvent event) {
+        long sequence = tail.get();
+        while (true) {
+            int index = (int) sequence & mask;
+            long available = sequences.get(index);
+            if (available == sequence) {
+                if (tail.compareAndSet(sequence, sequence + 1)) {
+                    events.set(index, event);
+                    sequences.set(index, sequence + 1);
+                    return true;
+                }
+                sequence = tail.get();
+            } else if (available < sequence) {
+                // Slot still holds the event from the previous lap: full
+                return false;
+            } else {
+                // Claimed by another producer in the meantime
+                sequence = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Spin, then yield, then park while waiting for a free slot
+     */
+    private void backOff(int attempts) {
+        if (attempts < SPIN_ATTEMPTS) {
+            Thread.onSpinWait();
+        } else if (attempts < SPIN_ATTEMPTS + YIELD_ATTEMPTS) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(this, FULL_PARK_NANOS);
+        }
+    }
+
+    private void drop() {
+        dropped.increment();
+        droppedTotal.increment();
+    }
+
+    private void drain() {
+        long next = head;
+        while (true) {
+            int count = 0;
+            while (count < batchSize) {
+                int index = (int) next & mask;
+                if (sequences.get(index) != next + 1) {
+                    break;
+                }
+                ILoggingEvent event = events.get(index);
+                events.set(index, null);
+                // Free the slot for the next lap before writing, so producers are not held by the disk
+                sequences.set(index, next + mask + 1);
+                next++;
+                count++;
+                deliver(event);
+            }
+            head = next;
+
+            if (count > 0) {
+                flush();
+                reportDropped(false);
+                continue;
+            }
+            if (!isStarted()) {
+                break;
+            }
+            reportDropped(false);
+            workerParked = true;
+            if (sequences.get((int) next & mask) != next + 1 && isStarted()) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+            workerParked = false;
+        }
+
+        reportDropped(true);
+        flush();
+        appenders.detachAndStopAllAppenders();
+    }
+
+    private void deliver(ILoggingEvent event) {
+        try {
+            appenders.appendLoopOnAppenders(event);
+        } catch (RuntimeException e) {
+            addError("Failed to append event", e);
+        }
+    }
+
+    /**
+     * Flush output-stream appenders that leave flushing to us (immediateFlush=false)
+     */
+    private void flush() {
+        Iterator<Appender<ILoggingEvent>> iterator = appenders.iteratorForAppenders();
+        while (iterator.hasNext()) {
+            if (iterator.next() instanceof OutputStreamAppender<ILoggingEvent> appender
+                    && appender.isStarted() && !appender.isImmediateFlush()) {
+                OutputStream outputStream = appender.getOutputStream();
+                if (outputStream == null) {
+                    continue;
+                }
+                try {
+                    outputStream.flush();
+                } catch (IOException e) {
+                    addError("Failed to flush appender [" + appender.getName() + "]", e);
+                }
+            }
+        }
+    }
+
+    private void reportDropped(boolean force) {
+        long now = System.nanoTime();
+        if (!force && now - lastDropReport < DROP_REPORT_INTERVAL_NANOS) {
+            return;
+        }
+        long count = dropped.sumThenReset();
+        if (count == 0) {
+            return;
+        }
+        lastDropReport = now;
+        LoggerContext loggerContext = (LoggerContext) getContext();
+        LoggingEvent event = new LoggingEvent(RingBufferAppender.class.getName(),
+                loggerContext.getLogger(RingBufferAppender.class), Level.WARN,
+                "Log buffer full - Dropped: {}, Policy: {}, Appender: {}", null,
+                new Object[]{count, overflowPolicy, getName()});
+        deliver(event);
+    }
+
+    private double fillRatio() {
+        return (double) (tail.get() - head) / (mask + 1);
+    }
+
+    /**
+     * Events dropped since start
+     */
+    public long getDroppedCount() {
+        return droppedTotal.sum();
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    public String getDiscardLevel() {
+        return discardLevel.toString();
+    }
+
+    public void setDiscardLevel(String discardLevel) {
+        this.discardLevel = Level.toLevel(discardLevel, Level.INFO);
+    }
+
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    public void setSampleRate(int sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    public double getSampleThreshold() {
+        return sampleThreshold;
+    }
+
+    public void setSampleThreshold(double sampleThreshold) {
+        this.sampleThreshold = sampleThreshold;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getMaxFlushTime() {
+        return maxFlushTime;
+    }
+
+    public void setMaxFlushTime(int maxFlushTime) {
+        this.maxFlushTime = maxFlushTime;
+    }
+
+    public boolean isIncludeCallerData() {
+        return includeCallerData;
+    }
+
+    public void setIncludeCallerData(boolean includeCallerData) {
+        this.includeCallerData = includeCallerData;
+    }
+
+    @Override
+    public void addAppender(Appender<ILoggingEvent> newAppender) {
+        appenders.addAppender(newAppender);
+    }
+
+    @Override
+    public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() {
+        return appenders.iteratorForAppenders();
+    }
+
+    @Override
+    public Appender<ILoggingEvent> getAppender(String name) {
+        return appenders.getAppender(name);
+    }
+
+    @Override
+    public boolean isAttached(Appender<ILoggingEvent> appender) {
+        return appenders.isAttached(appender);
+    }
+
+    @Override
+    public void detachAndStopAllAppenders() {
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    public boolean detachAppender(Appender<ILoggingEvent> appender) {
+        return appenders.detachAppender(appender);
+    }
+
+    @Override
+    public boolean detachAppender(String name) {
+        return appenders.detachAppender(name);
+    }
+}
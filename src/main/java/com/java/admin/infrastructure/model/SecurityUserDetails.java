@@ -2,6 +2,7 @@ package com.java.admin.infrastructure.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.java.admin.infrastructure.datascope.DataScope;
 import com.java.admin.modules.system.model.SysUser;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -21,6 +22,11 @@ public class SecurityUserDetails implements UserDetails {
     private List<String> sysAuthorities;
     private String currentTokenFingerprint;
 
+    /**
+     * Widest data scope of the user's effective roles, resolved at login
+     */
+    private DataScope dataScope;
+
     public SecurityUserDetails(SysUser sysUser, List<String> sysAuthorities) {
         this.sysUser = sysUser;
         this.sysAuthorities = sysAuthorities;
@@ -63,6 +69,6 @@ public class SecurityUserDetails implements UserDetails {
 
     @Override
     public boolean isEnabled() {
-        return true;
+        return sysUser.getStatus() == null || sysUser.getStatus() == 0;
     }
 }
\ No newline at end of file
@@ -0,0 +1,126 @@
+package com.java.admin.infrastructure.profile;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Timings of one request, bound to the request thread by {@link SlowRequestFilter}
+ *
+ * <p>Controller, SQL and Redis code look up {@link #current()} and, when the request is
+ * profiled, report spans with {@link #add}. Spans are appended without locking (one thread per request);
+ * beyond the span limit only the per-kind totals are kept. Nothing is converted for output
+ * unless the request turns out slow.
+ */
+public final class RequestProfile {
+
+    public enum Kind {
+        CONTROLLER,
+        SQL,
+        REDIS
+    }
+
+    private static final ThreadLocal<RequestProfile> CONTEXT = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+    private final long startMillis = System.currentTimeMillis();
+    private final int maxSpans;
+    private final List<RawSpan> spans = new ArrayList<>();
+    private final long[] totalNanos = new long[Kind.values().length];
+    private int droppedSpans;
+    private String userId;
+
+    private RequestProfile(int maxSpans) {
+        this.maxSpans = maxSpans;
+    }
+
+    /**
+     * Start profiling the current thread's request
+     */
+    public static RequestProfile begin(int maxSpans) {
+        RequestProfile profile = new RequestProfile(maxSpans);
+        CONTEXT.set(profile);
+        return profile;
+    }
+
+    /**
+     * Stop profiling the current thread's request
+     */
+    public static void end() {
+        CONTEXT.remove();
+    }
+
+    /**
+     * @return the profile of the current thread's request, or null if it is not profiled
+     */
+    public static RequestProfile current() {
+        return CONTEXT.get();
+    }
+
+    /**
+     * Attach the authenticated user to the current request, if it is profiled
+     */
+    public static void identify(String userId) {
+        RequestProfile profile = CONTEXT.get();
+        if (profile != null) {
+            profile.userId = userId;
+        }
+    }
+
+    /**
+     * Record a span of this request
+     *
+     * @param kind       Span kind
+     * @param name       Statement ID, Redis operation or controller action
+     * @param startNanos {@link System#nanoTime()} at the start of the span
+     * @param rows       Rows read or written, keys for Redis (0 if not applicable)
+     */
+    public void add(Kind kind, String name, long startNanos, long rows) {
+        long duration = System.nanoTime() - startNanos;
+        totalNanos[kind.ordinal()] += duration;
+        if (spans.size() < maxSpans) {
+            spans.add(new RawSpan(kind, name, startNanos - this.startNanos, duration, rows));
+        } else {
+            droppedSpans++;
+        }
+    }
+
+    long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    /**
+     * Convert to the captured form
+     */
+    public SlowRequest toSlowRequest(HttpServletRequest request, int status, long elapsedNanos) {
+        long controllerNanos = totalNanos[Kind.CONTROLLER.ordinal()];
+        Map<String, Double> phases = new LinkedHashMap<>();
+        phases.put("filter", millis(elapsedNanos - controllerNanos));
+        phases.put("controller", millis(controllerNanos));
+        phases.put("sql", millis(totalNanos[Kind.SQL.ordinal()]));
+        phases.put("redis", millis(totalNanos[Kind.REDIS.ordinal()]));
+
+        List<SlowRequest.Span> converted = spans.stream()
+                .map(span -> new SlowRequest.Span(span.kind().name().toLowerCase(Locale.ROOT), span.name(),
+                        millis(span.offsetNanos()), millis(span.durationNanos()), span.rows()))
+                .toList();
+        return new SlowRequest(Instant.ofEpochMilli(startMillis), request.getMethod(), request.getRequestURI(),
+                status, userId, Thread.currentThread().getName(), millis(elapsedNanos), phases, converted,
+                droppedSpans);
+    }
+
+    /**
+     * Nanoseconds to milliseconds, to microsecond precision
+     */
+    private static double millis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+
+    private record RawSpan(Kind kind, String name, long offsetNanos, long durationNanos, long rows) {
+    }
+}
@@ -0,0 +1,33 @@
+package com.java.admin.infrastructure.profile;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A captured slow request
+ *
+ * <p>Phases: {@code filter} is the time outside controller methods (security filters,
+ * authentication, serialization); {@code sql} and {@code redis} are totals that overlap with
+ * whichever of the two they ran in. All times are in milliseconds.
+ *
+ * @param time         Request start
+ * @param userId       Authenticated user, or null
+ * @param thread       Request thread
+ * @param totalMs      Total time in the filter chain
+ * @param phasesMs     Time per phase
+ * @param spans        Controller, SQL and Redis spans in order, offsets relative to the start
+ * @param droppedSpans Spans beyond the per-request limit (still counted in the phases)
+ */
+public record SlowRequest(Instant time, String method, String uri, int status, String userId, String thread,
+                          double totalMs, Map<String, Double> phasesMs, List<Span> spans, int droppedSpans) {
+
+    /**
+     * @param kind     controller, sql or redis
+     * @param name     Controller action, statement ID or Redis operation
+     * @param offsetMs Start, relative to the request start
+     * @param rows     Rows read or written (0 if not applicable)
+     */
+    public record Span(String kind, String name, double offsetMs, double durationMs, long rows) {
+    }
+}
@@ -0,0 +1,38 @@
+package com.java.admin.infrastructure.profile;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Actuator endpoint ({@code /actuator/slowrequests}) listing the most recent slow requests
+ */
+@Component
+@Endpoint(id = "slowrequests")
+@RequiredArgsConstructor
+public class SlowRequestEndpoint {
+
+    private final SlowRequestRecorder recorder;
+
+    @ReadOperation
+    public Report slowRequests() {
+        return new Report(recorder.captured(), recorder.skipped(), recorder.snapshot());
+    }
+
+    @DeleteOperation
+    public void clear() {
+        recorder.clear();
+    }
+
+    /**
+     * @param captured Slow requests captured (including ones since overwritten)
+     * @param skipped  Slow requests not captured because of the per-second limit
+     * @param requests Retained slow requests, newest first
+     */
+    public record Report(long captured, long skipped, List<SlowRequest> requests) {
+    }
+}
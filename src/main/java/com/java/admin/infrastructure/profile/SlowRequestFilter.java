@@ -0,0 +1,59 @@
+package com.java.admin.infrastructure.profile;
+
+import com.java.admin.config.SlowRequestProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NonNull;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Profiles sampled requests and hands slow ones to {@link SlowRequestRecorder}
+ *
+ * <p>Registered ahead of the security filter chain so authentication is part of the profile.
+ * Only the initial dispatch is profiled; requests that go async (long polls, event streams)
+ * are not captured.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+@Slf4j
+public class SlowRequestFilter extends OncePerRequestFilter {
+
+    private final SlowRequestProperties properties;
+    private final SlowRequestRecorder recorder;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled()
+                || (properties.getSampleRate() < 1.0
+                && ThreadLocalRandom.current().nextDouble() >= properties.getSampleRate());
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        RequestProfile profile = RequestProfile.begin(properties.getMaxSpans());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestProfile.end();
+            long elapsed = profile.elapsedNanos();
+            if (!request.isAsyncStarted() && recorder.tryCapture(elapsed)) {
+                SlowRequest slowRequest = profile.toSlowRequest(request, response.getStatus(), elapsed);
+                recorder.add(slowRequest);
+                log.debug("Slow request captured - Method: {}, URI: {}, Cost: {}ms, Phases: {}",
+                        slowRequest.method(), slowRequest.uri(), slowRequest.totalMs(), slowRequest.phasesMs());
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.java.admin.infrastructure.profile;
+
+import com.java.admin.config.SlowRequestProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Ring buffer of the most recent slow requests
+ *
+ * <p>Captures are limited per second, so a burst of slow requests converts and keeps at
+ * most {@code max-captures-per-second} of them; the rest are only counted. The buffer itself
+ * never grows beyond {@code capacity} entries.
+ */
+@Component
+public class SlowRequestRecorder {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final SlowRequestProperties properties;
+    private final AtomicReferenceArray<SlowRequest> buffer;
+    private final AtomicLong next = new AtomicLong();
+
+    private final AtomicLong window = new AtomicLong();
+    private final AtomicInteger windowCaptures = new AtomicInteger();
+    private final LongAdder skipped = new LongAdder();
+
+    public SlowRequestRecorder(SlowRequestProperties properties) {
+        this.properties = properties;
+        this.buffer = new AtomicReferenceArray<>(properties.getCapacity());
+    }
+
+    /**
+     * Decide whether a request of the given duration is captured; takes a slot if it is
+     */
+    public boolean tryCapture(long elapsedNanos) {
+        if (elapsedNanos < properties.getThreshold().toNanos()) {
+            return false;
+        }
+        long second = System.nanoTime() / NANOS_PER_SECOND;
+        long current = window.get();
+        if (current != second && window.compareAndSet(current, second)) {
+            windowCaptures.set(0);
+        }
+        if (windowCaptures.incrementAndGet() > properties.getMaxCapturesPerSecond()) {
+            skipped.increment();
+            return false;
+        }
+        return true;
+    }
+
+    public void add(SlowRequest request) {
+        buffer.set((int) (next.getAndIncrement() % buffer.length()), request);
+    }
+
+    /**
+     * @return captured requests, newest first
+     */
+    public List<SlowRequest> snapshot() {
+        long last = next.get();
+        long first = Math.max(0, last - buffer.length());
+        List<SlowRequest> requests = new ArrayList<>((int) (last - first));
+        for (long i = last - 1; i >= first; i--) {
+            SlowRequest request = buffer.get((int) (i % buffer.length()));
+            if (request != null) {
+                requests.add(request);
+            }
+        }
+        return requests;
+    }
+
+    /**
+     * @return slow requests captured since startup or the last clear
+     */
+    public long captured() {
+        return next.get();
+    }
+
+    /**
+     * @return slow requests not captured because of the per-second limit
+     */
+    public long skipped() {
+        return skipped.sum();
+    }
+
+    public void clear() {
+        for (int i = 0; i < buffer.length(); i++) {
+            buffer.set(i, null);
+        }
+        next.set(0);
+        skipped.reset();
+    }
+}
@@ -1,5 +1,8 @@
 package com.java.admin.infrastructure.service;
 
+import com.java.admin.infrastructure.datascope.DataScope;
+import com.java.admin.infrastructure.datasource.ReplicaRead;
+import com.java.admin.infrastructure.jfr.AuthoritiesQueryEvent;
 import com.java.admin.infrastructure.model.SecurityUserDetails;
 import com.java.admin.modules.system.mapper.SysAuthoritiesMapper;
 import com.java.admin.modules.system.model.SysUser;
@@ -23,6 +26,7 @@ public class SecurityUserDetailsService implements UserDetailsService {
     private final SysAuthoritiesMapper sysAuthoritiesMapper;
 
     @Override
+    @ReplicaRead
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         log.debug("Loading user - Username: {}", username);
 
@@ -32,10 +36,20 @@ public class SecurityUserDetailsService implements UserDetailsService {
             throw new UsernameNotFoundException(username);
         }
 
+        AuthoritiesQueryEvent event = new AuthoritiesQueryEvent();
+        event.begin();
         List<String> sysAuthorities = sysAuthoritiesMapper.selectAuthoritiesByUserId(sysUser.getUserId());
+        DataScope dataScope = DataScope.fromCode(sysAuthoritiesMapper.selectDataScopeByUserId(sysUser.getUserId()));
+        if (event.shouldCommit()) {
+            event.userId = sysUser.getUserId();
+            event.authorities = sysAuthorities.size();
+            event.commit();
+        }
 
-        log.debug("User loaded - UserId: {}, Username: {}, AuthoritiesCount: {}",
-            sysUser.getUserId(), username, sysAuthorities.size());
-        return new SecurityUserDetails(sysUser, sysAuthorities);
+        log.debug("User loaded - UserId: {}, Username: {}, AuthoritiesCount: {}, DataScope: {}",
+            sysUser.getUserId(), username, sysAuthorities.size(), dataScope);
+        SecurityUserDetails details = new SecurityUserDetails(sysUser, sysAuthorities);
+        details.setDataScope(dataScope);
+        return details;
     }
 }
@@ -3,18 +3,40 @@ package com.java.admin.infrastructure.util;
 import com.alibaba.fastjson2.JSON;
 import com.java.admin.infrastructure.constants.ErrorCode;
 import com.java.admin.infrastructure.model.Result;
+import jakarta.servlet.ServletOutputStream;
 import jakarta.servlet.http.HttpServletResponse;
 
 import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
 
 public class ServletUtil {
 
+    private static final String CONTENT_TYPE = "application/json;charset=UTF-8";
+
+    /**
+     * UTF-8 response body per error code, serialized once; never handed out, so never modified
+     */
+    private static final Map<ErrorCode, byte[]> ERROR_BODIES = new EnumMap<>(ErrorCode.class);
+
+    static {
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            ERROR_BODIES.put(errorCode, JSON.toJSONBytes(Result.error(errorCode)));
+        }
+    }
+
+    /**
+     * Write the error response of the code; the body is pre-encoded, so a rejection costs no
+     * Result and no JSON serialization
+     */
     public static void renderErrorResponse(HttpServletResponse response, ErrorCode errorCode) throws IOException {
+        byte[] body = ERROR_BODIES.get(errorCode);
         response.setStatus(errorCode.getHttpStatus().value());
-        response.setContentType("application/json;charset=UTF-8");
+        response.setContentType(CONTENT_TYPE);
+        response.setContentLength(body.length);
 
-        Result<Void> result = Result.error(errorCode.getCode(), errorCode.getMessage());
-        response.getWriter().write(JSON.toJSONString(result));
-        response.getWriter().flush();
+        ServletOutputStream out = response.getOutputStream();
+        out.write(body);
+        out.flush();
     }
 }
@@ -0,0 +1,111 @@
+package com.java.admin.modules.system.controller;
+
+import com.java.admin.infrastructure.model.Result;
+import com.java.admin.modules.system.dto.PermRequestDTO;
+import com.java.admin.modules.system.model.SysPerm;
+import com.java.admin.modules.system.service.SysPermService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/perms")
+@Tag(name = "Permission", description = "Permission management APIs")
+@RequiredArgsConstructor
+@Slf4j
+public class SysPermController {
+
+    private final SysPermService sysPermService;
+
+    /**
+     * List permissions (ADMIN only)
+     */
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "List permissions", description = "Get all permissions ordered by name (ADMIN only)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Permissions retrieved successfully"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - not an admin")
+    })
+    public Result<List<SysPerm>> listPerms() {
+        log.info("List permissions request");
+        List<SysPerm> result = sysPermService.listPerms();
+        log.info("List permissions success - Count: {}", result.size());
+        return Result.success(result);
+    }
+
+    /**
+     * Create permission (ADMIN only)
+     */
+    @PostMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Create permission", description = "Create a new permission (ADMIN only)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Permission created successfully"),
+            @ApiResponse(responseCode = "400", description = "Bad request - validation failed or name exists"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - not an admin")
+    })
+    public Result<SysPerm> createPerm(
+            @Parameter(description = "Permission request")
+            @Valid @RequestBody PermRequestDTO dto) {
+
+        log.info("Create permission request - Permission name: {}", dto.getPermName());
+        SysPerm result = sysPermService.createPerm(dto);
+        log.info("Create permission success - Permission ID: {}", result.getPermId());
+        return Result.success(result);
+    }
+
+    /**
+     * Update permission (ADMIN only)
+     */
+    @PutMapping("/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Update permission", description = "Update permission name and description (ADMIN only)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Permission updated successfully"),
+            @ApiResponse(responseCode = "400", description = "Bad request - validation failed or name exists"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - not an admin"),
+            @ApiResponse(responseCode = "404", description = "Permission not found")
+    })
+    public Result<Void> updatePerm(
+            @Parameter(description = "Permission ID")
+            @PathVariable String id,
+            @Parameter(description = "Permission request")
+            @Valid @RequestBody PermRequestDTO dto) {
+
+        log.info("Update permission request - Permission ID: {}, Permission name: {}", id, dto.getPermName());
+        sysPermService.updatePerm(id, dto);
+        log.info("Update permission success - Permission ID: {}", id);
+        return Result.success();
+    }
+
+    /**
+     * Delete permission with its role grants (ADMIN only)
+     */
+    @DeleteMapping("/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Delete permission", description = "Delete a permission and its role grants (ADMIN only)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Permission deleted successfully"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - not an admin"),
+            @ApiResponse(responseCode = "404", description = "Permission not found")
+    })
+    public Result<Void> deletePerm(
+            @Parameter(description = "Permission ID")
+            @PathVariable String id) {
+
+        log.info("Delete permission request - Permission ID: {}", id);
+        sysPermService.deletePerm(id);
+        log.info("Delete permission success - Permission ID: {}", id);
+        return Result.success();
+    }
+}
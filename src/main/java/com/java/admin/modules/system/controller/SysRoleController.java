@@ -0,0 +1,286 @@
+package com.java.admin.modules.system.controller;
+
+import com.java.admin.infrastructure.model.Result;
+import com.java.admin.modules.system.dto.RoleAssignmentRequestDTO;
+import com.java.admin.modules.system.dto.RoleAssignmentResultDTO;
+import com.java.admin.modules.system.dto.RolePermsRequestDTO;
+import com.java.admin.modules.system.dto.RoleRequestDTO;
+import com.java.admin.modules.system.model.SysRole;
+import com.java.admin.modules.system.service.SysRoleService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/roles")
+@Tag(name = "Role", description = "Role and role assignment management APIs")
+@RequiredArgsConstructor
+@Slf4j
+public class SysRoleController {
+
+    private final SysRoleService sysRoleService;
+
+    /**
+     * List roles (ADMIN only)
+     */
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "List roles", description = "Get all roles ordered by name (ADMIN only)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Roles retrieved successfully"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - not an admin")
+    })
+    public Result<List<SysRole>> listRoles() {
+        log.info("List roles request");
+        List<SysRole> result = sysRoleService.listRoles();
+        log.info("List roles success - Count: {}", result.size());
+        return Result.success(result);
+    }
+
+    /**
+     * Get role by ID (ADMIN only)
+     */
+    @GetMapping("/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Get role by ID", description = "Get role details by ID (ADMIN only)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Role retrieved successfully"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - not an admin"),
+            @ApiResponse(responseCode = "404", description = "Role not found")
+    })
+    public Result<SysRole> getRole(
+            @Parameter(description = "Role ID")
+            @PathVariable String id) {
+
+        log.info("Get role request - Role ID: {}", id);
+        return Result.success(sysRoleService.getRole(id));
+    }
+
+    /**
+     * Create role (ADMIN only)
+     */
+    @PostMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Create role", description = "Create a new role (ADMIN only)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Role created successfully"),
+            @ApiResponse(responseCode = "400", description = "Bad request - validation failed or name exists"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - not an admin")
+    })
+    public Result<SysRole> createRole(
+            @Parameter(description = "Role request")
+            @Valid @RequestBody RoleRequestDTO dto) {
+
+        log.info("Create role request - Role name: {}", dto.getRoleName());
+        SysRole result = sysRoleService.createRole(dto);
+        log.info("Create role success - Role ID: {}", result.getRoleId());
+        return Result.success(result);
+    }
+
+    /**
+     * Update role (ADMIN only)
+     */
+    @PutMapping("/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Update role", description = "Update role name and description (ADMIN only)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Role updated successfully"),
+            @ApiResponse(responseCode = "400", description = "Bad request - validation failed, name exists or built-in role"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - not an admin"),
+            @ApiResponse(responseCode = "404", description = "Role not found")
+    })
+    public Result<Void> updateRole(
+            @Parameter(description = "Role ID")
+            @PathVariable String id,
+            @Parameter(description = "Role request")
+            @Valid @RequestBody RoleRequestDTO dto) {
+
+        log.info("Update role request - Role ID: {}, Role name: {}", id, dto.getRoleName());
+        sysRoleService.updateRole(id, dto);
+        log.info("Update role success - Role ID: {}", id);
+        return Result.success();
+    }
+
+    /**
+     * Delete role with its assignments and grants (ADMIN only)
+     */
+    @DeleteMapping("/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Delete role", description = "Delete a role, its assignments and permission grants (ADMIN only)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Role deleted successfully"),
+            @ApiResponse(responseCode = "400", description = "Bad request - built-in role"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - not an admin"),
+            @ApiResponse(responseCode = "404", description = "Role not found")
+    })
+    public Result<Void> deleteRole(
+            @Parameter(description = "Role ID")
+            @PathVariable String id) {
+
+        log.info("Delete role request - Role ID: {}", id);
+        sysRoleService.deleteRole(id);
+        log.info("Delete role success - Role ID: {}", id);
+        return Result.success();
+    }
+
+    /**
+     * Replace role permissions (ADMIN only)
+     */
+    @PutMapping("/{id}/perms")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Replace role permissions", description = "Replace the permissions granted to a role (ADMIN only)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Permissions replaced successfully"),
+            @ApiResponse(responseCode = "400", description = "Bad request - validation failed"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - not an admin"),
+            @ApiResponse(responseCode = "404", description = "Role or permission not found")
+    })
+    public Result<Void> replaceRolePerms(
+            @Parameter(description = "Role ID")
+            @PathVariable String id,
+            @Parameter(description = "Role permissions request")
+            @Valid @RequestBody RolePermsRequestDTO dto) {
+
+        log.info("Replace role permissions request - Role ID: {}, Count: {}", id, dto.getPermIds().size());
+        sysRoleService.replaceRolePerms(id, dto.getPermIds());
+        log.info("Replace role permissions success - Role ID: {}", id);
+        return Result.success();
+    }
+
+    /**
+     * List direct child roles (ADMIN only)
+     */
+    @GetMapping("/{id}/children")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "List child roles", description = "Get the roles directly inherited by a role (ADMIN only)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Child roles retrieved successfully"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - not an admin"),
+            @ApiResponse(responseCode = "404", description = "Role not found")
+    })
+    public Result<List<SysRole>> listChildren(
+            @Parameter(description = "Role ID")
+            @PathVariable String id) {
+
+        log.info("List child roles request - Role ID: {}", id);
+        return Result.success(sysRoleService.listChildren(id));
+    }
+
+    /**
+     * Add role inheritance (ADMIN only)
+     */
+    @PutMapping("/{id}/children/{childId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Inherit role", description = "Make a role inherit everything granted to another role (ADMIN only)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Inheritance added successfully"),
+            @ApiResponse(responseCode = "400", description = "Bad request - edge exists or would create a cycle"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - not an admin"),
+            @ApiResponse(responseCode = "404", description = "Role not found")
+    })
+    public Result<Void> addInheritance(
+            @Parameter(description = "Parent role ID")
+            @PathVariable String id,
+            @Parameter(description = "Child role ID")
+            @PathVariable String childId) {
+
+        log.info("Add role inheritance request - Parent: {}, Child: {}", id, childId);
+        sysRoleService.addInheritance(id, childId);
+        log.info("Add role inheritance success - Parent: {}, Child: {}", id, childId);
+        return Result.success();
+    }
+
+    /**
+     * Remove role inheritance (ADMIN only)
+     */
+    @DeleteMapping("/{id}/children/{childId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Stop inheriting role", description = "Remove a role inheritance edge (ADMIN only)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Inheritance removed successfully"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - not an admin"),
+            @ApiResponse(responseCode = "404", description = "Inheritance not found")
+    })
+    public Result<Void> removeInheritance(
+            @Parameter(description = "Parent role ID")
+            @PathVariable String id,
+            @Parameter(description = "Child role ID")
+            @PathVariable String childId) {
+
+        log.info("Remove role inheritance request - Parent: {}, Child: {}", id, childId);
+        sysRoleService.removeInheritance(id, childId);
+        log.info("Remove role inheritance success - Parent: {}, Child: {}", id, childId);
+        return Result.success();
+    }
+
+    /**
+     * Effective authorities of a role (ADMIN only)
+     */
+    @GetMapping("/{id}/authorities")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Get effective authorities",
+            description = "Get the own and inherited authorities of a role (ADMIN only)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Authorities retrieved successfully"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - not an admin"),
+            @ApiResponse(responseCode = "404", description = "Role not found")
+    })
+    public Result<List<String>> listAuthorities(
+            @Parameter(description = "Role ID")
+            @PathVariable String id) {
+
+        log.info("Get role authorities request - Role ID: {}", id);
+        return Result.success(sysRoleService.listAuthorities(id));
+    }
+
+    /**
+     * Rebuild role closure and effective authorities (ADMIN only)
+     */
+    @PostMapping("/hierarchy/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Rebuild role hierarchy",
+            description = "Recompute the role closure and effective authorities from the inheritance edges (ADMIN only)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Hierarchy rebuilt, returns closure row count"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - not an admin")
+    })
+    public Result<Integer> rebuildHierarchy() {
+        log.info("Rebuild role hierarchy request");
+        int rows = sysRoleService.rebuildHierarchy();
+        log.info("Rebuild role hierarchy success - Closure rows: {}", rows);
+        return Result.success(rows);
+    }
+
+    /**
+     * Bulk assign or revoke roles (ADMIN only)
+     */
+    @PostMapping("/assignments")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Bulk assign or revoke roles",
+            description = "Assign or revoke roles for many users in one transaction (ADMIN only)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Assignments updated successfully"),
+            @ApiResponse(responseCode = "400", description = "Bad request - validation failed"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - not an admin"),
+            @ApiResponse(responseCode = "404", description = "Role or user not found")
+    })
+    public Result<RoleAssignmentResultDTO> updateAssignments(
+            @Parameter(description = "Role assignment request")
+            @Valid @RequestBody RoleAssignmentRequestDTO dto) {
+
+        log.info("Role assignment request - Action: {}, Users: {}, Roles: {}",
+                dto.getAction(), dto.getUserIds().size(), dto.getRoleIds().size());
+        RoleAssignmentResultDTO result = sysRoleService.updateAssignments(dto);
+        log.info("Role assignment success - Requested: {}, Changed: {}", result.getRequested(), result.getChanged());
+        return Result.success(result);
+    }
+}
@@ -0,0 +1,83 @@
+package com.java.admin.modules.system.controller;
+
+import com.java.admin.infrastructure.model.Result;
+import com.java.admin.modules.system.dto.UserChangeFeedDTO;
+import com.java.admin.modules.system.service.SysUserChangeFeed;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+@RestController
+@RequestMapping("/users/changes")
+@Tag(name = "User change feed", description = "Incremental user synchronization APIs")
+@RequiredArgsConstructor
+@Slf4j
+public class SysUserChangeController {
+
+    private final SysUserChangeFeed sysUserChangeFeed;
+
+    /**
+     * Long-poll user changes after a cursor (ADMIN only)
+     */
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Poll user changes",
+            description = "Return changes after the cursor; with wait > 0 the request is held until a change "
+                    + "arrives or the wait elapses (ADMIN only)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Changes returned (possibly none)"),
+            @ApiResponse(responseCode = "400", description = "Bad request - invalid cursor"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - not an admin")
+    })
+    public CompletableFuture<Result<UserChangeFeedDTO>> pollChanges(
+            @Parameter(description = "Cursor from the previous response; omit to start from the oldest retained change")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum number of changes")
+            @RequestParam(defaultValue = "100") int limit,
+            @Parameter(description = "Seconds to wait when there is no change yet (0 = return immediately)")
+            @RequestParam(defaultValue = "0") int wait) {
+
+        log.info("Poll user changes request - Cursor: {}, Limit: {}, Wait: {}s", cursor, limit, wait);
+        return sysUserChangeFeed.poll(cursor, limit, Duration.ofSeconds(wait))
+                .thenApply(batch -> {
+                    log.info("Poll user changes success - Changes: {}, Cursor: {}",
+                            batch.getChanges().size(), batch.getCursor());
+                    return Result.success(batch);
+                });
+    }
+
+    /**
+     * Stream user changes as server-sent events (ADMIN only)
+     */
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Stream user changes",
+            description = "Server-sent events after the cursor; every event ID is a cursor, so reconnecting "
+                    + "with Last-Event-ID resumes without gaps (ADMIN only)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Event stream opened"),
+            @ApiResponse(responseCode = "400", description = "Bad request - invalid cursor"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - not an admin")
+    })
+    public SseEmitter streamChanges(
+            @Parameter(description = "Cursor to start after; ignored when Last-Event-ID is sent")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Last received event ID, sent by EventSource on reconnect")
+            @RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
+
+        String resumeFrom = lastEventId != null ? lastEventId : cursor;
+        log.info("Stream user changes request - Cursor: {}", resumeFrom);
+        return sysUserChangeFeed.stream(resumeFrom);
+    }
+}
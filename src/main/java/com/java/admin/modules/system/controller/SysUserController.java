@@ -1,23 +1,48 @@
 package com.java.admin.modules.system.controller;
 
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.java.admin.infrastructure.constants.ErrorCode;
+import com.java.admin.infrastructure.datasource.DataSourceContextHolder;
+import com.java.admin.infrastructure.datasource.DataSourceRole;
+import com.java.admin.infrastructure.exception.AppException;
+import com.java.admin.infrastructure.handler.PermissionHandler;
+import com.java.admin.infrastructure.handler.SparseFieldsetAdvice;
 import com.java.admin.infrastructure.model.Result;
 import com.java.admin.infrastructure.model.SecurityUserDetails;
+import com.java.admin.modules.system.dto.BatchUserResultDTO;
+import com.java.admin.modules.system.dto.BulkUserRequestDTO;
+import com.java.admin.modules.system.dto.BulkUserResultDTO;
 import com.java.admin.modules.system.dto.CreateUserRequestDTO;
+import com.java.admin.modules.system.dto.ImportUserResultDTO;
 import com.java.admin.modules.system.dto.UpdateUserRequestDTO;
 import com.java.admin.modules.system.model.SysUser;
+import com.java.admin.modules.system.service.SysUserImportService;
 import com.java.admin.modules.system.service.SysUserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
 
 @RestController
 @RequestMapping("/users")
@@ -27,16 +52,22 @@ import org.springframework.web.bind.annotation.*;
 public class SysUserController {
 
     private final SysUserService sysUserService;
+    private final SysUserImportService sysUserImportService;
+    private final PermissionHandler permissionHandler;
 
     /**
-     * Paginated user list query (ADMIN only)
+     * Paginated user list query (ADMIN, or any role granted {@code user:list})
+     * Rows are limited by the caller's data scope, so a role with a CREATED or SELF scope can
+     * hold the permission without seeing every user.
      */
     @GetMapping
-    @PreAuthorize("hasRole('ADMIN')")
-    @Operation(summary = "Page users", description = "Get paginated list of users (ADMIN only)")
+    @PreAuthorize("hasRole('ADMIN') or hasAuthority('user:list')")
+    @Operation(summary = "Page users",
+            description = "Get paginated list of users within the caller's data scope (ADMIN or user:list)")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Users retrieved successfully"),
-            @ApiResponse(responseCode = "403", description = "Forbidden - not an admin")
+            @ApiResponse(responseCode = "304", description = "Not modified - If-None-Match matches the current page"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - neither an admin nor granted user:list")
     })
     public Result<Page<SysUser>> pageUsers(
             @Parameter(description = "Page number (0-based)")
@@ -44,14 +75,82 @@ public class SysUserController {
             @Parameter(description = "Page size")
             @RequestParam(defaultValue = "10") int size,
             @Parameter(description = "Username filter (fuzzy search)")
-            @RequestParam(required = false) String username) {
+            @RequestParam(required = false) String username,
+            @Parameter(description = "Include each user's role names")
+            @RequestParam(defaultValue = "false") boolean includeRoles,
+            @Parameter(description = "User fields to return, comma separated (e.g. userId,userName); all when omitted")
+            @RequestParam(required = false) String fields,
+            Authentication authentication,
+            ServletWebRequest webRequest) {
 
-        log.info("Page users request - Page: {}, Size: {}, Username: {}", page, size, username);
-        Page<SysUser> result = sysUserService.pageUsers(page, size, username);
+        log.info("Page users request - Page: {}, Size: {}, Username: {}, Include roles: {}, Fields: {}",
+                page, size, username, includeRoles, fields);
+        Set<String> fieldset = sysUserService.resolveFields(fields);
+        String etag = pageETag(page, size, username, includeRoles, fieldset, authentication);
+        if (etag != null && notModified(webRequest, etag)) {
+            log.info("Page users not modified - ETag: {}", etag);
+            return null;
+        }
+        // A tagged page is read from the primary: replica rows may predate the generation in the tag,
+        // and a client would then revalidate stale rows with 304 until the next write
+        Page<SysUser> result = etag == null
+                ? sysUserService.pageUsers(page, size, username, includeRoles, fieldset)
+                : DataSourceContextHolder.callWith(DataSourceRole.PRIMARY,
+                        () -> sysUserService.pageUsers(page, size, username, includeRoles, fieldset));
+        SparseFieldsetAdvice.restrict(webRequest, fieldset);
         log.info("Page users success - Total: {}", result.getTotal());
         return Result.success(result);
     }
 
+    /**
+     * Get many users by ID in one call
+     * Access is checked per ID with the same rule as GET /users/{id} (ADMIN or self)
+     */
+    @GetMapping("/batch")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "Get users by IDs",
+            description = "Get up to " + SysUserService.MAX_BATCH_IDS + " users by ID; "
+                    + "IDs the caller may not access are reported as forbidden")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lookup processed, see found/notFound/forbidden"),
+            @ApiResponse(responseCode = "400", description = "Bad request - too many IDs")
+    })
+    public Result<BatchUserResultDTO> getUsersByIds(
+            @Parameter(description = "User IDs (comma separated or repeated)")
+            @RequestParam List<String> ids,
+            Authentication authentication) {
+
+        log.info("Get users by IDs request - Count: {}", ids.size());
+        // Limit before the per-ID access checks, which would otherwise run (and echo back) every ID sent
+        Set<String> distinctIds = new LinkedHashSet<>(ids);
+        if (distinctIds.size() > SysUserService.MAX_BATCH_IDS) {
+            throw new AppException(ErrorCode.PARAM_VALIDATION_ERROR,
+                    "At most " + SysUserService.MAX_BATCH_IDS + " user IDs per request");
+        }
+        BatchUserResultDTO result = new BatchUserResultDTO();
+        List<String> accessibleIds = new ArrayList<>();
+        for (String id : distinctIds) {
+            if (permissionHandler.canAccess(authentication, id)) {
+                accessibleIds.add(id);
+            } else {
+                result.getForbidden().add(id);
+            }
+        }
+
+        Map<String, SysUser> users = sysUserService.getUsersByIds(accessibleIds);
+        for (String id : accessibleIds) {
+            SysUser user = users.get(id);
+            if (user != null) {
+                result.getUsers().add(user);
+            } else {
+                result.getNotFound().add(id);
+            }
+        }
+        log.info("Get users by IDs success - Found: {}, Not found: {}, Forbidden: {}",
+                result.getUsers().size(), result.getNotFound().size(), result.getForbidden().size());
+        return Result.success(result);
+    }
+
     /**
      * Get user by ID (ADMIN or self)
      */
@@ -60,15 +159,26 @@ public class SysUserController {
     @Operation(summary = "Get user by ID", description = "Get user details by ID (ADMIN or self)")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "User retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Not modified - If-None-Match matches the current version"),
             @ApiResponse(responseCode = "403", description = "Forbidden - not authorized"),
             @ApiResponse(responseCode = "404", description = "User not found")
     })
     public Result<SysUser> getUserById(
             @Parameter(description = "User ID")
-            @PathVariable String id) {
+            @PathVariable String id,
+            @Parameter(description = "User fields to return, comma separated (e.g. userId,userName); all when omitted")
+            @RequestParam(required = false) String fields,
+            ServletWebRequest webRequest) {
 
-        log.info("Get user by ID request - User ID: {}", id);
-        SysUser result = sysUserService.getUserById(id);
+        log.info("Get user by ID request - User ID: {}, Fields: {}", id, fields);
+        Set<String> fieldset = sysUserService.resolveFields(fields);
+        // Served from the user cache, so a matching tag costs no database read
+        SysUser result = sysUserService.getUserById(id, fieldset);
+        if (result.getVersion() != null && notModified(webRequest, userETag(result, fieldset))) {
+            log.info("Get user by ID not modified - User ID: {}, Version: {}", id, result.getVersion());
+            return null;
+        }
+        SparseFieldsetAdvice.restrict(webRequest, fieldset);
         log.info("Get user by ID success - User ID: {}, Username: {}", id, result.getUserName());
         return Result.success(result);
     }
@@ -94,19 +204,46 @@ public class SysUserController {
         return Result.success();
     }
 
+    /**
+     * Bulk import users (ADMIN only)
+     * Body is streamed: CSV with a header line (username,password,email) or NDJSON
+     */
+    @PostMapping(value = "/import", consumes = {SysUserImportService.TEXT_CSV_VALUE, "application/x-ndjson"})
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Import users", description = "Bulk create users from a CSV or NDJSON body (ADMIN only)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import processed, see per-row failures"),
+            @ApiResponse(responseCode = "400", description = "Bad request - CSV header invalid"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - not an admin"),
+            @ApiResponse(responseCode = "415", description = "Unsupported content type")
+    })
+    public Result<ImportUserResultDTO> importUsers(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            HttpServletRequest request) throws IOException {
+
+        SysUserImportService.Format format = SysUserImportService.Format.fromContentType(contentType);
+        log.info("Import users request - Format: {}", format);
+        ImportUserResultDTO result = sysUserImportService.importUsers(request.getInputStream(), format);
+        log.info("Import users success - Total: {}, Succeeded: {}, Failed: {}",
+                result.getTotal(), result.getSucceeded(), result.getFailed());
+        return Result.success(result);
+    }
+
     /**
      * Update user information (ADMIN or self)
      * ADMIN can update any user
      * Regular users can only update their own email
+     * PUT and PATCH both write only the fields present in the request
      */
-    @PutMapping("/{id}")
+    @RequestMapping(value = "/{id}", method = {RequestMethod.PUT, RequestMethod.PATCH})
     @PreAuthorize("@perm.canAccess(authentication, #id)")
     @Operation(summary = "Update user", description = "Update user information (ADMIN or self)")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "User updated successfully"),
             @ApiResponse(responseCode = "400", description = "Bad request - validation failed or user not found"),
             @ApiResponse(responseCode = "403", description = "Forbidden - not authorized"),
-            @ApiResponse(responseCode = "404", description = "User not found")
+            @ApiResponse(responseCode = "404", description = "User not found"),
+            @ApiResponse(responseCode = "409", description = "Conflict - user was modified concurrently")
     })
     public Result<Void> updateUser(
             @Parameter(description = "User ID")
@@ -147,4 +284,75 @@ public class SysUserController {
         log.info("Delete user success - User ID: {}", id);
         return Result.success();
     }
+
+    /**
+     * Bulk delete or disable users (ADMIN only)
+     * Sessions of all affected users are revoked
+     */
+    @PostMapping("/bulk")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Bulk delete or disable users",
+            description = "Soft delete or disable many users and revoke their sessions (ADMIN only)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Operation processed, see per-ID results"),
+            @ApiResponse(responseCode = "400", description = "Bad request - validation failed"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - not an admin")
+    })
+    public Result<BulkUserResultDTO> bulkUpdateUsers(
+            @Parameter(description = "Bulk user request")
+            @Valid @RequestBody BulkUserRequestDTO dto,
+            Authentication authentication) {
+
+        SecurityUserDetails userDetails = (SecurityUserDetails) authentication.getPrincipal();
+        String currentUserId = userDetails.getUserid();
+
+        log.info("Bulk user request - Action: {}, Count: {}, Current User ID: {}",
+                dto.getAction(), dto.getUserIds().size(), currentUserId);
+        BulkUserResultDTO result = sysUserService.bulkUpdateUsers(dto, currentUserId);
+        log.info("Bulk user success - Succeeded: {}, Failed: {}", result.getSucceeded(), result.getFailed());
+        return Result.success(result);
+    }
+
+    /**
+     * Strong tag of a single user; every update bumps the version, and a sparse representation
+     * carries its sorted fieldset so it never shares a tag with the full one
+     */
+    private static String userETag(SysUser user, Set<String> fields) {
+        String tag = user.getUserId() + "-" + user.getVersion();
+        if (fields != null) {
+            tag += "-" + String.join(".", new TreeSet<>(fields));
+        }
+        return "\"" + tag + "\"";
+    }
+
+    /**
+     * Strong tag of a user page: the page generation plus everything that selects its rows,
+     * including the caller, whose data scope filters them
+     *
+     * @return Tag, or null when the generation is unavailable and the page must be queried
+     */
+    private String pageETag(int page, int size, String username, boolean includeRoles, Set<String> fields,
+                            Authentication authentication) {
+        String generation = sysUserService.currentPageGeneration();
+        if (generation == null) {
+            return null;
+        }
+        String caller = authentication != null && authentication.getPrincipal() instanceof SecurityUserDetails details
+                ? details.getUserid() + ":" + details.getDataScope() : "";
+        int query = Objects.hash(page, size, username, includeRoles, fields, caller);
+        return "\"users-" + generation + "-" + Integer.toHexString(query) + "\"";
+    }
+
+    /**
+     * Answer a conditional GET; true means a 304 was prepared and no body must be written
+     * Private no-cache replaces the no-store default of Spring Security, so clients keep the body
+     * but revalidate it on every use.
+     */
+    private static boolean notModified(ServletWebRequest webRequest, String etag) {
+        HttpServletResponse response = webRequest.getResponse();
+        if (response != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+        }
+        return webRequest.checkNotModified(etag);
+    }
 }
@@ -0,0 +1,25 @@
+package com.java.admin.modules.system.dto;
+
+import com.java.admin.modules.system.model.SysUser;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Response DTO for multi-get user lookup
+ */
+@Data
+@Schema(description = "Response DTO for multi-get user lookup")
+public class BatchUserResultDTO {
+
+    @Schema(description = "Found users in request order")
+    private List<SysUser> users = new ArrayList<>();
+
+    @Schema(description = "Requested IDs that do not exist", example = "[\"42\"]")
+    private List<String> notFound = new ArrayList<>();
+
+    @Schema(description = "Requested IDs the caller may not access", example = "[\"1\"]")
+    private List<String> forbidden = new ArrayList<>();
+}
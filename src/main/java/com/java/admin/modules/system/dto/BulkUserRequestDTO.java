@@ -0,0 +1,33 @@
+package com.java.admin.modules.system.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Request DTO for bulk user operations
+ */
+@Data
+@Schema(description = "Request DTO for bulk user operations")
+public class BulkUserRequestDTO {
+
+    /**
+     * Bulk operation type
+     */
+    public enum Action {
+        DELETE, DISABLE
+    }
+
+    @NotNull(message = "Action is required")
+    @Schema(description = "Operation to apply", example = "DELETE")
+    private Action action;
+
+    @NotEmpty(message = "User IDs are required")
+    @Size(max = 1000, message = "At most 1000 user IDs per request")
+    @Schema(description = "Target user IDs", example = "[\"2\", \"3\"]")
+    private List<String> userIds;
+}
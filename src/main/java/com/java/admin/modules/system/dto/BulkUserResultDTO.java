@@ -0,0 +1,44 @@
+package com.java.admin.modules.system.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Response DTO for bulk user operations
+ */
+@Data
+@Schema(description = "Response DTO for bulk user operations")
+public class BulkUserResultDTO {
+
+    @Schema(description = "Number of users the operation was applied to", example = "2")
+    private int succeeded;
+
+    @Schema(description = "Number of user IDs that were rejected", example = "1")
+    private int failed;
+
+    @Schema(description = "Per-ID results in request order")
+    private List<Item> results = new ArrayList<>();
+
+    /**
+     * Result for a single user ID
+     */
+    @Data
+    @Schema(description = "Bulk operation result for one user ID")
+    public static class Item {
+
+        @Schema(description = "User ID", example = "2")
+        private String userId;
+
+        @Schema(description = "Whether the operation was applied", example = "true")
+        private boolean success;
+
+        @Schema(description = "Error code when rejected", example = "20002")
+        private String code;
+
+        @Schema(description = "Error message when rejected", example = "User not found")
+        private String message;
+    }
+}
@@ -0,0 +1,47 @@
+package com.java.admin.modules.system.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Response DTO for bulk user import
+ */
+@Data
+@Schema(description = "Response DTO for bulk user import")
+public class ImportUserResultDTO {
+
+    @Schema(description = "Number of data rows read", example = "1000")
+    private int total;
+
+    @Schema(description = "Number of users created", example = "998")
+    private int succeeded;
+
+    @Schema(description = "Number of rows rejected", example = "2")
+    private int failed;
+
+    @Schema(description = "Rejected rows (truncated to the configured maximum)")
+    private List<Failure> failures = new ArrayList<>();
+
+    /**
+     * A single rejected row
+     */
+    @Data
+    @Schema(description = "Rejected import row")
+    public static class Failure {
+
+        @Schema(description = "Line number in the uploaded body (1-based)", example = "42")
+        private long line;
+
+        @Schema(description = "Username of the row, if it could be parsed", example = "alice")
+        private String username;
+
+        @Schema(description = "Error code", example = "20003")
+        private String code;
+
+        @Schema(description = "Error message", example = "Username already exists")
+        private String message;
+    }
+}
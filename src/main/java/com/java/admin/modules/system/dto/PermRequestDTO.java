@@ -0,0 +1,24 @@
+package com.java.admin.modules.system.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+/**
+ * Request DTO for creating or updating a permission
+ */
+@Data
+@Schema(description = "Request DTO for creating or updating a permission")
+public class PermRequestDTO {
+
+    @NotBlank(message = "Permission name is required")
+    @Size(max = 30, message = "Permission name must be at most 30 characters")
+    @Schema(description = "Permission name", example = "user:read")
+    private String permName;
+
+    @NotBlank(message = "Permission description is required")
+    @Size(max = 100, message = "Permission description must be at most 100 characters")
+    @Schema(description = "Permission description", example = "Read users")
+    private String permDesc;
+}
@@ -0,0 +1,38 @@
+package com.java.admin.modules.system.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Request DTO for bulk role assignment; the action applies to every user x role pair
+ */
+@Data
+@Schema(description = "Request DTO for bulk role assignment")
+public class RoleAssignmentRequestDTO {
+
+    /**
+     * Assignment operation type
+     */
+    public enum Action {
+        ASSIGN, REVOKE
+    }
+
+    @NotNull(message = "Action is required")
+    @Schema(description = "Operation to apply", example = "ASSIGN")
+    private Action action;
+
+    @NotEmpty(message = "User IDs are required")
+    @Size(max = 10000, message = "At most 10000 user IDs per request")
+    @Schema(description = "Target user IDs", example = "[\"2\", \"3\"]")
+    private List<String> userIds;
+
+    @NotEmpty(message = "Role IDs are required")
+    @Size(max = 100, message = "At most 100 role IDs per request")
+    @Schema(description = "Role IDs to assign or revoke", example = "[\"2\"]")
+    private List<String> roleIds;
+}
@@ -0,0 +1,18 @@
+package com.java.admin.modules.system.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+/**
+ * Response DTO for bulk role assignment
+ */
+@Data
+@Schema(description = "Response DTO for bulk role assignment")
+public class RoleAssignmentResultDTO {
+
+    @Schema(description = "Number of distinct user x role pairs in the request", example = "2000")
+    private int requested;
+
+    @Schema(description = "Number of assignments written or removed (existing pairs are skipped)", example = "1998")
+    private int changed;
+}
@@ -0,0 +1,21 @@
+package com.java.admin.modules.system.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Request DTO for replacing the permissions granted to a role
+ */
+@Data
+@Schema(description = "Request DTO for replacing the permissions granted to a role")
+public class RolePermsRequestDTO {
+
+    @NotNull(message = "Permission IDs are required")
+    @Size(max = 1000, message = "At most 1000 permission IDs per request")
+    @Schema(description = "Complete set of permission IDs (empty revokes all)", example = "[\"1\", \"2\"]")
+    private List<String> permIds;
+}
@@ -0,0 +1,31 @@
+package com.java.admin.modules.system.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+/**
+ * Request DTO for creating or updating a role
+ */
+@Data
+@Schema(description = "Request DTO for creating or updating a role")
+public class RoleRequestDTO {
+
+    @NotBlank(message = "Role name is required")
+    @Size(max = 30, message = "Role name must be at most 30 characters")
+    @Schema(description = "Role name (without the ROLE_ prefix)", example = "AUDITOR")
+    private String roleName;
+
+    @NotBlank(message = "Role description is required")
+    @Size(max = 100, message = "Role description must be at most 100 characters")
+    @Schema(description = "Role description", example = "Read-only auditor")
+    private String roleDesc;
+
+    @Min(value = 1, message = "Data scope must be between 1 and 3")
+    @Max(value = 3, message = "Data scope must be between 1 and 3")
+    @Schema(description = "Users visible to holders: 1=all, 2=created by self, 3=self only (default 3)", example = "2")
+    private Integer dataScope;
+}
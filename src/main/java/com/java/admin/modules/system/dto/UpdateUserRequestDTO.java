@@ -14,4 +14,7 @@ public class UpdateUserRequestDTO {
     @Email(message = "Invalid email format")
     @Schema(description = "Email address", example = "newemail@example.com")
     private String email;
+
+    @Schema(description = "Expected version for optimistic locking (omit to skip the check)", example = "3")
+    private Integer version;
 }
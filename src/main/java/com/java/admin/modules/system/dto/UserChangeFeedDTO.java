@@ -0,0 +1,43 @@
+package com.java.admin.modules.system.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Response DTO for the user change feed
+ */
+@Data
+@Schema(description = "Response DTO for the user change feed")
+public class UserChangeFeedDTO {
+
+    @Schema(description = "Changes after the requested cursor, oldest first")
+    private List<Change> changes = new ArrayList<>();
+
+    @Schema(description = "Opaque cursor to resume from (unchanged when there are no changes)", example = "42")
+    private String cursor;
+
+    /**
+     * A single user change; consumers re-read the user (e.g. GET /users/batch) to get its state
+     */
+    @Data
+    @Schema(description = "User change")
+    public static class Change {
+
+        @Schema(description = "User ID", example = "1")
+        private String userId;
+
+        @Schema(description = "Change type", example = "UPDATED",
+                allowableValues = {"CREATED", "UPDATED", "DELETED", "DISABLED"})
+        private String type;
+
+        @Schema(description = "Time of the change")
+        private Date occurredAt;
+
+        @Schema(description = "Cursor positioned right after this change", example = "42")
+        private String cursor;
+    }
+}
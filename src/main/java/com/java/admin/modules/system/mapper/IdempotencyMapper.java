@@ -0,0 +1,103 @@
+package com.java.admin.modules.system.mapper;
+
+import com.alibaba.fastjson2.JSON;
+import com.java.admin.modules.system.model.IdempotencyRecord;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Idempotency data access layer
+ * Responsible for Redis records of requests made with an Idempotency-Key
+ *
+ * <p>Completing and releasing a key compare the record's owner token and write in one Lua
+ * script, so a request whose reservation expired while it ran cannot overwrite or delete the
+ * record of the request that reserved the key after it.
+ */
+@Component
+@RequiredArgsConstructor
+public class IdempotencyMapper {
+
+    private static final String KEY_PREFIX = "idempotency:";
+
+    /**
+     * KEYS[1] = key; ARGV[1] = owner, ARGV[2] = completed record, ARGV[3] = TTL in milliseconds
+     */
+    private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('GET', KEYS[1])
+            if current and cjson.decode(current).owner == ARGV[1] then
+                redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * KEYS[1] = key; ARGV[1] = owner
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('GET', KEYS[1])
+            if current and cjson.decode(current).owner == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * Reserve a key for a request about to run (SET NX)
+     *
+     * @param key    Scoped idempotency key
+     * @param record In-flight record
+     * @param ttl    Reservation time-to-live
+     * @return true if this caller now owns the key
+     */
+    public boolean tryStart(String key, IdempotencyRecord record, Duration ttl) {
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForValue()
+                .setIfAbsent(KEY_PREFIX + key, JSON.toJSONString(record), ttl));
+    }
+
+    /**
+     * Find the record of a key
+     *
+     * @param key Scoped idempotency key
+     * @return Record (in flight or completed), or null if the key is free
+     */
+    public IdempotencyRecord find(String key) {
+        String json = stringRedisTemplate.opsForValue().get(KEY_PREFIX + key);
+        return json == null ? null : JSON.parseObject(json, IdempotencyRecord.class);
+    }
+
+    /**
+     * Store the completed response of a key, if the caller still owns it
+     *
+     * @param key    Scoped idempotency key
+     * @param owner  Owner token of the caller's reservation
+     * @param record Completed record
+     * @param ttl    Replay time-to-live
+     * @return true if stored, false if the key expired or belongs to another request
+     */
+    public boolean complete(String key, String owner, IdempotencyRecord record, Duration ttl) {
+        Long stored = stringRedisTemplate.execute(COMPLETE_SCRIPT, List.of(KEY_PREFIX + key),
+                owner, JSON.toJSONString(record), Long.toString(ttl.toMillis()));
+        return stored != null && stored == 1;
+    }
+
+    /**
+     * Free a key whose request failed, so a retry runs again, if the caller still owns it
+     *
+     * @param key   Scoped idempotency key
+     * @param owner Owner token of the caller's reservation
+     * @return true if released, false if the key expired or belongs to another request
+     */
+    public boolean release(String key, String owner) {
+        Long released = stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(KEY_PREFIX + key), owner);
+        return released != null && released == 1;
+    }
+}
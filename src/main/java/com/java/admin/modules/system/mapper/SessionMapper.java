@@ -1,11 +1,15 @@
 package com.java.admin.modules.system.mapper;
 
 import com.java.admin.config.AuthProperties;
+import com.java.admin.infrastructure.jfr.SessionRedisEvent;
 import com.java.admin.infrastructure.model.SecurityUserDetails;
+import com.java.admin.infrastructure.profile.RequestProfile;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -17,6 +21,7 @@ import java.util.concurrent.TimeUnit;
 public class SessionMapper {
 
     private static final String SESSION_KEY_PREFIX = "user:";
+    private static final String SESSION_OPERATION_PREFIX = "session.";
 
     private final RedisTemplate<String, Object> redisTemplate;
     private final AuthProperties authProperties;
@@ -28,12 +33,16 @@ public class SessionMapper {
      */
     public void save(SecurityUserDetails details) {
         String key = buildKey(details.getUserid());
+        long start = System.nanoTime();
+        SessionRedisEvent event = new SessionRedisEvent();
+        event.begin();
         redisTemplate.opsForValue().set(
                 key,
                 details,
                 authProperties.getRefreshExpireMillis(),
                 TimeUnit.MILLISECONDS
         );
+        record(event, start, "save", 1, true);
     }
 
     /**
@@ -43,7 +52,28 @@ public class SessionMapper {
      */
     public void delete(String userId) {
         String key = buildKey(userId);
-        redisTemplate.delete(key);
+        long start = System.nanoTime();
+        SessionRedisEvent event = new SessionRedisEvent();
+        event.begin();
+        Boolean deleted = redisTemplate.delete(key);
+        record(event, start, "delete", 1, Boolean.TRUE.equals(deleted));
+    }
+
+    /**
+     * Delete sessions of multiple users with a single UNLINK command
+     *
+     * @param userIds User IDs
+     */
+    public void deleteAll(Collection<String> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        List<String> keys = userIds.stream().map(this::buildKey).toList();
+        long start = System.nanoTime();
+        SessionRedisEvent event = new SessionRedisEvent();
+        event.begin();
+        Long unlinked = redisTemplate.unlink(keys);
+        record(event, start, "unlink", keys.size(), unlinked != null && unlinked > 0);
     }
 
     /**
@@ -54,7 +84,28 @@ public class SessionMapper {
      */
     public SecurityUserDetails find(String userId) {
         String key = buildKey(userId);
-        return (SecurityUserDetails) redisTemplate.opsForValue().get(key);
+        long start = System.nanoTime();
+        SessionRedisEvent event = new SessionRedisEvent();
+        event.begin();
+        SecurityUserDetails details = (SecurityUserDetails) redisTemplate.opsForValue().get(key);
+        record(event, start, "find", 1, details != null);
+        return details;
+    }
+
+    /**
+     * Add a Redis call to the request profile, and commit its event if enabled and above its threshold
+     */
+    private static void record(SessionRedisEvent event, long start, String operation, int keys, boolean found) {
+        RequestProfile profile = RequestProfile.current();
+        if (profile != null) {
+            profile.add(RequestProfile.Kind.REDIS, SESSION_OPERATION_PREFIX + operation, start, keys);
+        }
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            event.keys = keys;
+            event.found = found;
+            event.commit();
+        }
     }
 
     /**
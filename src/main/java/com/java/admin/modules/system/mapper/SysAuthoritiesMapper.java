@@ -1,35 +1,69 @@
 package com.java.admin.modules.system.mapper;
 
+import com.java.admin.modules.system.model.SysUserRoleName;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 import org.apache.ibatis.annotations.Select;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
+/**
+ * Authorities query; starts from sys_user_role so it runs on the global database without
+ * joining sys_user, which may live on another shard
+ */
 @Mapper
 public interface SysAuthoritiesMapper {
 
+    /**
+     * Effective authorities of a user: a flat join on the precomputed sys_role_authority,
+     * so inherited roles cost nothing extra at login whatever the hierarchy depth
+     */
+    @Select("""
+            SELECT DISTINCT
+            	ra.authority
+            FROM
+            	sys_user_role ur
+            JOIN sys_role_authority ra ON ur.role_id = ra.role_id
+            WHERE ur.user_id = #{userId}
+            """)
+    ArrayList<String> selectAuthoritiesByUserId(String userId);
+
+    /**
+     * Widest data scope (lowest code) over the user's roles and every role they inherit
+     *
+     * @param userId User ID
+     * @return Data scope code, or null when the user has no role
+     */
     @Select("""
             SELECT
-            	perm_name
+            	MIN(r.data_scope)
             FROM
-            	sys_user u
-            LEFT JOIN sys_user_role ur ON u.user_id = ur.user_id
-            LEFT JOIN sys_role r       ON ur.role_id = r.role_id
-            LEFT JOIN sys_role_perm rp ON r.role_id = rp.role_id
-            left join sys_perm p       ON rp.perm_id = p.perm_id
-            WHERE u.user_id = #{userId}
-            AND p.perm_name IS NOT NULL
-            
-            UNION ALL
-            
+            	sys_user_role ur
+            JOIN sys_role_closure c ON ur.role_id = c.ancestor_id
+            JOIN sys_role r ON c.descendant_id = r.role_id
+            WHERE ur.user_id = #{userId}
+            """)
+    Integer selectDataScopeByUserId(String userId);
+
+    /**
+     * Role names of many users in one query (served by the sys_user_role primary key)
+     *
+     * @param userIds User IDs (must not be empty)
+     * @return One row per user and role, ordered by user ID and role name
+     */
+    @Select("""
+            <script>
             SELECT
-            	CONCAT('ROLE_', r.role_name)
+            	ur.user_id, r.role_name
             FROM
-            	sys_user u
-            LEFT JOIN sys_user_role ur ON u.user_id = ur.user_id
-            LEFT JOIN sys_role r       ON ur.role_id = r.role_id
-            WHERE u.user_id = #{userId}
-            AND r.role_name IS NOT NULL
+            	sys_user_role ur
+            JOIN sys_role r ON ur.role_id = r.role_id
+            WHERE ur.user_id IN
+            <foreach collection="userIds" item="userId" open="(" separator="," close=")">#{userId}</foreach>
+            ORDER BY ur.user_id, r.role_name
+            </script>
             """)
-    ArrayList<String> selectAuthoritiesByUserId(String userId);
+    List<SysUserRoleName> selectRoleNamesByUserIds(@Param("userIds") Collection<String> userIds);
 }
@@ -0,0 +1,45 @@
+package com.java.admin.modules.system.mapper;
+
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.java.admin.modules.system.model.SysRoleAuthority;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.Collection;
+
+@Mapper
+public interface SysRoleAuthorityMapper extends BaseMapper<SysRoleAuthority> {
+
+    /**
+     * Materialize the effective authorities of the given roles from the closure table:
+     * the ROLE_ name and permissions of every descendant (including the role itself)
+     *
+     * @param roleIds Role IDs whose existing rows have already been deleted (must not be empty)
+     * @return Inserted rows
+     */
+    @Insert("""
+            <script>
+            INSERT INTO sys_role_authority (role_id, authority)
+            SELECT
+            	c.ancestor_id, CONCAT('ROLE_', r.role_name)
+            FROM
+            	sys_role_closure c
+            JOIN sys_role r ON c.descendant_id = r.role_id
+            WHERE c.ancestor_id IN
+            <foreach collection="roleIds" item="roleId" open="(" separator="," close=")">#{roleId}</foreach>
+
+            UNION
+
+            SELECT
+            	c.ancestor_id, p.perm_name
+            FROM
+            	sys_role_closure c
+            JOIN sys_role_perm rp ON c.descendant_id = rp.role_id
+            JOIN sys_perm p       ON rp.perm_id = p.perm_id
+            WHERE c.ancestor_id IN
+            <foreach collection="roleIds" item="roleId" open="(" separator="," close=")">#{roleId}</foreach>
+            </script>
+            """)
+    int insertEffectiveAuthorities(@Param("roleIds") Collection<String> roleIds);
+}
@@ -0,0 +1,29 @@
+package com.java.admin.modules.system.mapper;
+
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.java.admin.modules.system.model.SysRoleClosure;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.Collection;
+
+@Mapper
+public interface SysRoleClosureMapper extends BaseMapper<SysRoleClosure> {
+
+    /**
+     * Add path counts to closure rows, creating missing rows (negative counts remove paths)
+     *
+     * @param rows Closure rows carrying the path count delta
+     * @return Affected rows
+     */
+    @Insert("""
+            <script>
+            INSERT INTO sys_role_closure (ancestor_id, descendant_id, path_count) VALUES
+            <foreach collection="rows" item="row" separator=",">(#{row.ancestorId}, #{row.descendantId}, #{row.pathCount})</foreach>
+            AS delta
+            ON DUPLICATE KEY UPDATE path_count = sys_role_closure.path_count + delta.path_count
+            </script>
+            """)
+    int addPaths(@Param("rows") Collection<SysRoleClosure> rows);
+}
@@ -0,0 +1,9 @@
+package com.java.admin.modules.system.mapper;
+
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.java.admin.modules.system.model.SysRolePerm;
+import org.apache.ibatis.annotations.Mapper;
+
+@Mapper
+public interface SysRolePermMapper extends BaseMapper<SysRolePerm> {
+}
@@ -0,0 +1,9 @@
+package com.java.admin.modules.system.mapper;
+
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.java.admin.modules.system.model.SysUserOutbox;
+import org.apache.ibatis.annotations.Mapper;
+
+@Mapper
+public interface SysUserOutboxMapper extends BaseMapper<SysUserOutbox> {
+}
@@ -0,0 +1,216 @@
+package com.java.admin.modules.system.mapper;
+
+import com.alibaba.fastjson2.JSON;
+import com.java.admin.modules.system.model.SysUserCacheEntry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * User cache data access layer
+ * Responsible for the shared (Redis) tier of the user cache and its invalidation channel
+ *
+ * <p>Evictions leave a short-lived tombstone instead of deleting the key, and loads only write
+ * a key that is absent (SET NX). A load that read the database before a write committed
+ * therefore cannot put its stale row back over the eviction; it is read as a miss until the
+ * tombstone expires.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserCacheMapper {
+
+    /**
+     * Pub/sub channel carrying invalidation messages between nodes
+     */
+    public static final String INVALIDATION_CHANNEL = "user-cache:invalidate";
+
+    private static final String ID_KEY_PREFIX = "user-cache:id:";
+    private static final String NAME_KEY_PREFIX = "user-cache:name:";
+    private static final String PAGE_GENERATION_KEY = "user-cache:page-generation";
+
+    /**
+     * Stored as the username mapping of a username that does not exist
+     */
+    private static final String NO_USER_ID = "";
+
+    /**
+     * Stored under evicted keys; never a valid entry or user ID
+     */
+    private static final String TOMBSTONE = "~evicted";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * Find cached user
+     *
+     * @param userId User ID
+     * @return Cached entry (possibly negative), or null on cache miss or tombstone
+     */
+    public SysUserCacheEntry findUser(String userId) {
+        return parseEntry(stringRedisTemplate.opsForValue().get(ID_KEY_PREFIX + userId));
+    }
+
+    /**
+     * Save cached user unless the key holds an entry or a tombstone
+     *
+     * @param userId User ID
+     * @param entry  Entry to cache (negative when {@code found=false})
+     * @param ttl    Time-to-live
+     * @return Whether the entry was written
+     */
+    public boolean saveUser(String userId, SysUserCacheEntry entry, Duration ttl) {
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForValue()
+                .setIfAbsent(ID_KEY_PREFIX + userId, JSON.toJSONString(entry), ttl));
+    }
+
+    /**
+     * Find cached users with a single MGET
+     *
+     * @param userIds User IDs
+     * @return Cached entries (possibly negative) by user ID; misses and tombstones are absent
+     */
+    public Map<String, SysUserCacheEntry> findUsers(List<String> userIds) {
+        List<String> keys = userIds.stream().map(id -> ID_KEY_PREFIX + id).toList();
+        List<String> values = stringRedisTemplate.opsForValue().multiGet(keys);
+        Map<String, SysUserCacheEntry> entries = new HashMap<>();
+        if (values == null) {
+            return entries;
+        }
+        for (int i = 0; i < userIds.size(); i++) {
+            SysUserCacheEntry entry = parseEntry(values.get(i));
+            if (entry != null) {
+                entries.put(userIds.get(i), entry);
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Save cached users in one pipelined round trip, skipping keys that hold an entry or a tombstone
+     *
+     * @param entries     Entries by user ID
+     * @param ttl         Time-to-live of found entries
+     * @param negativeTtl Time-to-live of negative entries
+     */
+    public void saveUsers(Map<String, SysUserCacheEntry> entries, Duration ttl, Duration negativeTtl) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) {
+                entries.forEach((userId, entry) -> operations.opsForValue().setIfAbsent(ID_KEY_PREFIX + userId,
+                        JSON.toJSONString(entry), entry.isFound() ? ttl : negativeTtl));
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Find cached username to user ID mapping
+     *
+     * @param username Normalized username
+     * @return User ID, empty string if the username is known not to exist, or null on cache miss or tombstone
+     */
+    public String findUserId(String username) {
+        String userId = stringRedisTemplate.opsForValue().get(NAME_KEY_PREFIX + username);
+        return TOMBSTONE.equals(userId) ? null : userId;
+    }
+
+    /**
+     * Save username to user ID mapping unless the key holds a mapping or a tombstone
+     *
+     * @param username Normalized username
+     * @param userId   User ID, or null if the username does not exist
+     * @param ttl      Time-to-live
+     */
+    public void saveUserId(String username, String userId, Duration ttl) {
+        stringRedisTemplate.opsForValue().setIfAbsent(NAME_KEY_PREFIX + username,
+                userId == null ? NO_USER_ID : userId, ttl);
+    }
+
+    /**
+     * Replace cached users with tombstones in one pipelined round trip
+     *
+     * @param userIds      User IDs
+     * @param tombstoneTtl Time-to-live of the tombstones
+     */
+    public void evictUsers(Collection<String> userIds, Duration tombstoneTtl) {
+        writeTombstones(userIds.stream().map(id -> ID_KEY_PREFIX + id).toList(), tombstoneTtl);
+    }
+
+    /**
+     * Replace cached username mappings with tombstones in one pipelined round trip
+     *
+     * @param usernames    Normalized usernames
+     * @param tombstoneTtl Time-to-live of the tombstones
+     */
+    public void evictUsernames(Collection<String> usernames, Duration tombstoneTtl) {
+        writeTombstones(usernames.stream().map(name -> NAME_KEY_PREFIX + name).toList(), tombstoneTtl);
+    }
+
+    /**
+     * Find the current user page generation, creating it if absent
+     *
+     * @param candidate Generation to store when none exists
+     * @param ttl       Time-to-live of a newly created generation
+     * @return Current generation
+     */
+    public String findOrCreatePageGeneration(String candidate, Duration ttl) {
+        String generation = stringRedisTemplate.opsForValue().get(PAGE_GENERATION_KEY);
+        if (generation != null) {
+            return generation;
+        }
+        if (Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(PAGE_GENERATION_KEY, candidate, ttl))) {
+            return candidate;
+        }
+        // Lost the race to another node
+        return stringRedisTemplate.opsForValue().get(PAGE_GENERATION_KEY);
+    }
+
+    /**
+     * Replace the user page generation
+     *
+     * @param generation New generation
+     * @param ttl        Time-to-live
+     */
+    public void savePageGeneration(String generation, Duration ttl) {
+        stringRedisTemplate.opsForValue().set(PAGE_GENERATION_KEY, generation, ttl);
+    }
+
+    /**
+     * Broadcast an invalidation message to all nodes
+     *
+     * @param message Invalidation message
+     */
+    public void publishInvalidation(String message) {
+        stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, message);
+    }
+
+    private void writeTombstones(List<String> keys, Duration ttl) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) {
+                keys.forEach(key -> operations.opsForValue().set(key, TOMBSTONE, ttl));
+                return null;
+            }
+        });
+    }
+
+    private static SysUserCacheEntry parseEntry(String json) {
+        return json == null || TOMBSTONE.equals(json) ? null : JSON.parseObject(json, SysUserCacheEntry.class);
+    }
+}
@@ -0,0 +1,42 @@
+package com.java.admin.modules.system.model;
+
+import lombok.Data;
+
+/**
+ * Redis representation of a request made with an Idempotency-Key
+ *
+ * <p>Created without a status when the request starts; the status, content type and body are
+ * filled in once it completes and are replayed to later requests with the same key.
+ */
+@Data
+public class IdempotencyRecord {
+
+    /**
+     * Hash of method, URI and (small) body, used to reject a key reused for a different request
+     */
+    private String fingerprint;
+
+    /**
+     * Random token of the request that reserved the key; only that request may complete or
+     * release it, so a request whose reservation expired cannot touch a newer owner's record
+     */
+    private String owner;
+
+    /**
+     * HTTP status of the stored response, null while the request is in flight
+     */
+    private Integer status;
+    private String contentType;
+    private String body;
+
+    public static IdempotencyRecord inFlight(String fingerprint, String owner) {
+        IdempotencyRecord record = new IdempotencyRecord();
+        record.setFingerprint(fingerprint);
+        record.setOwner(owner);
+        return record;
+    }
+
+    public boolean isCompleted() {
+        return status != null;
+    }
+}
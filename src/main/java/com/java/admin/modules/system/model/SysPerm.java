@@ -0,0 +1,15 @@
+package com.java.admin.modules.system.model;
+
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableName;
+import lombok.Data;
+
+@Data
+@TableName("sys_perm")
+public class SysPerm {
+
+    @TableId
+    private String permId;
+    private String permName;
+    private String permDesc;
+}
@@ -0,0 +1,20 @@
+package com.java.admin.modules.system.model;
+
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableName;
+import lombok.Data;
+
+@Data
+@TableName("sys_role")
+public class SysRole {
+
+    @TableId
+    private String roleId;
+    private String roleName;
+    private String roleDesc;
+
+    /**
+     * Data scope code over sys_user (1=all, 2=created by self, 3=self only)
+     */
+    private Integer dataScope;
+}
@@ -0,0 +1,15 @@
+package com.java.admin.modules.system.model;
+
+import com.baomidou.mybatisplus.annotation.TableName;
+import lombok.Data;
+
+/**
+ * Precomputed effective authority of a role (own and inherited ROLE_ names and permissions)
+ */
+@Data
+@TableName("sys_role_authority")
+public class SysRoleAuthority {
+
+    private String roleId;
+    private String authority;
+}
@@ -0,0 +1,28 @@
+package com.java.admin.modules.system.model;
+
+import com.baomidou.mybatisplus.annotation.TableName;
+import lombok.Data;
+
+/**
+ * Transitive closure of the role hierarchy
+ *
+ * <p>One row per (ancestor, descendant) pair, including each role paired with itself. The path
+ * count is the number of distinct inheritance paths, so removing one edge of a diamond keeps the
+ * pair alive while another path remains.
+ */
+@Data
+@TableName("sys_role_closure")
+public class SysRoleClosure {
+
+    private String ancestorId;
+    private String descendantId;
+    private Long pathCount;
+
+    public static SysRoleClosure of(String ancestorId, String descendantId, long pathCount) {
+        SysRoleClosure closure = new SysRoleClosure();
+        closure.setAncestorId(ancestorId);
+        closure.setDescendantId(descendantId);
+        closure.setPathCount(pathCount);
+        return closure;
+    }
+}
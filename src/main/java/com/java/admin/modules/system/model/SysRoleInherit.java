@@ -0,0 +1,22 @@
+package com.java.admin.modules.system.model;
+
+import com.baomidou.mybatisplus.annotation.TableName;
+import lombok.Data;
+
+/**
+ * Direct role inheritance edge: the parent role includes everything granted to the child role
+ */
+@Data
+@TableName("sys_role_inherit")
+public class SysRoleInherit {
+
+    private String parentId;
+    private String childId;
+
+    public static SysRoleInherit of(String parentId, String childId) {
+        SysRoleInherit edge = new SysRoleInherit();
+        edge.setParentId(parentId);
+        edge.setChildId(childId);
+        return edge;
+    }
+}
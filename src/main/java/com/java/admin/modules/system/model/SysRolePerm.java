@@ -0,0 +1,22 @@
+package com.java.admin.modules.system.model;
+
+import com.baomidou.mybatisplus.annotation.TableName;
+import lombok.Data;
+
+/**
+ * Role to permission grant (composite primary key role_id, perm_id; reverse index on perm_id)
+ */
+@Data
+@TableName("sys_role_perm")
+public class SysRolePerm {
+
+    private String roleId;
+    private String permId;
+
+    public static SysRolePerm of(String roleId, String permId) {
+        SysRolePerm rolePerm = new SysRolePerm();
+        rolePerm.setRoleId(roleId);
+        rolePerm.setPermId(permId);
+        return rolePerm;
+    }
+}
@@ -2,9 +2,11 @@ package com.java.admin.modules.system.model;
 
 import com.baomidou.mybatisplus.annotation.*;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Data;
 
 import java.util.Date;
+import java.util.List;
 
 @Data
 @TableName("sys_user")
@@ -17,6 +19,11 @@ public class SysUser {
     private String password;
     private String email;
 
+    /**
+     * Account status (0=active, 1=disabled)
+     */
+    private Integer status;
+
     /**
      * Creation time - autofilled on insert
      */
@@ -46,4 +53,17 @@ public class SysUser {
      */
     @TableLogic
     private Integer deleted;
+
+    /**
+     * Optimistic lock version - incremented on every update by the statement itself
+     * ({@code version = version + 1}), checked only when the client sent an expected version
+     */
+    private Integer version;
+
+    /**
+     * Role names - only populated when a page is requested with roles
+     */
+    @TableField(exist = false)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<String> roles;
 }
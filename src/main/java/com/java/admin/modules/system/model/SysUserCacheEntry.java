@@ -0,0 +1,68 @@
+package com.java.admin.modules.system.model;
+
+import lombok.Data;
+
+import java.util.Date;
+
+/**
+ * Redis representation of a cached user
+ *
+ * <p>Unlike {@link SysUser} the password hash is serialized, since login reads the user through
+ * the cache. {@code found=false} marks a negative ("no such user") entry.
+ */
+@Data
+public class SysUserCacheEntry {
+
+    private boolean found;
+    private String userId;
+    private String userName;
+    private String password;
+    private String email;
+    private Integer status;
+    private Date createdAt;
+    private Date updatedAt;
+    private String createdBy;
+    private String updatedBy;
+    private Integer version;
+
+    public static SysUserCacheEntry of(SysUser user) {
+        SysUserCacheEntry entry = new SysUserCacheEntry();
+        if (user == null) {
+            return entry;
+        }
+        entry.setFound(true);
+        entry.setUserId(user.getUserId());
+        entry.setUserName(user.getUserName());
+        entry.setPassword(user.getPassword());
+        entry.setEmail(user.getEmail());
+        entry.setStatus(user.getStatus());
+        entry.setCreatedAt(user.getCreatedAt());
+        entry.setUpdatedAt(user.getUpdatedAt());
+        entry.setCreatedBy(user.getCreatedBy());
+        entry.setUpdatedBy(user.getUpdatedBy());
+        entry.setVersion(user.getVersion());
+        return entry;
+    }
+
+    /**
+     * @return the cached user, or null for a negative entry
+     */
+    public SysUser toUser() {
+        if (!found) {
+            return null;
+        }
+        SysUser user = new SysUser();
+        user.setUserId(userId);
+        user.setUserName(userName);
+        user.setPassword(password);
+        user.setEmail(email);
+        user.setStatus(status);
+        user.setCreatedAt(createdAt);
+        user.setUpdatedAt(updatedAt);
+        user.setCreatedBy(createdBy);
+        user.setUpdatedBy(updatedBy);
+        user.setDeleted(0);
+        user.setVersion(version);
+        return user;
+    }
+}
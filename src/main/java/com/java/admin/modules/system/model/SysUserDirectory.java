@@ -0,0 +1,28 @@
+package com.java.admin.modules.system.model;
+
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableName;
+import lombok.Data;
+
+/**
+ * Global username to user ID directory (sys_user sharding)
+ *
+ * <p>Lives on the global database; the user ID determines the shard. The primary key also
+ * enforces username uniqueness across shards. Rows are removed when the user is deleted.
+ */
+@Data
+@TableName("sys_user_directory")
+public class SysUserDirectory {
+
+    @TableId(type = IdType.INPUT)
+    private String userName;
+    private String userId;
+
+    public static SysUserDirectory of(SysUser user) {
+        SysUserDirectory entry = new SysUserDirectory();
+        entry.setUserName(user.getUserName());
+        entry.setUserId(user.getUserId());
+        return entry;
+    }
+}
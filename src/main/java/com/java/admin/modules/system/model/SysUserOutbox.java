@@ -0,0 +1,40 @@
+package com.java.admin.modules.system.model;
+
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableName;
+import lombok.Data;
+
+import java.util.Date;
+
+/**
+ * User change event (transactional outbox)
+ *
+ * <p>Written in the same transaction as the sys_user change, on the same database (the user's
+ * shard when sharding is enabled). The auto-increment ID is the feed position within that database.
+ */
+@Data
+@TableName("sys_user_outbox")
+public class SysUserOutbox {
+
+    @TableId(type = IdType.AUTO)
+    private Long eventId;
+    private String userId;
+    private String eventType;
+
+    /**
+     * Set by the database on insert
+     */
+    private Date createdAt;
+
+    public enum Type {
+        CREATED, UPDATED, DELETED, DISABLED
+    }
+
+    public static SysUserOutbox of(String userId, Type type) {
+        SysUserOutbox event = new SysUserOutbox();
+        event.setUserId(userId);
+        event.setEventType(type.name());
+        return event;
+    }
+}
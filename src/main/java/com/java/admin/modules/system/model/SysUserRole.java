@@ -0,0 +1,22 @@
+package com.java.admin.modules.system.model;
+
+import com.baomidou.mybatisplus.annotation.TableName;
+import lombok.Data;
+
+/**
+ * User to role assignment (composite primary key user_id, role_id; reverse index on role_id)
+ */
+@Data
+@TableName("sys_user_role")
+public class SysUserRole {
+
+    private String userId;
+    private String roleId;
+
+    public static SysUserRole of(String userId, String roleId) {
+        SysUserRole userRole = new SysUserRole();
+        userRole.setUserId(userId);
+        userRole.setRoleId(roleId);
+        return userRole;
+    }
+}
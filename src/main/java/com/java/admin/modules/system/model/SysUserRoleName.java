@@ -0,0 +1,13 @@
+package com.java.admin.modules.system.model;
+
+import lombok.Data;
+
+/**
+ * One user-to-role row, as returned by the grouped role lookup for a page of users
+ */
+@Data
+public class SysUserRoleName {
+
+    private String userId;
+    private String roleName;
+}
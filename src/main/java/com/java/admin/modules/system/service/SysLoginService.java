@@ -1,6 +1,7 @@
 package com.java.admin.modules.system.service;
 
 import com.java.admin.config.AuthProperties;
+import com.java.admin.infrastructure.jfr.LoginEvent;
 import com.java.admin.infrastructure.model.SecurityUserDetails;
 import com.java.admin.infrastructure.util.JwtUtil;
 import com.java.admin.modules.system.mapper.SessionMapper;
@@ -23,6 +24,21 @@ public class SysLoginService {
     public String login(String username, String password) {
         log.info("User login attempt - Username: {}", username);
 
+        LoginEvent event = new LoginEvent();
+        event.begin();
+        try {
+            String token = authenticate(username, password);
+            event.success = token != null;
+            return token;
+        } finally {
+            if (event.shouldCommit()) {
+                event.username = username;
+                event.commit();
+            }
+        }
+    }
+
+    private String authenticate(String username, String password) {
         UsernamePasswordAuthenticationToken authRequest =
                 UsernamePasswordAuthenticationToken.unauthenticated(username, password);
 
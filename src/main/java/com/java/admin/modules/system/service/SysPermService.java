@@ -0,0 +1,146 @@
+package com.java.admin.modules.system.service;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.toolkit.Wrappers;
+import com.java.admin.infrastructure.constants.ErrorCode;
+import com.java.admin.infrastructure.exception.AppException;
+import com.java.admin.modules.system.dto.PermRequestDTO;
+import com.java.admin.modules.system.mapper.SysPermMapper;
+import com.java.admin.modules.system.mapper.SysRolePermMapper;
+import com.java.admin.modules.system.model.SysPerm;
+import com.java.admin.modules.system.model.SysRolePerm;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Permission management
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SysPermService {
+
+    private final SysPermMapper sysPermMapper;
+    private final SysRolePermMapper sysRolePermMapper;
+    private final SysRoleService sysRoleService;
+    private final SysRoleHierarchyService sysRoleHierarchyService;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * List all permissions ordered by name
+     *
+     * @return Permissions
+     */
+    public List<SysPerm> listPerms() {
+        LambdaQueryWrapper<SysPerm> queryWrapper = Wrappers.lambdaQuery();
+        queryWrapper.orderByAsc(SysPerm::getPermName);
+        return sysPermMapper.selectList(queryWrapper);
+    }
+
+    /**
+     * Create a new permission
+     *
+     * @param dto Permission request DTO
+     * @return Created permission
+     * @throws AppException if the permission name already exists
+     */
+    public SysPerm createPerm(PermRequestDTO dto) {
+        log.debug("Create permission started - Permission name: {}", dto.getPermName());
+
+        SysPerm perm = new SysPerm();
+        perm.setPermName(dto.getPermName());
+        perm.setPermDesc(dto.getPermDesc());
+
+        // Database constraint uk_perm_name ensures uniqueness
+        try {
+            sysPermMapper.insert(perm);
+        } catch (DuplicateKeyException e) {
+            log.warn("Permission name already exists - Permission name: {}", dto.getPermName());
+            throw new AppException(ErrorCode.DATA_ALREADY_EXISTS, "Permission name already exists");
+        }
+
+        log.debug("Create permission completed - Permission ID: {}", perm.getPermId());
+        return perm;
+    }
+
+    /**
+     * Update permission name and description
+     *
+     * @param permId Permission ID
+     * @param dto    Permission request DTO
+     * @throws AppException if permission not found or the name is taken
+     */
+    public void updatePerm(String permId, PermRequestDTO dto) {
+        log.debug("Update permission started - Permission ID: {}, Permission name: {}", permId, dto.getPermName());
+
+        SysPerm perm = new SysPerm();
+        perm.setPermId(permId);
+        perm.setPermName(dto.getPermName());
+        perm.setPermDesc(dto.getPermDesc());
+        List<String> roleIds;
+        try {
+            roleIds = transactionTemplate.execute(status -> {
+                if (sysPermMapper.updateById(perm) <= 0) {
+                    return null;
+                }
+                // The authority string is the name
+                List<String> grantedTo = findRoleIdsWithPerm(permId);
+                sysRoleHierarchyService.refreshAuthorities(grantedTo);
+                return grantedTo;
+            });
+        } catch (DuplicateKeyException e) {
+            log.warn("Permission name already exists - Permission name: {}", dto.getPermName());
+            throw new AppException(ErrorCode.DATA_ALREADY_EXISTS, "Permission name already exists");
+        }
+        if (roleIds == null) {
+            log.warn("Permission not found for update - Permission ID: {}", permId);
+            throw new AppException(ErrorCode.DATA_NOT_FOUND, "Permission not found");
+        }
+
+        sysRoleService.revokeSessionsOfRoles(roleIds);
+
+        log.debug("Update permission completed - Permission ID: {}", permId);
+    }
+
+    /**
+     * Delete a permission together with its role grants, in one transaction
+     *
+     * @param permId Permission ID
+     * @throws AppException if permission not found
+     */
+    public void deletePerm(String permId) {
+        log.debug("Delete permission started - Permission ID: {}", permId);
+
+        List<String> roleIds = transactionTemplate.execute(status -> {
+            if (sysPermMapper.deleteById(permId) <= 0) {
+                return null;
+            }
+            List<String> grantedTo = findRoleIdsWithPerm(permId);
+            sysRolePermMapper.delete(Wrappers.<SysRolePerm>lambdaQuery().eq(SysRolePerm::getPermId, permId));
+            sysRoleHierarchyService.refreshAuthorities(grantedTo);
+            return grantedTo;
+        });
+        if (roleIds == null) {
+            log.warn("Permission not found for deletion - Permission ID: {}", permId);
+            throw new AppException(ErrorCode.DATA_NOT_FOUND, "Permission not found");
+        }
+
+        sysRoleService.revokeSessionsOfRoles(roleIds);
+
+        log.debug("Delete permission completed - Permission ID: {}, Roles: {}", permId, roleIds.size());
+    }
+
+    /**
+     * Roles granted the permission; served by the idx_perm_id reverse index
+     */
+    private List<String> findRoleIdsWithPerm(String permId) {
+        LambdaQueryWrapper<SysRolePerm> queryWrapper = Wrappers.lambdaQuery();
+        queryWrapper.select(SysRolePerm::getRoleId).eq(SysRolePerm::getPermId, permId);
+        return sysRolePermMapper.selectObjs(queryWrapper);
+    }
+}
@@ -0,0 +1,291 @@
+package com.java.admin.modules.system.service;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.toolkit.Wrappers;
+import com.baomidou.mybatisplus.core.toolkit.support.SFunction;
+import com.java.admin.infrastructure.constants.ErrorCode;
+import com.java.admin.infrastructure.exception.AppException;
+import com.java.admin.modules.system.mapper.SysRoleAuthorityMapper;
+import com.java.admin.modules.system.mapper.SysRoleClosureMapper;
+import com.java.admin.modules.system.mapper.SysRoleInheritMapper;
+import com.java.admin.modules.system.mapper.SysRoleMapper;
+import com.java.admin.modules.system.model.SysRole;
+import com.java.admin.modules.system.model.SysRoleAuthority;
+import com.java.admin.modules.system.model.SysRoleClosure;
+import com.java.admin.modules.system.model.SysRoleInherit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Role hierarchy backed by a closure table and precomputed effective authorities
+ *
+ * <p>Edges live in sys_role_inherit. sys_role_closure holds every (ancestor, descendant) pair
+ * with its number of distinct paths and is updated incrementally when an edge changes:
+ * adding P -> C adds {@code paths(A, P) * paths(C, D)} for every ancestor A of P and
+ * descendant D of C, removing it subtracts the same and drops rows that reach zero.
+ * sys_role_authority is then rebuilt for the affected ancestors only, so resolving a user's
+ * authorities is a flat join whatever the depth.
+ *
+ * <p>Callers run these methods inside their transaction.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SysRoleHierarchyService {
+
+    private final SysRoleMapper sysRoleMapper;
+    private final SysRoleInheritMapper sysRoleInheritMapper;
+    private final SysRoleClosureMapper sysRoleClosureMapper;
+    private final SysRoleAuthorityMapper sysRoleAuthorityMapper;
+
+    /**
+     * Register a new role: self closure row and its own authorities
+     *
+     * @param roleId Role ID
+     */
+    public void addRole(String roleId) {
+        sysRoleClosureMapper.addPaths(List.of(SysRoleClosure.of(roleId, roleId, 1)));
+        refreshAuthorities(List.of(roleId));
+    }
+
+    /**
+     * Remove a role from the hierarchy: detach all its edges, then drop its own rows
+     *
+     * @param roleId Role ID
+     * @return Former ancestors (excluding the role), whose authorities were refreshed
+     */
+    public Set<String> removeRole(String roleId) {
+        Set<String> formerAncestors = findAncestorIds(List.of(roleId));
+        formerAncestors.remove(roleId);
+
+        LambdaQueryWrapper<SysRoleInherit> edgeQuery = Wrappers.lambdaQuery();
+        edgeQuery.eq(SysRoleInherit::getParentId, roleId).or().eq(SysRoleInherit::getChildId, roleId);
+        for (SysRoleInherit edge : sysRoleInheritMapper.selectList(edgeQuery)) {
+            unlink(edge.getParentId(), edge.getChildId());
+        }
+        sysRoleClosureMapper.delete(Wrappers.<SysRoleClosure>lambdaQuery()
+                .eq(SysRoleClosure::getAncestorId, roleId).or().eq(SysRoleClosure::getDescendantId, roleId));
+        sysRoleAuthorityMapper.delete(Wrappers.<SysRoleAuthority>lambdaQuery().eq(SysRoleAuthority::getRoleId, roleId));
+
+        refreshAuthorities(formerAncestors);
+        return formerAncestors;
+    }
+
+    /**
+     * Make the parent role inherit the child role
+     *
+     * @param parentId Parent role ID
+     * @param childId  Child role ID
+     * @throws AppException if the edge exists or would create a cycle
+     */
+    public void addInheritance(String parentId, String childId) {
+        log.debug("Add role inheritance started - Parent: {}, Child: {}", parentId, childId);
+
+        List<SysRoleClosure> ancestors = selectClosure(SysRoleClosure::getDescendantId, parentId);
+        if (ancestors.stream().anyMatch(row -> row.getAncestorId().equals(childId))) {
+            log.warn("Role inheritance cycle - Parent: {}, Child: {}", parentId, childId);
+            throw new AppException(ErrorCode.BUSINESS_ERROR, "Role inheritance would create a cycle");
+        }
+        if (sysRoleInheritMapper.selectCount(edgeQuery(parentId, childId)) > 0) {
+            throw new AppException(ErrorCode.DATA_ALREADY_EXISTS, "Role inheritance already exists");
+        }
+
+        sysRoleInheritMapper.insert(SysRoleInherit.of(parentId, childId));
+        List<SysRoleClosure> descendants = selectClosure(SysRoleClosure::getAncestorId, childId);
+        sysRoleClosureMapper.addPaths(pathDeltas(ancestors, descendants, 1));
+        refreshAuthorities(ancestorIds(ancestors));
+
+        log.debug("Add role inheritance completed - Parent: {}, Child: {}", parentId, childId);
+    }
+
+    /**
+     * Stop the parent role from inheriting the child role
+     *
+     * @param parentId Parent role ID
+     * @param childId  Child role ID
+     * @return Roles whose effective authorities may have shrunk (the parent and its ancestors)
+     * @throws AppException if the edge does not exist
+     */
+    public Set<String> removeInheritance(String parentId, String childId) {
+        log.debug("Remove role inheritance started - Parent: {}, Child: {}", parentId, childId);
+
+        if (sysRoleInheritMapper.selectCount(edgeQuery(parentId, childId)) == 0) {
+            throw new AppException(ErrorCode.DATA_NOT_FOUND, "Role inheritance not found");
+        }
+        Set<String> affected = unlink(parentId, childId);
+        refreshAuthorities(affected);
+
+        log.debug("Remove role inheritance completed - Parent: {}, Child: {}", parentId, childId);
+        return affected;
+    }
+
+    /**
+     * Direct children of a role
+     *
+     * @param roleId Role ID
+     * @return Child roles
+     */
+    public List<SysRole> listChildren(String roleId) {
+        LambdaQueryWrapper<SysRoleInherit> queryWrapper = Wrappers.lambdaQuery();
+        queryWrapper.eq(SysRoleInherit::getParentId, roleId);
+        List<String> childIds = sysRoleInheritMapper.selectList(queryWrapper).stream()
+                .map(SysRoleInherit::getChildId)
+                .toList();
+        return childIds.isEmpty() ? List.of() : sysRoleMapper.selectByIds(childIds);
+    }
+
+    /**
+     * Precomputed effective authorities of a role
+     *
+     * @param roleId Role ID
+     * @return Authorities, sorted
+     */
+    public List<String> listAuthorities(String roleId) {
+        LambdaQueryWrapper<SysRoleAuthority> queryWrapper = Wrappers.lambdaQuery();
+        queryWrapper.eq(SysRoleAuthority::getRoleId, roleId).orderByAsc(SysRoleAuthority::getAuthority);
+        return sysRoleAuthorityMapper.selectList(queryWrapper).stream().map(SysRoleAuthority::getAuthority).toList();
+    }
+
+    /**
+     * Roles that include any of the given roles (the roles themselves included)
+     *
+     * @param roleIds Role IDs
+     * @return Ancestor role IDs
+     */
+    public Set<String> findAncestorIds(Collection<String> roleIds) {
+        if (roleIds.isEmpty()) {
+            return new HashSet<>();
+        }
+        LambdaQueryWrapper<SysRoleClosure> queryWrapper = Wrappers.lambdaQuery();
+        queryWrapper.select(SysRoleClosure::getAncestorId).in(SysRoleClosure::getDescendantId, roleIds);
+        Set<String> ancestorIds = new HashSet<>(sysRoleClosureMapper.<String>selectObjs(queryWrapper));
+        ancestorIds.addAll(roleIds);
+        return ancestorIds;
+    }
+
+    /**
+     * Recompute the effective authorities of the given roles and every role that includes them
+     *
+     * @param roleIds Changed role IDs
+     */
+    public void refreshAuthorities(Collection<String> roleIds) {
+        Set<String> affected = findAncestorIds(roleIds);
+        if (affected.isEmpty()) {
+            return;
+        }
+        sysRoleAuthorityMapper.delete(Wrappers.<SysRoleAuthority>lambdaQuery().in(SysRoleAuthority::getRoleId, affected));
+        sysRoleAuthorityMapper.insertEffectiveAuthorities(affected);
+        log.debug("Role authorities refreshed - Roles: {}", affected.size());
+    }
+
+    /**
+     * Rebuild the closure table and all effective authorities from the edges
+     * (initial migration or repair after manual edits)
+     *
+     * @return Number of closure rows written
+     */
+    public int rebuild() {
+        List<String> roleIds = sysRoleMapper.selectList(null).stream().map(SysRole::getRoleId).toList();
+        Map<String, List<String>> children = sysRoleInheritMapper.selectList(null).stream()
+                .collect(Collectors.groupingBy(SysRoleInherit::getParentId,
+                        Collectors.mapping(SysRoleInherit::getChildId, Collectors.toList())));
+
+        Map<String, Map<String, Long>> pathsByRole = new HashMap<>();
+        List<SysRoleClosure> rows = new ArrayList<>();
+        for (String roleId : roleIds) {
+            countPaths(roleId, children, pathsByRole, new HashSet<>())
+                    .forEach((descendantId, paths) -> rows.add(SysRoleClosure.of(roleId, descendantId, paths)));
+        }
+
+        sysRoleClosureMapper.delete(null);
+        if (!rows.isEmpty()) {
+            sysRoleClosureMapper.insert(rows, SysRoleService.BATCH_SIZE);
+        }
+        sysRoleAuthorityMapper.delete(null);
+        if (!roleIds.isEmpty()) {
+            sysRoleAuthorityMapper.insertEffectiveAuthorities(roleIds);
+        }
+
+        log.info("Role hierarchy rebuilt - Roles: {}, Closure rows: {}", roleIds.size(), rows.size());
+        return rows.size();
+    }
+
+    /**
+     * Subtract the paths running through the edge and delete it
+     *
+     * @return The parent and its ancestors
+     */
+    private Set<String> unlink(String parentId, String childId) {
+        List<SysRoleClosure> ancestors = selectClosure(SysRoleClosure::getDescendantId, parentId);
+        List<SysRoleClosure> descendants = selectClosure(SysRoleClosure::getAncestorId, childId);
+
+        sysRoleInheritMapper.delete(edgeQuery(parentId, childId));
+        sysRoleClosureMapper.addPaths(pathDeltas(ancestors, descendants, -1));
+        sysRoleClosureMapper.delete(Wrappers.<SysRoleClosure>lambdaQuery().le(SysRoleClosure::getPathCount, 0));
+        return ancestorIds(ancestors);
+    }
+
+    private List<SysRoleClosure> selectClosure(SFunction<SysRoleClosure, String> column, String roleId) {
+        LambdaQueryWrapper<SysRoleClosure> queryWrapper = Wrappers.lambdaQuery();
+        queryWrapper.eq(column, roleId);
+        return sysRoleClosureMapper.selectList(queryWrapper);
+    }
+
+    private static LambdaQueryWrapper<SysRoleInherit> edgeQuery(String parentId, String childId) {
+        LambdaQueryWrapper<SysRoleInherit> queryWrapper = Wrappers.lambdaQuery();
+        queryWrapper.eq(SysRoleInherit::getParentId, parentId).eq(SysRoleInherit::getChildId, childId);
+        return queryWrapper;
+    }
+
+    private static Set<String> ancestorIds(List<SysRoleClosure> ancestors) {
+        return ancestors.stream().map(SysRoleClosure::getAncestorId).collect(Collectors.toSet());
+    }
+
+    /**
+     * Path count changes for every (ancestor of parent, descendant of child) pair
+     */
+    private static List<SysRoleClosure> pathDeltas(List<SysRoleClosure> ancestors, List<SysRoleClosure> descendants,
+                                                   int sign) {
+        List<SysRoleClosure> deltas = new ArrayList<>(ancestors.size() * descendants.size());
+        for (SysRoleClosure ancestor : ancestors) {
+            for (SysRoleClosure descendant : descendants) {
+                deltas.add(SysRoleClosure.of(ancestor.getAncestorId(), descendant.getDescendantId(),
+                        sign * ancestor.getPathCount() * descendant.getPathCount()));
+            }
+        }
+        return deltas;
+    }
+
+    /**
+     * Number of distinct paths from the role to each descendant (itself included), memoized
+     */
+    private static Map<String, Long> countPaths(String roleId, Map<String, List<String>> children,
+                                                Map<String, Map<String, Long>> memo, Set<String> visiting) {
+        Map<String, Long> cached = memo.get(roleId);
+        if (cached != null) {
+            return cached;
+        }
+        if (!visiting.add(roleId)) {
+            throw new AppException(ErrorCode.BUSINESS_ERROR, "Role inheritance contains a cycle at role " + roleId);
+        }
+        Map<String, Long> paths = new HashMap<>();
+        paths.put(roleId, 1L);
+        for (String childId : children.getOrDefault(roleId, List.of())) {
+            countPaths(childId, children, memo, visiting).forEach((descendantId, count) ->
+                    paths.merge(descendantId, count, Long::sum));
+        }
+        visiting.remove(roleId);
+        memo.put(roleId, paths);
+        return paths;
+    }
+}
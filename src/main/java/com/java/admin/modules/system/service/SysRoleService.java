@@ -0,0 +1,405 @@
+package com.java.admin.modules.system.service;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.toolkit.CollectionUtils;
+import com.baomidou.mybatisplus.core.toolkit.Wrappers;
+import com.java.admin.infrastructure.constants.ErrorCode;
+import com.java.admin.infrastructure.datascope.DataScope;
+import com.java.admin.infrastructure.exception.AppException;
+import com.java.admin.modules.system.dto.RoleAssignmentRequestDTO;
+import com.java.admin.modules.system.dto.RoleAssignmentResultDTO;
+import com.java.admin.modules.system.dto.RoleRequestDTO;
+import com.java.admin.modules.system.mapper.SessionMapper;
+import com.java.admin.modules.system.mapper.SysPermMapper;
+import com.java.admin.modules.system.mapper.SysRoleMapper;
+import com.java.admin.modules.system.mapper.SysRolePermMapper;
+import com.java.admin.modules.system.mapper.SysUserRoleMapper;
+import com.java.admin.modules.system.model.SysRole;
+import com.java.admin.modules.system.model.SysRolePerm;
+import com.java.admin.modules.system.model.SysUserRole;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Role management, role permissions, role inheritance and user role assignments
+ *
+ * <p>Sessions snapshot authorities at login, so every change that can take authorities away
+ * revokes the sessions of the affected users (holders of the role or of any role inheriting it);
+ * they pick up the new set on their next login.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SysRoleService {
+
+    /**
+     * Rows per JDBC batch (and IDs per IN list) when writing assignments
+     */
+    static final int BATCH_SIZE = 1000;
+
+    /**
+     * Built-in role checked by {@code hasRole('ADMIN')}; it cannot be renamed or deleted
+     */
+    static final String ADMIN_ROLE_NAME = "ADMIN";
+
+    private final SysRoleMapper sysRoleMapper;
+    private final SysPermMapper sysPermMapper;
+    private final SysUserRoleMapper sysUserRoleMapper;
+    private final SysRolePermMapper sysRolePermMapper;
+    private final SysUserService sysUserService;
+    private final SessionMapper sessionMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final SysRoleHierarchyService sysRoleHierarchyService;
+
+    /**
+     * List all roles ordered by name
+     *
+     * @return Roles
+     */
+    public List<SysRole> listRoles() {
+        LambdaQueryWrapper<SysRole> queryWrapper = Wrappers.lambdaQuery();
+        queryWrapper.orderByAsc(SysRole::getRoleName);
+        return sysRoleMapper.selectList(queryWrapper);
+    }
+
+    /**
+     * Get role by ID
+     *
+     * @param roleId Role ID
+     * @return Role
+     * @throws AppException if role not found
+     */
+    public SysRole getRole(String roleId) {
+        SysRole role = sysRoleMapper.selectById(roleId);
+        if (role == null) {
+            log.warn("Role not found - Role ID: {}", roleId);
+            throw new AppException(ErrorCode.DATA_NOT_FOUND, "Role not found");
+        }
+        return role;
+    }
+
+    /**
+     * Create a new role
+     *
+     * @param dto Role request DTO
+     * @return Created role
+     * @throws AppException if the role name already exists
+     */
+    public SysRole createRole(RoleRequestDTO dto) {
+        log.debug("Create role started - Role name: {}", dto.getRoleName());
+
+        SysRole role = new SysRole();
+        role.setRoleName(dto.getRoleName());
+        role.setRoleDesc(dto.getRoleDesc());
+        role.setDataScope(dto.getDataScope() != null ? dto.getDataScope() : DataScope.SELF.getCode());
+
+        // Database constraint uk_role_name ensures uniqueness
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                sysRoleMapper.insert(role);
+                sysRoleHierarchyService.addRole(role.getRoleId());
+            });
+        } catch (DuplicateKeyException e) {
+            log.warn("Role name already exists - Role name: {}", dto.getRoleName());
+            throw new AppException(ErrorCode.DATA_ALREADY_EXISTS, "Role name already exists");
+        }
+
+        log.debug("Create role completed - Role ID: {}, Role name: {}", role.getRoleId(), role.getRoleName());
+        return role;
+    }
+
+    /**
+     * Update role name, description and data scope
+     *
+     * @param roleId Role ID
+     * @param dto    Role request DTO
+     * @throws AppException if role not found, the name is taken, or the built-in role would be renamed
+     */
+    public void updateRole(String roleId, RoleRequestDTO dto) {
+        log.debug("Update role started - Role ID: {}, Role name: {}", roleId, dto.getRoleName());
+
+        SysRole role = getRole(roleId);
+        boolean renamed = !role.getRoleName().equals(dto.getRoleName());
+        if (renamed && ADMIN_ROLE_NAME.equals(role.getRoleName())) {
+            log.warn("Attempt to rename built-in role - Role ID: {}", roleId);
+            throw new AppException(ErrorCode.BUSINESS_ERROR, "Built-in ADMIN role cannot be renamed or deleted");
+        }
+
+        // A higher code is a narrower scope
+        boolean narrowed = dto.getDataScope() != null
+                && (role.getDataScope() == null || dto.getDataScope() > role.getDataScope());
+        role.setRoleName(dto.getRoleName());
+        role.setRoleDesc(dto.getRoleDesc());
+        if (dto.getDataScope() != null) {
+            role.setDataScope(dto.getDataScope());
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                sysRoleMapper.updateById(role);
+                if (renamed) {
+                    sysRoleHierarchyService.refreshAuthorities(List.of(roleId));
+                }
+            });
+        } catch (DuplicateKeyException e) {
+            log.warn("Role name already exists - Role name: {}", dto.getRoleName());
+            throw new AppException(ErrorCode.DATA_ALREADY_EXISTS, "Role name already exists");
+        }
+
+        // The authority string is derived from the name, and the data scope is snapshotted at login
+        if (renamed || narrowed) {
+            revokeSessionsOfRoles(List.of(roleId));
+        }
+        if (renamed) {
+            // Role names appear in user pages
+            sysUserService.invalidatePages();
+        }
+
+        log.debug("Update role completed - Role ID: {}", roleId);
+    }
+
+    /**
+     * Delete a role together with its assignments and permission grants, in one transaction
+     *
+     * @param roleId Role ID
+     * @throws AppException if role not found or it is the built-in role
+     */
+    public void deleteRole(String roleId) {
+        log.debug("Delete role started - Role ID: {}", roleId);
+
+        SysRole role = getRole(roleId);
+        if (ADMIN_ROLE_NAME.equals(role.getRoleName())) {
+            log.warn("Attempt to delete built-in role - Role ID: {}", roleId);
+            throw new AppException(ErrorCode.BUSINESS_ERROR, "Built-in ADMIN role cannot be renamed or deleted");
+        }
+
+        Set<String> affectedUserIds = transactionTemplate.execute(status -> {
+            Set<String> userIds = findUserIdsWithRoles(sysRoleHierarchyService.findAncestorIds(List.of(roleId)));
+            sysRoleHierarchyService.removeRole(roleId);
+            sysUserRoleMapper.delete(Wrappers.<SysUserRole>lambdaQuery().eq(SysUserRole::getRoleId, roleId));
+            sysRolePermMapper.delete(Wrappers.<SysRolePerm>lambdaQuery().eq(SysRolePerm::getRoleId, roleId));
+            sysRoleMapper.deleteById(roleId);
+            return userIds;
+        });
+
+        if (affectedUserIds != null && !affectedUserIds.isEmpty()) {
+            sessionMapper.deleteAll(affectedUserIds);
+        }
+        sysUserService.invalidatePages();
+
+        log.debug("Delete role completed - Role ID: {}, Affected users: {}",
+                roleId, affectedUserIds == null ? 0 : affectedUserIds.size());
+    }
+
+    /**
+     * Replace the permissions granted to a role
+     *
+     * @param roleId  Role ID
+     * @param permIds Complete permission set (empty revokes all)
+     * @throws AppException if the role or any permission does not exist
+     */
+    public void replaceRolePerms(String roleId, List<String> permIds) {
+        log.debug("Replace role permissions started - Role ID: {}, Count: {}", roleId, permIds.size());
+
+        getRole(roleId);
+        Set<String> distinctPermIds = new LinkedHashSet<>(permIds);
+        if (!distinctPermIds.isEmpty() && sysPermMapper.selectByIds(distinctPermIds).size() < distinctPermIds.size()) {
+            log.warn("Permission not found - Role ID: {}, Permission IDs: {}", roleId, distinctPermIds);
+            throw new AppException(ErrorCode.DATA_NOT_FOUND, "Permission not found");
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            sysRolePermMapper.delete(Wrappers.<SysRolePerm>lambdaQuery().eq(SysRolePerm::getRoleId, roleId));
+            if (!distinctPermIds.isEmpty()) {
+                sysRolePermMapper.insert(distinctPermIds.stream().map(permId -> SysRolePerm.of(roleId, permId)).toList(),
+                        BATCH_SIZE);
+            }
+            sysRoleHierarchyService.refreshAuthorities(List.of(roleId));
+        });
+        revokeSessionsOfRoles(List.of(roleId));
+
+        log.debug("Replace role permissions completed - Role ID: {}", roleId);
+    }
+
+    /**
+     * Assign or revoke roles for many users
+     *
+     * <p>All user x role pairs are written in one transaction: already present pairs are
+     * looked up per {@value #BATCH_SIZE} users and skipped, the rest go out as JDBC batches.
+     * Revocations are one {@code DELETE ... WHERE user_id IN (...) AND role_id IN (...)} per chunk.
+     *
+     * @param dto Assignment request DTO
+     * @return Requested and changed pair counts
+     * @throws AppException if a role or (for ASSIGN) a user does not exist
+     */
+    public RoleAssignmentResultDTO updateAssignments(RoleAssignmentRequestDTO dto) {
+        Set<String> userIds = new LinkedHashSet<>(dto.getUserIds());
+        Set<String> roleIds = new LinkedHashSet<>(dto.getRoleIds());
+        log.debug("Role assignment started - Action: {}, Users: {}, Roles: {}",
+                dto.getAction(), userIds.size(), roleIds.size());
+
+        if (sysRoleMapper.selectByIds(roleIds).size() < roleIds.size()) {
+            log.warn("Role not found - Role IDs: {}", roleIds);
+            throw new AppException(ErrorCode.DATA_NOT_FOUND, "Role not found");
+        }
+
+        Integer changed;
+        if (dto.getAction() == RoleAssignmentRequestDTO.Action.ASSIGN) {
+            Set<String> existingUserIds = sysUserService.findExistingUserIds(userIds);
+            if (existingUserIds.size() < userIds.size()) {
+                List<String> missing = userIds.stream().filter(id -> !existingUserIds.contains(id)).limit(10).toList();
+                log.warn("User not found for role assignment - Missing: {}", missing);
+                throw new AppException(ErrorCode.DATA_NOT_FOUND, "User not found: " + String.join(",", missing));
+            }
+            try {
+                changed = transactionTemplate.execute(status -> assign(userIds, roleIds));
+            } catch (DuplicateKeyException e) {
+                log.warn("Concurrent role assignment - Roles: {}", roleIds);
+                throw new AppException(ErrorCode.DATA_CONFLICT);
+            }
+        } else {
+            changed = transactionTemplate.execute(status -> revoke(userIds, roleIds));
+            if (changed != null && changed > 0) {
+                sessionMapper.deleteAll(userIds);
+            }
+        }
+
+        if (changed != null && changed > 0) {
+            sysUserService.invalidatePages();
+        }
+
+        RoleAssignmentResultDTO result = new RoleAssignmentResultDTO();
+        result.setRequested(userIds.size() * roleIds.size());
+        result.setChanged(changed == null ? 0 : changed);
+
+        log.debug("Role assignment completed - Action: {}, Requested: {}, Changed: {}",
+                dto.getAction(), result.getRequested(), result.getChanged());
+        return result;
+    }
+
+    /**
+     * Make the parent role inherit everything granted to the child role
+     *
+     * @param parentId Parent role ID
+     * @param childId  Child role ID
+     * @throws AppException if a role does not exist, the edge exists or it would create a cycle
+     */
+    public void addInheritance(String parentId, String childId) {
+        getRole(parentId);
+        getRole(childId);
+        transactionTemplate.executeWithoutResult(status -> sysRoleHierarchyService.addInheritance(parentId, childId));
+    }
+
+    /**
+     * Stop the parent role from inheriting the child role
+     *
+     * @param parentId Parent role ID
+     * @param childId  Child role ID
+     * @throws AppException if the edge does not exist
+     */
+    public void removeInheritance(String parentId, String childId) {
+        Set<String> affectedRoleIds = transactionTemplate.execute(status ->
+                sysRoleHierarchyService.removeInheritance(parentId, childId));
+        if (affectedRoleIds != null) {
+            revokeSessionsOfRoles(affectedRoleIds);
+        }
+    }
+
+    /**
+     * Direct child roles of a role
+     *
+     * @param roleId Role ID
+     * @return Child roles
+     */
+    public List<SysRole> listChildren(String roleId) {
+        getRole(roleId);
+        return sysRoleHierarchyService.listChildren(roleId);
+    }
+
+    /**
+     * Effective (own and inherited) authorities of a role
+     *
+     * @param roleId Role ID
+     * @return Authorities, sorted
+     */
+    public List<String> listAuthorities(String roleId) {
+        getRole(roleId);
+        return sysRoleHierarchyService.listAuthorities(roleId);
+    }
+
+    /**
+     * Rebuild the role closure and effective authorities from the inheritance edges
+     *
+     * @return Number of closure rows written
+     */
+    public int rebuildHierarchy() {
+        Integer rows = transactionTemplate.execute(status -> sysRoleHierarchyService.rebuild());
+        return rows == null ? 0 : rows;
+    }
+
+    /**
+     * Revoke the sessions of every user holding one of the given roles or a role inheriting them
+     *
+     * @param roleIds Role IDs
+     */
+    public void revokeSessionsOfRoles(Collection<String> roleIds) {
+        Set<String> userIds = findUserIdsWithRoles(sysRoleHierarchyService.findAncestorIds(roleIds));
+        if (!userIds.isEmpty()) {
+            sessionMapper.deleteAll(userIds);
+        }
+    }
+
+    /**
+     * Users holding any of the roles; served by the idx_role_id reverse index
+     */
+    private Set<String> findUserIdsWithRoles(Collection<String> roleIds) {
+        if (roleIds.isEmpty()) {
+            return Set.of();
+        }
+        LambdaQueryWrapper<SysUserRole> queryWrapper = Wrappers.lambdaQuery();
+        queryWrapper.select(SysUserRole::getUserId).in(SysUserRole::getRoleId, roleIds);
+        return new HashSet<>(sysUserRoleMapper.<String>selectObjs(queryWrapper));
+    }
+
+    private int assign(Set<String> userIds, Set<String> roleIds) {
+        List<SysUserRole> rows = new ArrayList<>();
+        for (List<String> chunk : CollectionUtils.split(userIds, BATCH_SIZE)) {
+            LambdaQueryWrapper<SysUserRole> queryWrapper = Wrappers.lambdaQuery();
+            queryWrapper.in(SysUserRole::getUserId, chunk).in(SysUserRole::getRoleId, roleIds);
+            Set<List<String>> existing = sysUserRoleMapper.selectList(queryWrapper).stream()
+                    .map(row -> List.of(row.getUserId(), row.getRoleId()))
+                    .collect(Collectors.toSet());
+            for (String userId : chunk) {
+                for (String roleId : roleIds) {
+                    if (!existing.contains(List.of(userId, roleId))) {
+                        rows.add(SysUserRole.of(userId, roleId));
+                    }
+                }
+            }
+        }
+        if (!rows.isEmpty()) {
+            sysUserRoleMapper.insert(rows, BATCH_SIZE);
+        }
+        return rows.size();
+    }
+
+    private int revoke(Set<String> userIds, Set<String> roleIds) {
+        int removed = 0;
+        for (List<String> chunk : CollectionUtils.split(userIds, BATCH_SIZE)) {
+            LambdaQueryWrapper<SysUserRole> queryWrapper = Wrappers.lambdaQuery();
+            queryWrapper.in(SysUserRole::getUserId, chunk).in(SysUserRole::getRoleId, roleIds);
+            removed += sysUserRoleMapper.delete(queryWrapper);
+        }
+        return removed;
+    }
+}
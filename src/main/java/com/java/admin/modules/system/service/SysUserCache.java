@@ -0,0 +1,372 @@
+package com.java.admin.modules.system.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.java.admin.config.UserCacheProperties;
+import com.java.admin.infrastructure.datasource.DataSourceContextHolder;
+import com.java.admin.infrastructure.datasource.DataSourceRole;
+import com.java.admin.modules.system.mapper.UserCacheMapper;
+import com.java.admin.modules.system.model.SysUser;
+import com.java.admin.modules.system.model.SysUserCacheEntry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Two-tier read-through cache for user lookups by ID and by username
+ *
+ * <p>Tiers:
+ * <ul>
+ *   <li>Local: bounded Caffeine caches per node. {@code Cache.get(key, loader)} runs at most one
+ *       load per key at a time, so a burst of misses for the same user costs one Redis/DB read.</li>
+ *   <li>Shared: Redis entries written by whichever node loaded them first.</li>
+ * </ul>
+ *
+ * <p>Usernames map to user IDs, and IDs map to users, so a user is cached once and only ID
+ * entries need invalidating on update. Unknown IDs and usernames are cached as negative entries
+ * with a shorter TTL.
+ *
+ * <p>Writers call {@code evict*} after their statement succeeds: the shared entry is replaced
+ * by a short-lived tombstone first, then the local one is removed, so the writing node reads its
+ * own write. Loads only write back shared entries that are absent, so a load that read the row
+ * before the write cannot restore it over the tombstone. Other nodes drop their
+ * local entries on the pub/sub message; if it is lost, the local TTL bounds staleness.
+ * Redis failures degrade to database reads rather than failing the lookup.
+ *
+ * <p>User pages are not cached here, but every eviction also replaces a shared page generation
+ * token, so a page tagged with the token read before the query is known unchanged while the
+ * token stays the same. Tokens are random rather than counted, so a token recreated after the
+ * key expired never repeats one a client may still hold.
+ *
+ * <p>Loads always query the primary: a lagging replica row cached here would outlive the
+ * replica lag by the full TTL.
+ */
+@Service
+@Slf4j
+public class SysUserCache implements MessageListener {
+
+    private static final String ID_MESSAGE_PREFIX = "id:";
+    private static final String NAME_MESSAGE_PREFIX = "name:";
+    private static final String MESSAGE_SEPARATOR = ",";
+
+    /**
+     * Username tier value for a username that does not exist
+     */
+    private static final String NO_USER_ID = "";
+
+    private final UserCacheMapper userCacheMapper;
+    private final UserCacheProperties properties;
+
+    /**
+     * Local tiers, null when caching is disabled
+     */
+    private final Cache<String, SysUserCacheEntry> usersById;
+    private final Cache<String, String> userIdsByName;
+
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+
+    public SysUserCache(UserCacheMapper userCacheMapper, UserCacheProperties properties,
+                        MeterRegistry meterRegistry) {
+        this.userCacheMapper = userCacheMapper;
+        this.properties = properties;
+        this.remoteHits = Counter.builder("user.cache.remote.gets").tag("result", "hit").register(meterRegistry);
+        this.remoteMisses = Counter.builder("user.cache.remote.gets").tag("result", "miss").register(meterRegistry);
+
+        if (!properties.isEnabled()) {
+            this.usersById = null;
+            this.userIdsByName = null;
+            return;
+        }
+        this.usersById = buildLocalCache(SysUserCacheEntry::isFound);
+        this.userIdsByName = buildLocalCache(userId -> !userId.isEmpty());
+
+        CaffeineCacheMetrics.monitor(meterRegistry, usersById, "user.id");
+        CaffeineCacheMetrics.monitor(meterRegistry, userIdsByName, "user.username");
+        Gauge.builder("user.cache.hit.ratio", usersById, cache -> cache.stats().hitRate())
+                .tags("tier", "local", "cache", "user.id").register(meterRegistry);
+        Gauge.builder("user.cache.hit.ratio", userIdsByName, cache -> cache.stats().hitRate())
+                .tags("tier", "local", "cache", "user.username").register(meterRegistry);
+        Gauge.builder("user.cache.hit.ratio", this, SysUserCache::remoteHitRatio)
+                .tags("tier", "remote").register(meterRegistry);
+    }
+
+    /**
+     * Whether lookups are cached (false when disabled by configuration)
+     */
+    public boolean isEnabled() {
+        return usersById != null;
+    }
+
+    /**
+     * Get user by ID
+     *
+     * @param userId User ID
+     * @param loader Database lookup used on a miss in both tiers
+     * @return A fresh copy of the user, or null if not found
+     */
+    public SysUser getById(String userId, Function<String, SysUser> loader) {
+        if (usersById == null || userId == null) {
+            return loader.apply(userId);
+        }
+        return usersById.get(userId, id -> loadUser(id, loader)).toUser();
+    }
+
+    /**
+     * Get users by ID; only the IDs missing from both tiers reach the loader, in one call
+     *
+     * @param userIds    User IDs
+     * @param bulkLoader Database lookup for the missing IDs (found users by ID)
+     * @return Fresh copies of the found users by ID, in request order
+     */
+    public Map<String, SysUser> getAllById(Collection<String> userIds,
+                                           Function<Collection<String>, Map<String, SysUser>> bulkLoader) {
+        Set<String> keys = new LinkedHashSet<>(userIds);
+        keys.remove(null);
+        if (usersById == null) {
+            return keys.isEmpty() ? new LinkedHashMap<>() : new LinkedHashMap<>(bulkLoader.apply(keys));
+        }
+
+        Map<String, SysUserCacheEntry> entries = usersById.getAll(keys, missing -> loadUsers(missing, bulkLoader));
+        Map<String, SysUser> users = new LinkedHashMap<>();
+        for (String userId : keys) {
+            SysUserCacheEntry entry = entries.get(userId);
+            if (entry != null && entry.isFound()) {
+                users.put(userId, entry.toUser());
+            }
+        }
+        return users;
+    }
+
+    /**
+     * Get user by username
+     *
+     * @param username       Username (matched case-insensitively, like the database collation)
+     * @param usernameLoader Database lookup by username used on a username-tier miss
+     * @param idLoader       Database lookup by ID used on an ID-tier miss
+     * @return A fresh copy of the user, or null if not found
+     */
+    public SysUser getByUsername(String username, Function<String, SysUser> usernameLoader,
+                                 Function<String, SysUser> idLoader) {
+        if (userIdsByName == null || username == null) {
+            return usernameLoader.apply(username);
+        }
+        String userId = userIdsByName.get(normalize(username),
+                key -> loadUserId(username, key, usernameLoader));
+        if (userId.isEmpty()) {
+            return null;
+        }
+        return getById(userId, idLoader);
+    }
+
+    /**
+     * Evict users after they were updated or deleted
+     *
+     * @param userIds User IDs
+     */
+    public void evictUsers(Collection<String> userIds) {
+        if (usersById == null || userIds.isEmpty()) {
+            return;
+        }
+        remote(() -> userCacheMapper.evictUsers(userIds, properties.getTombstoneTtl()));
+        usersById.invalidateAll(userIds);
+        publish(ID_MESSAGE_PREFIX + String.join(MESSAGE_SEPARATOR, userIds));
+        invalidatePages();
+    }
+
+    /**
+     * Evict username mappings after users were created (drops negative entries)
+     *
+     * @param usernames Usernames
+     */
+    public void evictUsernames(Collection<String> usernames) {
+        if (userIdsByName == null || usernames.isEmpty()) {
+            return;
+        }
+        List<String> keys = usernames.stream().map(SysUserCache::normalize).distinct().toList();
+        remote(() -> userCacheMapper.evictUsernames(keys, properties.getTombstoneTtl()));
+        userIdsByName.invalidateAll(keys);
+        publish(NAME_MESSAGE_PREFIX + String.join(MESSAGE_SEPARATOR, keys));
+        invalidatePages();
+    }
+
+    /**
+     * Get the current user page generation
+     *
+     * @return Generation token, or null when caching is disabled or Redis is unavailable
+     */
+    public String pageGeneration() {
+        if (usersById == null) {
+            return null;
+        }
+        return remote(() -> userCacheMapper.findOrCreatePageGeneration(newGeneration(), properties.getRemoteTtl()));
+    }
+
+    /**
+     * Start a new user page generation after a write that changes page contents
+     * ({@code evict*} already do this)
+     */
+    public void invalidatePages() {
+        if (usersById == null) {
+            return;
+        }
+        remote(() -> userCacheMapper.savePageGeneration(newGeneration(), properties.getRemoteTtl()));
+    }
+
+    /**
+     * Drop local entries invalidated by another node
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        if (usersById == null) {
+            return;
+        }
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (body.startsWith(ID_MESSAGE_PREFIX)) {
+            usersById.invalidateAll(split(body.substring(ID_MESSAGE_PREFIX.length())));
+        } else if (body.startsWith(NAME_MESSAGE_PREFIX)) {
+            userIdsByName.invalidateAll(split(body.substring(NAME_MESSAGE_PREFIX.length())));
+        } else {
+            log.warn("Ignoring unknown user cache invalidation message - Message: {}", body);
+        }
+    }
+
+    private SysUserCacheEntry loadUser(String userId, Function<String, SysUser> loader) {
+        SysUserCacheEntry cached = remote(() -> userCacheMapper.findUser(userId));
+        if (cached != null) {
+            remoteHits.increment();
+            return cached;
+        }
+        remoteMisses.increment();
+
+        SysUserCacheEntry entry = SysUserCacheEntry.of(loadFromPrimary(loader, userId));
+        remote(() -> userCacheMapper.saveUser(userId, entry, remoteTtl(entry.isFound())));
+        return entry;
+    }
+
+    private Map<String, SysUserCacheEntry> loadUsers(Set<? extends String> userIds,
+                                                     Function<Collection<String>, Map<String, SysUser>> bulkLoader) {
+        List<String> missing = List.copyOf(userIds);
+        Map<String, SysUserCacheEntry> entries = new HashMap<>();
+        Map<String, SysUserCacheEntry> cached = remote(() -> userCacheMapper.findUsers(missing));
+        if (cached != null) {
+            entries.putAll(cached);
+        }
+        remoteHits.increment(entries.size());
+        remoteMisses.increment(missing.size() - entries.size());
+
+        List<String> toLoad = missing.stream().filter(id -> !entries.containsKey(id)).toList();
+        if (toLoad.isEmpty()) {
+            return entries;
+        }
+        Map<String, SysUser> loaded = DataSourceContextHolder.callWith(DataSourceRole.PRIMARY,
+                () -> bulkLoader.apply(toLoad));
+        Map<String, SysUserCacheEntry> fresh = new HashMap<>();
+        for (String userId : toLoad) {
+            fresh.put(userId, SysUserCacheEntry.of(loaded.get(userId)));
+        }
+        remote(() -> userCacheMapper.saveUsers(fresh, properties.getRemoteTtl(), properties.getNegativeTtl()));
+        entries.putAll(fresh);
+        return entries;
+    }
+
+    private String loadUserId(String username, String key, Function<String, SysUser> loader) {
+        String cached = remote(() -> userCacheMapper.findUserId(key));
+        if (cached != null) {
+            remoteHits.increment();
+            return cached;
+        }
+        remoteMisses.increment();
+
+        SysUser user = loadFromPrimary(loader, username);
+        String userId = user == null ? NO_USER_ID : user.getUserId();
+        remote(() -> userCacheMapper.saveUserId(key, userId, remoteTtl(user != null)));
+        if (user != null) {
+            // Seed the ID tier with the row we already have, unless an eviction got there first
+            SysUserCacheEntry entry = SysUserCacheEntry.of(user);
+            if (Boolean.TRUE.equals(remote(() -> userCacheMapper.saveUser(userId, entry, remoteTtl(true))))) {
+                usersById.put(userId, entry);
+            }
+        }
+        return userId;
+    }
+
+    private static SysUser loadFromPrimary(Function<String, SysUser> loader, String key) {
+        return DataSourceContextHolder.callWith(DataSourceRole.PRIMARY, () -> loader.apply(key));
+    }
+
+    private <V> Cache<String, V> buildLocalCache(Predicate<V> found) {
+        Duration localTtl = properties.getLocalTtl();
+        Duration negativeTtl = properties.getNegativeTtl().compareTo(localTtl) < 0
+                ? properties.getNegativeTtl() : localTtl;
+        return Caffeine.newBuilder()
+                .maximumSize(properties.getLocalMaxSize())
+                .expireAfter(Expiry.<String, V>writing((key, value) -> found.test(value) ? localTtl : negativeTtl))
+                .recordStats()
+                .build();
+    }
+
+    private Duration remoteTtl(boolean found) {
+        return found ? properties.getRemoteTtl() : properties.getNegativeTtl();
+    }
+
+    private void publish(String message) {
+        remote(() -> userCacheMapper.publishInvalidation(message));
+    }
+
+    private void remote(Runnable operation) {
+        remote(() -> {
+            operation.run();
+            return null;
+        });
+    }
+
+    private <T> T remote(Supplier<T> operation) {
+        try {
+            return operation.get();
+        } catch (RuntimeException e) {
+            log.warn("User cache Redis operation failed, falling back to database - Error: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private double remoteHitRatio() {
+        double hits = remoteHits.count();
+        double total = hits + remoteMisses.count();
+        return total == 0 ? 0 : hits / total;
+    }
+
+    private static String newGeneration() {
+        return Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, Character.MAX_RADIX);
+    }
+
+    private static List<String> split(String keys) {
+        return Arrays.asList(keys.split(MESSAGE_SEPARATOR));
+    }
+
+    private static String normalize(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+}
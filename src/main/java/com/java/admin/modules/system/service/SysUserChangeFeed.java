@@ -0,0 +1,500 @@
+package com.java.admin.modules.system.service;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.conditions.query.QueryWrapper;
+import com.baomidou.mybatisplus.core.toolkit.Wrappers;
+import com.java.admin.config.UserFeedProperties;
+import com.java.admin.infrastructure.constants.ErrorCode;
+import com.java.admin.infrastructure.datasource.ShardRouter;
+import com.java.admin.infrastructure.exception.AppException;
+import com.java.admin.modules.system.dto.UserChangeFeedDTO;
+import com.java.admin.modules.system.mapper.SysUserOutboxMapper;
+import com.java.admin.modules.system.model.SysUserOutbox;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Change feed over the sys_user transactional outbox
+ *
+ * <p>Writers call {@link #record} inside the transaction that changes sys_user, so an event exists
+ * exactly when the change committed. Readers resume from an opaque cursor holding the last seen
+ * event ID of every shard ({@code "42"} unsharded, {@code "42-7-19"} with three shards).
+ *
+ * <p>Auto-increment IDs are allocated on insert but become visible on commit, so a later ID can
+ * be read before an earlier one. A read therefore only advances through IDs without gaps; an
+ * event behind a gap waits until it is older than {@code user.feed.gap-timeout}, by which time
+ * the gap is a rolled-back insert rather than a transaction still in flight.
+ *
+ * <p>Waiting consumers (long polls and event streams) are served by one scheduler thread: each
+ * round reads the head event ID of every shard once and only queries events for consumers that
+ * are behind. Local commits wake the scheduler at once; writes on other instances are picked up
+ * by the next round. Stream writes block on the client's socket, so they run on a bounded sender
+ * pool, one at a time per stream; a stream still writing is skipped until its write completes.
+ */
+@Service
+@Slf4j
+public class SysUserChangeFeed {
+
+    private static final String CURSOR_SEPARATOR = "-";
+    private static final int INSERT_BATCH_SIZE = 1000;
+    private static final int PURGE_CHUNK_SIZE = 10_000;
+
+    private final SysUserOutboxMapper sysUserOutboxMapper;
+    private final ShardRouter shardRouter;
+    private final UserFeedProperties properties;
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService sender;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    public SysUserChangeFeed(SysUserOutboxMapper sysUserOutboxMapper, ShardRouter shardRouter,
+                             UserFeedProperties properties) {
+        this.sysUserOutboxMapper = sysUserOutboxMapper;
+        this.shardRouter = shardRouter;
+        this.properties = properties;
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("user-feed-");
+        threadFactory.setDaemon(true);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        long pollMillis = properties.getPollInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::dispatch, pollMillis, pollMillis, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::purge, 1, 60, TimeUnit.MINUTES);
+
+        CustomizableThreadFactory senderThreadFactory = new CustomizableThreadFactory("user-feed-send-");
+        senderThreadFactory.setDaemon(true);
+        // Bounded queue + abort: a full queue leaves the stream as it was for the next round
+        this.sender = new ThreadPoolExecutor(properties.getSendThreads(), properties.getSendThreads(),
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(properties.getSendQueueCapacity()),
+                senderThreadFactory,
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        sender.shutdownNow();
+        subscribers.forEach(Subscriber::close);
+        subscribers.clear();
+    }
+
+    /**
+     * Append change events for users; must run in the transaction (and on the shard) of the change
+     *
+     * @param type    Change type
+     * @param userIds Changed users
+     */
+    public void record(SysUserOutbox.Type type, Collection<String> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        List<SysUserOutbox> events = userIds.stream().map(userId -> SysUserOutbox.of(userId, type)).toList();
+        if (events.size() == 1) {
+            sysUserOutboxMapper.insert(events.get(0));
+        } else {
+            sysUserOutboxMapper.insert(events, INSERT_BATCH_SIZE);
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    wake();
+                }
+            });
+        } else {
+            wake();
+        }
+    }
+
+    /**
+     * Read changes after a cursor without waiting
+     *
+     * @param cursor Cursor from a previous response, or null/blank for the oldest retained change
+     * @param limit  Maximum number of changes (capped by {@code user.feed.max-batch-size})
+     * @return Changes and the cursor to resume from
+     */
+    public UserChangeFeedDTO read(String cursor, int limit) {
+        return read(parseCursor(cursor), limit);
+    }
+
+    /**
+     * Long poll: return as soon as there are changes after the cursor, or an empty batch after the wait
+     *
+     * @param cursor Cursor from a previous response, or null/blank for the oldest retained change
+     * @param limit  Maximum number of changes
+     * @param wait   Maximum wait (capped by {@code user.feed.max-wait})
+     * @return Future completed with the changes
+     */
+    public CompletableFuture<UserChangeFeedDTO> poll(String cursor, int limit, Duration wait) {
+        long[] positions = parseCursor(cursor);
+        UserChangeFeedDTO batch = read(positions, limit);
+        if (!batch.getChanges().isEmpty() || wait.isZero() || wait.isNegative()) {
+            return CompletableFuture.completedFuture(batch);
+        }
+
+        Duration cappedWait = wait.compareTo(properties.getMaxWait()) > 0 ? properties.getMaxWait() : wait;
+        LongPoll longPoll = new LongPoll(positions, limit);
+        subscribers.add(longPoll);
+        longPoll.future.whenComplete((result, error) -> subscribers.remove(longPoll));
+        return longPoll.future.completeOnTimeout(batch, cappedWait.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Server-sent event stream of changes after the cursor; every event ID is a resumable cursor
+     *
+     * @param cursor Cursor (or Last-Event-ID), null/blank for the oldest retained change
+     * @return Emitter pushed from the sender pool until the client goes away or the stream times out
+     */
+    public SseEmitter stream(String cursor) {
+        return stream(cursor, new SseEmitter(properties.getStreamTimeout().toMillis()));
+    }
+
+    SseEmitter stream(String cursor, SseEmitter emitter) {
+        Stream stream = new Stream(parseCursor(cursor), emitter);
+        emitter.onCompletion(() -> subscribers.remove(stream));
+        emitter.onTimeout(() -> subscribers.remove(stream));
+        emitter.onError(error -> subscribers.remove(stream));
+        subscribers.add(stream);
+        // Deliver the backlog without waiting for the next round
+        wake();
+        return emitter;
+    }
+
+    /**
+     * One dispatch round: runs on the scheduler thread only
+     */
+    void dispatch() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        try {
+            List<Long> heads = shardRouter.onAllShards(shard -> headEventId());
+            for (Subscriber subscriber : subscribers) {
+                if (subscriber.isBusy()) {
+                    continue;
+                }
+                if (subscriber.isBehind(heads)) {
+                    UserChangeFeedDTO batch = read(subscriber.positions, subscriber.limit);
+                    if (!batch.getChanges().isEmpty()) {
+                        if (!subscriber.deliver(batch, parseCursor(batch.getCursor()))) {
+                            subscribers.remove(subscriber);
+                        }
+                        continue;
+                    }
+                }
+                if (!subscriber.idle(properties.getHeartbeatInterval())) {
+                    subscribers.remove(subscriber);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("User change feed dispatch failed - Subscribers: {}, Error: {}", subscribers.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * Delete events older than the retention window, in chunks to keep locks short
+     */
+    void purge() {
+        Date threshold = new Date(System.currentTimeMillis() - properties.getRetention().toMillis());
+        try {
+            List<Integer> purged = shardRouter.onAllShards(shard -> {
+                int total = 0;
+                int deleted;
+                do {
+                    LambdaQueryWrapper<SysUserOutbox> queryWrapper = Wrappers.lambdaQuery();
+                    queryWrapper.lt(SysUserOutbox::getCreatedAt, threshold).last("LIMIT " + PURGE_CHUNK_SIZE);
+                    deleted = sysUserOutboxMapper.delete(queryWrapper);
+                    total += deleted;
+                } while (deleted == PURGE_CHUNK_SIZE);
+                return total;
+            });
+            log.debug("User change feed purged - Deleted per shard: {}", purged);
+        } catch (RuntimeException e) {
+            log.warn("User change feed purge failed - Error: {}", e.getMessage());
+        }
+    }
+
+    private void wake() {
+        try {
+            scheduler.execute(this::dispatch);
+        } catch (RejectedExecutionException e) {
+            log.debug("User change feed is shut down, wake-up ignored");
+        }
+    }
+
+    private UserChangeFeedDTO read(long[] positions, int limit) {
+        int cappedLimit = Math.max(1, Math.min(limit, properties.getMaxBatchSize()));
+        List<List<SysUserOutbox>> perShard = shardRouter.onAllShards(shard -> {
+            LambdaQueryWrapper<SysUserOutbox> queryWrapper = Wrappers.lambdaQuery();
+            queryWrapper.gt(SysUserOutbox::getEventId, positions[shard])
+                    .orderByAsc(SysUserOutbox::getEventId)
+                    .last("LIMIT " + cappedLimit);
+            return committedPrefix(sysUserOutboxMapper.selectList(queryWrapper), positions[shard]);
+        });
+
+        // Merge shards by time, always taking a shard's next unread event: created_at is coarse and
+        // may run backwards within a shard, but each shard must be delivered in event ID order
+        int[] taken = new int[perShard.size()];
+        long[] next = positions.clone();
+        UserChangeFeedDTO batch = new UserChangeFeedDTO();
+        while (batch.getChanges().size() < cappedLimit) {
+            int shard = earliestHead(perShard, taken);
+            if (shard < 0) {
+                break;
+            }
+            SysUserOutbox event = perShard.get(shard).get(taken[shard]++);
+            next[shard] = event.getEventId();
+
+            UserChangeFeedDTO.Change change = new UserChangeFeedDTO.Change();
+            change.setUserId(event.getUserId());
+            change.setType(event.getEventType());
+            change.setOccurredAt(event.getCreatedAt());
+            change.setCursor(formatCursor(next));
+            batch.getChanges().add(change);
+        }
+        batch.setCursor(formatCursor(next));
+        return batch;
+    }
+
+    /**
+     * Shard whose next unread event is the oldest (events without a time last), or -1 when all are read
+     */
+    private static int earliestHead(List<List<SysUserOutbox>> perShard, int[] taken) {
+        int earliest = -1;
+        Date earliestAt = null;
+        for (int shard = 0; shard < perShard.size(); shard++) {
+            if (taken[shard] == perShard.get(shard).size()) {
+                continue;
+            }
+            Date createdAt = perShard.get(shard).get(taken[shard]).getCreatedAt();
+            if (earliest < 0 || createdAt != null && (earliestAt == null || createdAt.before(earliestAt))) {
+                earliest = shard;
+                earliestAt = createdAt;
+            }
+        }
+        return earliest;
+    }
+
+    /**
+     * Events of one shard up to the first gap that may still be filled by an open transaction
+     *
+     * @param events   Events after the position, in event ID order
+     * @param position Last event ID the reader has seen
+     */
+    private List<SysUserOutbox> committedPrefix(List<SysUserOutbox> events, long position) {
+        long settledBefore = System.currentTimeMillis() - properties.getGapTimeout().toMillis();
+        long expected = position + 1;
+        for (int i = 0; i < events.size(); i++) {
+            SysUserOutbox event = events.get(i);
+            boolean settled = event.getCreatedAt() == null || event.getCreatedAt().getTime() <= settledBefore;
+            if (event.getEventId() != expected && !settled) {
+                return events.subList(0, i);
+            }
+            expected = event.getEventId() + 1;
+        }
+        return events;
+    }
+
+    private Long headEventId() {
+        QueryWrapper<SysUserOutbox> queryWrapper = Wrappers.query();
+        queryWrapper.select("MAX(event_id)");
+        List<Object> head = sysUserOutboxMapper.selectObjs(queryWrapper);
+        return head.isEmpty() || head.get(0) == null ? 0L : ((Number) head.get(0)).longValue();
+    }
+
+    long[] parseCursor(String cursor) {
+        long[] positions = new long[shardRouter.getShardCount()];
+        if (!StringUtils.hasText(cursor)) {
+            return positions;
+        }
+        String[] parts = cursor.split(CURSOR_SEPARATOR, -1);
+        if (parts.length != positions.length) {
+            throw new AppException(ErrorCode.PARAM_VALIDATION_ERROR, "Invalid cursor");
+        }
+        try {
+            for (int i = 0; i < parts.length; i++) {
+                positions[i] = Long.parseLong(parts[i]);
+            }
+        } catch (NumberFormatException e) {
+            throw new AppException(ErrorCode.PARAM_VALIDATION_ERROR, "Invalid cursor");
+        }
+        return positions;
+    }
+
+    static String formatCursor(long[] positions) {
+        return String.join(CURSOR_SEPARATOR, Arrays.stream(positions).mapToObj(Long::toString).toList());
+    }
+
+    /**
+     * A waiting consumer; positions are only touched by the scheduler thread once registered
+     */
+    private abstract static class Subscriber {
+
+        long[] positions;
+        final int limit;
+
+        Subscriber(long[] positions, int limit) {
+            this.positions = positions;
+            this.limit = limit;
+        }
+
+        boolean isBehind(List<Long> heads) {
+            for (int shard = 0; shard < positions.length; shard++) {
+                if (heads.get(shard) > positions[shard]) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * @return true while a previous delivery is still in progress; the round skips the subscriber
+         */
+        boolean isBusy() {
+            return false;
+        }
+
+        /**
+         * Hand over a batch; the subscriber moves to {@code next} once the batch is accepted
+         *
+         * @return false to unsubscribe
+         */
+        abstract boolean deliver(UserChangeFeedDTO batch, long[] next);
+
+        /**
+         * Called on rounds without changes for this subscriber
+         *
+         * @return false to unsubscribe
+         */
+        boolean idle(Duration heartbeatInterval) {
+            return true;
+        }
+
+        abstract void close();
+    }
+
+    private static final class LongPoll extends Subscriber {
+
+        final CompletableFuture<UserChangeFeedDTO> future = new CompletableFuture<>();
+
+        LongPoll(long[] positions, int limit) {
+            super(positions, limit);
+        }
+
+        @Override
+        boolean deliver(UserChangeFeedDTO batch, long[] next) {
+            positions = next;
+            future.complete(batch);
+            return false;
+        }
+
+        @Override
+        boolean idle(Duration heartbeatInterval) {
+            return !future.isDone();
+        }
+
+        @Override
+        void close() {
+            future.cancel(false);
+        }
+    }
+
+    private final class Stream extends Subscriber {
+
+        final SseEmitter emitter;
+        final AtomicBoolean sending = new AtomicBoolean();
+        volatile long lastSentAt = System.currentTimeMillis();
+
+        Stream(long[] positions, SseEmitter emitter) {
+            super(positions, properties.getMaxBatchSize());
+            this.emitter = emitter;
+        }
+
+        @Override
+        boolean isBusy() {
+            return sending.get();
+        }
+
+        @Override
+        boolean deliver(UserChangeFeedDTO batch, long[] next) {
+            if (send(() -> {
+                for (UserChangeFeedDTO.Change change : batch.getChanges()) {
+                    emitter.send(SseEmitter.event().id(change.getCursor()).name("user-change").data(change));
+                }
+            })) {
+                positions = next;
+            }
+            return true;
+        }
+
+        @Override
+        boolean idle(Duration heartbeatInterval) {
+            if (System.currentTimeMillis() - lastSentAt >= heartbeatInterval.toMillis()) {
+                send(() -> emitter.send(SseEmitter.event().comment("keep-alive")));
+            }
+            return true;
+        }
+
+        /**
+         * Run a write on the sender pool; a failed write closes the stream
+         *
+         * @return false if the pool is saturated and the write should be retried on a later round
+         */
+        private boolean send(Write write) {
+            sending.set(true);
+            try {
+                sender.execute(() -> {
+                    try {
+                        write.run();
+                        lastSentAt = System.currentTimeMillis();
+                    } catch (IOException | IllegalStateException e) {
+                        log.debug("User change stream closed - Error: {}", e.getMessage());
+                        subscribers.remove(this);
+                        emitter.completeWithError(e);
+                    } finally {
+                        sending.set(false);
+                    }
+                });
+                return true;
+            } catch (RejectedExecutionException e) {
+                sending.set(false);
+                log.debug("User change stream sender saturated, retrying next round");
+                return false;
+            }
+        }
+
+        @Override
+        void close() {
+            emitter.complete();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Write {
+        void run() throws IOException;
+    }
+}
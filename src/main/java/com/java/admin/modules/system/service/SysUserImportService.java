@@ -0,0 +1,424 @@
+package com.java.admin.modules.system.service;
+
+import com.alibaba.fastjson2.JSON;
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.toolkit.Wrappers;
+import com.java.admin.config.UserImportProperties;
+import com.java.admin.infrastructure.constants.ErrorCode;
+import com.java.admin.infrastructure.datasource.ShardRouter;
+import com.java.admin.infrastructure.exception.AppException;
+import com.java.admin.modules.system.dto.CreateUserRequestDTO;
+import com.java.admin.modules.system.dto.ImportUserResultDTO;
+import com.java.admin.modules.system.mapper.SysUserMapper;
+import com.java.admin.modules.system.model.SysUser;
+import com.java.admin.modules.system.model.SysUserOutbox;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk user import
+ *
+ * <p>The request body is read line by line, so memory stays bounded by one batch regardless of
+ * upload size. Duplicate usernames are caught within the batch being built; a username repeated
+ * from an earlier batch is already committed when its batch is flushed, so it is reported by the
+ * existing-username check, or by the unique index uk_username_active in the row-by-row fallback
+ * when a concurrent writer gets there first. Passwords are hashed on a bounded pool while parsing
+ * continues, and each full batch is written with a single JDBC batch (MyBatis BATCH executor)
+ * inside a transaction. When sys_user is sharded, each batch is split by shard and written through
+ * {@link SysUserShardWriter}.
+ */
+@Service
+@Slf4j
+public class SysUserImportService {
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    /**
+     * Supported upload formats
+     */
+    public enum Format {
+        CSV, NDJSON;
+
+        public static Format fromContentType(String contentType) {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            return mediaType.isCompatibleWith(MediaType.parseMediaType(TEXT_CSV_VALUE)) ? CSV : NDJSON;
+        }
+    }
+
+    private final SysUserMapper sysUserMapper;
+    private final PasswordEncoder passwordEncoder;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final UserImportProperties properties;
+    private final SysUserCache sysUserCache;
+    private final ShardRouter shardRouter;
+    private final SysUserShardWriter sysUserShardWriter;
+    private final SysUserChangeFeed sysUserChangeFeed;
+    private final ExecutorService passwordHashExecutor;
+
+    public SysUserImportService(SysUserMapper sysUserMapper,
+                                PasswordEncoder passwordEncoder,
+                                Validator validator,
+                                TransactionTemplate transactionTemplate,
+                                UserImportProperties properties,
+                                SysUserCache sysUserCache,
+                                ShardRouter shardRouter,
+                                SysUserShardWriter sysUserShardWriter,
+                                SysUserChangeFeed sysUserChangeFeed) {
+        this.sysUserMapper = sysUserMapper;
+        this.passwordEncoder = passwordEncoder;
+        this.validator = validator;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.sysUserCache = sysUserCache;
+        this.shardRouter = shardRouter;
+        this.sysUserShardWriter = sysUserShardWriter;
+        this.sysUserChangeFeed = sysUserChangeFeed;
+        // Bounded queue + caller-runs: when hashing falls behind, the request thread hashes inline
+        // which throttles parsing instead of buffering an unbounded number of rows
+        this.passwordHashExecutor = new ThreadPoolExecutor(
+                properties.getHashThreads(), properties.getHashThreads(),
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(properties.getHashQueueCapacity()),
+                hashThreadFactory(),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    private static CustomizableThreadFactory hashThreadFactory() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("pwd-hash-");
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        passwordHashExecutor.shutdown();
+    }
+
+    /**
+     * Import users from a streamed body
+     *
+     * @param body   request body stream
+     * @param format body format
+     * @return import summary with per-row failures
+     * @throws IOException  if the body cannot be read
+     * @throws AppException if the CSV header is missing required columns
+     */
+    public ImportUserResultDTO importUsers(InputStream body, Format format) throws IOException {
+        log.debug("Import users started - Format: {}", format);
+        long start = System.currentTimeMillis();
+
+        int batchSize = properties.getBatchSize();
+        ImportUserResultDTO result = new ImportUserResultDTO();
+        Set<String> batchUsernames = new HashSet<>(batchSize * 2);
+        List<PendingRow> batch = new ArrayList<>(batchSize);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            CsvHeader header = null;
+            long lineNo = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNo++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (format == Format.CSV && header == null) {
+                    header = CsvHeader.parse(line);
+                    continue;
+                }
+                result.setTotal(result.getTotal() + 1);
+
+                CreateUserRequestDTO dto = parseRow(format, header, line);
+                if (dto == null) {
+                    reject(result, lineNo, null, ErrorCode.PARAM_VALIDATION_ERROR, "Malformed row");
+                    continue;
+                }
+                String violations = validate(dto);
+                if (violations != null) {
+                    reject(result, lineNo, dto.getUsername(), ErrorCode.PARAM_VALIDATION_ERROR, violations);
+                    continue;
+                }
+                if (!batchUsernames.add(normalize(dto.getUsername()))) {
+                    reject(result, lineNo, dto.getUsername(), ErrorCode.USERNAME_ALREADY_EXISTS,
+                            "Duplicate username in import");
+                    continue;
+                }
+
+                batch.add(new PendingRow(lineNo, dto, hashAsync(dto.getPassword())));
+                if (batch.size() >= batchSize) {
+                    flush(batch, result);
+                    batch = new ArrayList<>(batchSize);
+                    batchUsernames.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            flush(batch, result);
+        }
+
+        log.info("Operation [IMPORT_USERS] - Format: {}, Total: {}, Succeeded: {}, Failed: {}, Cost: {}ms",
+                format, result.getTotal(), result.getSucceeded(), result.getFailed(),
+                System.currentTimeMillis() - start);
+        return result;
+    }
+
+    /**
+     * Write one batch: drop usernames already taken, then insert the rest in a single JDBC batch.
+     * If the batch fails (e.g. a concurrent insert took a username) the transaction is rolled back
+     * and the rows are retried one by one so that failures can be attributed to individual lines.
+     */
+    private void flush(List<PendingRow> rows, ImportUserResultDTO result) {
+        Set<String> existing = findExistingUsernames(rows);
+
+        List<PendingRow> accepted = new ArrayList<>(rows.size());
+        List<SysUser> users = new ArrayList<>(rows.size());
+        for (PendingRow row : rows) {
+            String username = row.dto().getUsername();
+            if (existing.contains(normalize(username))) {
+                reject(result, row.line(), username, ErrorCode.USERNAME_ALREADY_EXISTS,
+                        ErrorCode.USERNAME_ALREADY_EXISTS.getMessage());
+                continue;
+            }
+            SysUser user = toUser(row, result);
+            if (user != null) {
+                accepted.add(row);
+                users.add(user);
+            }
+        }
+        if (users.isEmpty()) {
+            return;
+        }
+
+        if (shardRouter.isSharded()) {
+            flushSharded(accepted, users, result);
+        } else {
+            flushSingle(accepted, users, result);
+        }
+
+        // Drop cached "no such user" entries for the new usernames
+        sysUserCache.evictUsernames(users.stream().map(SysUser::getUserName).toList());
+    }
+
+    private void flushSingle(List<PendingRow> accepted, List<SysUser> users, ImportUserResultDTO result) {
+        try {
+            // Audit fields are filled by MybatisPlusMetaObjectHandler for every entity in the batch
+            transactionTemplate.executeWithoutResult(status -> {
+                sysUserMapper.insert(users, properties.getBatchSize());
+                sysUserChangeFeed.record(SysUserOutbox.Type.CREATED, users.stream().map(SysUser::getUserId).toList());
+            });
+            result.setSucceeded(result.getSucceeded() + users.size());
+            log.debug("Import batch written - Rows: {}", users.size());
+        } catch (RuntimeException e) {
+            log.warn("Import batch failed, retrying row by row - Rows: {}, Error: {}", users.size(), e.getMessage());
+            insertOneByOne(accepted, users, result);
+        }
+    }
+
+    /**
+     * One directory batch and one shard batch per shard; a failing shard group is retried row by row
+     */
+    private void flushSharded(List<PendingRow> accepted, List<SysUser> users, ImportUserResultDTO result) {
+        Map<SysUser, PendingRow> rowsByUser = new IdentityHashMap<>();
+        for (int i = 0; i < users.size(); i++) {
+            rowsByUser.put(users.get(i), accepted.get(i));
+        }
+        for (Map.Entry<Integer, List<SysUser>> group : sysUserShardWriter.groupByShard(users).entrySet()) {
+            List<SysUser> shardUsers = group.getValue();
+            try {
+                sysUserShardWriter.insertBatch(group.getKey(), shardUsers, properties.getBatchSize());
+                result.setSucceeded(result.getSucceeded() + shardUsers.size());
+                log.debug("Import batch written - Shard: {}, Rows: {}", group.getKey(), shardUsers.size());
+            } catch (RuntimeException e) {
+                log.warn("Import batch failed, retrying row by row - Shard: {}, Rows: {}, Error: {}",
+                        group.getKey(), shardUsers.size(), e.getMessage());
+                insertOneByOne(shardUsers.stream().map(rowsByUser::get).toList(), shardUsers, result);
+            }
+        }
+    }
+
+    private void insertOneByOne(List<PendingRow> rows, List<SysUser> users, ImportUserResultDTO result) {
+        for (int i = 0; i < rows.size(); i++) {
+            PendingRow row = rows.get(i);
+            SysUser user = users.get(i);
+            try {
+                if (shardRouter.isSharded()) {
+                    sysUserShardWriter.insert(user);
+                } else {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        sysUserMapper.insert(user);
+                        sysUserChangeFeed.record(SysUserOutbox.Type.CREATED, List.of(user.getUserId()));
+                    });
+                }
+                result.setSucceeded(result.getSucceeded() + 1);
+            } catch (DuplicateKeyException e) {
+                reject(result, row.line(), user.getUserName(), ErrorCode.USERNAME_ALREADY_EXISTS,
+                        ErrorCode.USERNAME_ALREADY_EXISTS.getMessage());
+            } catch (RuntimeException e) {
+                log.error("Import row failed - Line: {}, Username: {}, Error: {}",
+                        row.line(), user.getUserName(), e.getMessage());
+                reject(result, row.line(), user.getUserName(), ErrorCode.DATABASE_ERROR,
+                        ErrorCode.DATABASE_ERROR.getMessage());
+            }
+        }
+    }
+
+    private Set<String> findExistingUsernames(List<PendingRow> rows) {
+        List<String> usernames = rows.stream().map(row -> row.dto().getUsername()).toList();
+        if (shardRouter.isSharded()) {
+            return sysUserShardWriter.selectExistingUsernames(usernames);
+        }
+        LambdaQueryWrapper<SysUser> queryWrapper = Wrappers.lambdaQuery();
+        queryWrapper.select(SysUser::getUserName).in(SysUser::getUserName, usernames);
+        return sysUserMapper.selectList(queryWrapper).stream()
+                .map(user -> normalize(user.getUserName()))
+                .collect(Collectors.toSet());
+    }
+
+    private SysUser toUser(PendingRow row, ImportUserResultDTO result) {
+        String encodedPassword;
+        try {
+            encodedPassword = row.passwordHash().join();
+        } catch (CompletionException | CancellationException e) {
+            log.error("Password hashing failed - Line: {}, Error: {}", row.line(), e.getMessage());
+            reject(result, row.line(), row.dto().getUsername(), ErrorCode.SYSTEM_ERROR,
+                    ErrorCode.SYSTEM_ERROR.getMessage());
+            return null;
+        }
+        SysUser user = new SysUser();
+        user.setUserName(row.dto().getUsername());
+        user.setPassword(encodedPassword);
+        user.setEmail(row.dto().getEmail());
+        return user;
+    }
+
+    private CompletableFuture<String> hashAsync(String rawPassword) {
+        return CompletableFuture.supplyAsync(() -> passwordEncoder.encode(rawPassword), passwordHashExecutor);
+    }
+
+    private CreateUserRequestDTO parseRow(Format format, CsvHeader header, String line) {
+        try {
+            return format == Format.CSV ? header.toDto(line) : JSON.parseObject(line, CreateUserRequestDTO.class);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private String validate(CreateUserRequestDTO dto) {
+        Set<ConstraintViolation<CreateUserRequestDTO>> violations = validator.validate(dto);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private void reject(ImportUserResultDTO result, long line, String username, ErrorCode errorCode, String message) {
+        result.setFailed(result.getFailed() + 1);
+        if (result.getFailures().size() < properties.getMaxReportedFailures()) {
+            ImportUserResultDTO.Failure failure = new ImportUserResultDTO.Failure();
+            failure.setLine(line);
+            failure.setUsername(username);
+            failure.setCode(errorCode.getCode());
+            failure.setMessage(message);
+            result.getFailures().add(failure);
+        }
+    }
+
+    /**
+     * Usernames are unique case-insensitively (MySQL default collation)
+     */
+    private static String normalize(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+
+    private record PendingRow(long line, CreateUserRequestDTO dto, CompletableFuture<String> passwordHash) {
+    }
+
+    /**
+     * Column positions resolved from the CSV header line
+     */
+    private record CsvHeader(int username, int password, int email) {
+
+        static CsvHeader parse(String line) {
+            List<String> columns = splitCsv(line).stream()
+                    .map(column -> column.trim().toLowerCase(Locale.ROOT))
+                    .toList();
+            int username = columns.indexOf("username");
+            int password = columns.indexOf("password");
+            if (username < 0 || password < 0) {
+                throw new AppException(ErrorCode.PARAM_VALIDATION_ERROR,
+                        "CSV header must contain username and password columns");
+            }
+            return new CsvHeader(username, password, columns.indexOf("email"));
+        }
+
+        CreateUserRequestDTO toDto(String line) {
+            List<String> fields = splitCsv(line);
+            CreateUserRequestDTO dto = new CreateUserRequestDTO();
+            dto.setUsername(field(fields, username));
+            dto.setPassword(field(fields, password));
+            String emailValue = field(fields, email);
+            dto.setEmail(emailValue == null || emailValue.isEmpty() ? null : emailValue);
+            return dto;
+        }
+
+        private static String field(List<String> fields, int index) {
+            return index >= 0 && index < fields.size() ? fields.get(index) : null;
+        }
+
+        /**
+         * Split a single-line RFC 4180 record (quoted fields, doubled quotes as escapes)
+         */
+        static List<String> splitCsv(String line) {
+            List<String> fields = new ArrayList<>();
+            StringBuilder current = new StringBuilder();
+            boolean quoted = false;
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c == '"') {
+                        if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                            current.append('"');
+                            i++;
+                        } else {
+                            quoted = false;
+                        }
+                    } else {
+                        current.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(current.toString());
+                    current.setLength(0);
+                } else {
+                    current.append(c);
+                }
+            }
+            if (quoted) {
+                throw new IllegalArgumentException("Unterminated quoted field");
+            }
+            fields.add(current.toString());
+            return fields;
+        }
+    }
+}
@@ -1,28 +1,79 @@
 package com.java.admin.modules.system.service;
 
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.conditions.update.LambdaUpdateWrapper;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import com.baomidou.mybatisplus.core.toolkit.CollectionUtils;
 import com.baomidou.mybatisplus.core.toolkit.Wrappers;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import com.java.admin.infrastructure.constants.ErrorCode;
+import com.java.admin.infrastructure.datascope.DataScoped;
+import com.java.admin.infrastructure.datasource.ReplicaRead;
+import com.java.admin.infrastructure.datasource.ShardRouter;
 import com.java.admin.infrastructure.exception.AppException;
+import com.java.admin.modules.system.dto.BulkUserRequestDTO;
+import com.java.admin.modules.system.dto.BulkUserResultDTO;
 import com.java.admin.modules.system.dto.CreateUserRequestDTO;
 import com.java.admin.modules.system.dto.UpdateUserRequestDTO;
+import com.java.admin.modules.system.mapper.SessionMapper;
+import com.java.admin.modules.system.mapper.SysAuthoritiesMapper;
 import com.java.admin.modules.system.mapper.SysUserMapper;
 import com.java.admin.modules.system.model.SysUser;
+import com.java.admin.modules.system.model.SysUserOutbox;
+import com.java.admin.modules.system.model.SysUserRoleName;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class SysUserService {
 
+    /**
+     * Maximum number of IDs accepted by a single multi-get
+     */
+    public static final int MAX_BATCH_IDS = 100;
+
+    private static final String PASSWORD_FIELD = "password";
+    private static final String VERSION_FIELD = "version";
+    private static final String ROLES_FIELD = "roles";
+    private static final Integer DISABLED_STATUS = 1;
+
+    /**
+     * The one way sys_user versions move: every UPDATE bumps it in SQL, single-row or bulk,
+     * with or without an expected version (no entity-based optimistic lock interceptor)
+     */
+    private static final String BUMP_VERSION = "version = version + 1";
+
+    private static final int EXISTS_CHUNK_SIZE = 1000;
+
     private final SysUserMapper sysUserMapper;
+    private final SessionMapper sessionMapper;
     private final PasswordEncoder passwordEncoder;
+    private final SysUserCache sysUserCache;
+    private final ShardRouter shardRouter;
+    private final SysUserShardWriter sysUserShardWriter;
+    private final SysAuthoritiesMapper sysAuthoritiesMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final SysUserChangeFeed sysUserChangeFeed;
 
     /**
      * Escape special characters in username for safe LIKE query
@@ -37,57 +88,183 @@ public class SysUserService {
                 .replace("_", "\\_");
     }
 
+    /**
+     * Query user by username (read through {@link SysUserCache})
+     *
+     * @param userName Username
+     * @return User entity, or null if not found
+     */
     public SysUser getUserByUsername(String userName) {
         log.debug("Query user by username started - Username: {}", userName);
-        LambdaQueryWrapper<SysUser> queryWrapper = Wrappers.lambdaQuery();
-        queryWrapper.eq(SysUser::getUserName, userName);
-        SysUser user = sysUserMapper.selectOne(queryWrapper);
+        SysUser user = sysUserCache.getByUsername(userName, this::selectUserByUsername, this::selectUserById);
         log.debug("User query completed - Username: {}, Found: {}", userName, user != null);
         return user;
     }
 
+    private SysUser selectUserByUsername(String userName) {
+        if (shardRouter.isSharded()) {
+            return sysUserShardWriter.selectByUsername(userName);
+        }
+        LambdaQueryWrapper<SysUser> queryWrapper = Wrappers.lambdaQuery();
+        queryWrapper.eq(SysUser::getUserName, userName);
+        return sysUserMapper.selectOne(queryWrapper);
+    }
+
+    private SysUser selectUserById(String userId) {
+        return shardRouter.onShardOf(userId, () -> sysUserMapper.selectById(userId));
+    }
+
+    private Map<String, SysUser> selectUsersByIds(Collection<String> userIds) {
+        Map<String, SysUser> users = new HashMap<>();
+        shardRouter.groupByShard(userIds).forEach((shard, shardIds) ->
+                shardRouter.onShard(shard, () -> sysUserMapper.selectByIds(shardIds))
+                        .forEach(user -> users.put(user.getUserId(), user)));
+        return users;
+    }
+
     /**
-     * Paginated user list query
+     * Paginated user list query, restricted to the caller's data scope
      *
      * @param page     Page number (starts from 0)
      * @param size     Page size
-     * @param username Username fuzzy search (optional)
+     * @param username     Username fuzzy search (optional)
+     * @param includeRoles Whether to fill {@link SysUser#getRoles()} for the page
+     * @param fields       Fields to select (from {@link #resolveFields}), or null for all columns
      * @return Paginated results
      */
-    public Page<SysUser> pageUsers(int page, int size, String username) {
-        log.debug("Page users started - Page: {}, Size: {}, Username: {}", page, size, username);
+    @ReplicaRead
+    @DataScoped
+    public Page<SysUser> pageUsers(int page, int size, String username, boolean includeRoles, Set<String> fields) {
+        log.debug("Page users started - Page: {}, Size: {}, Username: {}, Include roles: {}",
+                page, size, username, includeRoles);
+
+        Page<SysUser> userPage;
+        if (shardRouter.isSharded()) {
+            userPage = pageUsersAcrossShards(page, size, username, fields);
+        } else {
+            // Create pagination object
+            Page<SysUser> pageParam = new Page<>(page, size);
 
-        // Create pagination object
-        Page<SysUser> pageParam = new Page<>(page, size);
+            // Execute paginated query
+            userPage = sysUserMapper.selectPage(pageParam, buildPageQuery(username, fields));
+        }
+
+        if (includeRoles) {
+            fillRoles(userPage.getRecords());
+        }
 
-        // Build query conditions
+        log.debug("Page users completed - Total: {}, Records: {}", userPage.getTotal(), userPage.getRecords().size());
+        return userPage;
+    }
+
+    /**
+     * Current user page generation, used to tag page responses
+     * Read it before running the page query: a write committed in between then changes the
+     * generation, so the tag can only be older than the data, never newer.
+     *
+     * @return Generation token, or null when pages cannot be validated from the cache
+     */
+    public String currentPageGeneration() {
+        return sysUserCache.pageGeneration();
+    }
+
+    /**
+     * Mark user pages stale after a change that alters page contents without touching sys_user
+     * (writes to sys_user already do this when they evict cached users)
+     */
+    public void invalidatePages() {
+        sysUserCache.invalidatePages();
+    }
+
+    /**
+     * Scatter-gather page: every shard returns its first {@code page * size} rows ordered by user ID
+     * in parallel, the sorted lists are k-way merged and the requested window is cut out.
+     * Cost grows with the page number, so deep pages should be avoided when sharded.
+     */
+    private Page<SysUser> pageUsersAcrossShards(int page, int size, String username, Set<String> fields) {
+        long current = Math.max(page, 1);
+        long window = current * size;
+
+        List<Page<SysUser>> shardPages = shardRouter.onAllShards(shard -> {
+            LambdaQueryWrapper<SysUser> queryWrapper = buildPageQuery(username, fields);
+            queryWrapper.orderByAsc(SysUser::getUserId);
+            return sysUserMapper.selectPage(new Page<>(1, window), queryWrapper);
+        });
+
+        // Heap entries: {shard index, position within that shard's records}
+        Comparator<int[]> byUserId = Comparator.comparing(
+                (int[] cursor) -> shardPages.get(cursor[0]).getRecords().get(cursor[1]).getUserId());
+        PriorityQueue<int[]> heap = new PriorityQueue<>(byUserId);
+        long total = 0;
+        for (int shard = 0; shard < shardPages.size(); shard++) {
+            total += shardPages.get(shard).getTotal();
+            if (!shardPages.get(shard).getRecords().isEmpty()) {
+                heap.add(new int[]{shard, 0});
+            }
+        }
+
+        long skip = (current - 1) * size;
+        List<SysUser> records = new ArrayList<>(size);
+        while (!heap.isEmpty() && records.size() < size) {
+            int[] cursor = heap.poll();
+            List<SysUser> shardRecords = shardPages.get(cursor[0]).getRecords();
+            if (skip > 0) {
+                skip--;
+            } else {
+                records.add(shardRecords.get(cursor[1]));
+            }
+            if (cursor[1] + 1 < shardRecords.size()) {
+                heap.add(new int[]{cursor[0], cursor[1] + 1});
+            }
+        }
+
+        Page<SysUser> userPage = new Page<>(current, size, total);
+        userPage.setRecords(records);
+        log.debug("Page users across shards completed - Shards: {}, Total: {}, Records: {}",
+                shardPages.size(), total, records.size());
+        return userPage;
+    }
+
+    /**
+     * Attach role names to the given users with one grouped query instead of one per user
+     */
+    private void fillRoles(List<SysUser> users) {
+        if (users.isEmpty()) {
+            return;
+        }
+        Set<String> userIds = users.stream().map(SysUser::getUserId).collect(Collectors.toSet());
+        Map<String, List<String>> rolesByUser = shardRouter.onGlobal(
+                        () -> sysAuthoritiesMapper.selectRoleNamesByUserIds(userIds)).stream()
+                .collect(Collectors.groupingBy(SysUserRoleName::getUserId,
+                        Collectors.mapping(SysUserRoleName::getRoleName, Collectors.toList())));
+        users.forEach(user -> user.setRoles(rolesByUser.getOrDefault(user.getUserId(), List.of())));
+    }
+
+    private LambdaQueryWrapper<SysUser> buildPageQuery(String username, Set<String> fields) {
         LambdaQueryWrapper<SysUser> queryWrapper = Wrappers.lambdaQuery();
+        selectFields(queryWrapper, fields);
         if (StringUtils.hasText(username)) {
             // Escape special characters to prevent SQL injection in LIKE queries
             String escapedUsername = escapeUsernameForLike(username);
             queryWrapper.like(SysUser::getUserName, escapedUsername);
         }
         // @TableLogic annotation automatically filters deleted=1 records
-
-        // Execute paginated query
-        Page<SysUser> userPage = sysUserMapper.selectPage(pageParam, queryWrapper);
-
-        log.debug("Page users completed - Total: {}, Records: {}", userPage.getTotal(), userPage.getRecords().size());
-        return userPage;
+        return queryWrapper;
     }
 
     /**
-     * Query user by ID
+     * Query user by ID (read through {@link SysUserCache})
      *
      * @param userId User ID
      * @return User entity
      * @throws AppException if user not found
      */
+    @ReplicaRead
     public SysUser getUserById(String userId) {
         log.debug("Get user by ID started - User ID: {}", userId);
 
         // Query user (automatically filters deleted=1 due to @TableLogic)
-        SysUser user = sysUserMapper.selectById(userId);
+        SysUser user = sysUserCache.getById(userId, this::selectUserById);
 
         if (user == null) {
             log.warn("User not found - User ID: {}", userId);
@@ -99,7 +276,129 @@ public class SysUserService {
     }
 
     /**
-     * Create a new user
+     * Query user by ID, selecting only the given fields
+     *
+     * <p>With the user cache enabled the full cached row is returned, since a cache hit costs
+     * no SQL at all and a projected row must never be cached. Otherwise the row is read with a
+     * SELECT of the requested columns, the key and the version.
+     *
+     * @param userId User ID
+     * @param fields Fields to select (from {@link #resolveFields}), or null for all columns
+     * @return User entity; fields not requested may be null
+     * @throws AppException if user not found
+     */
+    @ReplicaRead
+    public SysUser getUserById(String userId, Set<String> fields) {
+        if (fields == null || sysUserCache.isEnabled()) {
+            return getUserById(userId);
+        }
+        log.debug("Get user by ID started - User ID: {}, Fields: {}", userId, fields);
+
+        Set<String> selected = new HashSet<>(fields);
+        selected.add(VERSION_FIELD);
+        LambdaQueryWrapper<SysUser> queryWrapper = Wrappers.lambdaQuery();
+        selectFields(queryWrapper, selected);
+        queryWrapper.eq(SysUser::getUserId, userId);
+        SysUser user = shardRouter.onShardOf(userId, () -> sysUserMapper.selectOne(queryWrapper));
+
+        if (user == null) {
+            log.warn("User not found - User ID: {}", userId);
+            throw new AppException(ErrorCode.DATA_NOT_FOUND, "User not found");
+        }
+
+        log.debug("Get user by ID completed - User ID: {}", userId);
+        return user;
+    }
+
+    /**
+     * Resolve a {@code fields=} parameter into SysUser property names
+     * Selectable: every mapped column except the password hash, plus {@code roles}
+     *
+     * @param fields Comma separated property names (optional)
+     * @return Requested property names, or null when all fields are wanted
+     * @throws AppException if a name is not selectable
+     */
+    public Set<String> resolveFields(String fields) {
+        if (!StringUtils.hasText(fields)) {
+            return null;
+        }
+        TableInfo tableInfo = TableInfoHelper.getTableInfo(SysUser.class);
+        Set<String> selectable = new HashSet<>();
+        selectable.add(tableInfo.getKeyProperty());
+        tableInfo.getFieldList().forEach(field -> selectable.add(field.getProperty()));
+        selectable.remove(PASSWORD_FIELD);
+        selectable.add(ROLES_FIELD);
+
+        Set<String> resolved = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!selectable.contains(name)) {
+                log.warn("Unknown user field requested - Field: {}", name);
+                throw new AppException(ErrorCode.PARAM_VALIDATION_ERROR, "Unknown field: " + name);
+            }
+            resolved.add(name);
+        }
+        return resolved.isEmpty() ? null : resolved;
+    }
+
+    /**
+     * Restrict the SELECT list to the given fields; the key column is always selected
+     */
+    private static void selectFields(LambdaQueryWrapper<SysUser> queryWrapper, Set<String> fields) {
+        if (fields != null) {
+            queryWrapper.select(SysUser.class, field -> fields.contains(field.getProperty()));
+        }
+    }
+
+    /**
+     * Get users by ID in one round trip (read through {@link SysUserCache})
+     *
+     * <p>Cache hits are served from the cache; the remaining IDs are resolved with a
+     * single IN query per shard. Unknown IDs are simply absent from the result.
+     *
+     * @param userIds User IDs (duplicates are ignored)
+     * @return Found users by ID, in request order
+     * @throws AppException if more than {@link #MAX_BATCH_IDS} distinct IDs are requested
+     */
+    @ReplicaRead
+    public Map<String, SysUser> getUsersByIds(Collection<String> userIds) {
+        Set<String> distinctIds = new LinkedHashSet<>(userIds);
+        if (distinctIds.size() > MAX_BATCH_IDS) {
+            throw new AppException(ErrorCode.PARAM_VALIDATION_ERROR,
+                    "At most " + MAX_BATCH_IDS + " user IDs per request");
+        }
+        log.debug("Get users by IDs started - Count: {}", distinctIds.size());
+
+        Map<String, SysUser> users = sysUserCache.getAllById(distinctIds, this::selectUsersByIds);
+
+        log.debug("Get users by IDs completed - Requested: {}, Found: {}", distinctIds.size(), users.size());
+        return users;
+    }
+
+    /**
+     * Resolve which of the given user IDs exist, with one IN query per shard and chunk
+     *
+     * @param userIds User IDs
+     * @return Existing (not deleted) user IDs
+     */
+    public Set<String> findExistingUserIds(Collection<String> userIds) {
+        Set<String> existing = new HashSet<>();
+        shardRouter.groupByShard(new LinkedHashSet<>(userIds)).forEach((shard, shardIds) -> {
+            for (List<String> chunk : CollectionUtils.split(shardIds, EXISTS_CHUNK_SIZE)) {
+                LambdaQueryWrapper<SysUser> queryWrapper = Wrappers.lambdaQuery();
+                queryWrapper.select(SysUser::getUserId).in(SysUser::getUserId, chunk);
+                shardRouter.onShard(shard, () -> sysUserMapper.<String>selectObjs(queryWrapper))
+                        .forEach(existing::add);
+            }
+        });
+        return existing;
+    }
+
+    /**
+     * Create a new user; the CREATED change event commits with the row
      *
      * @param dto Create user request DTO
      * @throws AppException if username already exists
@@ -113,14 +412,24 @@ public class SysUserService {
         user.setPassword(passwordEncoder.encode(dto.getPassword()));
         user.setEmail(dto.getEmail());
 
-        // Insert user - database constraint uk_username_active ensures uniqueness
+        // Insert user - database constraint uk_username_active (or the sharding directory) ensures uniqueness
         try {
-            sysUserMapper.insert(user);
+            if (shardRouter.isSharded()) {
+                sysUserShardWriter.insert(user);
+            } else {
+                transactionTemplate.executeWithoutResult(status -> {
+                    sysUserMapper.insert(user);
+                    sysUserChangeFeed.record(SysUserOutbox.Type.CREATED, List.of(user.getUserId()));
+                });
+            }
         } catch (DuplicateKeyException e) {
             log.warn("Username already exists - Username: {}", dto.getUsername());
             throw new AppException(ErrorCode.USERNAME_ALREADY_EXISTS);
         }
 
+        // Drop a cached "no such user" entry for this username
+        sysUserCache.evictUsernames(List.of(user.getUserName()));
+
         log.debug("Create user completed - User ID: {}, Username: {}",
                 user.getUserId(), user.getUserName());
     }
@@ -128,39 +437,58 @@ public class SysUserService {
     /**
      * Update user information
      *
+     * <p>Issues a single conditional UPDATE that writes only the changed columns, bumps the version
+     * and, when the client sent one, checks the expected version. The affected-row count decides
+     * the outcome, so no read precedes the write.
+     *
      * @param userId User ID
      * @param dto    Update user request DTO
-     * @throws AppException if user not found
+     * @throws AppException if user not found, or the expected version is stale
      */
     public void updateUser(String userId, UpdateUserRequestDTO dto) {
-        log.debug("Update user started - User ID: {}", userId);
-
-        // Check if user exists
-        SysUser existingUser = sysUserMapper.selectById(userId);
-        if (existingUser == null) {
-            log.warn("User not found for update - User ID: {}", userId);
-            throw new AppException(ErrorCode.DATA_NOT_FOUND, "User not found");
-        }
+        log.debug("Update user started - User ID: {}, Version: {}", userId, dto.getVersion());
 
-        // Update email (password field is ignored as per requirement)
+        // Only changed columns are set (password field is ignored as per requirement);
+        // audit fields will be auto-filled by MybatisPlusMetaObjectHandler
+        SysUser changes = new SysUser();
         if (StringUtils.hasText(dto.getEmail())) {
-            existingUser.setEmail(dto.getEmail());
+            changes.setEmail(dto.getEmail());
         }
 
-        // Update user (audit fields will be auto-filled by MybatisPlusMetaObjectHandler)
-        int updateResult = sysUserMapper.updateById(existingUser);
+        // @TableLogic appends deleted=0, so deleted users count as missing
+        LambdaUpdateWrapper<SysUser> updateWrapper = Wrappers.lambdaUpdate();
+        updateWrapper.eq(SysUser::getUserId, userId)
+                .eq(dto.getVersion() != null, SysUser::getVersion, dto.getVersion())
+                .setSql(BUMP_VERSION);
+        int updateResult = shardRouter.onShardOf(userId, () -> transactionTemplate.execute(status -> {
+            int updated = sysUserMapper.update(changes, updateWrapper);
+            if (updated > 0) {
+                sysUserChangeFeed.record(SysUserOutbox.Type.UPDATED, List.of(userId));
+            }
+            return updated;
+        }));
 
         if (updateResult <= 0) {
-            log.error("Failed to update user - User ID: {}", userId);
-            throw new AppException(ErrorCode.SYSTEM_ERROR, "Failed to update user");
+            // Failure path only: tell a stale version apart from a missing user
+            if (dto.getVersion() != null && userExists(userId)) {
+                log.warn("User version conflict - User ID: {}, Expected Version: {}", userId, dto.getVersion());
+                throw new AppException(ErrorCode.DATA_CONFLICT);
+            }
+            log.warn("User not found for update - User ID: {}", userId);
+            throw new AppException(ErrorCode.DATA_NOT_FOUND, "User not found");
         }
 
-        log.debug("Update user completed - User ID: {}, Username: {}", userId, existingUser.getUserName());
+        sysUserCache.evictUsers(List.of(userId));
+
+        log.debug("Update user completed - User ID: {}", userId);
     }
 
     /**
      * Delete user (soft delete)
      *
+     * <p>Single statement: {@code UPDATE sys_user SET deleted=1 ... WHERE user_id=? AND deleted=0};
+     * zero affected rows means the user does not exist or is already deleted.
+     *
      * @param userId        User ID to delete
      * @param currentUserId Current user ID
      * @throws AppException if user not found or trying to delete self
@@ -174,21 +502,146 @@ public class SysUserService {
             throw new AppException(ErrorCode.CANNOT_DELETE_YOURSELF);
         }
 
-        // Check if user exists
-        SysUser existingUser = sysUserMapper.selectById(userId);
-        if (existingUser == null) {
+        // Soft delete using MyBatis Plus deleteById (sets deleted=1 and audit fields automatically)
+        int deleteResult = shardRouter.onShardOf(userId, () -> transactionTemplate.execute(status -> {
+            int deleted = sysUserMapper.deleteById(userId);
+            if (deleted > 0) {
+                sysUserChangeFeed.record(SysUserOutbox.Type.DELETED, List.of(userId));
+            }
+            return deleted;
+        }));
+
+        if (deleteResult <= 0) {
             log.warn("User not found for deletion - User ID: {}", userId);
             throw new AppException(ErrorCode.DATA_NOT_FOUND, "User not found");
         }
 
-        // Soft delete using MyBatis Plus removeById (sets deleted=1 automatically)
-        int deleteResult = sysUserMapper.deleteById(userId);
+        // Revoke the session so the deleted user cannot keep using an issued token
+        sessionMapper.delete(userId);
+        sysUserCache.evictUsers(List.of(userId));
+        if (shardRouter.isSharded()) {
+            sysUserShardWriter.deleteDirectory(List.of(userId));
+        }
 
-        if (deleteResult <= 0) {
-            log.error("Failed to delete user - User ID: {}", userId);
-            throw new AppException(ErrorCode.SYSTEM_ERROR, "Failed to delete user");
+        log.debug("Delete user completed - User ID: {}", userId);
+    }
+
+    /**
+     * Soft delete or disable multiple users
+     *
+     * <p>Per shard, one transaction locks the existing users with {@code SELECT ... FOR UPDATE},
+     * applies the change with one {@code UPDATE ... WHERE user_id IN (...)} and records change
+     * events for exactly those rows; all their sessions are then revoked with one Redis UNLINK.
+     * The current user, unknown IDs and users already disabled are reported as failures.
+     *
+     * @param dto           Bulk request DTO
+     * @param currentUserId Current user ID
+     * @return Per-ID results
+     */
+    public BulkUserResultDTO bulkUpdateUsers(BulkUserRequestDTO dto, String currentUserId) {
+        log.debug("Bulk user operation started - Action: {}, Count: {}, Current User ID: {}",
+                dto.getAction(), dto.getUserIds().size(), currentUserId);
+
+        Set<String> requestedIds = new LinkedHashSet<>(dto.getUserIds());
+        List<String> candidateIds = requestedIds.stream()
+                .filter(id -> !id.equals(currentUserId))
+                .toList();
+
+        // One SELECT and one UPDATE per shard (a single group when not sharded)
+        Set<String> existingIds = new HashSet<>();
+        Set<String> changedIds = new HashSet<>();
+        for (Map.Entry<Integer, List<String>> group : shardRouter.groupByShard(candidateIds).entrySet()) {
+            BulkShardResult shardResult = shardRouter.onShard(group.getKey(),
+                    () -> transactionTemplate.execute(status -> bulkUpdateShard(dto.getAction(), group.getValue())));
+            existingIds.addAll(shardResult.existingIds());
+            changedIds.addAll(shardResult.changedIds());
+        }
+
+        if (!changedIds.isEmpty()) {
+            sessionMapper.deleteAll(changedIds);
+            sysUserCache.evictUsers(changedIds);
+            if (shardRouter.isSharded() && dto.getAction() == BulkUserRequestDTO.Action.DELETE) {
+                sysUserShardWriter.deleteDirectory(changedIds);
+            }
         }
 
-        log.debug("Delete user completed - User ID: {}, Username: {}", userId, existingUser.getUserName());
+        BulkUserResultDTO result = new BulkUserResultDTO();
+        for (String userId : requestedIds) {
+            BulkUserResultDTO.Item item = new BulkUserResultDTO.Item();
+            item.setUserId(userId);
+            if (userId.equals(currentUserId)) {
+                item.setCode(ErrorCode.CANNOT_DELETE_YOURSELF.getCode());
+                item.setMessage(ErrorCode.CANNOT_DELETE_YOURSELF.getMessage());
+            } else if (!existingIds.contains(userId)) {
+                item.setCode(ErrorCode.DATA_NOT_FOUND.getCode());
+                item.setMessage("User not found");
+            } else if (!changedIds.contains(userId)) {
+                item.setCode(ErrorCode.DATA_CONFLICT.getCode());
+                item.setMessage("User already disabled");
+            } else {
+                item.setSuccess(true);
+            }
+            result.getResults().add(item);
+        }
+        result.setSucceeded(changedIds.size());
+        result.setFailed(requestedIds.size() - changedIds.size());
+
+        log.info("Operation [BULK_{}_USERS] - Requested: {}, Succeeded: {}, Failed: {}",
+                dto.getAction(), requestedIds.size(), result.getSucceeded(), result.getFailed());
+        return result;
+    }
+
+    /**
+     * Apply a bulk action to the users of one shard; must run in a transaction
+     * The row locks taken by the SELECT keep the UPDATE to exactly the rows read, so the
+     * returned IDs are the rows changed.
+     */
+    private BulkShardResult bulkUpdateShard(BulkUserRequestDTO.Action action, List<String> candidateIds) {
+        boolean delete = action == BulkUserRequestDTO.Action.DELETE;
+        LambdaQueryWrapper<SysUser> queryWrapper = Wrappers.lambdaQuery();
+        queryWrapper.select(SysUser::getUserId, SysUser::getStatus)
+                .in(SysUser::getUserId, candidateIds)
+                .last("FOR UPDATE");
+        List<SysUser> lockedUsers = sysUserMapper.selectList(queryWrapper);
+        Set<String> existingIds = lockedUsers.stream().map(SysUser::getUserId).collect(Collectors.toSet());
+        Set<String> changedIds = lockedUsers.stream()
+                .filter(user -> delete || !DISABLED_STATUS.equals(user.getStatus()))
+                .map(SysUser::getUserId)
+                .collect(Collectors.toSet());
+        if (changedIds.isEmpty()) {
+            return new BulkShardResult(existingIds, changedIds);
+        }
+
+        // @TableLogic appends deleted=0; audit fields will be auto-filled by MybatisPlusMetaObjectHandler
+        LambdaUpdateWrapper<SysUser> updateWrapper = Wrappers.lambdaUpdate();
+        updateWrapper.in(SysUser::getUserId, changedIds);
+        if (delete) {
+            updateWrapper.set(SysUser::getDeleted, 1);
+        } else {
+            updateWrapper.ne(SysUser::getStatus, DISABLED_STATUS).set(SysUser::getStatus, DISABLED_STATUS);
+        }
+        // Keep the version (and so the ETag) moving like single-row updates do
+        updateWrapper.setSql(BUMP_VERSION);
+        int updateResult = sysUserMapper.update(new SysUser(), updateWrapper);
+        if (updateResult != changedIds.size()) {
+            // Cannot happen while the rows are locked; roll back rather than record unchanged rows
+            log.error("Bulk user operation affected unexpected rows - Expected: {}, Actual: {}",
+                    changedIds.size(), updateResult);
+            throw new AppException(ErrorCode.DATA_CONFLICT);
+        }
+        sysUserChangeFeed.record(delete ? SysUserOutbox.Type.DELETED : SysUserOutbox.Type.DISABLED, changedIds);
+        return new BulkShardResult(existingIds, changedIds);
+    }
+
+    /**
+     * Users of one shard found by a bulk action, and those it changed
+     */
+    private record BulkShardResult(Set<String> existingIds, Set<String> changedIds) {
+    }
+
+    private boolean userExists(String userId) {
+        LambdaQueryWrapper<SysUser> queryWrapper = Wrappers.lambdaQuery();
+        queryWrapper.eq(SysUser::getUserId, userId);
+        return shardRouter.onShardOf(userId, () -> sysUserMapper.exists(queryWrapper));
     }
 }
@@ -0,0 +1,156 @@
+package com.java.admin.modules.system.service;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.toolkit.IdWorker;
+import com.baomidou.mybatisplus.core.toolkit.Wrappers;
+import com.java.admin.infrastructure.datasource.ShardRouter;
+import com.java.admin.modules.system.mapper.SysUserDirectoryMapper;
+import com.java.admin.modules.system.mapper.SysUserMapper;
+import com.java.admin.modules.system.model.SysUser;
+import com.java.admin.modules.system.model.SysUserDirectory;
+import com.java.admin.modules.system.model.SysUserOutbox;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * User writes and username lookups when sys_user is sharded
+ *
+ * <p>The directory row (global database) is written before the user row (shard). The directory
+ * primary key rejects duplicate usernames across shards with a {@code DuplicateKeyException};
+ * if the shard write then fails, the directory rows are removed again. There is no distributed
+ * transaction, so a crash between the two writes can leave an orphan directory row, which only
+ * blocks that username.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SysUserShardWriter {
+
+    private final SysUserMapper sysUserMapper;
+    private final SysUserDirectoryMapper sysUserDirectoryMapper;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate transactionTemplate;
+    private final SysUserChangeFeed sysUserChangeFeed;
+
+    /**
+     * Find user by username: one directory lookup, then one query on the user's shard
+     *
+     * @param userName Username
+     * @return User entity, or null if not found
+     */
+    public SysUser selectByUsername(String userName) {
+        SysUserDirectory entry = shardRouter.onGlobal(() -> sysUserDirectoryMapper.selectById(userName));
+        if (entry == null) {
+            return null;
+        }
+        return shardRouter.onShardOf(entry.getUserId(), () -> sysUserMapper.selectById(entry.getUserId()));
+    }
+
+    /**
+     * Find which of the given usernames are taken
+     *
+     * @param userNames Usernames
+     * @return Taken usernames, lower-cased
+     */
+    public Set<String> selectExistingUsernames(Collection<String> userNames) {
+        LambdaQueryWrapper<SysUserDirectory> queryWrapper = Wrappers.lambdaQuery();
+        queryWrapper.select(SysUserDirectory::getUserName).in(SysUserDirectory::getUserName, userNames);
+        return shardRouter.onGlobal(() -> sysUserDirectoryMapper.selectList(queryWrapper)).stream()
+                .map(entry -> entry.getUserName().toLowerCase(Locale.ROOT))
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Insert one user
+     *
+     * @param user User without ID (assigned here)
+     */
+    public void insert(SysUser user) {
+        assignId(user);
+        shardRouter.onGlobal(() -> sysUserDirectoryMapper.insert(SysUserDirectory.of(user)));
+        try {
+            shardRouter.onShardOf(user.getUserId(), () -> transactionTemplate.execute(status -> {
+                int inserted = sysUserMapper.insert(user);
+                sysUserChangeFeed.record(SysUserOutbox.Type.CREATED, List.of(user.getUserId()));
+                return inserted;
+            }));
+        } catch (RuntimeException e) {
+            deleteDirectoryByUsernames(List.of(user.getUserName()));
+            throw e;
+        }
+    }
+
+    /**
+     * Assign IDs and group users by shard
+     *
+     * @param users Users
+     * @return Shard index to users
+     */
+    public Map<Integer, List<SysUser>> groupByShard(List<SysUser> users) {
+        Map<Integer, List<SysUser>> groups = new LinkedHashMap<>();
+        for (SysUser user : users) {
+            assignId(user);
+            groups.computeIfAbsent(shardRouter.shardOf(user.getUserId()), shard -> new ArrayList<>()).add(user);
+        }
+        return groups;
+    }
+
+    /**
+     * Insert users of one shard: directory rows in one global batch, then user rows in one shard batch
+     *
+     * @param shard     Shard index (see {@link #groupByShard})
+     * @param users     Users of that shard, with IDs
+     * @param batchSize JDBC batch size
+     */
+    public void insertBatch(int shard, List<SysUser> users, int batchSize) {
+        List<SysUserDirectory> entries = users.stream().map(SysUserDirectory::of).toList();
+        shardRouter.onGlobal(() -> transactionTemplate.execute(status -> sysUserDirectoryMapper.insert(entries, batchSize)));
+        try {
+            shardRouter.onShard(shard, () -> transactionTemplate.execute(status -> {
+                sysUserMapper.insert(users, batchSize);
+                sysUserChangeFeed.record(SysUserOutbox.Type.CREATED, users.stream().map(SysUser::getUserId).toList());
+                return null;
+            }));
+        } catch (RuntimeException e) {
+            deleteDirectoryByUsernames(users.stream().map(SysUser::getUserName).toList());
+            throw e;
+        }
+    }
+
+    /**
+     * Remove directory rows of deleted users so their usernames can be reused
+     *
+     * @param userIds User IDs
+     */
+    public void deleteDirectory(Collection<String> userIds) {
+        LambdaQueryWrapper<SysUserDirectory> queryWrapper = Wrappers.lambdaQuery();
+        queryWrapper.in(SysUserDirectory::getUserId, userIds);
+        shardRouter.onGlobal(() -> sysUserDirectoryMapper.delete(queryWrapper));
+    }
+
+    private void deleteDirectoryByUsernames(List<String> userNames) {
+        try {
+            shardRouter.onGlobal(() -> sysUserDirectoryMapper.deleteByIds(userNames));
+        } catch (RuntimeException e) {
+            log.error("Failed to remove directory rows after shard write failure - Usernames: {}, Error: {}",
+                    userNames, e.getMessage());
+        }
+    }
+
+    private static void assignId(SysUser user) {
+        if (user.getUserId() == null) {
+            user.setUserId(IdWorker.getIdStr());
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.java.admin.modules.system.service;
+
+import com.java.admin.modules.system.model.SysUser;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Request-scoped user batch loader (DataLoader style)
+ *
+ * <p>Server-side code registers the user IDs it needs with {@link #load(String)} and
+ * receives a future; {@link #dispatch()} then resolves every pending ID with one
+ * {@link SysUserService#getUsersByIds(Collection)} call per {@link SysUserService#MAX_BATCH_IDS}
+ * IDs. Results are memoized for the rest of the request, so the same ID is never looked up twice.
+ *
+ * <p>Not thread-safe: use it from the request thread only.
+ */
+@Component
+@RequestScope
+@RequiredArgsConstructor
+@Slf4j
+public class UserBatchLoader {
+
+    private final SysUserService sysUserService;
+
+    private final Map<String, CompletableFuture<SysUser>> futures = new HashMap<>();
+    private final List<String> pending = new ArrayList<>();
+
+    /**
+     * Register a user ID for the next dispatch
+     *
+     * @param userId User ID
+     * @return Future completed with the user (null if not found) once dispatched
+     */
+    public CompletableFuture<SysUser> load(String userId) {
+        return futures.computeIfAbsent(userId, id -> {
+            pending.add(id);
+            return new CompletableFuture<>();
+        });
+    }
+
+    /**
+     * Register many user IDs for the next dispatch
+     *
+     * @param userIds User IDs
+     * @return Future completed with the found users by ID once dispatched
+     */
+    public CompletableFuture<Map<String, SysUser>> loadMany(Collection<String> userIds) {
+        Map<String, CompletableFuture<SysUser>> requested = new LinkedHashMap<>();
+        userIds.forEach(userId -> requested.put(userId, load(userId)));
+        return CompletableFuture.allOf(requested.values().toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> {
+                    Map<String, SysUser> users = new LinkedHashMap<>();
+                    requested.forEach((userId, future) -> {
+                        SysUser user = future.join();
+                        if (user != null) {
+                            users.put(userId, user);
+                        }
+                    });
+                    return users;
+                });
+    }
+
+    /**
+     * Resolve all pending user IDs with batched lookups
+     */
+    public void dispatch() {
+        while (!pending.isEmpty()) {
+            List<String> batch = new ArrayList<>(pending.subList(0, Math.min(pending.size(), SysUserService.MAX_BATCH_IDS)));
+            pending.subList(0, batch.size()).clear();
+            log.debug("User batch loader dispatch - Count: {}", batch.size());
+            try {
+                Map<String, SysUser> users = sysUserService.getUsersByIds(batch);
+                batch.forEach(userId -> futures.get(userId).complete(users.get(userId)));
+            } catch (RuntimeException e) {
+                batch.forEach(userId -> futures.remove(userId).completeExceptionally(e));
+            }
+        }
+    }
+
+    /**
+     * Load a single user, dispatching everything pending alongside it
+     *
+     * @param userId User ID
+     * @return User, or null if not found
+     */
+    public SysUser get(String userId) {
+        CompletableFuture<SysUser> future = load(userId);
+        dispatch();
+        return future.join();
+    }
+}
@@ -0,0 +1,152 @@
+package com.java.admin.config;
+
+import com.java.admin.infrastructure.filter.IdempotencyFilter;
+import com.java.admin.infrastructure.filter.JwtAuthenticationFilter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.junit.jupiter.web.SpringJUnitWebConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * SecurityConfig Tests
+ *
+ * <p>Test Coverage:
+ * <ul>
+ *   <li>Diagnostic actuator endpoints restricted to ADMIN</li>
+ *   <li>Skip paths open, other paths require authentication</li>
+ * </ul>
+ *
+ * <p>The application filters pass requests through; principals come from spring-security-test.
+ */
+@SpringJUnitWebConfig(SecurityConfigTest.TestConfig.class)
+@DisplayName("SecurityConfig Tests")
+class SecurityConfigTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+    }
+
+    @Test
+    @DisplayName("Should allow only ADMIN to change debug logging rules")
+    void shouldRestrictDebugLogEndpointToAdmin() throws Exception {
+        mockMvc.perform(post("/actuator/debuglog").param("sampleRate", "1.0").param("duration", "4h")
+                .with(user("user").roles("USER"))).andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/debuglog").with(user("user").roles("USER")))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/actuator/debuglog").param("sampleRate", "1.0"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/actuator/debuglog").param("sampleRate", "1.0")
+                .with(user("admin").roles("ADMIN"))).andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Should allow only ADMIN on the other diagnostic endpoints")
+    void shouldRestrictDiagnosticEndpointsToAdmin() throws Exception {
+        for (String path : List.of("/actuator/jfr", "/actuator/jfr/profile", "/actuator/slowrequests")) {
+            mockMvc.perform(get(path).with(user("user").roles("USER"))).andExpect(status().isForbidden());
+            mockMvc.perform(get(path).with(user("admin").roles("ADMIN"))).andExpect(status().isOk());
+        }
+    }
+
+    @Test
+    @DisplayName("Should open skip paths and require authentication elsewhere")
+    void shouldOpenSkipPathsOnly() throws Exception {
+        mockMvc.perform(post("/api/login")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/users")).andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/users").with(user("user").roles("USER"))).andExpect(status().isOk());
+    }
+
+    @Configuration
+    @EnableWebMvc
+    @EnableWebSecurity
+    @Import(SecurityConfig.class)
+    static class TestConfig {
+
+        @Bean
+        AuthProperties authProperties() {
+            AuthProperties properties = new AuthProperties();
+            properties.setSkipPaths(List.of("/api/login"));
+            return properties;
+        }
+
+        @Bean
+        UserDetailsService userDetailsService() {
+            return mock(UserDetailsService.class);
+        }
+
+        @Bean
+        PasswordEncoder passwordEncoder() {
+            return mock(PasswordEncoder.class);
+        }
+
+        @Bean
+        JwtAuthenticationFilter jwtAuthenticationFilter() throws Exception {
+            return passThrough(mock(JwtAuthenticationFilter.class));
+        }
+
+        @Bean
+        IdempotencyFilter idempotencyFilter() throws Exception {
+            return passThrough(mock(IdempotencyFilter.class));
+        }
+
+        @Bean
+        EchoController echoController() {
+            return new EchoController();
+        }
+
+        private static <T extends jakarta.servlet.Filter> T passThrough(T filter) throws Exception {
+            doAnswer(invocation -> {
+                invocation.<FilterChain>getArgument(2).doFilter(invocation.<ServletRequest>getArgument(0),
+                        invocation.<ServletResponse>getArgument(1));
+                return null;
+            }).when(filter).doFilter(any(), any(), any());
+            return filter;
+        }
+    }
+
+    /**
+     * Stands in for the actuator endpoints and controllers behind the security chain
+     */
+    @RestController
+    static class EchoController {
+
+        @RequestMapping({"/actuator/debuglog", "/actuator/jfr", "/actuator/jfr/{name}", "/actuator/slowrequests",
+                "/api/login", "/api/users"})
+        String echo() {
+            return "ok";
+        }
+    }
+}
@@ -3,10 +3,26 @@ package com.java.admin.infrastructure.aspect;
 import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.LoggerContext;
+import com.java.admin.config.ControllerMetricsProperties;
+import com.java.admin.infrastructure.constants.ErrorCode;
+import com.java.admin.infrastructure.exception.AppException;
 import com.java.admin.infrastructure.model.Result;
+import com.java.admin.infrastructure.model.SecurityUserDetails;
+import com.java.admin.infrastructure.profile.RequestProfile;
+import com.java.admin.infrastructure.profile.SlowRequest;
+import com.java.admin.modules.system.controller.SysUserController;
+import com.java.admin.testutil.TestDataFactory;
 import com.java.admin.testutil.InMemoryAppender;
+import com.java.admin.testutil.TracingTestSupport;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
 import org.aspectj.lang.ProceedingJoinPoint;
-import org.aspectj.lang.Signature;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,10 +30,19 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.MDC;
 import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
@@ -28,8 +53,11 @@ import static org.mockito.Mockito.*;
  * <p>Test Coverage:
  * <ul>
  *   <li>Normal request/response logging</li>
- *   <li>Slow response detection (>1000ms)</li>
- *   <li>Exception handling and logging</li>
+ *   <li>Slow response detection (default and per-route thresholds)</li>
+ *   <li>Per-endpoint latency timers</li>
+ *   <li>Controller spans and user in the request profile</li>
+ *   <li>Trace spans and log correlation</li>
+ *   <li>Exception handling and logging (DEBUG only, left to GlobalExceptionHandler)</li>
  *   <li>Null RequestAttributes handling</li>
  *   <li>Log level verification</li>
  * </ul>
@@ -41,6 +69,9 @@ import static org.mockito.Mockito.*;
 class ControllerLogAspectTest {
 
     private ControllerLogAspect aspect;
+    private SimpleMeterRegistry meterRegistry;
+    private ControllerMetricsProperties properties;
+    private TracingTestSupport tracing;
     private InMemoryAppender appender;
     private Logger logger;
 
@@ -48,7 +79,10 @@ class ControllerLogAspectTest {
 
     @BeforeEach
     void setUp() {
-        aspect = new ControllerLogAspect();
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new ControllerMetricsProperties();
+        tracing = new TracingTestSupport();
+        aspect = new ControllerLogAspect(meterRegistry, properties, tracing.tracer());
 
         // Setup logger capture
         logger = (Logger) org.slf4j.LoggerFactory.getLogger(ControllerLogAspect.class);
@@ -73,6 +107,29 @@ class ControllerLogAspectTest {
         }
     }
 
+    /**
+     * Stand-in controller whose methods back the mocked join points
+     */
+    static class TestController {
+        void testMethod() {}
+        void slowMethod() {}
+        void errorMethod() {}
+        void methodWithArgs() {}
+        void timingMethod() {}
+        void noArgsMethod() {}
+        void searchMethod() {}
+    }
+
+    private static MethodSignature signature(Class<?> type, String name) {
+        Method method = Arrays.stream(type.getDeclaredMethods())
+                .filter(candidate -> candidate.getName().equals(name))
+                .findFirst()
+                .orElseThrow();
+        MethodSignature signature = mock(MethodSignature.class);
+        when(signature.getMethod()).thenReturn(method);
+        return signature;
+    }
+
     @Test
     @DisplayName("Should log request and response for normal execution")
     void shouldLogRequestAndResponseForNormalExecution() throws Throwable {
@@ -86,10 +143,8 @@ class ControllerLogAspectTest {
 
         // Mock ProceedingJoinPoint
         ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
-        Signature signature = mock(Signature.class);
-        when(joinPoint.getSignature()).thenReturn(signature);
-        when(signature.getDeclaringTypeName()).thenReturn("TestController");
-        when(signature.getName()).thenReturn("testMethod");
+        MethodSignature joinPointSignature = signature(TestController.class, "testMethod");
+        when(joinPoint.getSignature()).thenReturn(joinPointSignature);
         when(joinPoint.getArgs()).thenReturn(new Object[]{});
         when(joinPoint.proceed()).thenReturn(Result.success("OK"));
 
@@ -106,9 +161,10 @@ class ControllerLogAspectTest {
     }
 
     @Test
-    @DisplayName("Should log slow response when execution time exceeds 1000ms")
-    void shouldLogSlowResponseWhenExecutionTimeExceeds1000ms() throws Throwable {
+    @DisplayName("Should log slow response when execution time exceeds the route threshold")
+    void shouldLogSlowResponseWhenExecutionTimeExceedsRouteThreshold() throws Throwable {
         // Given
+        properties.getSlowThresholds().put("TestController.slowMethod", Duration.ofMillis(50));
         MockHttpServletRequest request = new MockHttpServletRequest();
         request.setMethod("POST");
         request.setRequestURI("/api/slow");
@@ -117,13 +173,11 @@ class ControllerLogAspectTest {
         mockedRequestContextHolder.when(RequestContextHolder::getRequestAttributes).thenReturn(attributes);
 
         ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
-        Signature signature = mock(Signature.class);
-        when(joinPoint.getSignature()).thenReturn(signature);
-        when(signature.getDeclaringTypeName()).thenReturn("SlowController");
-        when(signature.getName()).thenReturn("slowMethod");
+        MethodSignature joinPointSignature = signature(TestController.class, "slowMethod");
+        when(joinPoint.getSignature()).thenReturn(joinPointSignature);
         when(joinPoint.getArgs()).thenReturn(new Object[]{});
         when(joinPoint.proceed()).thenAnswer(invocation -> {
-            Thread.sleep(1100); // Simulate slow operation
+            Thread.sleep(100); // Simulate slow operation
             return Result.success("Done");
         });
 
@@ -133,6 +187,7 @@ class ControllerLogAspectTest {
         // Then
         assertThat(result).isNotNull();
         assertThat(appender.getOutput()).contains("Slow response");
+        assertThat(appender.getOutput()).contains("Threshold: 50ms");
         assertThat(appender.getOutput()).contains("POST");
         assertThat(appender.getOutput()).contains("/api/slow");
     }
@@ -150,10 +205,8 @@ class ControllerLogAspectTest {
 
         RuntimeException exception = new RuntimeException("Database error");
         ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
-        Signature signature = mock(Signature.class);
-        when(joinPoint.getSignature()).thenReturn(signature);
-        when(signature.getDeclaringTypeName()).thenReturn("ErrorController");
-        when(signature.getName()).thenReturn("errorMethod");
+        MethodSignature joinPointSignature = signature(TestController.class, "errorMethod");
+        when(joinPoint.getSignature()).thenReturn(joinPointSignature);
         when(joinPoint.getArgs()).thenReturn(new Object[]{"arg1", "arg2"});
         when(joinPoint.proceed()).thenThrow(exception);
 
@@ -168,6 +221,27 @@ class ControllerLogAspectTest {
         assertThat(appender.getOutput()).contains("Database error");
     }
 
+    @Test
+    @DisplayName("Should leave exception logging to the exception handler above DEBUG")
+    void shouldNotLogExceptionAboveDebug() throws Throwable {
+        // Given
+        logger.setLevel(Level.INFO);
+        ServletRequestAttributes attributes = mock(ServletRequestAttributes.class);
+        mockedRequestContextHolder.when(RequestContextHolder::getRequestAttributes).thenReturn(attributes);
+
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        MethodSignature joinPointSignature = signature(TestController.class, "errorMethod");
+        when(joinPoint.getSignature()).thenReturn(joinPointSignature);
+        when(joinPoint.proceed()).thenThrow(new AppException(ErrorCode.DATA_NOT_FOUND, "User not found"));
+
+        // When & Then
+        assertThatThrownBy(() -> aspect.logController(joinPoint)).isInstanceOf(AppException.class);
+        verify(attributes, never()).getRequest();
+        assertThat(appender.getOutput()).isEmpty();
+        assertThat(meterRegistry.get(ControllerLogAspect.TIMER_NAME).tag("outcome", "error").timer().count())
+                .isEqualTo(1);
+    }
+
     @Test
     @DisplayName("Should proceed without logging when RequestAttributes is null")
     void shouldProceedWithoutLoggingWhenRequestAttributesIsNull() throws Throwable {
@@ -199,10 +273,8 @@ class ControllerLogAspectTest {
         mockedRequestContextHolder.when(RequestContextHolder::getRequestAttributes).thenReturn(attributes);
 
         ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
-        Signature signature = mock(Signature.class);
-        when(joinPoint.getSignature()).thenReturn(signature);
-        when(signature.getDeclaringTypeName()).thenReturn("ArgsController");
-        when(signature.getName()).thenReturn("methodWithArgs");
+        MethodSignature joinPointSignature = signature(TestController.class, "methodWithArgs");
+        when(joinPoint.getSignature()).thenReturn(joinPointSignature);
         Object[] args = {"arg1", 123, true};
         when(joinPoint.getArgs()).thenReturn(args);
         when(joinPoint.proceed()).thenReturn(Result.success());
@@ -226,10 +298,8 @@ class ControllerLogAspectTest {
         mockedRequestContextHolder.when(RequestContextHolder::getRequestAttributes).thenReturn(attributes);
 
         ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
-        Signature signature = mock(Signature.class);
-        when(joinPoint.getSignature()).thenReturn(signature);
-        when(signature.getDeclaringTypeName()).thenReturn("TimingController");
-        when(signature.getName()).thenReturn("timingMethod");
+        MethodSignature joinPointSignature = signature(TestController.class, "timingMethod");
+        when(joinPoint.getSignature()).thenReturn(joinPointSignature);
         when(joinPoint.getArgs()).thenReturn(new Object[]{});
         when(joinPoint.proceed()).thenAnswer(invocation -> {
             Thread.sleep(100);
@@ -256,10 +326,8 @@ class ControllerLogAspectTest {
         mockedRequestContextHolder.when(RequestContextHolder::getRequestAttributes).thenReturn(attributes);
 
         ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
-        Signature signature = mock(Signature.class);
-        when(joinPoint.getSignature()).thenReturn(signature);
-        when(signature.getDeclaringTypeName()).thenReturn("NoArgsController");
-        when(signature.getName()).thenReturn("noArgsMethod");
+        MethodSignature joinPointSignature = signature(TestController.class, "noArgsMethod");
+        when(joinPoint.getSignature()).thenReturn(joinPointSignature);
         when(joinPoint.getArgs()).thenReturn(new Object[]{});
         when(joinPoint.proceed()).thenReturn(Result.success());
 
@@ -283,10 +351,8 @@ class ControllerLogAspectTest {
 
         NullPointerException npe = new NullPointerException("Null value");
         ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
-        Signature signature = mock(Signature.class);
-        when(joinPoint.getSignature()).thenReturn(signature);
-        when(signature.getDeclaringTypeName()).thenReturn("TestController");
-        when(signature.getName()).thenReturn("testMethod");
+        MethodSignature joinPointSignature = signature(TestController.class, "testMethod");
+        when(joinPoint.getSignature()).thenReturn(joinPointSignature);
         when(joinPoint.getArgs()).thenReturn(new Object[]{});
         when(joinPoint.proceed()).thenThrow(npe);
 
@@ -314,10 +380,8 @@ class ControllerLogAspectTest {
             mockedRequestContextHolder.when(RequestContextHolder::getRequestAttributes).thenReturn(attributes);
 
             ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
-            Signature signature = mock(Signature.class);
-            when(joinPoint.getSignature()).thenReturn(signature);
-            when(signature.getDeclaringTypeName()).thenReturn("TestController");
-            when(signature.getName()).thenReturn("testMethod");
+            MethodSignature joinPointSignature = signature(TestController.class, "testMethod");
+            when(joinPoint.getSignature()).thenReturn(joinPointSignature);
             when(joinPoint.getArgs()).thenReturn(new Object[]{});
             when(joinPoint.proceed()).thenReturn(Result.success());
 
@@ -342,10 +406,8 @@ class ControllerLogAspectTest {
         mockedRequestContextHolder.when(RequestContextHolder::getRequestAttributes).thenReturn(attributes);
 
         ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
-        Signature signature = mock(Signature.class);
-        when(joinPoint.getSignature()).thenReturn(signature);
-        when(signature.getDeclaringTypeName()).thenReturn("TestController");
-        when(signature.getName()).thenReturn("testMethod");
+        MethodSignature joinPointSignature = signature(TestController.class, "testMethod");
+        when(joinPoint.getSignature()).thenReturn(joinPointSignature);
         when(joinPoint.getArgs()).thenReturn(new Object[]{});
         when(joinPoint.proceed()).thenReturn(Result.success());
 
@@ -370,10 +432,8 @@ class ControllerLogAspectTest {
         mockedRequestContextHolder.when(RequestContextHolder::getRequestAttributes).thenReturn(attributes);
 
         ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
-        Signature signature = mock(Signature.class);
-        when(joinPoint.getSignature()).thenReturn(signature);
-        when(signature.getDeclaringTypeName()).thenReturn("TestController");
-        when(signature.getName()).thenReturn("searchMethod");
+        MethodSignature joinPointSignature = signature(TestController.class, "searchMethod");
+        when(joinPoint.getSignature()).thenReturn(joinPointSignature);
         when(joinPoint.getArgs()).thenReturn(new Object[]{});
         when(joinPoint.proceed()).thenReturn(Result.success());
 
@@ -397,10 +457,8 @@ class ControllerLogAspectTest {
         mockedRequestContextHolder.when(RequestContextHolder::getRequestAttributes).thenReturn(attributes);
 
         ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
-        Signature signature = mock(Signature.class);
-        when(joinPoint.getSignature()).thenReturn(signature);
-        when(signature.getDeclaringTypeName()).thenReturn("TestController");
-        when(signature.getName()).thenReturn("testMethod");
+        MethodSignature joinPointSignature = signature(TestController.class, "testMethod");
+        when(joinPoint.getSignature()).thenReturn(joinPointSignature);
         when(joinPoint.getArgs()).thenReturn(new Object[]{});
         when(joinPoint.proceed()).thenReturn(Result.success());
 
@@ -423,10 +481,8 @@ class ControllerLogAspectTest {
         mockedRequestContextHolder.when(RequestContextHolder::getRequestAttributes).thenReturn(attributes);
 
         ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
-        Signature signature = mock(Signature.class);
-        when(joinPoint.getSignature()).thenReturn(signature);
-        when(signature.getDeclaringTypeName()).thenReturn("com.java.admin.modules.system.controller.SysUserController");
-        when(signature.getName()).thenReturn("getUserInfo");
+        MethodSignature joinPointSignature = signature(SysUserController.class, "getUserById");
+        when(joinPoint.getSignature()).thenReturn(joinPointSignature);
         when(joinPoint.getArgs()).thenReturn(new Object[]{});
         when(joinPoint.proceed()).thenReturn(Result.success());
 
@@ -435,7 +491,7 @@ class ControllerLogAspectTest {
 
         // Then
         assertThat(appender.getOutput()).contains("SysUserController");
-        assertThat(appender.getOutput()).contains("getUserInfo");
+        assertThat(appender.getOutput()).contains("getUserById");
     }
 
     @Test
@@ -451,10 +507,8 @@ class ControllerLogAspectTest {
 
         Result<String> expected = Result.success("test-data");
         ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
-        Signature signature = mock(Signature.class);
-        when(joinPoint.getSignature()).thenReturn(signature);
-        when(signature.getDeclaringTypeName()).thenReturn("TestController");
-        when(signature.getName()).thenReturn("testMethod");
+        MethodSignature joinPointSignature = signature(TestController.class, "testMethod");
+        when(joinPoint.getSignature()).thenReturn(joinPointSignature);
         when(joinPoint.getArgs()).thenReturn(new Object[]{});
         when(joinPoint.proceed()).thenReturn(expected);
 
@@ -464,4 +518,179 @@ class ControllerLogAspectTest {
         // Then
         assertThat(result).isSameAs(expected);
     }
+
+    @Test
+    @DisplayName("Should not log slow response below the default threshold")
+    void shouldNotLogSlowResponseBelowDefaultThreshold() throws Throwable {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/test");
+        mockedRequestContextHolder.when(RequestContextHolder::getRequestAttributes)
+                .thenReturn(new ServletRequestAttributes(request));
+
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        MethodSignature joinPointSignature = signature(TestController.class, "testMethod");
+        when(joinPoint.getSignature()).thenReturn(joinPointSignature);
+        when(joinPoint.getArgs()).thenReturn(new Object[]{});
+        when(joinPoint.proceed()).thenReturn(Result.success());
+
+        // When
+        aspect.logController(joinPoint);
+
+        // Then
+        assertThat(appender.getOutput()).doesNotContain("Slow response");
+        assertThat(appender.getOutput()).contains("Response completed");
+    }
+
+    @Test
+    @DisplayName("Should record latency per endpoint and outcome with percentiles")
+    void shouldRecordLatencyPerEndpointAndOutcome() throws Throwable {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/test");
+        mockedRequestContextHolder.when(RequestContextHolder::getRequestAttributes)
+                .thenReturn(new ServletRequestAttributes(request));
+
+        ProceedingJoinPoint ok = mock(ProceedingJoinPoint.class);
+        MethodSignature okSignature = signature(TestController.class, "testMethod");
+        when(ok.getSignature()).thenReturn(okSignature);
+        when(ok.proceed()).thenReturn(Result.success());
+        ProceedingJoinPoint failing = mock(ProceedingJoinPoint.class);
+        MethodSignature failingSignature = signature(TestController.class, "testMethod");
+        when(failing.getSignature()).thenReturn(failingSignature);
+        when(failing.proceed()).thenThrow(new IllegalStateException("boom"));
+
+        // When
+        aspect.logController(ok);
+        aspect.logController(ok);
+        assertThatThrownBy(() -> aspect.logController(failing)).isInstanceOf(IllegalStateException.class);
+
+        // Then
+        Timer success = meterRegistry.get(ControllerLogAspect.TIMER_NAME)
+                .tags("controller", "TestController", "action", "testMethod", "outcome", "success").timer();
+        Timer error = meterRegistry.get(ControllerLogAspect.TIMER_NAME)
+                .tags("controller", "TestController", "action", "testMethod", "outcome", "error").timer();
+        assertThat(success.count()).isEqualTo(2);
+        assertThat(error.count()).isEqualTo(1);
+        assertThat(success.takeSnapshot().percentileValues())
+                .extracting(value -> value.percentile())
+                .containsExactly(0.5, 0.99, 0.999);
+        assertThat(success.totalTime(TimeUnit.NANOSECONDS)).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should not read arguments or the request when logging is disabled")
+    void shouldNotReadArgumentsWhenLoggingIsDisabled() throws Throwable {
+        // Given
+        logger.setLevel(Level.INFO);
+        ServletRequestAttributes attributes = mock(ServletRequestAttributes.class);
+        mockedRequestContextHolder.when(RequestContextHolder::getRequestAttributes).thenReturn(attributes);
+
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        MethodSignature joinPointSignature = signature(TestController.class, "testMethod");
+        when(joinPoint.getSignature()).thenReturn(joinPointSignature);
+        when(joinPoint.proceed()).thenReturn(Result.success());
+
+        // When
+        aspect.logController(joinPoint);
+
+        // Then
+        verify(joinPoint, never()).getArgs();
+        verify(attributes, never()).getRequest();
+        assertThat(appender.getOutput()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should add the controller call and caller to the request profile")
+    void shouldAddControllerSpanToRequestProfile() throws Throwable {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/users/1");
+        mockedRequestContextHolder.when(RequestContextHolder::getRequestAttributes)
+                .thenReturn(new ServletRequestAttributes(request));
+        SecurityUserDetails user = TestDataFactory.createSecurityUserDetails("42");
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(user, null, user.getAuthorities()));
+
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        MethodSignature joinPointSignature = signature(SysUserController.class, "getUserById");
+        when(joinPoint.getSignature()).thenReturn(joinPointSignature);
+        when(joinPoint.proceed()).thenReturn(Result.success());
+        RequestProfile profile = RequestProfile.begin(10);
+
+        // When
+        try {
+            aspect.logController(joinPoint);
+        } finally {
+            RequestProfile.end();
+            SecurityContextHolder.clearContext();
+        }
+
+        // Then
+        SlowRequest captured = profile.toSlowRequest(request, 200, 0);
+        assertThat(captured.userId()).isEqualTo("42");
+        assertThat(captured.spans()).singleElement().satisfies(span -> {
+            assertThat(span.kind()).isEqualTo("controller");
+            assertThat(span.name()).isEqualTo("SysUserController.getUserById");
+        });
+    }
+
+    @Test
+    @DisplayName("Should run the call in a child span with the trace ID in the MDC")
+    void shouldRunCallInChildSpan() throws Throwable {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/users/1");
+        mockedRequestContextHolder.when(RequestContextHolder::getRequestAttributes)
+                .thenReturn(new ServletRequestAttributes(request));
+
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        MethodSignature joinPointSignature = signature(SysUserController.class, "getUserById");
+        when(joinPoint.getSignature()).thenReturn(joinPointSignature);
+        String[] correlation = new String[2];
+        when(joinPoint.proceed()).thenAnswer(invocation -> {
+            correlation[0] = MDC.get("traceId");
+            correlation[1] = MDC.get("spanId");
+            return Result.success();
+        });
+
+        Tracer tracer = tracing.tracer();
+        Span parent = tracer.nextSpan().name("http").start();
+
+        // When
+        try (Tracer.SpanInScope ignored = tracer.withSpan(parent)) {
+            aspect.logController(joinPoint);
+        } finally {
+            parent.end();
+        }
+
+        // Then
+        SpanData span = tracing.span("SysUserController.getUserById");
+        assertThat(span.getTraceId()).isEqualTo(parent.context().traceId());
+        assertThat(span.getParentSpanId()).isEqualTo(parent.context().spanId());
+        assertThat(span.getAttributes().get(AttributeKey.stringKey("code.namespace"))).isEqualTo("SysUserController");
+        assertThat(span.getAttributes().get(AttributeKey.stringKey("code.function"))).isEqualTo("getUserById");
+        assertThat(correlation).containsExactly(span.getTraceId(), span.getSpanId());
+        assertThat(MDC.get("traceId")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should mark the span as failed when the call throws")
+    void shouldMarkSpanAsFailed() throws Throwable {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/test");
+        mockedRequestContextHolder.when(RequestContextHolder::getRequestAttributes)
+                .thenReturn(new ServletRequestAttributes(request));
+
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        MethodSignature joinPointSignature = signature(TestController.class, "errorMethod");
+        when(joinPoint.getSignature()).thenReturn(joinPointSignature);
+        when(joinPoint.proceed()).thenThrow(new IllegalStateException("boom"));
+
+        // When
+        assertThatThrownBy(() -> aspect.logController(joinPoint)).isInstanceOf(IllegalStateException.class);
+
+        // Then
+        List<SpanData> spans = tracing.spans();
+        assertThat(spans).singleElement().satisfies(span -> {
+            assertThat(span.getName()).isEqualTo("TestController.errorMethod");
+            assertThat(span.getStatus().getStatusCode()).isEqualTo(StatusCode.ERROR);
+        });
+    }
 }
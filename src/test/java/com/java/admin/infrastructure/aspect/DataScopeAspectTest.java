@@ -0,0 +1,124 @@
+package com.java.admin.infrastructure.aspect;
+
+import com.java.admin.infrastructure.datascope.DataScope;
+import com.java.admin.infrastructure.datascope.DataScopeContextHolder;
+import com.java.admin.infrastructure.handler.PermissionHandler;
+import com.java.admin.infrastructure.model.SecurityUserDetails;
+import com.java.admin.modules.system.model.SysUser;
+import com.java.admin.testutil.AbstractMockTest;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+
+/**
+ * DataScopeAspect Unit Tests
+ *
+ * <p>Test Coverage:
+ * <ul>
+ *   <li>Scope bound from the session principal and restored afterwards</li>
+ *   <li>No restriction for ALL, anonymous calls and legacy admin sessions</li>
+ * </ul>
+ *
+ * <p>Coverage Target: 90%+
+ */
+@DisplayName("DataScopeAspect Unit Tests")
+class DataScopeAspectTest extends AbstractMockTest {
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    private DataScopeAspect aspect;
+    private final AtomicReference<DataScopeContextHolder.Context> contextDuringCall = new AtomicReference<>();
+
+    @BeforeEach
+    void setUp() throws Throwable {
+        aspect = new DataScopeAspect(new PermissionHandler());
+        lenient().when(joinPoint.proceed()).thenAnswer(invocation -> {
+            contextDuringCall.set(DataScopeContextHolder.get());
+            return "result";
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        DataScopeContextHolder.restore(null);
+    }
+
+    private static void login(DataScope scope, String... authorities) {
+        SysUser user = new SysUser();
+        user.setUserId("7");
+        SecurityUserDetails details = new SecurityUserDetails(user, List.of(authorities));
+        details.setDataScope(scope);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(details, null, details.getAuthorities()));
+    }
+
+    @Test
+    @DisplayName("Should bind the principal's scope for the call and restore it")
+    void shouldBindScope() throws Throwable {
+        // Given
+        login(DataScope.CREATED, "ROLE_USER");
+
+        // When
+        Object result = aspect.applyDataScope(joinPoint);
+
+        // Then
+        assertThat(result).isEqualTo("result");
+        assertThat(contextDuringCall.get()).isEqualTo(new DataScopeContextHolder.Context("7", DataScope.CREATED));
+        assertThat(DataScopeContextHolder.get()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should not restrict principals with the ALL scope")
+    void shouldNotRestrictAll() throws Throwable {
+        // Given
+        login(DataScope.ALL, "ROLE_USER");
+
+        // When
+        aspect.applyDataScope(joinPoint);
+
+        // Then
+        assertThat(contextDuringCall.get()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should not restrict calls without a logged-in user")
+    void shouldNotRestrictAnonymous() throws Throwable {
+        aspect.applyDataScope(joinPoint);
+        assertThat(contextDuringCall.get()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should derive the scope of legacy sessions from the admin role")
+    void shouldDeriveLegacyScope() throws Throwable {
+        // Given - admin session without a stored scope
+        login(null, "ROLE_ADMIN");
+
+        // When
+        aspect.applyDataScope(joinPoint);
+
+        // Then
+        assertThat(contextDuringCall.get()).isNull();
+
+        // Given - regular user session without a stored scope
+        login(null, "ROLE_USER");
+
+        // When
+        aspect.applyDataScope(joinPoint);
+
+        // Then
+        assertThat(contextDuringCall.get().scope()).isEqualTo(DataScope.SELF);
+    }
+}
@@ -0,0 +1,126 @@
+package com.java.admin.infrastructure.aspect;
+
+import com.java.admin.infrastructure.datasource.DataSourceContextHolder;
+import com.java.admin.infrastructure.datasource.DataSourceRole;
+import com.java.admin.infrastructure.datasource.ReadYourWritesTracker;
+import com.java.admin.testutil.AbstractMockTest;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * ReplicaReadAspect Unit Tests
+ *
+ * <p>Test Coverage:
+ * <ul>
+ *   <li>Replica routing for annotated reads</li>
+ *   <li>Primary for recent writers, inside transactions and inside a caller's primary scope</li>
+ *   <li>Routing context restored after the call</li>
+ * </ul>
+ *
+ * <p>Coverage Target: 90%+
+ */
+@DisplayName("ReplicaReadAspect Unit Tests")
+class ReplicaReadAspectTest extends AbstractMockTest {
+
+    @Mock
+    private ReadYourWritesTracker readYourWritesTracker;
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    private ReplicaReadAspect aspect;
+    private final AtomicReference<DataSourceRole> roleDuringCall = new AtomicReference<>();
+
+    @BeforeEach
+    void setUp() throws Throwable {
+        aspect = new ReplicaReadAspect(readYourWritesTracker);
+        lenient().when(joinPoint.proceed()).thenAnswer(invocation -> {
+            roleDuringCall.set(DataSourceContextHolder.get());
+            return "result";
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        DataSourceContextHolder.restore(null);
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    @DisplayName("Should route annotated reads to the replica and restore the context")
+    void shouldRouteToReplica() throws Throwable {
+        // When
+        Object result = aspect.routeToReplica(joinPoint);
+
+        // Then
+        assertThat(result).isEqualTo("result");
+        assertThat(roleDuringCall.get()).isEqualTo(DataSourceRole.REPLICA);
+        assertThat(DataSourceContextHolder.get()).isEqualTo(DataSourceRole.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("Should keep recent writers on the primary")
+    void shouldKeepRecentWritersOnPrimary() throws Throwable {
+        // Given
+        when(readYourWritesTracker.isPinnedToPrimary()).thenReturn(true);
+
+        // When
+        aspect.routeToReplica(joinPoint);
+
+        // Then
+        assertThat(roleDuringCall.get()).isEqualTo(DataSourceRole.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("Should not switch inside an active transaction")
+    void shouldNotSwitchInsideTransaction() throws Throwable {
+        // Given
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        // When
+        aspect.routeToReplica(joinPoint);
+
+        // Then
+        assertThat(roleDuringCall.get()).isEqualTo(DataSourceRole.PRIMARY);
+        verifyNoInteractions(readYourWritesTracker);
+    }
+
+    @Test
+    @DisplayName("Should stay on the primary when the caller asked for it")
+    void shouldKeepCallersPrimaryScope() throws Throwable {
+        // When
+        Object result = DataSourceContextHolder.callWith(DataSourceRole.PRIMARY, () -> {
+            try {
+                return aspect.routeToReplica(joinPoint);
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        // Then
+        assertThat(result).isEqualTo("result");
+        assertThat(roleDuringCall.get()).isEqualTo(DataSourceRole.PRIMARY);
+        verifyNoInteractions(readYourWritesTracker);
+    }
+
+    @Test
+    @DisplayName("Should restore the context when the call fails")
+    void shouldRestoreContextOnFailure() throws Throwable {
+        // Given
+        when(joinPoint.proceed()).thenThrow(new IllegalStateException("boom"));
+
+        // When & Then
+        assertThatThrownBy(() -> aspect.routeToReplica(joinPoint)).isInstanceOf(IllegalStateException.class);
+        assertThat(DataSourceContextHolder.get()).isEqualTo(DataSourceRole.PRIMARY);
+    }
+}
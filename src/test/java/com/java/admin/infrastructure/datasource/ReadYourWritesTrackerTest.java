@@ -0,0 +1,85 @@
+package com.java.admin.infrastructure.datasource;
+
+import com.java.admin.infrastructure.model.SecurityUserDetails;
+import com.java.admin.testutil.TestDataFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ReadYourWritesTracker Unit Tests
+ *
+ * <p>Test Coverage:
+ * <ul>
+ *   <li>Pinning the writing user to the primary</li>
+ *   <li>Other and anonymous users unaffected</li>
+ *   <li>Window expiry</li>
+ * </ul>
+ *
+ * <p>Coverage Target: 90%+
+ */
+@DisplayName("ReadYourWritesTracker Unit Tests")
+class ReadYourWritesTrackerTest {
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private static void authenticateAs(String userId) {
+        SecurityUserDetails details = TestDataFactory.createSecurityUserDetails(userId);
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(details, null, List.of()));
+    }
+
+    @Test
+    @DisplayName("Should pin only the user who wrote")
+    void shouldPinWriter() {
+        // Given
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofMinutes(1));
+        authenticateAs("writer");
+
+        // When
+        tracker.recordWrite();
+
+        // Then
+        assertThat(tracker.isPinnedToPrimary()).isTrue();
+        authenticateAs("reader");
+        assertThat(tracker.isPinnedToPrimary()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should ignore anonymous requests")
+    void shouldIgnoreAnonymous() {
+        // Given
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofMinutes(1));
+
+        // When
+        tracker.recordWrite();
+
+        // Then
+        assertThat(tracker.isPinnedToPrimary()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should release the user after the window")
+    void shouldReleaseAfterWindow() throws InterruptedException {
+        // Given
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofMillis(50));
+        authenticateAs("writer");
+        tracker.recordWrite();
+
+        // When
+        Thread.sleep(120);
+
+        // Then
+        assertThat(tracker.isPinnedToPrimary()).isFalse();
+    }
+}
@@ -0,0 +1,116 @@
+package com.java.admin.infrastructure.datasource;
+
+import com.java.admin.config.ReplicaDataSourceProperties;
+import com.java.admin.testutil.AbstractMockTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+/**
+ * ReplicaLagMonitor Unit Tests
+ *
+ * <p>Test Coverage:
+ * <ul>
+ *   <li>Usable only with running replication within the lag threshold</li>
+ *   <li>Fallback on lag, stopped replication and connection errors</li>
+ * </ul>
+ *
+ * <p>Coverage Target: 90%+
+ */
+@DisplayName("ReplicaLagMonitor Unit Tests")
+class ReplicaLagMonitorTest extends AbstractMockTest {
+
+    @Mock
+    private JdbcTemplate replicaJdbcTemplate;
+
+    private ReplicaLagMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        ReplicaDataSourceProperties properties = new ReplicaDataSourceProperties();
+        properties.setMaxLagSeconds(2);
+        monitor = new ReplicaLagMonitor(replicaJdbcTemplate, properties, new SimpleMeterRegistry());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void lagIs(Long lag) {
+        when(replicaJdbcTemplate.query(eq("SHOW REPLICA STATUS"), any(ResultSetExtractor.class))).thenReturn(lag);
+    }
+
+    @Test
+    @DisplayName("Should not use the replica before the first check")
+    void shouldStartUnusable() {
+        assertThat(monitor.isReplicaUsable()).isFalse();
+        assertThat(monitor.getLagSeconds()).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("Should use the replica when lag is within threshold")
+    void shouldBeUsableWithinThreshold() {
+        // Given
+        lagIs(1L);
+
+        // When
+        monitor.checkLag();
+
+        // Then
+        assertThat(monitor.isReplicaUsable()).isTrue();
+        assertThat(monitor.getLagSeconds()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should fall back when lag exceeds threshold")
+    void shouldFallBackWhenLagging() {
+        // Given
+        lagIs(0L);
+        monitor.checkLag();
+        lagIs(30L);
+
+        // When
+        monitor.checkLag();
+
+        // Then
+        assertThat(monitor.isReplicaUsable()).isFalse();
+        assertThat(monitor.getLagSeconds()).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("Should fall back when replication is not running")
+    void shouldFallBackWhenReplicationStopped() {
+        // Given
+        lagIs(null);
+
+        // When
+        monitor.checkLag();
+
+        // Then
+        assertThat(monitor.isReplicaUsable()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should fall back when the replica cannot be reached")
+    @SuppressWarnings("unchecked")
+    void shouldFallBackOnError() {
+        // Given
+        lagIs(0L);
+        monitor.checkLag();
+        when(replicaJdbcTemplate.query(eq("SHOW REPLICA STATUS"), any(ResultSetExtractor.class)))
+                .thenThrow(new DataAccessResourceFailureException("Connection refused"));
+
+        // When
+        monitor.checkLag();
+
+        // Then
+        assertThat(monitor.isReplicaUsable()).isFalse();
+    }
+}
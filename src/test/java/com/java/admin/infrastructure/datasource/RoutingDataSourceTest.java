@@ -0,0 +1,117 @@
+package com.java.admin.infrastructure.datasource;
+
+import com.java.admin.testutil.AbstractMockTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * RoutingDataSource Unit Tests
+ *
+ * <p>Test Coverage:
+ * <ul>
+ *   <li>Primary by default, replica when requested</li>
+ *   <li>Fallback to primary while the replica is unusable</li>
+ *   <li>Nested routing context</li>
+ * </ul>
+ *
+ * <p>Coverage Target: 90%+
+ */
+@DisplayName("RoutingDataSource Unit Tests")
+@org.mockito.junit.jupiter.MockitoSettings(strictness = org.mockito.quality.Strictness.LENIENT)
+class RoutingDataSourceTest extends AbstractMockTest {
+
+    @Mock
+    private DataSource primary;
+    @Mock
+    private DataSource replica;
+    @Mock
+    private Connection primaryConnection;
+    @Mock
+    private Connection replicaConnection;
+    @Mock
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    private RoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        routingDataSource = new RoutingDataSource(replicaLagMonitor);
+        routingDataSource.setTargetDataSources(Map.of(DataSourceRole.PRIMARY, primary, DataSourceRole.REPLICA, replica));
+        routingDataSource.setDefaultTargetDataSource(primary);
+        routingDataSource.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() {
+        DataSourceContextHolder.restore(null);
+    }
+
+    @Test
+    @DisplayName("Should use the primary when no role is set")
+    void shouldUsePrimaryByDefault() throws Exception {
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    @DisplayName("Should use the replica when requested and usable")
+    void shouldUseReplicaWhenUsable() throws Exception {
+        // Given
+        when(replicaLagMonitor.isReplicaUsable()).thenReturn(true);
+
+        // When
+        Connection connection = DataSourceContextHolder.callWith(DataSourceRole.REPLICA, this::connect);
+
+        // Then
+        assertThat(connection).isSameAs(replicaConnection);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary while the replica is lagging")
+    void shouldFallBackWhenReplicaUnusable() {
+        // Given
+        when(replicaLagMonitor.isReplicaUsable()).thenReturn(false);
+
+        // When
+        Connection connection = DataSourceContextHolder.callWith(DataSourceRole.REPLICA, this::connect);
+
+        // Then
+        assertThat(connection).isSameAs(primaryConnection);
+    }
+
+    @Test
+    @DisplayName("Should restore the outer role after a nested primary call")
+    void shouldRestoreOuterRole() {
+        // When
+        DataSourceRole inner = DataSourceContextHolder.callWith(DataSourceRole.REPLICA,
+                () -> DataSourceContextHolder.callWith(DataSourceRole.PRIMARY, DataSourceContextHolder::get));
+        DataSourceRole outer = DataSourceContextHolder.callWith(DataSourceRole.REPLICA, () -> {
+            DataSourceContextHolder.callWith(DataSourceRole.PRIMARY, DataSourceContextHolder::get);
+            return DataSourceContextHolder.get();
+        });
+
+        // Then
+        assertThat(inner).isEqualTo(DataSourceRole.PRIMARY);
+        assertThat(outer).isEqualTo(DataSourceRole.REPLICA);
+        assertThat(DataSourceContextHolder.get()).isEqualTo(DataSourceRole.PRIMARY);
+    }
+
+    private Connection connect() {
+        try {
+            return routingDataSource.getConnection();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.java.admin.infrastructure.datasource;
+
+import com.java.admin.config.ShardingProperties;
+import com.java.admin.infrastructure.datascope.DataScope;
+import com.java.admin.infrastructure.datascope.DataScopeContextHolder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ShardRouter Unit Tests
+ *
+ * <p>Test Coverage:
+ * <ul>
+ *   <li>CRC32 shard assignment and grouping</li>
+ *   <li>Shard context for single-shard, global and scatter calls</li>
+ *   <li>Data scope propagated to scatter threads</li>
+ *   <li>Pass-through when sharding is disabled</li>
+ * </ul>
+ *
+ * <p>Coverage Target: 90%+
+ */
+@DisplayName("ShardRouter Unit Tests")
+class ShardRouterTest {
+
+    private final List<ShardRouter> routers = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        routers.forEach(ShardRouter::shutdown);
+    }
+
+    private ShardRouter router(int shardCount) {
+        ShardingProperties properties = new ShardingProperties();
+        properties.setEnabled(true);
+        for (int i = 0; i < shardCount; i++) {
+            properties.getShards().add(new ShardingProperties.Shard());
+        }
+        ShardRouter router = new ShardRouter(properties);
+        routers.add(router);
+        return router;
+    }
+
+    @Test
+    @DisplayName("Should assign shards by CRC32 of the user ID, matching MySQL CRC32()")
+    void shouldAssignShardByCrc32() {
+        // Given
+        ShardRouter router = router(4);
+        CRC32 crc32 = new CRC32();
+        crc32.update("1".getBytes());
+
+        // Then - MySQL: SELECT CRC32('1') % 4 = 3
+        assertThat(router.shardOf("1")).isEqualTo((int) (crc32.getValue() % 4)).isEqualTo(3);
+        assertThat(router.shardOf("1")).isEqualTo(router.shardOf("1"));
+    }
+
+    @Test
+    @DisplayName("Should group user IDs by shard")
+    void shouldGroupByShard() {
+        // Given
+        ShardRouter router = router(3);
+        List<String> ids = List.of("1", "2", "3", "4", "5", "6", "7", "8");
+
+        // When
+        Map<Integer, List<String>> groups = router.groupByShard(ids);
+
+        // Then
+        assertThat(groups.values().stream().mapToInt(List::size).sum()).isEqualTo(ids.size());
+        groups.forEach((shard, groupIds) -> assertThat(groupIds).allMatch(id -> router.shardOf(id) == shard));
+    }
+
+    @Test
+    @DisplayName("Should bind the shard for the duration of the call")
+    void shouldBindShardDuringCall() {
+        // Given
+        ShardRouter router = router(4);
+
+        // When
+        Integer shard = router.onShardOf("1", ShardContextHolder::get);
+        Integer global = router.onShard(2, () -> router.onGlobal(ShardContextHolder::get));
+
+        // Then
+        assertThat(shard).isEqualTo(3);
+        assertThat(global).isNull();
+        assertThat(ShardContextHolder.get()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should query all shards in parallel and return results in shard order")
+    void shouldScatterInParallel() throws Exception {
+        // Given
+        ShardRouter router = router(3);
+        CountDownLatch allStarted = new CountDownLatch(3);
+
+        // When - each task waits for the others, which only completes if they run concurrently
+        List<Integer> shards = router.onAllShards(shard -> {
+            allStarted.countDown();
+            try {
+                assertThat(allStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return ShardContextHolder.get();
+        });
+
+        // Then
+        assertThat(shards).containsExactly(0, 1, 2);
+    }
+
+    @Test
+    @DisplayName("Should propagate shard failures")
+    void shouldPropagateShardFailures() {
+        // Given
+        ShardRouter router = router(2);
+
+        // When & Then
+        assertThatThrownBy(() -> router.onAllShards(shard -> {
+            if (shard == 1) {
+                throw new IllegalStateException("shard 1 down");
+            }
+            return shard;
+        })).isInstanceOf(IllegalStateException.class).hasMessage("shard 1 down");
+    }
+
+    @Test
+    @DisplayName("Should carry the caller's data scope into scatter threads")
+    void shouldPropagateDataScope() {
+        // Given
+        ShardRouter router = router(3);
+        DataScopeContextHolder.Context context = new DataScopeContextHolder.Context("7", DataScope.SELF);
+        DataScopeContextHolder.set(context);
+
+        try {
+            // When
+            List<DataScopeContextHolder.Context> seen = router.onAllShards(shard -> DataScopeContextHolder.get());
+
+            // Then
+            assertThat(seen).containsOnly(context);
+        } finally {
+            DataScopeContextHolder.restore(null);
+        }
+    }
+
+    @Test
+    @DisplayName("Should pass through when sharding is disabled")
+    void shouldPassThroughWhenDisabled() {
+        // Given
+        ShardRouter router = new ShardRouter(new ShardingProperties());
+
+        // Then
+        assertThat(router.isSharded()).isFalse();
+        assertThat(router.getShardCount()).isEqualTo(1);
+        assertThat(router.shardOf("anything")).isZero();
+        assertThat(router.onShardOf("1", ShardContextHolder::get)).isNull();
+        assertThat(router.onAllShards(shard -> shard)).containsExactly(0);
+    }
+
+    @Test
+    @DisplayName("Should reject sharding without shards")
+    void shouldRejectEmptyShardList() {
+        // Given
+        ShardingProperties properties = new ShardingProperties();
+        properties.setEnabled(true);
+
+        // When & Then
+        assertThatThrownBy(() -> new ShardRouter(properties)).isInstanceOf(IllegalStateException.class);
+    }
+}
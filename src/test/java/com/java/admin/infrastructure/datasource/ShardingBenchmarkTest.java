@@ -0,0 +1,168 @@
+package com.java.admin.infrastructure.datasource;
+
+import com.alibaba.druid.pool.DruidDataSource;
+import com.baomidou.mybatisplus.core.toolkit.IdWorker;
+import com.java.admin.config.ShardingProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Sharding throughput benchmark
+ *
+ * <p>Runs against the shards of {@code docker/compose.sharding.yml} and reports insert, point
+ * lookup and scatter-gather page throughput for 1..N shards. Skipped when the shards are not
+ * reachable.
+ *
+ * <p>Usage: {@code mvn test -Pbenchmark -Dtest=ShardingBenchmarkTest}
+ * (override shards with {@code -Dbenchmark.shard.urls=url1,url2,...})
+ */
+@Slf4j
+@Tag("benchmark")
+@DisplayName("Sharding Throughput Benchmark")
+class ShardingBenchmarkTest {
+
+    private static final String DEFAULT_URLS = String.join(",",
+            "jdbc:mysql://localhost:3310/admin_db?useSSL=false&allowPublicKeyRetrieval=true&rewriteBatchedStatements=true",
+            "jdbc:mysql://localhost:3311/admin_db?useSSL=false&allowPublicKeyRetrieval=true&rewriteBatchedStatements=true",
+            "jdbc:mysql://localhost:3312/admin_db?useSSL=false&allowPublicKeyRetrieval=true&rewriteBatchedStatements=true");
+
+    private static final int ROWS = 30_000;
+    private static final int LOOKUPS = 20_000;
+    private static final int PAGES = 1_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int CLIENT_THREADS = 16;
+
+    @Test
+    @DisplayName("Measure throughput as the shard count grows")
+    void measureThroughputByShardCount() throws Exception {
+        String[] urls = System.getProperty("benchmark.shard.urls", DEFAULT_URLS).split(",");
+        List<DruidDataSource> shards = new ArrayList<>();
+        try {
+            for (String url : urls) {
+                shards.add(open(url));
+            }
+            assumeTrue(shards.stream().allMatch(ShardingBenchmarkTest::reachable), "Benchmark shards not reachable");
+
+            log.info("Shards | Inserts/s | Lookups/s | Pages/s");
+            for (int shardCount = 1; shardCount <= shards.size(); shardCount++) {
+                run(shards.subList(0, shardCount));
+            }
+        } finally {
+            shards.forEach(DruidDataSource::close);
+        }
+    }
+
+    private void run(List<DruidDataSource> shards) throws Exception {
+        ShardingProperties properties = new ShardingProperties();
+        properties.setEnabled(true);
+        shards.forEach(shard -> properties.getShards().add(new ShardingProperties.Shard()));
+        ShardRouter router = new ShardRouter(properties);
+
+        Map<Object, Object> targets = new HashMap<>();
+        for (int i = 0; i < shards.size(); i++) {
+            targets.put(i, shards.get(i));
+        }
+        ShardRoutingDataSource routingDataSource = new ShardRoutingDataSource();
+        routingDataSource.setTargetDataSources(targets);
+        routingDataSource.setDefaultTargetDataSource(shards.get(0));
+        routingDataSource.afterPropertiesSet();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(routingDataSource);
+
+        try {
+            cleanUp(router, jdbcTemplate);
+
+            // Inserts: one JDBC batch per shard
+            List<String> ids = new ArrayList<>(ROWS);
+            for (int i = 0; i < ROWS; i++) {
+                ids.add(IdWorker.getIdStr());
+            }
+            long start = System.nanoTime();
+            router.groupByShard(ids).forEach((shard, shardIds) -> router.onShard(shard, () ->
+                    jdbcTemplate.batchUpdate("insert into sys_user (user_id, user_name, password) values (?, ?, '')",
+                            shardIds.stream().map(id -> new Object[]{id, "bench_" + id}).toList())));
+            double insertsPerSecond = perSecond(ROWS, start);
+
+            // Point lookups: one shard per query, concurrent clients
+            start = System.nanoTime();
+            concurrently(LOOKUPS, () -> {
+                String id = ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+                router.onShardOf(id, () -> jdbcTemplate.queryForList(
+                        "select * from sys_user where user_id = ? and deleted = 0", id));
+            });
+            double lookupsPerSecond = perSecond(LOOKUPS, start);
+
+            // Scatter-gather pages: every shard per query
+            start = System.nanoTime();
+            concurrently(PAGES, () -> {
+                int window = (ThreadLocalRandom.current().nextInt(5) + 1) * PAGE_SIZE;
+                router.onAllShards(shard -> jdbcTemplate.queryForList(
+                        "select * from sys_user where deleted = 0 order by user_id limit ?", window));
+            });
+            double pagesPerSecond = perSecond(PAGES, start);
+
+            log.info("{} | {} | {} | {}", shards.size(), Math.round(insertsPerSecond),
+                    Math.round(lookupsPerSecond), Math.round(pagesPerSecond));
+        } finally {
+            cleanUp(router, jdbcTemplate);
+            router.shutdown();
+        }
+    }
+
+    private static void concurrently(int operations, Runnable operation) throws Exception {
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENT_THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>(operations);
+            for (int i = 0; i < operations; i++) {
+                futures.add(clients.submit(operation));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            clients.shutdown();
+        }
+    }
+
+    private static void cleanUp(ShardRouter router, JdbcTemplate jdbcTemplate) {
+        router.onAllShards(shard -> jdbcTemplate.update("delete from sys_user where user_name like 'bench\\_%'"));
+    }
+
+    private static double perSecond(int operations, long startNanos) {
+        return operations / ((System.nanoTime() - startNanos) / 1e9);
+    }
+
+    private static DruidDataSource open(String url) {
+        DruidDataSource dataSource = new DruidDataSource();
+        dataSource.setUrl(url);
+        dataSource.setUsername(System.getProperty("benchmark.shard.username", "admin_user"));
+        dataSource.setPassword(System.getProperty("benchmark.shard.password", "userpass"));
+        dataSource.setMaxActive(CLIENT_THREADS * 2);
+        dataSource.setMaxWait(2000);
+        dataSource.setConnectionErrorRetryAttempts(0);
+        dataSource.setBreakAfterAcquireFailure(true);
+        return dataSource;
+    }
+
+    private static boolean reachable(DruidDataSource dataSource) {
+        try (Connection ignored = dataSource.getConnection()) {
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+}
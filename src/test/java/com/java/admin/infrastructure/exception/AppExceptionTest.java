@@ -18,6 +18,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
  *   <li>Constructor with ErrorCode, custom message and cause</li>
  *   <li>Getter methods (getErrorCode, getErrorMessage, getHttpStatus)</li>
  *   <li>Inheritance from RuntimeException</li>
+ *   <li>Stack trace skipped for expected error codes</li>
  * </ul>
  *
  * <p>Coverage Target: 100%
@@ -456,4 +457,32 @@ class AppExceptionTest {
         // Then
         assertThat(exception.getErrorMessage()).isEqualTo(specialMessage);
     }
+
+    // ==================== Stack Trace Tests ====================
+
+    @Test
+    @DisplayName("Should skip the stack trace for expected error codes")
+    void shouldSkipStackTraceForExpectedErrorCodes() {
+        // When
+        AppException notFound = new AppException(ErrorCode.DATA_NOT_FOUND, "User not found");
+        AppException tokenMissing = new AppException(ErrorCode.TOKEN_MISSING);
+
+        // Then
+        assertThat(notFound.getStackTrace()).isEmpty();
+        assertThat(tokenMissing.getStackTrace()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep the stack trace for system errors and exceptions with a cause")
+    void shouldKeepStackTraceForSystemErrorsAndCauses() {
+        // When
+        AppException systemError = new AppException(ErrorCode.SYSTEM_ERROR);
+        AppException databaseError = new AppException(ErrorCode.DATABASE_ERROR, "Insert failed");
+        AppException wrapped = new AppException(ErrorCode.BUSINESS_ERROR, new IllegalStateException("boom"));
+
+        // Then
+        assertThat(systemError.getStackTrace()).isNotEmpty();
+        assertThat(databaseError.getStackTrace()).isNotEmpty();
+        assertThat(wrapped.getStackTrace()).isNotEmpty();
+    }
 }
@@ -0,0 +1,487 @@
+package com.java.admin.infrastructure.filter;
+
+import com.java.admin.config.IdempotencyProperties;
+import com.java.admin.infrastructure.constants.ErrorCode;
+import com.java.admin.infrastructure.model.SecurityUserDetails;
+import com.java.admin.modules.system.mapper.IdempotencyMapper;
+import com.java.admin.modules.system.model.IdempotencyRecord;
+import com.java.admin.testutil.AbstractMockTest;
+import com.java.admin.testutil.TestDataFactory;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * IdempotencyFilter Unit Tests
+ *
+ * <p>Test Coverage:
+ * <ul>
+ *   <li>First run, stored response and replay</li>
+ *   <li>Key reuse with a different request, with or without a Content-Length</li>
+ *   <li>Bodies larger than the fingerprint limit and container-parsed bodies</li>
+ *   <li>Non-blocking reads (ReadListener) of buffered and streamed bodies</li>
+ *   <li>Owner checks on store and release after the reservation changed hands</li>
+ *   <li>Waiting on an in-flight duplicate and timing out</li>
+ *   <li>Release on server errors and fallback when Redis is down</li>
+ *   <li>Requests that are not covered (safe methods, no key, anonymous)</li>
+ * </ul>
+ *
+ * <p>Coverage Target: 90%+
+ */
+@DisplayName("IdempotencyFilter Unit Tests")
+@org.mockito.junit.jupiter.MockitoSettings(strictness = org.mockito.quality.Strictness.LENIENT)
+class IdempotencyFilterTest extends AbstractMockTest {
+
+    @Mock
+    private IdempotencyMapper idempotencyMapper;
+
+    private final Map<String, IdempotencyRecord> records = new ConcurrentHashMap<>();
+    private IdempotencyFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        IdempotencyProperties properties = new IdempotencyProperties();
+        properties.setWaitTimeout(Duration.ofMillis(200));
+        properties.setPollInterval(Duration.ofMillis(10));
+        filter = new IdempotencyFilter(idempotencyMapper, properties);
+
+        // In-memory Redis
+        when(idempotencyMapper.tryStart(anyString(), any(), any())).thenAnswer(invocation ->
+                records.putIfAbsent(invocation.getArgument(0), invocation.getArgument(1)) == null);
+        when(idempotencyMapper.find(anyString())).thenAnswer(invocation -> records.get(invocation.<String>getArgument(0)));
+        when(idempotencyMapper.complete(anyString(), anyString(), any(), any())).thenAnswer(invocation ->
+                records.computeIfPresent(invocation.getArgument(0), (key, current) ->
+                        current.getOwner().equals(invocation.getArgument(1)) ? invocation.getArgument(2) : current)
+                        == invocation.getArgument(2));
+        when(idempotencyMapper.release(anyString(), anyString())).thenAnswer(invocation ->
+                records.computeIfPresent(invocation.getArgument(0), (key, current) ->
+                        current.getOwner().equals(invocation.getArgument(1)) ? null : current) == null);
+
+        SecurityUserDetails user = TestDataFactory.createSecurityUserDetailsWithAuthorities("1", List.of("ROLE_ADMIN"));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private static MockHttpServletRequest post(String key, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/users");
+        if (key != null) {
+            request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key);
+        }
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    /**
+     * The same request as sent with Transfer-Encoding: chunked, without a Content-Length
+     */
+    private static HttpServletRequest chunked(MockHttpServletRequest request) {
+        request.addHeader("Transfer-Encoding", "chunked");
+        return new HttpServletRequestWrapper(request) {
+            @Override
+            public int getContentLength() {
+                return -1;
+            }
+
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+    }
+
+    /**
+     * Handler that echoes the request body with the given status and counts its runs
+     */
+    private static FilterChain handler(AtomicInteger runs, int status) {
+        return (request, response) -> {
+            runs.incrementAndGet();
+            String body = new String(request.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            ((HttpServletResponse) response).setStatus(status);
+            response.setContentType("application/json");
+            response.getWriter().write("{\"echo\":" + body + "}");
+        };
+    }
+
+    /**
+     * Handler that echoes the body as JSON, read with a ReadListener (servlet non-blocking I/O)
+     */
+    private static FilterChain nonBlockingHandler(AtomicInteger runs) {
+        return (request, response) -> {
+            runs.incrementAndGet();
+            ServletInputStream input = request.getInputStream();
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            input.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    byte[] buffer = new byte[256];
+                    while (input.isReady() && !input.isFinished()) {
+                        int read = input.read(buffer);
+                        if (read > 0) {
+                            body.write(buffer, 0, read);
+                        }
+                    }
+                }
+
+                @Override
+                public void onAllDataRead() throws IOException {
+                    ((HttpServletResponse) response).setStatus(200);
+                    response.setContentType("application/json");
+                    response.getWriter().write("{\"echo\":" + body.toString(StandardCharsets.UTF_8) + "}");
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    ((HttpServletResponse) response).setStatus(500);
+                }
+            });
+        };
+    }
+
+    @Test
+    @DisplayName("Should run the first request and replay its response for a retry")
+    void shouldReplayStoredResponse() throws Exception {
+        // Given
+        AtomicInteger runs = new AtomicInteger();
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        MockHttpServletResponse retry = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(post("k1", "{\"a\":1}"), first, handler(runs, 200));
+        filter.doFilter(post("k1", "{\"a\":1}"), retry, handler(runs, 200));
+
+        // Then
+        assertThat(runs).hasValue(1);
+        assertThat(first.getContentAsString()).isEqualTo("{\"echo\":{\"a\":1}}");
+        assertThat(retry.getContentAsString()).isEqualTo(first.getContentAsString());
+        assertThat(retry.getStatus()).isEqualTo(200);
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(records).containsOnlyKeys("1:k1");
+    }
+
+    @Test
+    @DisplayName("Should reject a key reused for a different body")
+    void shouldRejectKeyReuse() throws Exception {
+        // Given
+        AtomicInteger runs = new AtomicInteger();
+        filter.doFilter(post("k1", "{\"a\":1}"), new MockHttpServletResponse(), handler(runs, 200));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(post("k1", "{\"a\":2}"), response, handler(runs, 200));
+
+        // Then
+        assertThat(runs).hasValue(1);
+        assertThat(response.getStatus()).isEqualTo(ErrorCode.IDEMPOTENCY_KEY_REUSED.getHttpStatus().value());
+    }
+
+    @Test
+    @DisplayName("Should reject a key reused for a different chunked body")
+    void shouldRejectKeyReuseWithoutContentLength() throws Exception {
+        // Given
+        AtomicInteger runs = new AtomicInteger();
+        filter.doFilter(chunked(post("k1", "{\"a\":1}")), new MockHttpServletResponse(), handler(runs, 200));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(chunked(post("k1", "{\"a\":2}")), response, handler(runs, 200));
+
+        // Then
+        assertThat(runs).hasValue(1);
+        assertThat(response.getStatus()).isEqualTo(ErrorCode.IDEMPOTENCY_KEY_REUSED.getHttpStatus().value());
+    }
+
+    @Test
+    @DisplayName("Should hand a body over the fingerprint limit to the handler intact")
+    void shouldStreamBodyOverFingerprintLimit() throws Exception {
+        // Given
+        String large = "\"" + "x".repeat(new IdempotencyProperties().getMaxFingerprintBodySize() + 100) + "\"";
+        AtomicInteger runs = new AtomicInteger();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(chunked(post("k1", large)), response, handler(runs, 200));
+
+        // Then
+        assertThat(runs).hasValue(1);
+        assertThat(response.getContentAsString()).isEqualTo("{\"echo\":" + large + "}");
+    }
+
+    @Test
+    @DisplayName("Should serve a buffered body to a non-blocking reader")
+    void shouldServeBufferedBodyToReadListener() throws Exception {
+        // Given
+        AtomicInteger runs = new AtomicInteger();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(post("k1", "{\"a\":1}"), response, nonBlockingHandler(runs));
+
+        // Then
+        assertThat(runs).hasValue(1);
+        assertThat(response.getContentAsString()).isEqualTo("{\"echo\":{\"a\":1}}");
+    }
+
+    @Test
+    @DisplayName("Should serve the head and then the container's stream to a non-blocking reader")
+    void shouldServeStreamedBodyToReadListener() throws Exception {
+        // Given - a body over the fingerprint limit, whose rest stays with the container's stream
+        String large = "\"" + "x".repeat(new IdempotencyProperties().getMaxFingerprintBodySize() + 100) + "\"";
+        MockHttpServletRequest request = post("k1", large);
+        ServletInputStream containerStream = new ListenerInputStream(large.getBytes(StandardCharsets.UTF_8));
+        HttpServletRequest nonBlocking = new HttpServletRequestWrapper(request) {
+            @Override
+            public ServletInputStream getInputStream() {
+                return containerStream;
+            }
+        };
+        AtomicInteger runs = new AtomicInteger();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(nonBlocking, response, nonBlockingHandler(runs));
+
+        // Then
+        assertThat(runs).hasValue(1);
+        assertThat(response.getContentAsString()).isEqualTo("{\"echo\":" + large + "}");
+    }
+
+    @Test
+    @DisplayName("Should leave multipart bodies to the container")
+    void shouldNotReadMultipartBody() throws Exception {
+        // Given
+        MockHttpServletRequest request = post("k1", "--boundary--");
+        request.setContentType("multipart/form-data; boundary=boundary");
+        AtomicInteger runs = new AtomicInteger();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, (req, res) -> {
+            runs.incrementAndGet();
+            assertThat(req).isSameAs(request);
+        });
+
+        // Then
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should neither store nor release once another request owns the key")
+    void shouldKeepNewerOwnersRecord() throws Exception {
+        // Given - the reservation expires while the handler runs and another request takes the key
+        IdempotencyRecord newer = IdempotencyRecord.inFlight("f", "other-node");
+        FilterChain slowHandler = (request, response) -> {
+            records.put("1:k1", newer);
+            ((HttpServletResponse) response).setStatus(200);
+        };
+        FilterChain failingHandler = (request, response) -> {
+            records.put("1:k1", newer);
+            ((HttpServletResponse) response).setStatus(500);
+        };
+
+        // When
+        filter.doFilter(post("k1", "{}"), new MockHttpServletResponse(), slowHandler);
+        IdempotencyRecord afterStore = records.get("1:k1");
+        records.clear();
+        filter.doFilter(post("k2", "{}"), new MockHttpServletResponse(), failingHandler);
+
+        // Then
+        assertThat(afterStore).isSameAs(newer);
+        assertThat(records.get("1:k1")).isSameAs(newer);
+    }
+
+    @Test
+    @DisplayName("Should release the key after a server error so the retry runs again")
+    void shouldReleaseKeyOnServerError() throws Exception {
+        // Given
+        AtomicInteger runs = new AtomicInteger();
+
+        // When
+        filter.doFilter(post("k1", "{}"), new MockHttpServletResponse(), handler(runs, 500));
+        filter.doFilter(post("k1", "{}"), new MockHttpServletResponse(), handler(runs, 200));
+
+        // Then
+        assertThat(runs).hasValue(2);
+        verify(idempotencyMapper, times(1)).release(eq("1:k1"), anyString());
+    }
+
+    @Test
+    @DisplayName("Should store client errors like successes")
+    void shouldStoreClientErrors() throws Exception {
+        // Given
+        AtomicInteger runs = new AtomicInteger();
+        MockHttpServletResponse retry = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(post("k1", "{}"), new MockHttpServletResponse(), handler(runs, 400));
+        filter.doFilter(post("k1", "{}"), retry, handler(runs, 400));
+
+        // Then
+        assertThat(runs).hasValue(1);
+        assertThat(retry.getStatus()).isEqualTo(400);
+    }
+
+    @Test
+    @DisplayName("Should wait for an in-flight duplicate and replay its response")
+    void shouldWaitForInFlightDuplicate() throws Exception {
+        // Given - another node holds the key and completes after a few polls
+        AtomicInteger runs = new AtomicInteger();
+        MockHttpServletResponse reference = new MockHttpServletResponse();
+        filter.doFilter(post("k1", "{}"), reference, handler(runs, 200));
+        IdempotencyRecord completed = records.get("1:k1");
+        records.put("1:k1", IdempotencyRecord.inFlight(completed.getFingerprint(), "other-node"));
+        AtomicInteger polls = new AtomicInteger();
+        doAnswer(invocation -> polls.incrementAndGet() < 3 ? records.get("1:k1") : completed)
+                .when(idempotencyMapper).find("1:k1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(post("k1", "{}"), response, handler(runs, 200));
+
+        // Then
+        assertThat(runs).hasValue(1);
+        assertThat(polls.get()).isGreaterThanOrEqualTo(3);
+        assertThat(response.getContentAsString()).isEqualTo(reference.getContentAsString());
+    }
+
+    @Test
+    @DisplayName("Should give up with 409 when the in-flight request does not finish in time")
+    void shouldTimeOutWaitingForInFlightDuplicate() throws Exception {
+        // Given
+        AtomicInteger runs = new AtomicInteger();
+        filter.doFilter(post("k1", "{}"), new MockHttpServletResponse(), handler(runs, 200));
+        records.put("1:k1", IdempotencyRecord.inFlight(records.get("1:k1").getFingerprint(), "other-node"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(post("k1", "{}"), response, handler(runs, 200));
+
+        // Then
+        assertThat(runs).hasValue(1);
+        assertThat(response.getStatus()).isEqualTo(ErrorCode.REQUEST_IN_PROGRESS.getHttpStatus().value());
+    }
+
+    @Test
+    @DisplayName("Should run the request without idempotency when Redis is down")
+    void shouldFallBackWhenRedisFails() throws Exception {
+        // Given
+        doThrow(new RedisConnectionFailureException("down"))
+                .when(idempotencyMapper).tryStart(anyString(), any(), any());
+        AtomicInteger runs = new AtomicInteger();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(post("k1", "{\"a\":1}"), response, handler(runs, 200));
+
+        // Then
+        assertThat(runs).hasValue(1);
+        assertThat(response.getContentAsString()).isEqualTo("{\"echo\":{\"a\":1}}");
+    }
+
+    @Test
+    @DisplayName("Should reject an overlong key")
+    void shouldRejectOverlongKey() throws Exception {
+        // Given
+        AtomicInteger runs = new AtomicInteger();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(post("k".repeat(256), "{}"), response, handler(runs, 200));
+
+        // Then
+        assertThat(runs).hasValue(0);
+        assertThat(response.getStatus()).isEqualTo(400);
+    }
+
+    @Test
+    @DisplayName("Should pass through safe methods, requests without a key and anonymous callers")
+    void shouldPassThroughUncoveredRequests() throws Exception {
+        // Given
+        AtomicInteger runs = new AtomicInteger();
+        MockHttpServletRequest get = new MockHttpServletRequest("GET", "/api/users");
+        get.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "k1");
+
+        // When
+        filter.doFilter(get, new MockHttpServletResponse(), handler(runs, 200));
+        filter.doFilter(post(null, "{}"), new MockHttpServletResponse(), handler(runs, 200));
+        SecurityContextHolder.clearContext();
+        filter.doFilter(post("k1", "{}"), new MockHttpServletResponse(), handler(runs, 200));
+
+        // Then
+        assertThat(runs).hasValue(3);
+        verifyNoInteractions(idempotencyMapper);
+    }
+
+    /**
+     * Container-like stream supporting a ReadListener: all data is available at once
+     */
+    private static final class ListenerInputStream extends ServletInputStream {
+
+        private final ByteArrayInputStream bytes;
+
+        ListenerInputStream(byte[] content) {
+            this.bytes = new ByteArrayInputStream(content);
+        }
+
+        @Override
+        public boolean isFinished() {
+            return bytes.available() == 0;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            try {
+                readListener.onDataAvailable();
+                readListener.onAllDataRead();
+            } catch (IOException e) {
+                readListener.onError(e);
+            }
+        }
+
+        @Override
+        public int read() {
+            return bytes.read();
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            return bytes.read(buffer, offset, length);
+        }
+    }
+}
@@ -1,16 +1,27 @@
 package com.java.admin.infrastructure.filter;
 
 import com.java.admin.config.AuthProperties;
+import com.java.admin.config.LogThrottleProperties;
+import com.java.admin.infrastructure.logging.DebugLogContextHolder;
+import com.java.admin.infrastructure.logging.DebugLogRules;
+import com.java.admin.infrastructure.logging.LogThrottle;
 import com.java.admin.infrastructure.model.SecurityUserDetails;
 import com.java.admin.infrastructure.util.JwtUtil;
 import com.java.admin.modules.system.mapper.SessionMapper;
 import com.java.admin.testutil.AbstractMockTest;
 import com.java.admin.testutil.TestDataFactory;
+import com.java.admin.testutil.TracingTestSupport;
+import com.java.admin.infrastructure.constants.ErrorCode;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.AfterEach;
@@ -22,9 +33,12 @@ import org.mockito.MockedStatic;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.io.IOException;
-import java.io.PrintWriter;
-import java.io.StringWriter;
+import java.time.Instant;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -41,6 +55,8 @@ import static org.mockito.Mockito.*;
  *   <li>Token invalid scenarios</li>
  *   <li>Session expired scenarios</li>
  *   <li>Token fingerprint mismatch scenarios</li>
+ *   <li>Phase timers and outcome counters</li>
+ *   <li>Authentication span</li>
  * </ul>
  *
  * <p>Coverage Target: 90%+
@@ -69,13 +85,20 @@ class JwtAuthenticationFilterTest extends AbstractMockTest {
     @Mock
     private AuthProperties authProperties;
     @Mock
-    private PrintWriter writer;
+    private ServletOutputStream outputStream;
+    private SimpleMeterRegistry meterRegistry;
+    private TracingTestSupport tracing;
+    private DebugLogRules debugLogRules;
     private JwtAuthenticationFilter filter;
     private MockedStatic<JwtUtil> mockedJwtUtil;
 
     @BeforeEach
     void setUp() throws IOException {
-        filter = new JwtAuthenticationFilter(sessionMapper, authProperties);
+        meterRegistry = new SimpleMeterRegistry();
+        tracing = new TracingTestSupport();
+        debugLogRules = new DebugLogRules();
+        filter = new JwtAuthenticationFilter(sessionMapper, authProperties, new AuthMetrics(meterRegistry),
+                tracing.tracer(), new LogThrottle(new LogThrottleProperties()), debugLogRules);
 
         // Configure skip paths mock
         when(authProperties.getSkipPaths())
@@ -85,7 +108,7 @@ class JwtAuthenticationFilterTest extends AbstractMockTest {
         mockedJwtUtil = mockStatic(JwtUtil.class);
 
         // Configure default behavior
-        when(response.getWriter()).thenReturn(writer);
+        when(response.getOutputStream()).thenReturn(outputStream);
         when(authProperties.getAccessExpireMillis()).thenReturn(ACCESS_EXPIRE_MILLIS);
     }
 
@@ -95,6 +118,8 @@ class JwtAuthenticationFilterTest extends AbstractMockTest {
             mockedJwtUtil.close();
         }
         SecurityContextHolder.clearContext();
+        debugLogRules.clear();
+        DebugLogContextHolder.end();
     }
 
     @Test
@@ -120,7 +145,7 @@ class JwtAuthenticationFilterTest extends AbstractMockTest {
 
         for (String uri : skipUris) {
             reset(request, response, filterChain);
-            when(response.getWriter()).thenReturn(writer);
+            when(response.getOutputStream()).thenReturn(outputStream);
             when(request.getRequestURI()).thenReturn(uri);
 
             // When - Use doFilter() instead of doFilterInternal()
@@ -139,9 +164,6 @@ class JwtAuthenticationFilterTest extends AbstractMockTest {
         when(request.getRequestURI()).thenReturn(TEST_URI);
         when(request.getHeader("access_token")).thenReturn(null);
 
-        StringWriter stringWriter = new StringWriter();
-        when(response.getWriter()).thenReturn(new PrintWriter(stringWriter));
-
         // When
         filter.doFilterInternal(request, response, filterChain);
 
@@ -149,6 +171,8 @@ class JwtAuthenticationFilterTest extends AbstractMockTest {
         verify(response).setStatus(401);
         verify(response).setContentType("application/json;charset=UTF-8");
         verify(filterChain, never()).doFilter(request, response);
+        assertThat(outcomeCount(ErrorCode.TOKEN_MISSING.name())).isEqualTo(1);
+        assertThat(phaseCount(AuthMetrics.Phase.TOKEN_PARSE)).isZero();
     }
 
     @Test
@@ -158,9 +182,6 @@ class JwtAuthenticationFilterTest extends AbstractMockTest {
         when(request.getRequestURI()).thenReturn(TEST_URI);
         when(request.getHeader("access_token")).thenReturn("");
 
-        StringWriter stringWriter = new StringWriter();
-        when(response.getWriter()).thenReturn(new PrintWriter(stringWriter));
-
         // When
         filter.doFilterInternal(request, response, filterChain);
 
@@ -192,6 +213,10 @@ class JwtAuthenticationFilterTest extends AbstractMockTest {
         verify(sessionMapper, times(1)).find(TEST_USER_ID);
         verify(filterChain, times(1)).doFilter(request, response);
         verify(response, never()).setStatus(anyInt());
+        assertThat(outcomeCount("AUTHENTICATED")).isEqualTo(1);
+        assertThat(phaseCount(AuthMetrics.Phase.TOKEN_PARSE)).isEqualTo(1);
+        assertThat(phaseCount(AuthMetrics.Phase.SESSION_LOOKUP)).isEqualTo(1);
+        assertThat(phaseCount(AuthMetrics.Phase.TOKEN_REFRESH)).isZero();
     }
 
     @Test
@@ -219,6 +244,34 @@ class JwtAuthenticationFilterTest extends AbstractMockTest {
                 .isEqualTo(userDetails);
     }
 
+    @Test
+    @DisplayName("Should turn on debug logging for the rest of the request when the user is being debugged")
+    void shouldEnableDebugLogForDebuggedUser() throws ServletException, IOException {
+        // Given
+        SecurityUserDetails userDetails = TestDataFactory.createSecurityUserDetails(TEST_USER_ID);
+        when(request.getRequestURI()).thenReturn(TEST_URI);
+        when(request.getHeader("access_token")).thenReturn(VALID_TOKEN);
+        Claims claims = mock(Claims.class);
+        when(claims.getSubject()).thenReturn(TEST_USER_ID);
+        mockedJwtUtil.when(() -> JwtUtil.parseClaims(VALID_TOKEN)).thenReturn(claims);
+        when(sessionMapper.find(TEST_USER_ID)).thenReturn(userDetails);
+
+        debugLogRules.set(new DebugLogRules.Rules(Set.of(TEST_USER_ID), null, 0.0,
+                Instant.now().plusSeconds(60)));
+        DebugLogContextHolder.begin(false);
+        AtomicBoolean enabledInChain = new AtomicBoolean();
+        doAnswer(invocation -> {
+            enabledInChain.set(DebugLogContextHolder.isEnabled());
+            return null;
+        }).when(filterChain).doFilter(request, response);
+
+        // When
+        filter.doFilterInternal(request, response, filterChain);
+
+        // Then
+        assertThat(enabledInChain).isTrue();
+    }
+
     @Test
     @DisplayName("Should auto-refresh expired token when session is valid")
     void shouldRefreshExpiredTokenWhenSessionValid() throws ServletException, IOException {
@@ -258,6 +311,13 @@ class JwtAuthenticationFilterTest extends AbstractMockTest {
 
         // Verify fingerprint is updated
         assertThat(userDetails.getCurrentTokenFingerprint()).isEqualTo(NEW_FINGERPRINT);
+
+        // Every phase is timed once and the outcome is a refresh
+        for (AuthMetrics.Phase phase : AuthMetrics.Phase.values()) {
+            assertThat(phaseCount(phase)).as(phase.name()).isEqualTo(1);
+        }
+        assertThat(outcomeCount("REFRESHED")).isEqualTo(1);
+        assertThat(outcomeCount("AUTHENTICATED")).isZero();
     }
 
     @Test
@@ -374,6 +434,8 @@ class JwtAuthenticationFilterTest extends AbstractMockTest {
         verify(response).setContentType("application/json;charset=UTF-8");
         verify(filterChain, never()).doFilter(request, response);
         verify(sessionMapper, never()).save(any());
+        assertThat(outcomeCount(ErrorCode.TOKEN_FINGERPRINT_MISMATCH.name())).isEqualTo(1);
+        assertThat(phaseCount(AuthMetrics.Phase.SESSION_SAVE)).isZero();
     }
 
     @Test
@@ -405,9 +467,6 @@ class JwtAuthenticationFilterTest extends AbstractMockTest {
         when(request.getRequestURI()).thenReturn(specialUri);
         when(request.getHeader("access_token")).thenReturn(null);
 
-        StringWriter stringWriter = new StringWriter();
-        when(response.getWriter()).thenReturn(new PrintWriter(stringWriter));
-
         // When
         filter.doFilterInternal(request, response, filterChain);
 
@@ -485,4 +544,67 @@ class JwtAuthenticationFilterTest extends AbstractMockTest {
         assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal())
                 .isEqualTo(userDetails);
     }
+
+    @Test
+    @DisplayName("Should trace authentication in a span tagged with outcome and user")
+    void shouldTraceAuthenticationSpan() throws ServletException, IOException {
+        // Given
+        SecurityUserDetails userDetails = TestDataFactory.createSecurityUserDetails(TEST_USER_ID);
+        userDetails.setCurrentTokenFingerprint(TOKEN_FINGERPRINT);
+
+        when(request.getRequestURI()).thenReturn(TEST_URI);
+        when(request.getHeader("access_token")).thenReturn(VALID_TOKEN);
+
+        Claims claims = mock(Claims.class);
+        when(claims.getSubject()).thenReturn(TEST_USER_ID);
+        mockedJwtUtil.when(() -> JwtUtil.parseClaims(VALID_TOKEN)).thenReturn(claims);
+
+        AtomicReference<String> lookupSpanId = new AtomicReference<>();
+        when(sessionMapper.find(TEST_USER_ID)).thenAnswer(invocation -> {
+            lookupSpanId.set(tracing.tracer().currentSpan().context().spanId());
+            return userDetails;
+        });
+        AtomicReference<Object> chainSpan = new AtomicReference<>("not called");
+        doAnswer(invocation -> {
+            chainSpan.set(tracing.tracer().currentSpan());
+            return null;
+        }).when(filterChain).doFilter(request, response);
+
+        // When
+        filter.doFilterInternal(request, response, filterChain);
+
+        // Then - session lookup runs in the span, the rest of the chain after it
+        SpanData span = tracing.span("auth.filter");
+        assertThat(span.getAttributes().get(AttributeKey.stringKey("auth.outcome"))).isEqualTo("AUTHENTICATED");
+        assertThat(span.getAttributes().get(AttributeKey.stringKey("enduser.id"))).isEqualTo(TEST_USER_ID);
+        assertThat(lookupSpanId.get()).isEqualTo(span.getSpanId());
+        assertThat(chainSpan.get()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should tag the authentication span with the rejection reason")
+    void shouldTagSpanWithRejectionReason() throws ServletException, IOException {
+        // Given
+        when(request.getRequestURI()).thenReturn(TEST_URI);
+        when(request.getHeader("access_token")).thenReturn(null);
+
+        // When
+        filter.doFilterInternal(request, response, filterChain);
+
+        // Then
+        SpanData span = tracing.span("auth.filter");
+        assertThat(span.getAttributes().get(AttributeKey.stringKey("auth.outcome")))
+                .isEqualTo(ErrorCode.TOKEN_MISSING.name());
+        assertThat(span.getStatus().getStatusCode()).isNotEqualTo(StatusCode.ERROR);
+        assertThat(span.hasEnded()).isTrue();
+    }
+
+    private double outcomeCount(String outcome) {
+        return meterRegistry.get("auth.filter.outcomes").tag("outcome", outcome).counter().count();
+    }
+
+    private long phaseCount(AuthMetrics.Phase phase) {
+        return meterRegistry.get("auth.filter.phase")
+                .tag("phase", phase.name().toLowerCase(Locale.ROOT)).timer().count();
+    }
 }
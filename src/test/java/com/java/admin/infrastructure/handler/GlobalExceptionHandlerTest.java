@@ -1,7 +1,9 @@
 package com.java.admin.infrastructure.handler;
 
+import com.java.admin.config.LogThrottleProperties;
 import com.java.admin.infrastructure.constants.ErrorCode;
 import com.java.admin.infrastructure.exception.AppException;
+import com.java.admin.infrastructure.logging.LogThrottle;
 import com.java.admin.infrastructure.model.Result;
 import com.java.admin.testutil.AbstractMockTest;
 import jakarta.servlet.http.HttpServletRequest;
@@ -10,7 +12,6 @@ import jakarta.validation.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.core.MethodParameter;
 import org.springframework.http.ResponseEntity;
@@ -43,7 +44,6 @@ import static org.mockito.Mockito.when;
 @org.mockito.junit.jupiter.MockitoSettings(strictness = org.mockito.quality.Strictness.LENIENT)
 class GlobalExceptionHandlerTest extends AbstractMockTest {
 
-    @InjectMocks
     private GlobalExceptionHandler globalExceptionHandler;
 
     @Mock
@@ -54,6 +54,7 @@ class GlobalExceptionHandlerTest extends AbstractMockTest {
 
     @BeforeEach
     void setUp() {
+        globalExceptionHandler = new GlobalExceptionHandler(new LogThrottle(new LogThrottleProperties()));
         when(request.getRequestURI()).thenReturn("/api/test");
         when(request.getMethod()).thenReturn("GET");
     }
@@ -0,0 +1,92 @@
+package com.java.admin.infrastructure.handler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.java.admin.config.JacksonConfig;
+import com.java.admin.infrastructure.model.Result;
+import com.java.admin.modules.system.model.SysUser;
+import com.java.admin.testutil.AbstractMockTest;
+import com.java.admin.testutil.TestDataFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SparseFieldsetAdvice Unit Tests
+ *
+ * <p>Test Coverage:
+ * <ul>
+ *   <li>Restricting filtered beans to the requested properties</li>
+ *   <li>Full output when no fieldset is requested</li>
+ * </ul>
+ *
+ * <p>Coverage Target: 90%+
+ */
+@DisplayName("SparseFieldsetAdvice Unit Tests")
+class SparseFieldsetAdviceTest extends AbstractMockTest {
+
+    /**
+     * Configured like the application mapper
+     */
+    private final ObjectMapper objectMapper = mvcObjectMapper();
+
+    private final SparseFieldsetAdvice advice = new SparseFieldsetAdvice();
+
+    private static ObjectMapper mvcObjectMapper() {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        new JacksonConfig().jsonFilterCustomizer().customize(builder);
+        return builder.build();
+    }
+
+    private String write(MockHttpServletRequest request, Object body) throws Exception {
+        MappingJacksonValue container = new MappingJacksonValue(body);
+        advice.beforeBodyWriteInternal(container, MediaType.APPLICATION_JSON, null,
+                new ServletServerHttpRequest(request), new ServletServerHttpResponse(new MockHttpServletResponse()));
+        return container.getFilters() == null
+                ? objectMapper.writeValueAsString(container.getValue())
+                : objectMapper.writer(container.getFilters()).writeValueAsString(container.getValue());
+    }
+
+    @Test
+    @DisplayName("Should write only the requested user fields inside the envelope")
+    void shouldWriteOnlyRequestedFields() throws Exception {
+        // Given
+        SysUser user = TestDataFactory.createDefaultUser();
+        user.setUserId("2");
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        SparseFieldsetAdvice.restrict(new ServletWebRequest(request), Set.of("userId", "userName"));
+
+        // When
+        String json = write(request, Result.success(user));
+
+        // Then
+        assertThat(json).contains("\"code\"", "\"userId\":\"2\"", "\"userName\"");
+        assertThat(json).doesNotContain("\"email\"", "\"status\"", "\"version\"");
+    }
+
+    @Test
+    @DisplayName("Should write all user fields when no fieldset is requested")
+    void shouldWriteAllFieldsByDefault() throws Exception {
+        // Given
+        SysUser user = TestDataFactory.createDefaultUser();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        SparseFieldsetAdvice.restrict(new ServletWebRequest(request), null);
+
+        // When
+        String json = write(request, Result.success(user));
+
+        // Then
+        assertThat(json).contains("\"userName\"", "\"email\"", "\"status\"");
+        assertThat(json).doesNotContain("\"password\"");
+    }
+}
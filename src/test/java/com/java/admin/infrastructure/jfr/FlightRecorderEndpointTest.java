@@ -0,0 +1,111 @@
+package com.java.admin.infrastructure.jfr;
+
+import jdk.jfr.RecordingState;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.core.io.Resource;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * FlightRecorderEndpoint Unit Tests
+ *
+ * <p>Test Coverage:
+ * <ul>
+ *   <li>Starting, listing and stopping recordings</li>
+ *   <li>Dumping a running recording with the application's events</li>
+ *   <li>Duplicate names, unknown settings and unknown recordings</li>
+ * </ul>
+ *
+ * <p>Coverage Target: 90%+
+ */
+@DisplayName("FlightRecorderEndpoint Unit Tests")
+class FlightRecorderEndpointTest {
+
+    private static final String NAME = "endpoint-test";
+
+    private final FlightRecorderEndpoint endpoint = new FlightRecorderEndpoint();
+
+    @AfterEach
+    void tearDown() {
+        endpoint.stop(NAME);
+    }
+
+    @Test
+    @DisplayName("Should start, list and stop a recording")
+    void shouldStartListAndStop() {
+        // When
+        FlightRecorderEndpoint.RecordingDescriptor started = endpoint.start(NAME, null, Duration.ofMinutes(5));
+
+        // Then
+        assertThat(started.state()).isEqualTo(RecordingState.RUNNING);
+        assertThat(started.duration()).isEqualTo(Duration.ofMinutes(5));
+        assertThat(endpoint.recordings()).extracting(FlightRecorderEndpoint.RecordingDescriptor::name).contains(NAME);
+
+        FlightRecorderEndpoint.RecordingDescriptor stopped = endpoint.stop(NAME);
+        assertThat(stopped.state()).isEqualTo(RecordingState.STOPPED);
+        assertThat(endpoint.recordings()).extracting(FlightRecorderEndpoint.RecordingDescriptor::name)
+                .doesNotContain(NAME);
+    }
+
+    @Test
+    @DisplayName("Should dump application events and delete the dump after reading")
+    void shouldDumpApplicationEvents() throws Exception {
+        // Given
+        endpoint.start(NAME, "profile", null);
+        TokenEvent.start(TokenEvent.VERIFY).finish("1", "VALID");
+
+        // When
+        Resource dump = endpoint.dump(NAME);
+
+        // Then
+        File file = dump.getFile();
+        Path copy = Files.createTempFile("copy-", ".jfr");
+        try {
+            try (InputStream input = dump.getInputStream()) {
+                Files.copy(input, copy, StandardCopyOption.REPLACE_EXISTING);
+            }
+            assertThat(file).doesNotExist();
+            assertThat(RecordingFile.readAllEvents(copy))
+                    .filteredOn(event -> event.getEventType().getName().equals("com.java.admin.Token"))
+                    .anySatisfy(event -> {
+                        assertThat(event.getString("operation")).isEqualTo(TokenEvent.VERIFY);
+                        assertThat(event.getString("userId")).isEqualTo("1");
+                        assertThat(event.getString("outcome")).isEqualTo("VALID");
+                    });
+        } finally {
+            Files.deleteIfExists(copy);
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject a duplicate name and unknown settings")
+    void shouldRejectInvalidStarts() {
+        // Given
+        endpoint.start(NAME, null, null);
+
+        // When & Then
+        assertThatThrownBy(() -> endpoint.start(NAME, null, null))
+                .isInstanceOf(InvalidEndpointRequestException.class);
+        assertThatThrownBy(() -> endpoint.start("other", "no-such-settings", null))
+                .isInstanceOf(InvalidEndpointRequestException.class);
+    }
+
+    @Test
+    @DisplayName("Should return null for unknown recordings")
+    void shouldReturnNullForUnknownRecordings() throws Exception {
+        assertThat(endpoint.dump("missing")).isNull();
+        assertThat(endpoint.stop("missing")).isNull();
+    }
+}
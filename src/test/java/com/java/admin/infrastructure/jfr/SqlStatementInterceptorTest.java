@@ -0,0 +1,233 @@
+package com.java.admin.infrastructure.jfr;
+
+import com.java.admin.infrastructure.profile.RequestProfile;
+import com.java.admin.infrastructure.profile.SlowRequest;
+import com.java.admin.testutil.TracingTestSupport;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.apache.ibatis.builder.StaticSqlSource;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.mockito.stubbing.Answer;
+
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * SqlStatementInterceptor Unit Tests
+ *
+ * <p>Test Coverage:
+ * <ul>
+ *   <li>Statement ID, command and row counts for queries and updates</li>
+ *   <li>Failed statements</li>
+ *   <li>Pass-through when the event is disabled</li>
+ *   <li>Spans added to the request profile</li>
+ *   <li>Trace spans under the current span only</li>
+ * </ul>
+ *
+ * <p>Coverage Target: 90%+
+ */
+@DisplayName("SqlStatementInterceptor Unit Tests")
+class SqlStatementInterceptorTest {
+
+    private static final Configuration CONFIGURATION = new Configuration();
+
+    private final TracingTestSupport tracing = new TracingTestSupport();
+    private final SqlStatementInterceptor interceptor = new SqlStatementInterceptor(tracing.tracer());
+    private Recording recording;
+
+    @BeforeEach
+    void setUp() {
+        recording = new Recording();
+        recording.enable(SqlStatementEvent.class);
+        recording.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        recording.close();
+    }
+
+    private static MappedStatement statement(String id, SqlCommandType command) {
+        return new MappedStatement.Builder(CONFIGURATION, id,
+                new StaticSqlSource(CONFIGURATION, "SELECT 1"), command).build();
+    }
+
+    private static Invocation invocation(MappedStatement statement, Object result) throws Exception {
+        Executor executor = mock(Executor.class);
+        Answer<Object> answer = invocation -> {
+            if (result instanceof Throwable throwable) {
+                throw throwable;
+            }
+            return result;
+        };
+        if (statement.getSqlCommandType() == SqlCommandType.SELECT) {
+            when(executor.query(any(), any(), any(), any())).thenAnswer(answer);
+            Method query = Executor.class.getMethod("query",
+                    MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class);
+            return new Invocation(executor, query, new Object[]{statement, null, RowBounds.DEFAULT, null});
+        }
+        when(executor.update(any(), any())).thenAnswer(answer);
+        Method update = Executor.class.getMethod("update", MappedStatement.class, Object.class);
+        return new Invocation(executor, update, new Object[]{statement, null});
+    }
+
+    private List<RecordedEvent> recordedEvents() throws Exception {
+        recording.stop();
+        Path file = Files.createTempFile("sql-", ".jfr");
+        try {
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().equals("com.java.admin.SqlStatement"))
+                    .toList();
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @DisplayName("Should record statement ID, command and row count")
+    void shouldRecordStatement() throws Throwable {
+        // Given
+        Invocation query = invocation(statement("SysUserMapper.selectList", SqlCommandType.SELECT), List.of(1, 2, 3));
+        Invocation update = invocation(statement("SysUserMapper.updateById", SqlCommandType.UPDATE), 1);
+
+        // When
+        interceptor.intercept(query);
+        interceptor.intercept(update);
+
+        // Then
+        List<RecordedEvent> events = recordedEvents();
+        assertThat(events).hasSize(2);
+        assertThat(events).anySatisfy(event -> {
+            assertThat(event.getString("statementId")).isEqualTo("SysUserMapper.selectList");
+            assertThat(event.getString("command")).isEqualTo("SELECT");
+            assertThat(event.getLong("rows")).isEqualTo(3);
+            assertThat(event.getBoolean("failed")).isFalse();
+        });
+        assertThat(events).anySatisfy(event -> {
+            assertThat(event.getString("command")).isEqualTo("UPDATE");
+            assertThat(event.getLong("rows")).isEqualTo(1);
+        });
+    }
+
+    @Test
+    @DisplayName("Should record failed statements and rethrow")
+    void shouldRecordFailedStatement() throws Throwable {
+        // Given
+        Invocation update = invocation(statement("SysUserMapper.insert", SqlCommandType.INSERT),
+                new SQLException("Duplicate entry"));
+
+        // When & Then
+        assertThatThrownBy(() -> interceptor.intercept(update)).hasRootCauseInstanceOf(SQLException.class);
+        assertThat(recordedEvents()).singleElement()
+                .satisfies(event -> assertThat(event.getBoolean("failed")).isTrue());
+    }
+
+    @Test
+    @DisplayName("Should only proceed when the event is disabled")
+    void shouldProceedWhenDisabled() throws Throwable {
+        // Given
+        recording.close();
+        recording = new Recording();
+        recording.disable(SqlStatementEvent.class);
+        recording.start();
+        Invocation query = invocation(statement("SysUserMapper.selectList", SqlCommandType.SELECT), List.of());
+
+        // When
+        Object result = interceptor.intercept(query);
+
+        // Then
+        assertThat(result).isEqualTo(List.of());
+        assertThat(recordedEvents()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should add the statement to the request profile even when the event is disabled")
+    void shouldAddSpanToRequestProfile() throws Throwable {
+        // Given
+        recording.close();
+        recording = new Recording();
+        recording.disable(SqlStatementEvent.class);
+        recording.start();
+        Invocation query = invocation(statement("SysUserMapper.selectList", SqlCommandType.SELECT), List.of(1, 2));
+        RequestProfile profile = RequestProfile.begin(10);
+
+        // When
+        try {
+            interceptor.intercept(query);
+        } finally {
+            RequestProfile.end();
+        }
+
+        // Then
+        SlowRequest captured = profile.toSlowRequest(new MockHttpServletRequest(), 200, 0);
+        assertThat(captured.spans()).singleElement().satisfies(span -> {
+            assertThat(span.kind()).isEqualTo("sql");
+            assertThat(span.name()).isEqualTo("SysUserMapper.selectList");
+            assertThat(span.rows()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    @DisplayName("Should trace statements as children of the current span")
+    void shouldTraceStatementUnderCurrentSpan() throws Throwable {
+        // Given
+        Invocation query = invocation(statement("SysUserMapper.selectList", SqlCommandType.SELECT), List.of(1, 2));
+        Invocation insert = invocation(statement("SysUserMapper.insert", SqlCommandType.INSERT),
+                new SQLException("Duplicate entry"));
+        Tracer tracer = tracing.tracer();
+        Span parent = tracer.nextSpan().name("SysUserController.listUsers").start();
+
+        // When
+        try (Tracer.SpanInScope ignored = tracer.withSpan(parent)) {
+            interceptor.intercept(query);
+            assertThatThrownBy(() -> interceptor.intercept(insert)).hasRootCauseInstanceOf(SQLException.class);
+        } finally {
+            parent.end();
+        }
+
+        // Then
+        SpanData select = tracing.span("SysUserMapper.selectList");
+        assertThat(select.getParentSpanId()).isEqualTo(parent.context().spanId());
+        assertThat(select.getAttributes().get(AttributeKey.stringKey("db.operation"))).isEqualTo("SELECT");
+        assertThat(select.getAttributes().get(AttributeKey.longKey("db.rows"))).isEqualTo(2L);
+        assertThat(tracing.span("SysUserMapper.insert").getStatus().getStatusCode()).isEqualTo(StatusCode.ERROR);
+    }
+
+    @Test
+    @DisplayName("Should not start a trace for statements outside a traced request")
+    void shouldNotTraceWithoutCurrentSpan() throws Throwable {
+        // Given
+        Invocation query = invocation(statement("SysUserMapper.selectList", SqlCommandType.SELECT), List.of());
+
+        // When
+        interceptor.intercept(query);
+
+        // Then
+        assertThat(tracing.spans()).isEmpty();
+    }
+}
@@ -0,0 +1,71 @@
+package com.java.admin.infrastructure.logging;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * DebugLogEndpoint Unit Tests
+ *
+ * <p>Test Coverage:
+ * <ul>
+ *   <li>Enabling, reading and disabling rules</li>
+ *   <li>Rejecting empty rules and out-of-range values</li>
+ * </ul>
+ *
+ * <p>Coverage Target: 90%+
+ */
+@DisplayName("DebugLogEndpoint Unit Tests")
+class DebugLogEndpointTest {
+
+    private final DebugLogRules rules = new DebugLogRules();
+    private final DebugLogEndpoint endpoint = new DebugLogEndpoint(rules);
+
+    @AfterEach
+    void tearDown() {
+        rules.clear();
+    }
+
+    @Test
+    @DisplayName("Should enable rules with the default duration, read and disable them")
+    void shouldEnableReadAndDisable() {
+        // When
+        DebugLogRules.Rules enabled = endpoint.enable(" 42, 43 ,", " ", 0.01, null);
+
+        // Then
+        assertThat(enabled.userIds()).containsExactlyInAnyOrder("42", "43");
+        assertThat(enabled.headerToken()).isNull();
+        assertThat(enabled.sampleRate()).isEqualTo(0.01);
+        assertThat(enabled.expiresAt()).isBetween(Instant.now().plus(Duration.ofMinutes(14)),
+                Instant.now().plus(Duration.ofMinutes(15)));
+        assertThat(endpoint.rules()).isEqualTo(enabled);
+
+        // When
+        endpoint.disable();
+
+        // Then
+        assertThat(endpoint.rules()).isNull();
+        assertThat(DebugLogContextHolder.isActive()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject empty rules, sample rates outside 0-1 and durations outside the limit")
+    void shouldRejectInvalidRules() {
+        assertThatThrownBy(() -> endpoint.enable(null, null, null, null))
+                .isInstanceOf(InvalidEndpointRequestException.class);
+        assertThatThrownBy(() -> endpoint.enable(null, null, 1.5, null))
+                .isInstanceOf(InvalidEndpointRequestException.class);
+        assertThatThrownBy(() -> endpoint.enable("42", null, null, Duration.ofHours(5)))
+                .isInstanceOf(InvalidEndpointRequestException.class);
+        assertThatThrownBy(() -> endpoint.enable("42", null, null, Duration.ZERO))
+                .isInstanceOf(InvalidEndpointRequestException.class);
+        assertThat(endpoint.rules()).isNull();
+    }
+}
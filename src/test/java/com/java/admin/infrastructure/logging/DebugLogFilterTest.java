@@ -0,0 +1,84 @@
+package com.java.admin.infrastructure.logging;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * DebugLogFilter Unit Tests
+ *
+ * <p>Test Coverage:
+ * <ul>
+ *   <li>Request scope opened from the rules and closed afterwards</li>
+ *   <li>Filter skipped while no rules are active</li>
+ * </ul>
+ *
+ * <p>Coverage Target: 90%+
+ */
+@DisplayName("DebugLogFilter Unit Tests")
+class DebugLogFilterTest {
+
+    private final DebugLogRules rules = new DebugLogRules();
+    private final DebugLogFilter filter = new DebugLogFilter(rules);
+
+    @AfterEach
+    void tearDown() {
+        rules.clear();
+        DebugLogContextHolder.end();
+    }
+
+    private Boolean enabledDuring(MockHttpServletRequest request) throws Exception {
+        AtomicReference<Boolean> enabled = new AtomicReference<>();
+        FilterChain chain = (req, res) -> enabled.set(DebugLogContextHolder.isEnabled());
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        return enabled.get();
+    }
+
+    @Test
+    @DisplayName("Should enable debug logging for selected requests only, and only during the request")
+    void shouldScopeDebugLoggingToSelectedRequests() throws Exception {
+        // Given
+        rules.set(new DebugLogRules.Rules(Set.of(), "s3cret", 0.0, Instant.now().plusSeconds(60)));
+        MockHttpServletRequest selected = new MockHttpServletRequest("GET", "/api/users");
+        selected.addHeader(DebugLogRules.HEADER, "s3cret");
+
+        // When
+        Boolean selectedEnabled = enabledDuring(selected);
+        Boolean otherEnabled = enabledDuring(new MockHttpServletRequest("GET", "/api/users"));
+
+        // Then
+        assertThat(selectedEnabled).isTrue();
+        assertThat(otherEnabled).isFalse();
+        assertThat(DebugLogContextHolder.isEnabled()).isFalse();
+        DebugLogContextHolder.enable();
+        assertThat(DebugLogContextHolder.isEnabled()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should not open a request scope while no rules are active")
+    void shouldSkipWithoutRules() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users");
+        request.addHeader(DebugLogRules.HEADER, "s3cret");
+
+        // When
+        AtomicReference<Boolean> enabledAfterEnable = new AtomicReference<>();
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            DebugLogContextHolder.enable();
+            DebugLogContextHolder.setActive(true);
+            enabledAfterEnable.set(DebugLogContextHolder.isEnabled());
+        });
+
+        // Then
+        assertThat(enabledAfterEnable.get()).isFalse();
+    }
+}
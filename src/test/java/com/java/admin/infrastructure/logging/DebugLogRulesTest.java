@@ -0,0 +1,98 @@
+package com.java.admin.infrastructure.logging;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * DebugLogRules Unit Tests
+ *
+ * <p>Test Coverage:
+ * <ul>
+ *   <li>Matching by header token, sampling and user ID</li>
+ *   <li>Expiry and clearing</li>
+ * </ul>
+ *
+ * <p>Coverage Target: 90%+
+ */
+@DisplayName("DebugLogRules Unit Tests")
+class DebugLogRulesTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-18T08:00:00Z");
+
+    private final DebugLogRules rules = new DebugLogRules(Clock.fixed(NOW, ZoneOffset.UTC));
+
+    @AfterEach
+    void tearDown() {
+        rules.clear();
+    }
+
+    private static MockHttpServletRequest request(String header) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users");
+        if (header != null) {
+            request.addHeader(DebugLogRules.HEADER, header);
+        }
+        return request;
+    }
+
+    @Test
+    @DisplayName("Should match requests carrying the header token and users in the list")
+    void shouldMatchHeaderTokenAndUsers() {
+        // Given
+        rules.set(new DebugLogRules.Rules(Set.of("42"), "s3cret", 0.0, NOW.plusSeconds(60)));
+
+        // Then
+        assertThat(DebugLogContextHolder.isActive()).isTrue();
+        assertThat(rules.matches(request("s3cret"))).isTrue();
+        assertThat(rules.matches(request("wrong"))).isFalse();
+        assertThat(rules.matches(request(null))).isFalse();
+        assertThat(rules.matchesUser("42")).isTrue();
+        assertThat(rules.matchesUser("43")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should match every request with sample rate 1 and none with sample rate 0")
+    void shouldMatchBySampleRate() {
+        // When
+        rules.set(new DebugLogRules.Rules(Set.of(), null, 1.0, NOW.plusSeconds(60)));
+        boolean all = rules.matches(request(null));
+        rules.set(new DebugLogRules.Rules(Set.of("42"), null, 0.0, NOW.plusSeconds(60)));
+        boolean none = rules.matches(request(null));
+
+        // Then
+        assertThat(all).isTrue();
+        assertThat(none).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should lift expired or cleared rules")
+    void shouldLiftExpiredAndClearedRules() {
+        // Given
+        rules.set(new DebugLogRules.Rules(Set.of("42"), "s3cret", 1.0, NOW));
+
+        // When
+        boolean matched = rules.matches(request("s3cret"));
+
+        // Then
+        assertThat(matched).isFalse();
+        assertThat(rules.get()).isNull();
+        assertThat(rules.matchesUser("42")).isFalse();
+        assertThat(DebugLogContextHolder.isActive()).isFalse();
+
+        // When
+        rules.set(new DebugLogRules.Rules(Set.of("42"), null, 0.0, NOW.plusSeconds(60)));
+        rules.clear();
+
+        // Then
+        assertThat(rules.get()).isNull();
+        assertThat(DebugLogContextHolder.isActive()).isFalse();
+    }
+}
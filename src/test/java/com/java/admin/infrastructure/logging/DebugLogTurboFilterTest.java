@@ -0,0 +1,107 @@
+package com.java.admin.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * DebugLogTurboFilter Unit Tests
+ *
+ * <p>Test Coverage:
+ * <ul>
+ *   <li>DEBUG accepted below the logger level for enabled requests</li>
+ *   <li>No effect without rules, outside enabled requests or outside the logger prefix</li>
+ * </ul>
+ *
+ * <p>Coverage Target: 90%+
+ */
+@DisplayName("DebugLogTurboFilter Unit Tests")
+class DebugLogTurboFilterTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final Logger logger = context.getLogger("com.java.admin.modules.system.service.SysUserService");
+    private final Logger frameworkLogger = context.getLogger("org.springframework.web.servlet.DispatcherServlet");
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private final DebugLogRules rules = new DebugLogRules();
+
+    @BeforeEach
+    void setUp() {
+        context.setMDCAdapter(new LogbackMDCAdapter());
+        DebugLogTurboFilter filter = new DebugLogTurboFilter();
+        filter.setContext(context);
+        filter.start();
+        context.addTurboFilter(filter);
+
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        appender.setContext(context);
+        appender.start();
+        root.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        rules.clear();
+        DebugLogContextHolder.end();
+    }
+
+    private void activateRules() {
+        rules.set(new DebugLogRules.Rules(Set.of("42"), null, 0.0, Instant.now().plusSeconds(60)));
+    }
+
+    @Test
+    @DisplayName("Should log DEBUG of application loggers for enabled requests although the level is INFO")
+    void shouldAcceptDebugForEnabledRequest() {
+        // Given
+        activateRules();
+        DebugLogContextHolder.begin(true);
+
+        // When
+        boolean debugEnabled = logger.isDebugEnabled();
+        logger.debug("User query - UserId: {}", "42");
+        logger.trace("Trace detail");
+        frameworkLogger.debug("Framework detail");
+
+        // Then
+        assertThat(debugEnabled).isTrue();
+        assertThat(appender.list).extracting(ILoggingEvent::getFormattedMessage)
+                .containsExactly("User query - UserId: 42", "Trace detail");
+    }
+
+    @Test
+    @DisplayName("Should leave DEBUG off without rules, outside a request scope and for requests not selected")
+    void shouldIgnoreDebugWhenNotEnabled() {
+        // When - no rules
+        DebugLogContextHolder.begin(true);
+        logger.debug("No rules");
+        DebugLogContextHolder.end();
+
+        // When - rules, but no request scope
+        activateRules();
+        logger.debug("No scope");
+        DebugLogContextHolder.enable();
+        logger.debug("Enable outside scope");
+
+        // When - request not selected
+        DebugLogContextHolder.begin(false);
+        logger.debug("Not selected");
+        logger.info("Info still logged");
+
+        // Then
+        assertThat(logger.isDebugEnabled()).isFalse();
+        assertThat(appender.list).extracting(ILoggingEvent::getFormattedMessage)
+                .containsExactly("Info still logged");
+    }
+}
@@ -0,0 +1,111 @@
+package com.java.admin.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.encoder.Encoder;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+/**
+ * Encoder throughput and allocation benchmark
+ *
+ * <p>Encodes the same mix of typical application events (a request line with trace IDs, a
+ * business warning, an error with a stack trace every 100th event) with the previous
+ * LOG_PATTERN text encoder and with {@link JsonEncoder}, on one thread, and reports events per
+ * second, bytes allocated per event and bytes written per event. Events are prepared up front,
+ * as the async appender does, so only encoding is measured.
+ *
+ * <p>Usage: {@code mvn test -Pbenchmark -Dtest=JsonEncoderBenchmarkTest}
+ * (override the run length with {@code -Dbenchmark.encoder.events=1000000})
+ */
+@Slf4j
+@Tag("benchmark")
+@DisplayName("Encoder Throughput Benchmark")
+class JsonEncoderBenchmarkTest {
+
+    private static final String LOG_PATTERN =
+            "%d{yyyy-MM-dd HH:mm:ss.SSS} [%thread] %-5level [%X{traceId:-},%X{spanId:-}] %logger{36} - %msg%n";
+    private static final int EVENTS = Integer.getInteger("benchmark.encoder.events", 1_000_000);
+    private static final int WARMUP_EVENTS = 200_000;
+
+    @Test
+    @DisplayName("Measure encoding throughput and allocation")
+    void measureEncoding() {
+        LoggerContext context = new LoggerContext();
+        context.setMDCAdapter(new LogbackMDCAdapter());
+        ILoggingEvent[] events = events(context);
+
+        PatternLayoutEncoder pattern = new PatternLayoutEncoder();
+        pattern.setContext(context);
+        pattern.setPattern(LOG_PATTERN);
+        pattern.start();
+        JsonEncoder json = new JsonEncoder();
+        json.setContext(context);
+        json.start();
+
+        log.info("Encoder | Events/s | Allocated B/event | Written B/event");
+        run("Pattern (LOG_PATTERN)", pattern, events);
+        run("JsonEncoder", json, events);
+    }
+
+    private void run(String name, Encoder<ILoggingEvent> encoder, ILoggingEvent[] events) {
+        encode(encoder, events, WARMUP_EVENTS);
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        long written = encode(encoder, events, EVENTS);
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        log.info("{} | {} | {} | {}", name, Math.round(EVENTS / (elapsed / 1e9)), allocated / EVENTS, written / EVENTS);
+    }
+
+    private static long encode(Encoder<ILoggingEvent> encoder, ILoggingEvent[] events, int count) {
+        long written = 0;
+        for (int i = 0; i < count; i++) {
+            written += encoder.encode(events[i % events.length]).length;
+        }
+        return written;
+    }
+
+    private static ILoggingEvent[] events(LoggerContext context) {
+        Logger controllerLog = context.getLogger("com.java.admin.infrastructure.aspect.ControllerLogAspect");
+        Logger handlerLog = context.getLogger("com.java.admin.infrastructure.handler.GlobalExceptionHandler");
+        Map<String, String> mdc = Map.of("traceId", "4bf92f3577b34da6a3ce929d0e0e4736", "spanId", "00f067aa0ba902b7");
+
+        ILoggingEvent[] events = new ILoggingEvent[100];
+        for (int i = 0; i < events.length; i++) {
+            LoggingEvent event;
+            if (i == 0) {
+                event = new LoggingEvent(Logger.class.getName(), handlerLog, Level.ERROR,
+                        "System exception - Type: {}, Message: {}, URI: {}", new IllegalStateException("boom"),
+                        new Object[]{"IllegalStateException", "boom", "/api/users/" + i});
+            } else if (i % 10 == 0) {
+                event = new LoggingEvent(Logger.class.getName(), handlerLog, Level.WARN,
+                        "Business exception - Type: {}, Code: {}, Message: {}, URI: {}", null,
+                        new Object[]{"AppException", "20002", "Data not found", "/api/users/" + i});
+            } else {
+                event = new LoggingEvent(Logger.class.getName(), controllerLog, Level.INFO,
+                        "Slow response - Method: {}, URI: {}, Cost: {}ms, Threshold: {}ms, Controller: {}, Action: {}",
+                        null, new Object[]{"GET", "/api/users/" + i, 1200L + i, 1000L, "SysUserController", "getUserById"});
+            }
+            event.setThreadName("http-nio-8000-exec-" + (i % 8));
+            event.setMDCPropertyMap(mdc);
+            event.prepareForDeferredProcessing();
+            events[i] = event;
+        }
+        return events;
+    }
+}
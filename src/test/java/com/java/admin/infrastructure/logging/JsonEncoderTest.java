@@ -0,0 +1,175 @@
+package com.java.admin.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.event.KeyValuePair;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JsonEncoder Unit Tests
+ *
+ * <p>Test Coverage:
+ * <ul>
+ *   <li>Fixed fields, timestamp and one object per line</li>
+ *   <li>Fields from labelled placeholders, MDC and key-value pairs</li>
+ *   <li>Escaping and UTF-8 encoding</li>
+ *   <li>Exceptions and buffer reuse</li>
+ * </ul>
+ *
+ * <p>Coverage Target: 90%+
+ */
+@DisplayName("JsonEncoder Unit Tests")
+class JsonEncoderTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final LoggerContext context = new LoggerContext();
+    private final Logger logger = context.getLogger("com.java.admin.modules.system.service.SysUserService");
+    private JsonEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        context.setMDCAdapter(new LogbackMDCAdapter());
+        encoder = new JsonEncoder();
+        encoder.setContext(context);
+        encoder.start();
+    }
+
+    private LoggingEvent event(Level level, String message, Object... arguments) {
+        LoggingEvent event = new LoggingEvent(Logger.class.getName(), logger, level, message, null, arguments);
+        event.setThreadName("http-nio-8000-exec-1");
+        event.setTimeStamp(1_792_310_130_123L);
+        return event;
+    }
+
+    private JsonNode encode(LoggingEvent event) throws Exception {
+        String line = new String(encoder.encode(event), StandardCharsets.UTF_8);
+        assertThat(line).endsWith("}\n").doesNotContain("\n}");
+        return OBJECT_MAPPER.readTree(line);
+    }
+
+    @Test
+    @DisplayName("Should write the fixed fields")
+    void shouldWriteFixedFields() throws Exception {
+        // When
+        JsonNode json = encode(event(Level.INFO, "User list query"));
+
+        // Then
+        assertThat(json.get("@timestamp").asText()).isEqualTo("2026-10-18T07:55:30.123Z");
+        assertThat(json.get("level").asText()).isEqualTo("INFO");
+        assertThat(json.get("thread").asText()).isEqualTo("http-nio-8000-exec-1");
+        assertThat(json.get("logger").asText()).isEqualTo("com.java.admin.modules.system.service.SysUserService");
+        assertThat(json.get("message").asText()).isEqualTo("User list query");
+        assertThat(json.has("exception")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should turn labelled placeholders into typed fields")
+    void shouldWriteFieldsFromLabelledPlaceholders() throws Exception {
+        // When
+        JsonNode json = encode(event(Level.WARN, "Slow response - Method: {}, URI: {}, Cost: {}ms, User ID: {}, Found: {}",
+                "GET", "/api/users", 1234L, "42", true));
+
+        // Then
+        assertThat(json.get("message").asText())
+                .isEqualTo("Slow response - Method: GET, URI: /api/users, Cost: 1234ms, User ID: 42, Found: true");
+        assertThat(json.get("method").asText()).isEqualTo("GET");
+        assertThat(json.get("uri").asText()).isEqualTo("/api/users");
+        assertThat(json.get("cost").isNumber()).isTrue();
+        assertThat(json.get("cost").asLong()).isEqualTo(1234L);
+        assertThat(json.get("userId").asText()).isEqualTo("42");
+        assertThat(json.get("found").isBoolean()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should map Code to errorCode and leave reserved or unlabelled placeholders in the message")
+    void shouldMapAliasesAndSkipReservedLabels() throws Exception {
+        // When
+        JsonNode json = encode(event(Level.WARN, "Business exception - Type: {}, Code: {}, Message: {}, URI: {} ({})",
+                "AppException", "20002", "Data not found", "/api/users/1", "extra"));
+
+        // Then
+        assertThat(json.get("type").asText()).isEqualTo("AppException");
+        assertThat(json.get("errorCode").asText()).isEqualTo("20002");
+        assertThat(json.get("message").asText()).startsWith("Business exception - Type: AppException");
+        assertThat(json.get("uri").asText()).isEqualTo("/api/users/1");
+        assertThat(json.size()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("Should write MDC entries and key-value pairs")
+    void shouldWriteMdcAndKeyValuePairs() throws Exception {
+        // Given
+        LoggingEvent event = event(Level.INFO, "Login success");
+        event.setMDCPropertyMap(Map.of("traceId", "4bf92f3577b34da6a3ce929d0e0e4736", "spanId", "00f067aa0ba902b7"));
+        event.addKeyValuePair(new KeyValuePair("attempts", 3));
+
+        // When
+        JsonNode json = encode(event);
+
+        // Then
+        assertThat(json.get("traceId").asText()).isEqualTo("4bf92f3577b34da6a3ce929d0e0e4736");
+        assertThat(json.get("spanId").asText()).isEqualTo("00f067aa0ba902b7");
+        assertThat(json.get("attempts").asInt()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should escape control characters and quotes and encode non-ASCII text as UTF-8")
+    void shouldEscapeAndEncodeText() throws Exception {
+        // Given
+        String username = "张三 \"admin\"\\\n\t\u0001 😀";
+
+        // When
+        JsonNode json = encode(event(Level.INFO, "Login attempt - Username: {}", username));
+
+        // Then
+        assertThat(json.get("username").asText()).isEqualTo(username);
+        assertThat(json.get("message").asText()).isEqualTo("Login attempt - Username: " + username);
+    }
+
+    @Test
+    @DisplayName("Should write the stack trace of an attached exception")
+    void shouldWriteException() throws Exception {
+        // Given
+        LoggingEvent event = new LoggingEvent(Logger.class.getName(), logger, Level.ERROR,
+                "System exception - URI: {}", new IllegalStateException("boom"), new Object[]{"/api/users"});
+
+        // When
+        JsonNode json = encode(event);
+
+        // Then
+        assertThat(json.get("uri").asText()).isEqualTo("/api/users");
+        assertThat(json.get("exception").asText())
+                .startsWith("java.lang.IllegalStateException: boom")
+                .contains("at com.java.admin.infrastructure.logging.JsonEncoderTest");
+    }
+
+    @Test
+    @DisplayName("Should not leak content between events when the buffer is reused or grown")
+    void shouldReuseBufferBetweenEvents() throws Exception {
+        // Given
+        String large = "x".repeat(100_000);
+
+        // When
+        JsonNode first = encode(event(Level.INFO, "Import failed - Reason: {}", large));
+        JsonNode second = encode(event(Level.INFO, "Import done - Count: {}", 5));
+
+        // Then
+        assertThat(first.get("reason").asText()).hasSize(100_000);
+        assertThat(second.get("count").asInt()).isEqualTo(5);
+        assertThat(second.has("reason")).isFalse();
+        assertThat(second.get("message").asText()).isEqualTo("Import done - Count: 5");
+    }
+}
@@ -0,0 +1,159 @@
+package com.java.admin.infrastructure.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedOutputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+/**
+ * Request-thread logging cost under a saturated disk
+ *
+ * <p>Request threads log as fast as they can into a file appender whose every write to the
+ * "disk" takes {@code benchmark.disk.latency.micros} (default 200us), so the disk is the
+ * bottleneck. Compares the previous setup (AsyncAppender, queue 10000, discardingThreshold 0,
+ * flush per event) with {@link RingBufferAppender} under each overflow policy (flush per batch),
+ * and reports per-call latency percentiles, the time until the disk caught up and dropped events.
+ *
+ * <p>Usage: {@code mvn test -Pbenchmark -Dtest=RingBufferAppenderBenchmarkTest}
+ * (override load with {@code -Dbenchmark.logging.threads=16 -Dbenchmark.logging.events=2000})
+ */
+@Slf4j
+@Tag("benchmark")
+@DisplayName("Ring Buffer Appender Benchmark")
+class RingBufferAppenderBenchmarkTest {
+
+    private static final int THREADS = Integer.getInteger("benchmark.logging.threads", 16);
+    private static final int EVENTS_PER_THREAD = Integer.getInteger("benchmark.logging.events", 2_000);
+    private static final long DISK_LATENCY_NANOS =
+            TimeUnit.MICROSECONDS.toNanos(Long.getLong("benchmark.disk.latency.micros", 200));
+
+    @Test
+    @DisplayName("Measure request-thread logging latency with a saturated disk")
+    void measureLoggingLatencyWithSaturatedDisk() throws Exception {
+        log.info("Appender | p50 us | p99 us | p99.9 us | max us | Drained ms | Disk writes | Dropped");
+        run("AsyncAppender (queue 10000, flush per event)", file -> {
+            file.setImmediateFlush(true);
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(file.getContext());
+            async.setQueueSize(10_000);
+            async.setDiscardingThreshold(0);
+            async.setMaxFlushTime(600_000);
+            async.addAppender(file);
+            return async;
+        });
+        for (RingBufferAppender.OverflowPolicy policy : RingBufferAppender.OverflowPolicy.values()) {
+            run("RingBufferAppender " + policy + " (flush per batch)", file -> {
+                file.setImmediateFlush(false);
+                RingBufferAppender ring = new RingBufferAppender();
+                ring.setContext(file.getContext());
+                ring.setBufferSize(16_384);
+                ring.setBatchSize(512);
+                ring.setOverflowPolicy(policy);
+                ring.setMaxFlushTime(600_000);
+                ring.addAppender(file);
+                return ring;
+            });
+        }
+    }
+
+    private void run(String name, Function<OutputStreamAppender<ILoggingEvent>, Appender<ILoggingEvent>> wrap)
+            throws Exception {
+        LoggerContext context = new LoggerContext();
+        context.setMDCAdapter(new LogbackMDCAdapter());
+        SlowDisk disk = new SlowDisk();
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd HH:mm:ss.SSS} [%thread] %-5level %logger{36} - %msg%n");
+        encoder.start();
+        OutputStreamAppender<ILoggingEvent> file = new OutputStreamAppender<>();
+        file.setContext(context);
+        file.setEncoder(encoder);
+        file.setOutputStream(new BufferedOutputStream(disk, 64 * 1024));
+        Appender<ILoggingEvent> appender = wrap.apply(file);
+        file.start();
+        appender.start();
+
+        Logger logger = context.getLogger("com.java.admin.benchmark");
+        logger.setLevel(Level.INFO);
+        logger.addAppender(appender);
+
+        long[] latencies = new long[THREADS * EVENTS_PER_THREAD];
+        ExecutorService requests = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>(THREADS);
+            for (int t = 0; t < THREADS; t++) {
+                int offset = t * EVENTS_PER_THREAD;
+                futures.add(requests.submit(() -> {
+                    for (int i = 0; i < EVENTS_PER_THREAD; i++) {
+                        long start = System.nanoTime();
+                        logger.info("Request completed - UserId: {}, URI: {}, Cost: {}ms", i, "/api/users", 12);
+                        latencies[offset + i] = System.nanoTime() - start;
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            requests.shutdown();
+        }
+
+        long drainStart = System.nanoTime();
+        appender.stop();
+        file.stop();
+        long drainedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - drainStart);
+
+        long dropped = appender instanceof RingBufferAppender ring ? ring.getDroppedCount() : 0;
+        Arrays.sort(latencies);
+        log.info("{} | {} | {} | {} | {} | {} | {} | {}", name,
+                micros(latencies, 0.5), micros(latencies, 0.99), micros(latencies, 0.999),
+                TimeUnit.NANOSECONDS.toMicros(latencies[latencies.length - 1]),
+                drainedMillis, disk.writes.get(), dropped);
+    }
+
+    private static long micros(long[] sorted, double percentile) {
+        return TimeUnit.NANOSECONDS.toMicros(sorted[(int) Math.ceil(percentile * sorted.length) - 1]);
+    }
+
+    /**
+     * Output stream where every write waits for the disk
+     */
+    private static class SlowDisk extends OutputStream {
+
+        private final AtomicLong writes = new AtomicLong();
+
+        @Override
+        public void write(int b) {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            writes.incrementAndGet();
+            LockSupport.parkNanos(DISK_LATENCY_NANOS);
+        }
+    }
+}
@@ -0,0 +1,339 @@
+package com.java.admin.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.AppenderBase;
+import ch.qos.logback.core.OutputStreamAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RingBufferAppender Unit Tests
+ *
+ * <p>Test Coverage:
+ * <ul>
+ *   <li>Delivery and ordering from concurrent producers</li>
+ *   <li>Overflow policies (block, drop, sample) and the dropped-events report</li>
+ *   <li>One flush per batch for output-stream appenders</li>
+ *   <li>Draining and stopping attached appenders on stop</li>
+ * </ul>
+ *
+ * <p>Coverage Target: 90%+
+ */
+@DisplayName("RingBufferAppender Unit Tests")
+class RingBufferAppenderTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final Logger logger = context.getLogger("test");
+    private final CollectingAppender delegate = new CollectingAppender();
+    private RingBufferAppender appender;
+
+    @BeforeEach
+    void setUp() {
+        context.setMDCAdapter(new LogbackMDCAdapter());
+        delegate.setContext(context);
+        delegate.start();
+        appender = new RingBufferAppender();
+        appender.setContext(context);
+        appender.setName("ring");
+        appender.addAppender(delegate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        delegate.release();
+        appender.stop();
+    }
+
+    private LoggingEvent event(Level level, String message) {
+        return new LoggingEvent(Logger.class.getName(), logger, level, message, null, null);
+    }
+
+    @Test
+    @DisplayName("Should deliver every event from concurrent producers in per-thread order")
+    void shouldDeliverEventsFromConcurrentProducers() throws Exception {
+        // Given - a buffer much smaller than the number of events
+        appender.setBufferSize(64);
+        appender.setBatchSize(16);
+        appender.start();
+        int threads = 8;
+        int perThread = 2_000;
+
+        // When
+        ExecutorService producers = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(producers.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        appender.doAppend(event(Level.INFO, thread + ":" + i));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            producers.shutdown();
+        }
+        appender.stop();
+
+        // Then
+        assertThat(delegate.messages()).hasSize(threads * perThread);
+        assertThat(appender.getDroppedCount()).isZero();
+        Map<String, Integer> lastByThread = new HashMap<>();
+        List<String> outOfOrder = new ArrayList<>();
+        for (String message : delegate.messages()) {
+            String[] parts = message.split(":");
+            int sequence = Integer.parseInt(parts[1]);
+            if (sequence <= lastByThread.getOrDefault(parts[0], -1)) {
+                outOfOrder.add(message);
+            }
+            lastByThread.put(parts[0], sequence);
+        }
+        assertThat(outOfOrder).isEmpty();
+        assertThat(delegate.isStarted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should drop INFO on overflow while WARN waits for space")
+    void shouldDropDiscardableEventsOnOverflow() throws Exception {
+        // Given - the delegate stalls on the first event, so the buffer fills up
+        appender.setBufferSize(4);
+        appender.setOverflowPolicy(RingBufferAppender.OverflowPolicy.DROP);
+        appender.setDiscardLevel("INFO");
+        appender.start();
+        delegate.stall();
+
+        // When
+        appender.doAppend(event(Level.INFO, "info-0"));
+        delegate.awaitStalled();
+        for (int i = 1; i < 20; i++) {
+            appender.doAppend(event(Level.INFO, "info-" + i));
+        }
+        CountDownLatch warned = new CountDownLatch(1);
+        Thread warner = new Thread(() -> {
+            appender.doAppend(event(Level.WARN, "warn"));
+            warned.countDown();
+        });
+        warner.start();
+
+        // Then - the WARN is held, not dropped
+        assertThat(warned.await(200, TimeUnit.MILLISECONDS)).isFalse();
+        delegate.release();
+        assertThat(warned.await(5, TimeUnit.SECONDS)).isTrue();
+        appender.stop();
+
+        assertThat(appender.getDroppedCount()).isEqualTo(15);
+        assertThat(delegate.messages()).contains("warn");
+        assertThat(delegate.messages()).filteredOn(message -> message.startsWith("info-")).hasSize(5);
+        assertThat(delegate.formattedMessages())
+                .anyMatch(message -> message.startsWith("Log buffer full - Dropped: 15, Policy: DROP"));
+    }
+
+    @Test
+    @DisplayName("Should block producers without losing events under the BLOCK policy")
+    void shouldBlockProducersUnderBlockPolicy() throws Exception {
+        // Given
+        appender.setBufferSize(4);
+        appender.start();
+        delegate.stall();
+        CountDownLatch done = new CountDownLatch(1);
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < 20; i++) {
+                appender.doAppend(event(Level.DEBUG, "debug-" + i));
+            }
+            done.countDown();
+        });
+
+        // When
+        producer.start();
+
+        // Then
+        assertThat(done.await(200, TimeUnit.MILLISECONDS)).isFalse();
+        delegate.release();
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        appender.stop();
+        assertThat(delegate.messages()).hasSize(20);
+        assertThat(appender.getDroppedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should sample discardable events once the buffer passes the threshold")
+    void shouldSampleAboveThreshold() throws Exception {
+        // Given - stalled delegate; keep practically none above half full
+        appender.setBufferSize(16);
+        appender.setOverflowPolicy(RingBufferAppender.OverflowPolicy.SAMPLE);
+        appender.setSampleThreshold(0.5);
+        appender.setSampleRate(1_000_000);
+        appender.start();
+        delegate.stall();
+
+        // When
+        appender.doAppend(event(Level.INFO, "info-0"));
+        delegate.awaitStalled();
+        for (int i = 1; i < 100; i++) {
+            appender.doAppend(event(Level.INFO, "info-" + i));
+        }
+        appender.doAppend(event(Level.ERROR, "error"));
+        delegate.release();
+        appender.stop();
+
+        // Then - sampling kicked in at half full, well before the buffer was full
+        List<String> infos = delegate.messages().stream().filter(message -> message.startsWith("info-")).toList();
+        assertThat(infos).hasSizeLessThanOrEqualTo(9);
+        assertThat(appender.getDroppedCount()).isEqualTo(100 - infos.size());
+        assertThat(delegate.messages()).contains("error");
+    }
+
+    @Test
+    @DisplayName("Should flush output-stream appenders once per batch")
+    void shouldFlushOncePerBatch() {
+        // Given
+        CountingOutputStream output = new CountingOutputStream();
+        OutputStreamAppender<ILoggingEvent> streamAppender = new OutputStreamAppender<>();
+        streamAppender.setContext(context);
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%msg%n");
+        encoder.start();
+        streamAppender.setEncoder(encoder);
+        streamAppender.setImmediateFlush(false);
+        streamAppender.setOutputStream(output);
+        streamAppender.start();
+
+        RingBufferAppender ring = new RingBufferAppender();
+        ring.setContext(context);
+        ring.setBufferSize(2048);
+        ring.setBatchSize(256);
+        ring.addAppender(streamAppender);
+        ring.start();
+
+        // When - the first write stalls until every event is buffered
+        for (int i = 0; i < 1000; i++) {
+            ring.doAppend(event(Level.INFO, "line-" + i));
+        }
+        output.release();
+        ring.stop();
+
+        // Then
+        String written = output.toString(StandardCharsets.UTF_8);
+        assertThat(written.lines()).hasSize(1000).startsWith("line-0").endsWith("line-999");
+        assertThat(output.flushes.get()).isBetween(1, 10);
+    }
+
+    @Test
+    @DisplayName("Should not start without attached appenders")
+    void shouldNotStartWithoutAppenders() {
+        // Given
+        RingBufferAppender empty = new RingBufferAppender();
+        empty.setContext(context);
+
+        // When
+        empty.start();
+
+        // Then
+        assertThat(empty.isStarted()).isFalse();
+    }
+
+    /**
+     * Appender that keeps events and can be stalled to simulate a blocked disk
+     */
+    private static class CollectingAppender extends AppenderBase<ILoggingEvent> {
+
+        private final Queue<ILoggingEvent> events = new ConcurrentLinkedQueue<>();
+        private volatile CountDownLatch gate = new CountDownLatch(0);
+        private final CountDownLatch stalled = new CountDownLatch(1);
+
+        void stall() {
+            gate = new CountDownLatch(1);
+        }
+
+        /**
+         * Wait until the worker is held inside the delegate
+         */
+        void awaitStalled() throws InterruptedException {
+            assertThat(stalled.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        void release() {
+            gate.countDown();
+        }
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            if (gate.getCount() > 0) {
+                stalled.countDown();
+            }
+            try {
+                gate.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            events.add(event);
+        }
+
+        List<String> messages() {
+            return events.stream().map(ILoggingEvent::getMessage).toList();
+        }
+
+        List<String> formattedMessages() {
+            return events.stream().map(ILoggingEvent::getFormattedMessage).toList();
+        }
+    }
+
+    /**
+     * Output stream that counts flushes; the first write waits until released
+     */
+    private static class CountingOutputStream extends ByteArrayOutputStream {
+
+        private final CountDownLatch gate = new CountDownLatch(1);
+        private final AtomicInteger flushes = new AtomicInteger();
+
+        void release() {
+            gate.countDown();
+        }
+
+        @Override
+        public synchronized void write(byte[] bytes, int offset, int length) {
+            try {
+                gate.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            super.write(bytes, offset, length);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            flushes.incrementAndGet();
+            super.flush();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.java.admin.infrastructure.profile;
+
+import com.java.admin.config.SlowRequestProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SlowRequestRecorder Unit Tests
+ *
+ * <p>Test Coverage:
+ * <ul>
+ *   <li>Threshold and per-second capture limit</li>
+ *   <li>Ring buffer wraparound, newest first</li>
+ *   <li>Clearing</li>
+ * </ul>
+ *
+ * <p>Coverage Target: 90%+
+ */
+@DisplayName("SlowRequestRecorder Unit Tests")
+class SlowRequestRecorderTest {
+
+    private SlowRequestProperties properties;
+    private SlowRequestRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SlowRequestProperties();
+        properties.setThreshold(Duration.ofMillis(100));
+        properties.setCapacity(3);
+        properties.setMaxCapturesPerSecond(1000);
+        recorder = new SlowRequestRecorder(properties);
+    }
+
+    private static SlowRequest request(String uri) {
+        return new SlowRequest(Instant.now(), "GET", uri, 200, null, "main", 150.0, Map.of(), List.of(), 0);
+    }
+
+    @Test
+    @DisplayName("Should capture only requests at or above the threshold")
+    void shouldApplyThreshold() {
+        assertThat(recorder.tryCapture(Duration.ofMillis(99).toNanos())).isFalse();
+        assertThat(recorder.tryCapture(Duration.ofMillis(100).toNanos())).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should count slow requests beyond the per-second limit as skipped")
+    void shouldLimitCapturesPerSecond() {
+        // Given
+        properties.setMaxCapturesPerSecond(2);
+        long slow = Duration.ofSeconds(1).toNanos();
+
+        // When
+        int captured = 0;
+        for (int i = 0; i < 5; i++) {
+            if (recorder.tryCapture(slow)) {
+                captured++;
+            }
+        }
+
+        // Then - at most two per window; a window boundary during the loop allows two more
+        assertThat(captured).isBetween(2, 4);
+        assertThat(recorder.skipped()).isEqualTo(5 - captured);
+    }
+
+    @Test
+    @DisplayName("Should keep the most recent requests, newest first")
+    void shouldKeepMostRecentRequests() {
+        // When
+        for (int i = 1; i <= 5; i++) {
+            recorder.add(request("/r" + i));
+        }
+
+        // Then
+        assertThat(recorder.snapshot()).extracting(SlowRequest::uri).containsExactly("/r5", "/r4", "/r3");
+        assertThat(recorder.captured()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should clear captured requests and counters")
+    void shouldClear() {
+        // Given
+        recorder.add(request("/r1"));
+
+        // When
+        recorder.clear();
+
+        // Then
+        assertThat(recorder.snapshot()).isEmpty();
+        assertThat(recorder.captured()).isZero();
+        assertThat(recorder.skipped()).isZero();
+    }
+}
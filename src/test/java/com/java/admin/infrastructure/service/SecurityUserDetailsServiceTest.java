@@ -1,5 +1,6 @@
 package com.java.admin.infrastructure.service;
 
+import com.java.admin.infrastructure.datascope.DataScope;
 import com.java.admin.infrastructure.model.SecurityUserDetails;
 import com.java.admin.modules.system.mapper.SysAuthoritiesMapper;
 import com.java.admin.modules.system.model.SysUser;
@@ -327,4 +328,33 @@ class SecurityUserDetailsServiceTest extends AbstractMockTest {
         verify(sysUserService, times(2)).getUserByUsername(username);
         verify(sysAuthoritiesMapper, times(2)).selectAuthoritiesByUserId(testUser.getUserId());
     }
+
+    @Test
+    @DisplayName("Should resolve the widest data scope at login")
+    void shouldResolveDataScope() {
+        // Given
+        when(sysUserService.getUserByUsername(testUser.getUserName())).thenReturn(testUser);
+        when(sysAuthoritiesMapper.selectAuthoritiesByUserId(testUser.getUserId())).thenReturn(testAuthorities);
+        when(sysAuthoritiesMapper.selectDataScopeByUserId(testUser.getUserId())).thenReturn(2);
+
+        // When
+        SecurityUserDetails details = (SecurityUserDetails) securityUserDetailsService.loadUserByUsername(testUser.getUserName());
+
+        // Then
+        assertThat(details.getDataScope()).isEqualTo(DataScope.CREATED);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the SELF data scope for users without roles")
+    void shouldDefaultDataScopeToSelf() {
+        // Given
+        when(sysUserService.getUserByUsername(testUser.getUserName())).thenReturn(testUser);
+        when(sysAuthoritiesMapper.selectAuthoritiesByUserId(testUser.getUserId())).thenReturn(new ArrayList<>());
+
+        // When
+        SecurityUserDetails details = (SecurityUserDetails) securityUserDetailsService.loadUserByUsername(testUser.getUserName());
+
+        // Then
+        assertThat(details.getDataScope()).isEqualTo(DataScope.SELF);
+    }
 }
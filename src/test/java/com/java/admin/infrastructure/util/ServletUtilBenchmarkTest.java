@@ -0,0 +1,169 @@
+package com.java.admin.infrastructure.util;
+
+import com.alibaba.fastjson2.JSON;
+import com.java.admin.infrastructure.constants.ErrorCode;
+import com.java.admin.infrastructure.exception.AppException;
+import com.java.admin.infrastructure.model.Result;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Rejection throughput benchmark
+ *
+ * <p>Compares, on one thread, the previous and current cost of the two halves of a rejected
+ * request: rendering the error body (Result + fastjson2 through the writer vs the pre-encoded
+ * body) and raising an expected business error from {@code benchmark.rejection.depth} frames
+ * deep (default 64, about what a controller call sits under) with and without a stack trace.
+ * Reports operations per second and bytes allocated per operation. The response discards the
+ * body, encoding the writer's characters to UTF-8 as the container's writer does, so only the
+ * rendering itself is measured.
+ *
+ * <p>Usage: {@code mvn test -Pbenchmark -Dtest=ServletUtilBenchmarkTest}
+ * (override the run length with {@code -Dbenchmark.rejection.operations=1000000})
+ */
+@Slf4j
+@Tag("benchmark")
+@DisplayName("Rejection Throughput Benchmark")
+class ServletUtilBenchmarkTest {
+
+    private static final int OPERATIONS = Integer.getInteger("benchmark.rejection.operations", 1_000_000);
+    private static final int WARMUP_OPERATIONS = 200_000;
+    private static final int DEPTH = Integer.getInteger("benchmark.rejection.depth", 64);
+    private static final ErrorCode[] REJECTIONS = {
+            ErrorCode.TOKEN_MISSING, ErrorCode.TOKEN_INVALID, ErrorCode.SESSION_EXPIRED, ErrorCode.AUTHORIZATION_ERROR
+    };
+
+    @Test
+    @DisplayName("Measure error body rendering and business exception cost")
+    void measureRejections() throws Exception {
+        DiscardingResponse response = new DiscardingResponse();
+
+        log.info("Operation | Ops/s | Allocated B/op");
+        run("Render: Result + fastjson2 (previous)", i -> {
+            ErrorCode errorCode = REJECTIONS[i & 3];
+            response.setStatus(errorCode.getHttpStatus().value());
+            response.setContentType("application/json;charset=UTF-8");
+            Result<Void> result = Result.error(errorCode.getCode(), errorCode.getMessage());
+            response.getWriter().write(JSON.toJSONString(result));
+            response.getWriter().flush();
+        });
+        run("Render: pre-encoded body", i -> ServletUtil.renderErrorResponse(response, REJECTIONS[i & 3]));
+        run("Throw: DATA_NOT_FOUND with stack trace (previous)",
+                i -> raise(DEPTH, () -> new RuntimeException("User not found")));
+        run("Throw: DATA_NOT_FOUND stackless AppException",
+                i -> raise(DEPTH, () -> new AppException(ErrorCode.DATA_NOT_FOUND, "User not found")));
+    }
+
+    private void run(String name, Operation operation) throws Exception {
+        for (int i = 0; i < WARMUP_OPERATIONS; i++) {
+            operation.run(i);
+        }
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < OPERATIONS; i++) {
+            operation.run(i);
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        log.info("{} | {} | {}", name, Math.round(OPERATIONS / (elapsed / 1e9)), allocated / OPERATIONS);
+    }
+
+    /**
+     * Throw from {@code depth} frames down and catch at the top, as the exception handler does
+     */
+    private static void raise(int depth, ExceptionFactory factory) {
+        try {
+            descend(depth, factory);
+        } catch (RuntimeException e) {
+            if (e.getMessage() == null) {
+                throw e;
+            }
+        }
+    }
+
+    private static void descend(int depth, ExceptionFactory factory) {
+        if (depth == 0) {
+            throw factory.create();
+        }
+        descend(depth - 1, factory);
+    }
+
+    @FunctionalInterface
+    private interface Operation {
+        void run(int i) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface ExceptionFactory {
+        RuntimeException create();
+    }
+
+    /**
+     * Response that only supports what rendering an error uses, and discards the body
+     */
+    private static final class DiscardingResponse extends HttpServletResponseWrapper {
+
+        private final ServletOutputStream out = new ServletOutputStream() {
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void write(byte[] bytes, int offset, int length) {
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+        };
+        private final PrintWriter writer = new PrintWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+
+        DiscardingResponse() {
+            super(Mockito.mock(HttpServletResponse.class));
+        }
+
+        @Override
+        public void setStatus(int status) {
+        }
+
+        @Override
+        public void setContentType(String type) {
+        }
+
+        @Override
+        public void setContentLength(int length) {
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return out;
+        }
+
+        @Override
+        public PrintWriter getWriter() {
+            return writer;
+        }
+    }
+}
@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.assertThat;
  *   <li>Content-Type header setting</li>
  *   <li>JSON response body generation</li>
  *   <li>Different error codes handling</li>
+ *   <li>Pre-encoded bodies for every error code</li>
  * </ul>
  *
  * <p>Coverage Target: 100%
@@ -468,4 +469,23 @@ class ServletUtilTest {
             // data may be omitted by fastjson2 when null
         }
     }
+
+    @Test
+    @DisplayName("Should write the same body as serializing the Result, with its length, for every error code")
+    void shouldWritePreEncodedBodyForEveryErrorCode() throws Exception {
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            // Given
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            // When
+            ServletUtil.renderErrorResponse(response, errorCode);
+            ServletUtil.renderErrorResponse(new MockHttpServletResponse(), errorCode);
+
+            // Then
+            String expected = JSON.toJSONString(Result.error(errorCode.getCode(), errorCode.getMessage()));
+            assertThat(response.getStatus()).isEqualTo(errorCode.getHttpStatus().value());
+            assertThat(response.getContentAsString()).isEqualTo(expected);
+            assertThat(response.getContentLength()).isEqualTo(response.getContentAsByteArray().length);
+        }
+    }
 }
@@ -0,0 +1,77 @@
+package com.java.admin.modules.system.controller;
+
+import com.java.admin.infrastructure.model.Result;
+import com.java.admin.modules.system.dto.PermRequestDTO;
+import com.java.admin.modules.system.model.SysPerm;
+import com.java.admin.modules.system.service.SysPermService;
+import com.java.admin.testutil.AbstractMockTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * SysPermController Unit Tests
+ *
+ * <p>Test Coverage:
+ * <ul>
+ *   <li>Permission CRUD endpoints</li>
+ *   <li>Response format verification</li>
+ * </ul>
+ *
+ * <p>Coverage Target: 80%+
+ */
+@DisplayName("SysPermController Unit Tests")
+class SysPermControllerTest extends AbstractMockTest {
+
+    @Mock
+    private SysPermService sysPermService;
+
+    private SysPermController controller() {
+        return new SysPermController(sysPermService);
+    }
+
+    @Test
+    @DisplayName("Should list permissions")
+    void shouldListPerms() {
+        // Given
+        SysPerm perm = new SysPerm();
+        perm.setPermName("admin");
+        when(sysPermService.listPerms()).thenReturn(List.of(perm));
+
+        // When
+        Result<List<SysPerm>> result = controller().listPerms();
+
+        // Then
+        assertThat(result.getCode()).isEqualTo("200");
+        assertThat(result.getData()).extracting(SysPerm::getPermName).containsExactly("admin");
+    }
+
+    @Test
+    @DisplayName("Should create, update and delete permissions")
+    void shouldDelegatePermChanges() {
+        // Given
+        PermRequestDTO dto = new PermRequestDTO();
+        dto.setPermName("user:read");
+        dto.setPermDesc("Read users");
+        SysPerm created = new SysPerm();
+        created.setPermId("3");
+        when(sysPermService.createPerm(dto)).thenReturn(created);
+
+        // When
+        Result<SysPerm> createResult = controller().createPerm(dto);
+        Result<Void> updateResult = controller().updatePerm("3", dto);
+        Result<Void> deleteResult = controller().deletePerm("3");
+
+        // Then
+        assertThat(createResult.getData().getPermId()).isEqualTo("3");
+        assertThat(List.of(updateResult, deleteResult)).extracting(Result::getCode).containsOnly("200");
+        verify(sysPermService).updatePerm("3", dto);
+        verify(sysPermService).deletePerm("3");
+    }
+}
@@ -0,0 +1,144 @@
+package com.java.admin.modules.system.controller;
+
+import com.java.admin.infrastructure.model.Result;
+import com.java.admin.modules.system.dto.RoleAssignmentRequestDTO;
+import com.java.admin.modules.system.dto.RoleAssignmentResultDTO;
+import com.java.admin.modules.system.dto.RolePermsRequestDTO;
+import com.java.admin.modules.system.dto.RoleRequestDTO;
+import com.java.admin.modules.system.model.SysRole;
+import com.java.admin.modules.system.service.SysRoleService;
+import com.java.admin.testutil.AbstractMockTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * SysRoleController Unit Tests
+ *
+ * <p>Test Coverage:
+ * <ul>
+ *   <li>Role CRUD endpoints</li>
+ *   <li>Role permission and bulk assignment endpoints</li>
+ *   <li>Response format verification</li>
+ * </ul>
+ *
+ * <p>Coverage Target: 80%+
+ */
+@DisplayName("SysRoleController Unit Tests")
+class SysRoleControllerTest extends AbstractMockTest {
+
+    @Mock
+    private SysRoleService sysRoleService;
+
+    private SysRoleController controller() {
+        return new SysRoleController(sysRoleService);
+    }
+
+    private static SysRole role(String roleId, String roleName) {
+        SysRole role = new SysRole();
+        role.setRoleId(roleId);
+        role.setRoleName(roleName);
+        return role;
+    }
+
+    @Test
+    @DisplayName("Should list roles")
+    void shouldListRoles() {
+        // Given
+        when(sysRoleService.listRoles()).thenReturn(List.of(role("1", "ADMIN"), role("2", "USER")));
+
+        // When
+        Result<List<SysRole>> result = controller().listRoles();
+
+        // Then
+        assertThat(result.getCode()).isEqualTo("200");
+        assertThat(result.getData()).extracting(SysRole::getRoleName).containsExactly("ADMIN", "USER");
+    }
+
+    @Test
+    @DisplayName("Should return created role")
+    void shouldCreateRole() {
+        // Given
+        RoleRequestDTO dto = new RoleRequestDTO();
+        dto.setRoleName("AUDITOR");
+        dto.setRoleDesc("Auditor");
+        when(sysRoleService.createRole(dto)).thenReturn(role("3", "AUDITOR"));
+
+        // When
+        Result<SysRole> result = controller().createRole(dto);
+
+        // Then
+        assertThat(result.getData().getRoleId()).isEqualTo("3");
+    }
+
+    @Test
+    @DisplayName("Should delegate update, delete and permission replacement")
+    void shouldDelegateRoleChanges() {
+        // Given
+        RoleRequestDTO dto = new RoleRequestDTO();
+        dto.setRoleName("AUDITOR");
+        RolePermsRequestDTO permsDto = new RolePermsRequestDTO();
+        permsDto.setPermIds(List.of("1", "2"));
+
+        // When
+        Result<Void> updated = controller().updateRole("3", dto);
+        Result<Void> replaced = controller().replaceRolePerms("3", permsDto);
+        Result<Void> deleted = controller().deleteRole("3");
+
+        // Then
+        assertThat(List.of(updated, replaced, deleted)).extracting(Result::getCode).containsOnly("200");
+        verify(sysRoleService).updateRole("3", dto);
+        verify(sysRoleService).replaceRolePerms("3", List.of("1", "2"));
+        verify(sysRoleService).deleteRole("3");
+    }
+
+    @Test
+    @DisplayName("Should return bulk assignment result")
+    void shouldUpdateAssignments() {
+        // Given
+        RoleAssignmentRequestDTO dto = new RoleAssignmentRequestDTO();
+        dto.setAction(RoleAssignmentRequestDTO.Action.ASSIGN);
+        dto.setUserIds(List.of("2", "3"));
+        dto.setRoleIds(List.of("2"));
+        RoleAssignmentResultDTO expected = new RoleAssignmentResultDTO();
+        expected.setRequested(2);
+        expected.setChanged(1);
+        when(sysRoleService.updateAssignments(dto)).thenReturn(expected);
+
+        // When
+        Result<RoleAssignmentResultDTO> result = controller().updateAssignments(dto);
+
+        // Then
+        assertThat(result.getData().getChanged()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should delegate inheritance endpoints")
+    void shouldDelegateInheritance() {
+        // Given
+        when(sysRoleService.listChildren("1")).thenReturn(List.of(role("3", "AUDITOR")));
+        when(sysRoleService.listAuthorities("1")).thenReturn(List.of("ROLE_ADMIN", "ROLE_AUDITOR"));
+        when(sysRoleService.rebuildHierarchy()).thenReturn(4);
+
+        // When
+        Result<Void> added = controller().addInheritance("1", "3");
+        Result<List<SysRole>> children = controller().listChildren("1");
+        Result<List<String>> authorities = controller().listAuthorities("1");
+        Result<Void> removed = controller().removeInheritance("1", "3");
+        Result<Integer> rebuilt = controller().rebuildHierarchy();
+
+        // Then
+        assertThat(List.of(added, removed)).extracting(Result::getCode).containsOnly("200");
+        assertThat(children.getData()).extracting(SysRole::getRoleId).containsExactly("3");
+        assertThat(authorities.getData()).contains("ROLE_AUDITOR");
+        assertThat(rebuilt.getData()).isEqualTo(4);
+        verify(sysRoleService).addInheritance("1", "3");
+        verify(sysRoleService).removeInheritance("1", "3");
+    }
+}
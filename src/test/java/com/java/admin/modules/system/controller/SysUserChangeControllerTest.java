@@ -0,0 +1,71 @@
+package com.java.admin.modules.system.controller;
+
+import com.java.admin.infrastructure.model.Result;
+import com.java.admin.modules.system.dto.UserChangeFeedDTO;
+import com.java.admin.modules.system.service.SysUserChangeFeed;
+import com.java.admin.testutil.AbstractMockTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * SysUserChangeController Unit Tests
+ *
+ * <p>Test Coverage:
+ * <ul>
+ *   <li>Long-poll delegation and response wrapping</li>
+ *   <li>Stream resume from Last-Event-ID</li>
+ * </ul>
+ *
+ * <p>Coverage Target: 80%+
+ */
+@DisplayName("SysUserChangeController Unit Tests")
+class SysUserChangeControllerTest extends AbstractMockTest {
+
+    @Mock
+    private SysUserChangeFeed sysUserChangeFeed;
+
+    private SysUserChangeController controller() {
+        return new SysUserChangeController(sysUserChangeFeed);
+    }
+
+    @Test
+    @DisplayName("Should wrap polled changes in a result")
+    void shouldPollChanges() {
+        // Given
+        UserChangeFeedDTO batch = new UserChangeFeedDTO();
+        batch.setCursor("42");
+        when(sysUserChangeFeed.poll("41", 100, Duration.ofSeconds(20)))
+                .thenReturn(CompletableFuture.completedFuture(batch));
+
+        // When
+        Result<UserChangeFeedDTO> result = controller().pollChanges("41", 100, 20).join();
+
+        // Then
+        assertThat(result.getCode()).isEqualTo("200");
+        assertThat(result.getData().getCursor()).isEqualTo("42");
+    }
+
+    @Test
+    @DisplayName("Should resume the stream from Last-Event-ID over the cursor parameter")
+    void shouldResumeStreamFromLastEventId() {
+        // Given
+        SseEmitter emitter = new SseEmitter();
+        when(sysUserChangeFeed.stream("57")).thenReturn(emitter);
+
+        // When
+        SseEmitter result = controller().streamChanges("12", "57");
+
+        // Then
+        assertThat(result).isSameAs(emitter);
+        verify(sysUserChangeFeed).stream("57");
+    }
+}
@@ -0,0 +1,165 @@
+package com.java.admin.modules.system.controller;
+
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.java.admin.config.ShardingProperties;
+import com.java.admin.infrastructure.aspect.ReplicaReadAspect;
+import com.java.admin.infrastructure.datasource.DataSourceContextHolder;
+import com.java.admin.infrastructure.datasource.DataSourceRole;
+import com.java.admin.infrastructure.datasource.ReadYourWritesTracker;
+import com.java.admin.infrastructure.datasource.ShardRouter;
+import com.java.admin.infrastructure.handler.PermissionHandler;
+import com.java.admin.infrastructure.model.Result;
+import com.java.admin.modules.system.mapper.SessionMapper;
+import com.java.admin.modules.system.mapper.SysAuthoritiesMapper;
+import com.java.admin.modules.system.mapper.SysUserMapper;
+import com.java.admin.modules.system.model.SysUser;
+import com.java.admin.modules.system.service.SysUserCache;
+import com.java.admin.modules.system.service.SysUserChangeFeed;
+import com.java.admin.modules.system.service.SysUserImportService;
+import com.java.admin.modules.system.service.SysUserService;
+import com.java.admin.modules.system.service.SysUserShardWriter;
+import com.java.admin.testutil.MybatisPlusTestSupport;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.when;
+
+/**
+ * SysUserController Replica Routing Tests
+ *
+ * <p>Test Coverage:
+ * <ul>
+ *   <li>Pages tagged with an ETag read from the primary, not a lagging replica</li>
+ *   <li>Untagged pages still read from the replica</li>
+ * </ul>
+ *
+ * <p>The replica read aspect runs as in the application. The mapper stands in for both databases:
+ * the replica still returns the rows from before the latest write, the primary the current ones.
+ */
+@SpringJUnitConfig(SysUserControllerReplicaTest.TestConfig.class)
+@DisplayName("SysUserController Replica Routing Tests")
+class SysUserControllerReplicaTest {
+
+    private static final List<SysUser> PRIMARY_ROWS = List.of(user("1", "alice"), user("2", "bob-renamed"));
+    private static final List<SysUser> REPLICA_ROWS = List.of(user("1", "alice"), user("2", "bob"));
+
+    @Autowired
+    private SysUserController controller;
+    @Autowired
+    private SysUserCache sysUserCache;
+
+    @BeforeAll
+    static void initTableInfo() {
+        MybatisPlusTestSupport.initTableInfo(SysUser.class);
+    }
+
+    @BeforeEach
+    void setUp() {
+        reset(sysUserCache);
+    }
+
+    private static SysUser user(String userId, String userName) {
+        SysUser user = new SysUser();
+        user.setUserId(userId);
+        user.setUserName(userName);
+        return user;
+    }
+
+    private Result<Page<SysUser>> pageUsers(MockHttpServletResponse response) {
+        ServletWebRequest webRequest = new ServletWebRequest(new MockHttpServletRequest("GET", "/users"), response);
+        return controller.pageUsers(0, 10, null, false, null, null, webRequest);
+    }
+
+    @Test
+    @DisplayName("Should read a tagged page from the primary after the generation changed")
+    void shouldReadTaggedPageFromPrimary() {
+        // Given - another user's write moved the generation; the replica has not caught up
+        when(sysUserCache.pageGeneration()).thenReturn("g2");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        Result<Page<SysUser>> result = pageUsers(response);
+
+        // Then - the g2 tag is issued with the rows g2 stands for
+        assertThat(response.getHeader(HttpHeaders.ETAG)).startsWith("\"users-g2-");
+        assertThat(result.getData().getRecords()).extracting(SysUser::getUserName)
+                .containsExactly("alice", "bob-renamed");
+        assertThat(DataSourceContextHolder.get()).isEqualTo(DataSourceRole.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("Should keep reading untagged pages from the replica")
+    void shouldReadUntaggedPageFromReplica() {
+        // Given - no generation, so no ETag is issued
+        when(sysUserCache.pageGeneration()).thenReturn(null);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        Result<Page<SysUser>> result = pageUsers(response);
+
+        // Then
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+        assertThat(result.getData().getRecords()).extracting(SysUser::getUserName).containsExactly("alice", "bob");
+    }
+
+    @Configuration
+    @EnableAspectJAutoProxy
+    static class TestConfig {
+
+        @Bean
+        ReplicaReadAspect replicaReadAspect() {
+            return new ReplicaReadAspect(new ReadYourWritesTracker(Duration.ofSeconds(5)));
+        }
+
+        @Bean
+        SysUserCache sysUserCache() {
+            return mock(SysUserCache.class);
+        }
+
+        @Bean
+        SysUserMapper sysUserMapper() {
+            SysUserMapper mapper = mock(SysUserMapper.class);
+            when(mapper.selectPage(any(), any())).thenAnswer(invocation -> {
+                List<SysUser> rows = DataSourceContextHolder.get() == DataSourceRole.REPLICA
+                        ? REPLICA_ROWS : PRIMARY_ROWS;
+                Page<SysUser> page = invocation.getArgument(0);
+                page.setRecords(rows);
+                page.setTotal(rows.size());
+                return page;
+            });
+            return mapper;
+        }
+
+        @Bean
+        SysUserService sysUserService(SysUserMapper sysUserMapper, SysUserCache sysUserCache) {
+            return new SysUserService(sysUserMapper, mock(SessionMapper.class), mock(PasswordEncoder.class),
+                    sysUserCache, new ShardRouter(new ShardingProperties()), mock(SysUserShardWriter.class),
+                    mock(SysAuthoritiesMapper.class), mock(TransactionTemplate.class), mock(SysUserChangeFeed.class));
+        }
+
+        @Bean
+        SysUserController sysUserController(SysUserService sysUserService) {
+            return new SysUserController(sysUserService, mock(SysUserImportService.class), new PermissionHandler());
+        }
+    }
+}
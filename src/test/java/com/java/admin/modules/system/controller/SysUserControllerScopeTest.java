@@ -0,0 +1,183 @@
+package com.java.admin.modules.system.controller;
+
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.java.admin.config.ShardingProperties;
+import com.java.admin.infrastructure.aspect.DataScopeAspect;
+import com.java.admin.infrastructure.datascope.DataScope;
+import com.java.admin.infrastructure.datascope.DataScopeContextHolder;
+import com.java.admin.infrastructure.datasource.ShardRouter;
+import com.java.admin.infrastructure.handler.PermissionHandler;
+import com.java.admin.infrastructure.model.Result;
+import com.java.admin.infrastructure.model.SecurityUserDetails;
+import com.java.admin.modules.system.mapper.SessionMapper;
+import com.java.admin.modules.system.mapper.SysAuthoritiesMapper;
+import com.java.admin.modules.system.mapper.SysUserMapper;
+import com.java.admin.modules.system.model.SysUser;
+import com.java.admin.modules.system.service.SysUserCache;
+import com.java.admin.modules.system.service.SysUserChangeFeed;
+import com.java.admin.modules.system.service.SysUserImportService;
+import com.java.admin.modules.system.service.SysUserService;
+import com.java.admin.modules.system.service.SysUserShardWriter;
+import com.java.admin.testutil.MybatisPlusTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * SysUserController Data Scope Tests
+ *
+ * <p>Test Coverage:
+ * <ul>
+ *   <li>User listing open to roles granted user:list, not only ADMIN</li>
+ *   <li>Non-admin callers get a page limited to their data scope</li>
+ * </ul>
+ *
+ * <p>Method security and the data scope aspect run as in the application. The mapper stands in
+ * for the database: it returns the rows the DataScopeInterceptor predicate would keep for the
+ * bound scope (the SQL rewrite itself is covered by DataScopeInterceptorTest).
+ */
+@SpringJUnitConfig(SysUserControllerScopeTest.TestConfig.class)
+@DisplayName("SysUserController Data Scope Tests")
+class SysUserControllerScopeTest {
+
+    private static final List<SysUser> ROWS = List.of(user("1", null), user("7", "1"), user("8", "7"),
+            user("9", "7"), user("10", "1"));
+
+    @Autowired
+    private SysUserController controller;
+
+    @BeforeAll
+    static void initTableInfo() {
+        MybatisPlusTestSupport.initTableInfo(SysUser.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private static SysUser user(String userId, String createdBy) {
+        SysUser user = new SysUser();
+        user.setUserId(userId);
+        user.setUserName("user" + userId);
+        user.setCreatedBy(createdBy);
+        return user;
+    }
+
+    private static Authentication login(DataScope scope, String... authorities) {
+        SecurityUserDetails details = new SecurityUserDetails(user("7", "1"), List.of(authorities));
+        details.setDataScope(scope);
+        Authentication authentication = new UsernamePasswordAuthenticationToken(details, null, details.getAuthorities());
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        return authentication;
+    }
+
+    private Result<Page<SysUser>> pageUsers(Authentication authentication) {
+        ServletWebRequest webRequest = new ServletWebRequest(new MockHttpServletRequest("GET", "/users"),
+                new MockHttpServletResponse());
+        return controller.pageUsers(0, 10, null, false, null, authentication, webRequest);
+    }
+
+    @Test
+    @DisplayName("Should give a non-admin with user:list only the users in their data scope")
+    void shouldFilterPageForScopedCaller() {
+        // Given
+        Authentication authentication = login(DataScope.CREATED, "ROLE_USER", "user:list");
+
+        // When
+        Result<Page<SysUser>> result = pageUsers(authentication);
+
+        // Then - itself plus the users it created
+        assertThat(result.getData().getRecords()).extracting(SysUser::getUserId).containsExactly("7", "8", "9");
+        assertThat(result.getData().getTotal()).isEqualTo(3);
+        assertThat(DataScopeContextHolder.get()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should give an admin with the ALL scope every user")
+    void shouldNotFilterPageForAdmin() {
+        // Given
+        Authentication authentication = login(DataScope.ALL, "ROLE_ADMIN");
+
+        // When
+        Result<Page<SysUser>> result = pageUsers(authentication);
+
+        // Then
+        assertThat(result.getData().getRecords()).hasSize(ROWS.size());
+    }
+
+    @Test
+    @DisplayName("Should deny listing to callers with neither ADMIN nor user:list")
+    void shouldDenyWithoutPermission() {
+        Authentication authentication = login(DataScope.SELF, "ROLE_USER", "common");
+        assertThatThrownBy(() -> pageUsers(authentication)).isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Configuration
+    @EnableMethodSecurity
+    @EnableAspectJAutoProxy
+    static class TestConfig {
+
+        @Bean
+        PermissionHandler permissionHandler() {
+            return new PermissionHandler();
+        }
+
+        @Bean
+        DataScopeAspect dataScopeAspect(PermissionHandler permissionHandler) {
+            return new DataScopeAspect(permissionHandler);
+        }
+
+        @Bean
+        SysUserMapper sysUserMapper() {
+            SysUserMapper mapper = mock(SysUserMapper.class);
+            when(mapper.selectPage(any(), any())).thenAnswer(invocation -> {
+                DataScopeContextHolder.Context scope = DataScopeContextHolder.get();
+                List<SysUser> visible = ROWS.stream().filter(row -> scope == null
+                        || row.getUserId().equals(scope.userId())
+                        || scope.scope() == DataScope.CREATED && scope.userId().equals(row.getCreatedBy())).toList();
+                Page<SysUser> page = invocation.getArgument(0);
+                page.setRecords(visible);
+                page.setTotal(visible.size());
+                return page;
+            });
+            return mapper;
+        }
+
+        @Bean
+        SysUserService sysUserService(SysUserMapper sysUserMapper) {
+            return new SysUserService(sysUserMapper, mock(SessionMapper.class), mock(PasswordEncoder.class),
+                    mock(SysUserCache.class), new ShardRouter(new ShardingProperties()), mock(SysUserShardWriter.class),
+                    mock(SysAuthoritiesMapper.class), mock(TransactionTemplate.class), mock(SysUserChangeFeed.class));
+        }
+
+        @Bean
+        SysUserController sysUserController(SysUserService sysUserService, PermissionHandler permissionHandler) {
+            return new SysUserController(sysUserService, mock(SysUserImportService.class), permissionHandler);
+        }
+    }
+}
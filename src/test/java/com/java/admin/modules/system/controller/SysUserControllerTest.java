@@ -1,26 +1,50 @@
 package com.java.admin.modules.system.controller;
 
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.java.admin.infrastructure.constants.ErrorCode;
+import com.java.admin.infrastructure.exception.AppException;
+import com.java.admin.infrastructure.handler.PermissionHandler;
 import com.java.admin.infrastructure.model.Result;
 import com.java.admin.infrastructure.model.SecurityUserDetails;
+import com.java.admin.modules.system.dto.BatchUserResultDTO;
+import com.java.admin.modules.system.dto.BulkUserRequestDTO;
+import com.java.admin.modules.system.dto.BulkUserResultDTO;
 import com.java.admin.modules.system.dto.CreateUserRequestDTO;
+import com.java.admin.modules.system.dto.ImportUserResultDTO;
 import com.java.admin.modules.system.dto.UpdateUserRequestDTO;
 import com.java.admin.modules.system.model.SysUser;
+import com.java.admin.modules.system.service.SysUserImportService;
 import com.java.admin.modules.system.service.SysUserService;
 import com.java.admin.testutil.AbstractMockTest;
 import com.java.admin.testutil.TestDataFactory;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 /**
@@ -30,6 +54,7 @@ import static org.mockito.Mockito.when;
  * <ul>
  *   <li>User pagination endpoint</li>
  *   <li>User CRUD operations</li>
+ *   <li>Multi-get with per-ID access checks, and the ID limit checked before them</li>
  *   <li>Response format verification</li>
  *   <li>Permission control</li>
  * </ul>
@@ -42,8 +67,29 @@ class SysUserControllerTest extends AbstractMockTest {
     @Mock
     private SysUserService sysUserService;
 
+    @Mock
+    private SysUserImportService sysUserImportService;
+
     private SysUserController controller() {
-        return new SysUserController(sysUserService);
+        return new SysUserController(sysUserService, sysUserImportService, new PermissionHandler());
+    }
+
+    @BeforeEach
+    void setUpFields() {
+        // No fields= parameter: all fields
+        lenient().when(sysUserService.resolveFields(any())).thenReturn(null);
+    }
+
+    private static ServletWebRequest webRequest() {
+        return webRequest(null);
+    }
+
+    private static ServletWebRequest webRequest(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/users");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
     }
 
     @Test
@@ -57,11 +103,11 @@ class SysUserControllerTest extends AbstractMockTest {
         ));
         mockPage.setTotal(2);
 
-        when(sysUserService.pageUsers(anyInt(), anyInt(), isNull()))
+        when(sysUserService.pageUsers(anyInt(), anyInt(), isNull(), anyBoolean(), isNull()))
                 .thenReturn(mockPage);
 
         // When
-        Result<Page<SysUser>> result = controller().pageUsers(0, 10, null);
+        Result<Page<SysUser>> result = controller().pageUsers(0, 10, null, false, null, null, webRequest());
 
         // Then
         assertThat(result).isNotNull();
@@ -70,7 +116,25 @@ class SysUserControllerTest extends AbstractMockTest {
         assertThat(result.getData().getRecords()).hasSize(2);
         assertThat(result.getData().getTotal()).isEqualTo(2);
 
-        verify(sysUserService).pageUsers(0, 10, null);
+        verify(sysUserService).pageUsers(0, 10, null, false, null);
+    }
+
+    @Test
+    @DisplayName("Should pass include roles option to the service")
+    void shouldPassIncludeRolesOption() {
+        // Given
+        Page<SysUser> mockPage = new Page<>(0, 10);
+        SysUser admin = TestDataFactory.createAdminUser();
+        admin.setRoles(List.of("ADMIN"));
+        mockPage.setRecords(List.of(admin));
+        when(sysUserService.pageUsers(0, 10, null, true, null)).thenReturn(mockPage);
+
+        // When
+        Result<Page<SysUser>> result = controller().pageUsers(0, 10, null, true, null, null, webRequest());
+
+        // Then
+        assertThat(result.getData().getRecords().get(0).getRoles()).containsExactly("ADMIN");
+        verify(sysUserService).pageUsers(0, 10, null, true, null);
     }
 
     @Test
@@ -81,11 +145,11 @@ class SysUserControllerTest extends AbstractMockTest {
         mockPage.setRecords(List.of(TestDataFactory.createAdminUser()));
         mockPage.setTotal(1);
 
-        when(sysUserService.pageUsers(anyInt(), anyInt(), anyString()))
+        when(sysUserService.pageUsers(anyInt(), anyInt(), anyString(), anyBoolean(), isNull()))
                 .thenReturn(mockPage);
 
         // When
-        Result<Page<SysUser>> result = controller().pageUsers(0, 10, "admin");
+        Result<Page<SysUser>> result = controller().pageUsers(0, 10, "admin", false, null, null, webRequest());
 
         // Then
         assertThat(result).isNotNull();
@@ -93,7 +157,7 @@ class SysUserControllerTest extends AbstractMockTest {
         assertThat(result.getData().getRecords()).hasSize(1);
         assertThat(result.getData().getRecords().get(0).getUserName()).isEqualTo("admin");
 
-        verify(sysUserService).pageUsers(0, 10, "admin");
+        verify(sysUserService).pageUsers(0, 10, "admin", false, null);
     }
 
     @Test
@@ -104,18 +168,18 @@ class SysUserControllerTest extends AbstractMockTest {
         mockPage.setRecords(List.of());
         mockPage.setTotal(0);
 
-        when(sysUserService.pageUsers(anyInt(), anyInt(), anyString()))
+        when(sysUserService.pageUsers(anyInt(), anyInt(), anyString(), anyBoolean(), isNull()))
                 .thenReturn(mockPage);
 
         // When
-        Result<Page<SysUser>> result = controller().pageUsers(0, 10, "nonexistent");
+        Result<Page<SysUser>> result = controller().pageUsers(0, 10, "nonexistent", false, null, null, webRequest());
 
         // Then
         assertThat(result).isNotNull();
         assertThat(result.getCode()).isEqualTo("200");
         assertThat(result.getData().getRecords()).isEmpty();
 
-        verify(sysUserService).pageUsers(0, 10, "nonexistent");
+        verify(sysUserService).pageUsers(0, 10, "nonexistent", false, null);
     }
 
     @Test
@@ -126,17 +190,17 @@ class SysUserControllerTest extends AbstractMockTest {
         mockPage.setRecords(List.of(TestDataFactory.createDefaultUser()));
         mockPage.setTotal(1);
 
-        when(sysUserService.pageUsers(anyInt(), anyInt(), isNull()))
+        when(sysUserService.pageUsers(anyInt(), anyInt(), isNull(), anyBoolean(), isNull()))
                 .thenReturn(mockPage);
 
         // When
-        Result<Page<SysUser>> result = controller().pageUsers(0, 10, null);
+        Result<Page<SysUser>> result = controller().pageUsers(0, 10, null, false, null, null, webRequest());
 
         // Then
         assertThat(result).isNotNull();
         assertThat(result.getCode()).isEqualTo("200");
 
-        verify(sysUserService).pageUsers(0, 10, null);
+        verify(sysUserService).pageUsers(0, 10, null, false, null);
     }
 
     @Test
@@ -147,18 +211,18 @@ class SysUserControllerTest extends AbstractMockTest {
         mockPage.setRecords(List.of(TestDataFactory.createDefaultUser()));
         mockPage.setTotal(1);
 
-        when(sysUserService.pageUsers(anyInt(), anyInt(), isNull()))
+        when(sysUserService.pageUsers(anyInt(), anyInt(), isNull(), anyBoolean(), isNull()))
                 .thenReturn(mockPage);
 
         // When
-        Result<Page<SysUser>> result = controller().pageUsers(0, 20, null);
+        Result<Page<SysUser>> result = controller().pageUsers(0, 20, null, false, null, null, webRequest());
 
         // Then
         assertThat(result).isNotNull();
         assertThat(result.getCode()).isEqualTo("200");
         assertThat(result.getData().getSize()).isEqualTo(20);
 
-        verify(sysUserService).pageUsers(0, 20, null);
+        verify(sysUserService).pageUsers(0, 20, null, false, null);
     }
 
     @Test
@@ -175,11 +239,11 @@ class SysUserControllerTest extends AbstractMockTest {
         ));
         mockPage.setTotal(5);
 
-        when(sysUserService.pageUsers(anyInt(), anyInt(), isNull()))
+        when(sysUserService.pageUsers(anyInt(), anyInt(), isNull(), anyBoolean(), isNull()))
                 .thenReturn(mockPage);
 
         // When
-        Result<Page<SysUser>> result = controller().pageUsers(0, 10, null);
+        Result<Page<SysUser>> result = controller().pageUsers(0, 10, null, false, null, null, webRequest());
 
         // Then
         assertThat(result).isNotNull();
@@ -187,7 +251,7 @@ class SysUserControllerTest extends AbstractMockTest {
         assertThat(result.getData().getRecords()).hasSize(5);
         assertThat(result.getData().getTotal()).isEqualTo(5);
 
-        verify(sysUserService).pageUsers(0, 10, null);
+        verify(sysUserService).pageUsers(0, 10, null, false, null);
     }
 
     @Test
@@ -198,17 +262,17 @@ class SysUserControllerTest extends AbstractMockTest {
         mockPage.setRecords(List.of(TestDataFactory.createDefaultUser()));
         mockPage.setTotal(1);
 
-        when(sysUserService.pageUsers(anyInt(), anyInt(), isNull()))
+        when(sysUserService.pageUsers(anyInt(), anyInt(), isNull(), anyBoolean(), isNull()))
                 .thenReturn(mockPage);
 
         // When
-        Result<Page<SysUser>> result = controller().pageUsers(0, 10, null);
+        Result<Page<SysUser>> result = controller().pageUsers(0, 10, null, false, null, null, webRequest());
 
         // Then
         assertThat(result).isNotNull();
         assertThat(result.getCode()).isEqualTo("200");
 
-        verify(sysUserService).pageUsers(0, 10, null);
+        verify(sysUserService).pageUsers(0, 10, null, false, null);
     }
 
     @Test
@@ -219,17 +283,17 @@ class SysUserControllerTest extends AbstractMockTest {
         mockPage.setRecords(List.of(TestDataFactory.createDefaultUser()));
         mockPage.setTotal(1);
 
-        when(sysUserService.pageUsers(anyInt(), anyInt(), anyString()))
+        when(sysUserService.pageUsers(anyInt(), anyInt(), anyString(), anyBoolean(), isNull()))
                 .thenReturn(mockPage);
 
         // When
-        Result<Page<SysUser>> result = controller().pageUsers(0, 10, "");
+        Result<Page<SysUser>> result = controller().pageUsers(0, 10, "", false, null, null, webRequest());
 
         // Then
         assertThat(result).isNotNull();
         assertThat(result.getCode()).isEqualTo("200");
 
-        verify(sysUserService).pageUsers(0, 10, "");
+        verify(sysUserService).pageUsers(0, 10, "", false, null);
     }
 
     @Test
@@ -374,10 +438,10 @@ class SysUserControllerTest extends AbstractMockTest {
         SysUser user = TestDataFactory.createDefaultUser();
         user.setUserId(userId);
 
-        when(sysUserService.getUserById(userId)).thenReturn(user);
+        when(sysUserService.getUserById(userId, null)).thenReturn(user);
 
         // When
-        Result<SysUser> result = controller().getUserById(userId);
+        Result<SysUser> result = controller().getUserById(userId, null, webRequest());
 
         // Then
         assertThat(result).isNotNull();
@@ -385,7 +449,7 @@ class SysUserControllerTest extends AbstractMockTest {
         assertThat(result.getData()).isNotNull();
         assertThat(result.getData().getUserId()).isEqualTo(userId);
 
-        verify(sysUserService).getUserById(userId);
+        verify(sysUserService).getUserById(userId, null);
     }
 
     @Test
@@ -396,14 +460,14 @@ class SysUserControllerTest extends AbstractMockTest {
         SysUser user = TestDataFactory.createAdminUser();
         user.setUserId(userId);
 
-        when(sysUserService.getUserById(userId)).thenReturn(user);
+        when(sysUserService.getUserById(userId, null)).thenReturn(user);
 
         // When
-        Result<SysUser> result = controller().getUserById(userId);
+        Result<SysUser> result = controller().getUserById(userId, null, webRequest());
 
         // Then
         assertThat(result.getData().getUserName()).isEqualTo("admin");
-        verify(sysUserService).getUserById(userId);
+        verify(sysUserService).getUserById(userId, null);
     }
 
     @Test
@@ -415,14 +479,14 @@ class SysUserControllerTest extends AbstractMockTest {
         user.setUserId(userId);
         user.setEmail("test@example.com");
 
-        when(sysUserService.getUserById(userId)).thenReturn(user);
+        when(sysUserService.getUserById(userId, null)).thenReturn(user);
 
         // When
-        Result<SysUser> result = controller().getUserById(userId);
+        Result<SysUser> result = controller().getUserById(userId, null, webRequest());
 
         // Then
         assertThat(result.getData().getEmail()).isEqualTo("test@example.com");
-        verify(sysUserService).getUserById(userId);
+        verify(sysUserService).getUserById(userId, null);
     }
 
     @Test
@@ -435,10 +499,10 @@ class SysUserControllerTest extends AbstractMockTest {
         user.setUserName("testuser");
         user.setEmail("test@example.com");
 
-        when(sysUserService.getUserById(userId)).thenReturn(user);
+        when(sysUserService.getUserById(userId, null)).thenReturn(user);
 
         // When
-        Result<SysUser> result = controller().getUserById(userId);
+        Result<SysUser> result = controller().getUserById(userId, null, webRequest());
 
         // Then
         assertThat(result.getData()).isNotNull();
@@ -446,7 +510,119 @@ class SysUserControllerTest extends AbstractMockTest {
         assertThat(result.getData().getUserName()).isEqualTo("testuser");
         assertThat(result.getData().getEmail()).isEqualTo("test@example.com");
 
-        verify(sysUserService).getUserById(userId);
+        verify(sysUserService).getUserById(userId, null);
+    }
+
+    @Test
+    @DisplayName("Should tag the user with its version and answer a matching If-None-Match with 304")
+    void shouldAnswerConditionalGetUserById() {
+        // Given
+        SysUser user = TestDataFactory.createDefaultUser();
+        user.setUserId("123");
+        user.setVersion(4);
+        when(sysUserService.getUserById("123", null)).thenReturn(user);
+        ServletWebRequest fresh = webRequest();
+        ServletWebRequest matching = webRequest("\"123-4\"");
+        ServletWebRequest stale = webRequest("\"123-3\"");
+
+        // When
+        Result<SysUser> freshResult = controller().getUserById("123", null, fresh);
+        Result<SysUser> matchingResult = controller().getUserById("123", null, matching);
+        Result<SysUser> staleResult = controller().getUserById("123", null, stale);
+
+        // Then
+        assertThat(freshResult.getData()).isSameAs(user);
+        assertThat(fresh.getResponse().getHeader(HttpHeaders.ETAG)).isEqualTo("\"123-4\"");
+        assertThat(fresh.getResponse().getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("no-cache, private");
+        assertThat(matchingResult).isNull();
+        assertThat(matching.getResponse().getStatus()).isEqualTo(304);
+        assertThat(staleResult.getData()).isSameAs(user);
+    }
+
+    @Test
+    @DisplayName("Should tag a sparse user by its normalized fieldset, apart from the full representation")
+    void shouldTagSparseUserByFieldset() {
+        // Given
+        SysUser user = TestDataFactory.createDefaultUser();
+        user.setUserId("123");
+        user.setVersion(4);
+        when(sysUserService.resolveFields("userName,userId"))
+                .thenReturn(new LinkedHashSet<>(List.of("userName", "userId")));
+        when(sysUserService.getUserById(eq("123"), any())).thenReturn(user);
+        ServletWebRequest sparse = webRequest("\"123-4\"");
+        ServletWebRequest reordered = webRequest("\"123-4-userId.userName\"");
+
+        // When
+        Result<SysUser> sparseResult = controller().getUserById("123", "userName,userId", sparse);
+        Result<SysUser> reorderedResult = controller().getUserById("123", "userName,userId", reordered);
+
+        // Then
+        assertThat(sparseResult).isNotNull();
+        assertThat(sparse.getResponse().getHeader(HttpHeaders.ETAG)).isEqualTo("\"123-4-userId.userName\"");
+        assertThat(reorderedResult).isNull();
+        assertThat(reordered.getResponse().getStatus()).isEqualTo(304);
+    }
+
+    @Test
+    @DisplayName("Should answer a matching page ETag with 304 without querying")
+    void shouldAnswerConditionalPageUsers() {
+        // Given
+        when(sysUserService.currentPageGeneration()).thenReturn("g1");
+        when(sysUserService.pageUsers(anyInt(), eq(10), isNull(), eq(false), isNull())).thenReturn(new Page<>(0, 10));
+        SysUser current = TestDataFactory.createAdminUser();
+        current.setUserId("1");
+        SecurityUserDetails admin = new SecurityUserDetails(current, List.of("ROLE_ADMIN"));
+        Authentication authentication = new UsernamePasswordAuthenticationToken(admin, null, List.of());
+        ServletWebRequest fresh = webRequest();
+        controller().pageUsers(0, 10, null, false, null, authentication, fresh);
+        String etag = fresh.getResponse().getHeader(HttpHeaders.ETAG);
+        ServletWebRequest matching = webRequest(etag);
+        ServletWebRequest otherPage = webRequest(etag);
+
+        // When
+        Result<Page<SysUser>> matchingResult = controller().pageUsers(0, 10, null, false, null, authentication, matching);
+        controller().pageUsers(1, 10, null, false, null, authentication, otherPage);
+
+        // Then
+        assertThat(etag).startsWith("\"users-g1-");
+        assertThat(matchingResult).isNull();
+        assertThat(matching.getResponse().getStatus()).isEqualTo(304);
+        assertThat(otherPage.getResponse().getStatus()).isEqualTo(200);
+        verify(sysUserService, times(1)).pageUsers(0, 10, null, false, null);
+    }
+
+    @Test
+    @DisplayName("Should pass the resolved fieldset to the service")
+    void shouldPassResolvedFieldsToService() {
+        // Given
+        Set<String> fields = Set.of("userId", "userName");
+        when(sysUserService.resolveFields("userId,userName")).thenReturn(fields);
+        when(sysUserService.pageUsers(0, 10, null, false, fields)).thenReturn(new Page<>(0, 10));
+        SysUser user = TestDataFactory.createDefaultUser();
+        when(sysUserService.getUserById("123", fields)).thenReturn(user);
+
+        // When
+        Result<Page<SysUser>> page = controller().pageUsers(0, 10, null, false, "userId,userName", null, webRequest());
+        Result<SysUser> single = controller().getUserById("123", "userId,userName", webRequest());
+
+        // Then
+        assertThat(page.getData()).isNotNull();
+        assertThat(single.getData()).isSameAs(user);
+    }
+
+    @Test
+    @DisplayName("Should not tag pages when the page generation is unavailable")
+    void shouldNotTagPagesWithoutGeneration() {
+        // Given
+        when(sysUserService.pageUsers(0, 10, null, false, null)).thenReturn(new Page<>(0, 10));
+        ServletWebRequest request = webRequest("\"users-g1-0\"");
+
+        // When
+        Result<Page<SysUser>> result = controller().pageUsers(0, 10, null, false, null, null, request);
+
+        // Then
+        assertThat(result).isNotNull();
+        assertThat(request.getResponse().getHeader(HttpHeaders.ETAG)).isNull();
     }
 
     @Test
@@ -663,5 +839,130 @@ class SysUserControllerTest extends AbstractMockTest {
         assertThat(result.getData()).isNull();
     }
 
+    @Test
+    @DisplayName("Should import CSV body and return import summary")
+    void shouldImportCsvBody() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setContent("username,password\nalice,Password123\n".getBytes());
+
+        ImportUserResultDTO summary = new ImportUserResultDTO();
+        summary.setTotal(1);
+        summary.setSucceeded(1);
+        when(sysUserImportService.importUsers(any(), eq(SysUserImportService.Format.CSV))).thenReturn(summary);
+
+        // When
+        Result<ImportUserResultDTO> result = controller().importUsers("text/csv;charset=UTF-8", request);
+
+        // Then
+        assertThat(result.getCode()).isEqualTo("200");
+        assertThat(result.getData().getSucceeded()).isEqualTo(1);
+        verify(sysUserImportService).importUsers(any(), eq(SysUserImportService.Format.CSV));
+    }
+
+    @Test
+    @DisplayName("Should treat x-ndjson content type as NDJSON import")
+    void shouldImportNdjsonBody() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setContent("{\"username\":\"alice\",\"password\":\"Password123\"}\n".getBytes());
+        when(sysUserImportService.importUsers(any(), eq(SysUserImportService.Format.NDJSON)))
+                .thenReturn(new ImportUserResultDTO());
+
+        // When
+        controller().importUsers("application/x-ndjson", request);
+
+        // Then
+        verify(sysUserImportService).importUsers(any(), eq(SysUserImportService.Format.NDJSON));
+    }
+
+    @Test
+    @DisplayName("Should pass current user ID to bulk operation")
+    void shouldPassCurrentUserIdToBulkOperation() {
+        // Given
+        Authentication authentication = mock(Authentication.class);
+        SysUser currentUser = TestDataFactory.createDefaultUser();
+        currentUser.setUserId("1");
+        when(authentication.getPrincipal()).thenReturn(new SecurityUserDetails(currentUser, List.of("ROLE_ADMIN")));
+
+        BulkUserRequestDTO dto = new BulkUserRequestDTO();
+        dto.setAction(BulkUserRequestDTO.Action.DISABLE);
+        dto.setUserIds(List.of("2", "3"));
+        BulkUserResultDTO summary = new BulkUserResultDTO();
+        summary.setSucceeded(2);
+        when(sysUserService.bulkUpdateUsers(dto, "1")).thenReturn(summary);
+
+        // When
+        Result<BulkUserResultDTO> result = controller().bulkUpdateUsers(dto, authentication);
+
+        // Then
+        assertThat(result.getCode()).isEqualTo("200");
+        assertThat(result.getData().getSucceeded()).isEqualTo(2);
+        verify(sysUserService).bulkUpdateUsers(dto, "1");
+    }
+
     // Note: Tests for delete user permission control (@PreAuthorize "hasRole('ADMIN')") require integration testing with Spring Security
+
+    private static Authentication authenticated(String userId, String... roles) {
+        SysUser user = TestDataFactory.createDefaultUser();
+        user.setUserId(userId);
+        SecurityUserDetails userDetails = new SecurityUserDetails(user, List.of(roles));
+        return new UsernamePasswordAuthenticationToken(userDetails, null,
+                List.of(roles).stream().map(SimpleGrantedAuthority::new).toList());
+    }
+
+    @Test
+    @DisplayName("Should return found and not-found IDs for admin multi-get")
+    void shouldGetUsersByIdsForAdmin() {
+        // Given
+        SysUser alice = TestDataFactory.createDefaultUser();
+        alice.setUserId("2");
+        when(sysUserService.getUsersByIds(List.of("2", "404"))).thenReturn(Map.of("2", alice));
+
+        // When
+        Result<BatchUserResultDTO> result = controller().getUsersByIds(List.of("2", "404", "2"),
+                authenticated("1", "ROLE_ADMIN"));
+
+        // Then
+        assertThat(result.getCode()).isEqualTo("200");
+        assertThat(result.getData().getUsers()).extracting(SysUser::getUserId).containsExactly("2");
+        assertThat(result.getData().getNotFound()).containsExactly("404");
+        assertThat(result.getData().getForbidden()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should report other users' IDs as forbidden for non-admin multi-get")
+    void shouldReportForbiddenIdsForNonAdmin() {
+        // Given
+        SysUser self = TestDataFactory.createDefaultUser();
+        self.setUserId("2");
+        when(sysUserService.getUsersByIds(List.of("2"))).thenReturn(Map.of("2", self));
+
+        // When
+        Result<BatchUserResultDTO> result = controller().getUsersByIds(List.of("1", "2", "3"),
+                authenticated("2", "ROLE_USER"));
+
+        // Then
+        assertThat(result.getData().getUsers()).extracting(SysUser::getUserId).containsExactly("2");
+        assertThat(result.getData().getForbidden()).containsExactly("1", "3");
+        verify(sysUserService).getUsersByIds(List.of("2"));
+    }
+
+    @Test
+    @DisplayName("Should reject a multi-get over the limit before checking access per ID")
+    void shouldRejectTooManyIdsBeforeAccessChecks() {
+        // Given - a non-admin asking for more IDs than allowed, none of them its own
+        PermissionHandler permissionHandler = mock(PermissionHandler.class);
+        SysUserController controller = new SysUserController(sysUserService, sysUserImportService, permissionHandler);
+        List<String> ids = IntStream.rangeClosed(100, 100 + SysUserService.MAX_BATCH_IDS)
+                .mapToObj(Integer::toString)
+                .toList();
+
+        // When & Then
+        assertThatThrownBy(() -> controller.getUsersByIds(ids, authenticated("2", "ROLE_USER")))
+                .isInstanceOf(AppException.class)
+                .satisfies(e -> assertThat(((AppException) e).getErrorCode()).isEqualTo(ErrorCode.PARAM_VALIDATION_ERROR));
+        verifyNoInteractions(permissionHandler);
+        verify(sysUserService, never()).getUsersByIds(any());
+    }
 }
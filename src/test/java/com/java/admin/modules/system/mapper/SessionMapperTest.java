@@ -1,6 +1,8 @@
 package com.java.admin.modules.system.mapper;
 
 import com.java.admin.config.AuthProperties;
+import com.java.admin.config.RedisConfig;
+import com.java.admin.infrastructure.datascope.DataScope;
 import com.java.admin.infrastructure.model.SecurityUserDetails;
 import com.java.admin.testutil.AbstractMockTest;
 import com.java.admin.testutil.TestDataFactory;
@@ -9,9 +11,12 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -320,4 +325,48 @@ class SessionMapperTest extends AbstractMockTest {
         verify(valueOperations, times(3)).set(anyString(), any(), anyLong(), any(TimeUnit.class));
         verify(valueOperations, times(3)).get(anyString());
     }
+
+    @Test
+    @DisplayName("Should unlink sessions of multiple users with one command")
+    void shouldUnlinkSessionsOfMultipleUsers() {
+        // When
+        sessionMapper.deleteAll(List.of("user-1", "user-2"));
+
+        // Then
+        verify(redisTemplate, times(1)).unlink(List.of("user:user-1", "user:user-2"));
+    }
+
+    @Test
+    @DisplayName("Should not call Redis when no user IDs are given")
+    void shouldNotCallRedisWhenNoUserIds() {
+        // When
+        sessionMapper.deleteAll(List.of());
+
+        // Then
+        verify(redisTemplate, never()).unlink(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should round-trip a session through the configured Redis value serializer")
+    void shouldRoundTripSessionThroughRedisValueSerializer() {
+        // Given - the serializer of the real template, not the mock
+        RedisTemplate<String, Object> configured = new RedisConfig().redisTemplate(mock(RedisConnectionFactory.class));
+        @SuppressWarnings("unchecked")
+        RedisSerializer<Object> serializer = (RedisSerializer<Object>) configured.getValueSerializer();
+        testUserDetails.setCurrentTokenFingerprint("fingerprint-1");
+        testUserDetails.setDataScope(DataScope.CREATED);
+
+        // When
+        byte[] bytes = serializer.serialize(testUserDetails);
+        Object restored = serializer.deserialize(bytes);
+
+        // Then
+        assertThat(restored).isInstanceOf(SecurityUserDetails.class);
+        SecurityUserDetails session = (SecurityUserDetails) restored;
+        assertThat(session.getUserid()).isEqualTo(testUserDetails.getUserid());
+        assertThat(session.getUsername()).isEqualTo(testUserDetails.getUsername());
+        assertThat(session.getSysAuthorities()).isEqualTo(testUserDetails.getSysAuthorities());
+        assertThat(session.getCurrentTokenFingerprint()).isEqualTo("fingerprint-1");
+        assertThat(session.getDataScope()).isEqualTo(DataScope.CREATED);
+    }
 }
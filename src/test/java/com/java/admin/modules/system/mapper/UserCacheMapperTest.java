@@ -0,0 +1,226 @@
+package com.java.admin.modules.system.mapper;
+
+import com.alibaba.fastjson2.JSON;
+import com.java.admin.modules.system.model.SysUser;
+import com.java.admin.modules.system.model.SysUserCacheEntry;
+import com.java.admin.testutil.AbstractMockTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * UserCacheMapper Unit Tests
+ *
+ * <p>Test Coverage:
+ * <ul>
+ *   <li>Cached user and username mapping round trip</li>
+ *   <li>Multi-get and pipelined multi-set</li>
+ *   <li>Tombstones on eviction, absent-only write-back and invalidation publishing</li>
+ *   <li>User page generation</li>
+ * </ul>
+ *
+ * <p>Coverage Target: 90%+
+ */
+@DisplayName("UserCacheMapper Unit Tests")
+@org.mockito.junit.jupiter.MockitoSettings(strictness = org.mockito.quality.Strictness.LENIENT)
+class UserCacheMapperTest extends AbstractMockTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+    @InjectMocks
+    private UserCacheMapper userCacheMapper;
+
+    @BeforeEach
+    void setUp() {
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("Should store the password hash so cached users can authenticate")
+    void shouldRoundTripUserWithPassword() {
+        // Given
+        SysUser user = new SysUser();
+        user.setUserId("2");
+        user.setUserName("alice");
+        user.setPassword("$2a$10$hash");
+        user.setVersion(3);
+        ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+
+        // When
+        userCacheMapper.saveUser("2", SysUserCacheEntry.of(user), Duration.ofMinutes(10));
+        verify(valueOperations).setIfAbsent(eq("user-cache:id:2"), json.capture(), eq(Duration.ofMinutes(10)));
+        when(valueOperations.get("user-cache:id:2")).thenReturn(json.getValue());
+        SysUserCacheEntry entry = userCacheMapper.findUser("2");
+
+        // Then
+        assertThat(JSON.parseObject(json.getValue()).getString("password")).isEqualTo("$2a$10$hash");
+        assertThat(entry.isFound()).isTrue();
+        assertThat(entry.toUser().getPassword()).isEqualTo("$2a$10$hash");
+        assertThat(entry.toUser().getVersion()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should return null on cache miss")
+    void shouldReturnNullOnMiss() {
+        assertThat(userCacheMapper.findUser("2")).isNull();
+        assertThat(userCacheMapper.findUserId("alice")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should store unknown usernames as empty user ID")
+    void shouldStoreNegativeUsernameMapping() {
+        // When
+        userCacheMapper.saveUserId("ghost", null, Duration.ofSeconds(30));
+
+        // Then
+        verify(valueOperations).setIfAbsent("user-cache:name:ghost", "", Duration.ofSeconds(30));
+    }
+
+    @Test
+    @DisplayName("Should replace evicted keys with tombstones in one pipeline and skip empty input")
+    @SuppressWarnings("unchecked")
+    void shouldWriteTombstonesOnEviction() {
+        // Given
+        RedisOperations<String, String> operations = mock(RedisOperations.class);
+        ValueOperations<String, String> pipelinedValues = mock(ValueOperations.class);
+        when(operations.opsForValue()).thenReturn(pipelinedValues);
+        when(stringRedisTemplate.executePipelined(any(SessionCallback.class))).thenAnswer(invocation -> {
+            ((SessionCallback<Object>) invocation.getArgument(0)).execute(operations);
+            return List.of();
+        });
+
+        // When
+        userCacheMapper.evictUsers(List.of("2", "3"), Duration.ofSeconds(5));
+        userCacheMapper.evictUsernames(List.of("alice"), Duration.ofSeconds(5));
+        userCacheMapper.evictUsers(List.of(), Duration.ofSeconds(5));
+
+        // Then
+        verify(stringRedisTemplate, times(2)).executePipelined(any(SessionCallback.class));
+        verify(pipelinedValues).set("user-cache:id:2", "~evicted", Duration.ofSeconds(5));
+        verify(pipelinedValues).set("user-cache:id:3", "~evicted", Duration.ofSeconds(5));
+        verify(pipelinedValues).set("user-cache:name:alice", "~evicted", Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("Should read tombstones as misses and not write back over them")
+    void shouldTreatTombstonesAsMisses() {
+        // Given
+        when(valueOperations.get("user-cache:id:2")).thenReturn("~evicted");
+        when(valueOperations.get("user-cache:name:alice")).thenReturn("~evicted");
+        when(valueOperations.multiGet(List.of("user-cache:id:2"))).thenReturn(List.of("~evicted"));
+        when(valueOperations.setIfAbsent(eq("user-cache:id:2"), anyString(), any(Duration.class))).thenReturn(false);
+
+        // When & Then
+        assertThat(userCacheMapper.findUser("2")).isNull();
+        assertThat(userCacheMapper.findUserId("alice")).isNull();
+        assertThat(userCacheMapper.findUsers(List.of("2"))).isEmpty();
+        assertThat(userCacheMapper.saveUser("2", SysUserCacheEntry.of(null), Duration.ofSeconds(30))).isFalse();
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("Should publish invalidations on the shared channel")
+    void shouldPublishInvalidation() {
+        // When
+        userCacheMapper.publishInvalidation("id:2");
+
+        // Then
+        verify(stringRedisTemplate).convertAndSend(UserCacheMapper.INVALIDATION_CHANNEL, "id:2");
+    }
+
+    @Test
+    @DisplayName("Should fetch many users with one MGET and skip misses")
+    void shouldMultiGetUsers() {
+        // Given
+        SysUser user = new SysUser();
+        user.setUserId("2");
+        user.setUserName("alice");
+        when(valueOperations.multiGet(List.of("user-cache:id:2", "user-cache:id:3", "user-cache:id:4")))
+                .thenReturn(Arrays.asList(JSON.toJSONString(SysUserCacheEntry.of(user)), null,
+                        JSON.toJSONString(SysUserCacheEntry.of(null))));
+
+        // When
+        Map<String, SysUserCacheEntry> entries = userCacheMapper.findUsers(List.of("2", "3", "4"));
+
+        // Then
+        assertThat(entries).containsOnlyKeys("2", "4");
+        assertThat(entries.get("2").toUser().getUserName()).isEqualTo("alice");
+        assertThat(entries.get("4").isFound()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should save many users in one pipeline with per-entry TTLs")
+    @SuppressWarnings("unchecked")
+    void shouldSaveUsersPipelined() {
+        // Given
+        RedisOperations<String, String> operations = mock(RedisOperations.class);
+        ValueOperations<String, String> pipelinedValues = mock(ValueOperations.class);
+        when(operations.opsForValue()).thenReturn(pipelinedValues);
+        when(stringRedisTemplate.executePipelined(any(SessionCallback.class))).thenAnswer(invocation -> {
+            ((SessionCallback<Object>) invocation.getArgument(0)).execute(operations);
+            return List.of();
+        });
+        SysUser user = new SysUser();
+        user.setUserId("2");
+
+        // When
+        userCacheMapper.saveUsers(Map.of("2", SysUserCacheEntry.of(user), "404", SysUserCacheEntry.of(null)),
+                Duration.ofMinutes(10), Duration.ofSeconds(30));
+
+        // Then
+        verify(stringRedisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+        verify(pipelinedValues).setIfAbsent(eq("user-cache:id:2"), anyString(), eq(Duration.ofMinutes(10)));
+        verify(pipelinedValues).setIfAbsent(eq("user-cache:id:404"), anyString(), eq(Duration.ofSeconds(30)));
+    }
+
+    @Test
+    @DisplayName("Should not open a pipeline for an empty batch")
+    void shouldSkipEmptyBatch() {
+        userCacheMapper.saveUsers(Map.of(), Duration.ofMinutes(10), Duration.ofSeconds(30));
+        verifyNoInteractions(stringRedisTemplate);
+    }
+
+    @Test
+    @DisplayName("Should return the existing page generation without writing")
+    void shouldReturnExistingPageGeneration() {
+        // Given
+        when(valueOperations.get("user-cache:page-generation")).thenReturn("g1");
+
+        // When
+        String generation = userCacheMapper.findOrCreatePageGeneration("g2", Duration.ofMinutes(10));
+
+        // Then
+        assertThat(generation).isEqualTo("g1");
+        verify(valueOperations, never()).setIfAbsent(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("Should create the page generation when absent, keeping a concurrent winner")
+    void shouldCreatePageGenerationWhenAbsent() {
+        // Given
+        when(valueOperations.setIfAbsent("user-cache:page-generation", "g2", Duration.ofMinutes(10)))
+                .thenReturn(true, false);
+        when(valueOperations.get("user-cache:page-generation")).thenReturn(null, null, "g3");
+
+        // When & Then
+        assertThat(userCacheMapper.findOrCreatePageGeneration("g2", Duration.ofMinutes(10))).isEqualTo("g2");
+        assertThat(userCacheMapper.findOrCreatePageGeneration("g2", Duration.ofMinutes(10))).isEqualTo("g3");
+    }
+}
@@ -0,0 +1,155 @@
+package com.java.admin.modules.system.service;
+
+import com.java.admin.infrastructure.constants.ErrorCode;
+import com.java.admin.infrastructure.exception.AppException;
+import com.java.admin.modules.system.dto.PermRequestDTO;
+import com.java.admin.modules.system.mapper.SysPermMapper;
+import com.java.admin.modules.system.mapper.SysRolePermMapper;
+import com.java.admin.modules.system.model.SysPerm;
+import com.java.admin.modules.system.model.SysRolePerm;
+import com.java.admin.testutil.AbstractMockTest;
+import com.java.admin.testutil.MybatisPlusTestSupport;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * SysPermService Unit Tests
+ *
+ * <p>Test Coverage:
+ * <ul>
+ *   <li>Permission CRUD</li>
+ *   <li>Grant cleanup and session revocation</li>
+ * </ul>
+ *
+ * <p>Coverage Target: 90%+
+ */
+@DisplayName("SysPermService Unit Tests")
+@org.mockito.junit.jupiter.MockitoSettings(strictness = org.mockito.quality.Strictness.LENIENT)
+class SysPermServiceTest extends AbstractMockTest {
+
+    @Mock
+    private SysPermMapper sysPermMapper;
+    @Mock
+    private SysRolePermMapper sysRolePermMapper;
+    @Mock
+    private SysRoleService sysRoleService;
+    @Mock
+    private SysRoleHierarchyService sysRoleHierarchyService;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @InjectMocks
+    private SysPermService sysPermService;
+
+    @BeforeAll
+    static void initTableInfo() {
+        MybatisPlusTestSupport.initTableInfo(SysPerm.class, SysRolePerm.class);
+    }
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(mock(TransactionStatus.class)));
+    }
+
+    private static PermRequestDTO permRequest(String permName) {
+        PermRequestDTO dto = new PermRequestDTO();
+        dto.setPermName(permName);
+        dto.setPermDesc("description");
+        return dto;
+    }
+
+    @Test
+    @DisplayName("Should create permission")
+    void shouldCreatePerm() {
+        // When
+        SysPerm perm = sysPermService.createPerm(permRequest("user:read"));
+
+        // Then
+        assertThat(perm.getPermName()).isEqualTo("user:read");
+        verify(sysPermMapper).insert(perm);
+    }
+
+    @Test
+    @DisplayName("Should map duplicate permission names to DATA_ALREADY_EXISTS")
+    void shouldRejectDuplicatePermName() {
+        // Given
+        when(sysPermMapper.insert(any(SysPerm.class))).thenThrow(new DuplicateKeyException("uk_perm_name"));
+
+        // When & Then
+        assertThatThrownBy(() -> sysPermService.createPerm(permRequest("admin")))
+                .isInstanceOf(AppException.class)
+                .satisfies(e -> assertThat(((AppException) e).getErrorCode()).isEqualTo(ErrorCode.DATA_ALREADY_EXISTS));
+    }
+
+    @Test
+    @DisplayName("Should throw DATA_NOT_FOUND when updating unknown permission")
+    void shouldThrowWhenUpdatingUnknownPerm() {
+        // Given
+        when(sysPermMapper.updateById(any(SysPerm.class))).thenReturn(0);
+
+        // When & Then
+        assertThatThrownBy(() -> sysPermService.updatePerm("404", permRequest("x")))
+                .isInstanceOf(AppException.class)
+                .satisfies(e -> assertThat(((AppException) e).getErrorCode()).isEqualTo(ErrorCode.DATA_NOT_FOUND));
+        verifyNoInteractions(sysRoleService);
+    }
+
+    @Test
+    @DisplayName("Should revoke sessions of roles holding a renamed permission")
+    void shouldRevokeSessionsOnUpdate() {
+        // Given
+        when(sysPermMapper.updateById(any(SysPerm.class))).thenReturn(1);
+        when(sysRolePermMapper.selectObjs(any())).thenReturn(List.of("1", "2"));
+
+        // When
+        sysPermService.updatePerm("1", permRequest("root"));
+
+        // Then
+        verify(sysRoleHierarchyService).refreshAuthorities(List.of("1", "2"));
+        verify(sysRoleService).revokeSessionsOfRoles(List.of("1", "2"));
+    }
+
+    @Test
+    @DisplayName("Should delete permission and its grants, then revoke sessions")
+    void shouldDeletePermWithGrants() {
+        // Given
+        when(sysPermMapper.deleteById("1")).thenReturn(1);
+        when(sysRolePermMapper.selectObjs(any())).thenReturn(List.of("1"));
+
+        // When
+        sysPermService.deletePerm("1");
+
+        // Then
+        verify(sysRolePermMapper).delete(any());
+        verify(sysRoleHierarchyService).refreshAuthorities(List.of("1"));
+        verify(sysRoleService).revokeSessionsOfRoles(List.of("1"));
+    }
+
+    @Test
+    @DisplayName("Should throw DATA_NOT_FOUND when deleting unknown permission")
+    void shouldThrowWhenDeletingUnknownPerm() {
+        // Given
+        when(sysPermMapper.deleteById("404")).thenReturn(0);
+
+        // When & Then
+        assertThatThrownBy(() -> sysPermService.deletePerm("404"))
+                .isInstanceOf(AppException.class)
+                .satisfies(e -> assertThat(((AppException) e).getErrorCode()).isEqualTo(ErrorCode.DATA_NOT_FOUND));
+        verify(sysRolePermMapper, never()).delete(any());
+    }
+}
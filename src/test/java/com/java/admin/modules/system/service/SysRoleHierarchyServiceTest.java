@@ -0,0 +1,205 @@
+package com.java.admin.modules.system.service;
+
+import com.java.admin.infrastructure.constants.ErrorCode;
+import com.java.admin.infrastructure.exception.AppException;
+import com.java.admin.modules.system.mapper.SysRoleAuthorityMapper;
+import com.java.admin.modules.system.mapper.SysRoleClosureMapper;
+import com.java.admin.modules.system.mapper.SysRoleInheritMapper;
+import com.java.admin.modules.system.mapper.SysRoleMapper;
+import com.java.admin.modules.system.model.SysRole;
+import com.java.admin.modules.system.model.SysRoleAuthority;
+import com.java.admin.modules.system.model.SysRoleClosure;
+import com.java.admin.modules.system.model.SysRoleInherit;
+import com.java.admin.testutil.AbstractMockTest;
+import com.java.admin.testutil.MybatisPlusTestSupport;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.*;
+
+/**
+ * SysRoleHierarchyService Unit Tests
+ *
+ * <p>Test Coverage:
+ * <ul>
+ *   <li>Incremental closure maintenance with path counts</li>
+ *   <li>Cycle and duplicate edge detection</li>
+ *   <li>Effective authority refresh for affected ancestors</li>
+ *   <li>Full rebuild from edges</li>
+ * </ul>
+ *
+ * <p>Coverage Target: 90%+
+ */
+@DisplayName("SysRoleHierarchyService Unit Tests")
+@org.mockito.junit.jupiter.MockitoSettings(strictness = org.mockito.quality.Strictness.LENIENT)
+class SysRoleHierarchyServiceTest extends AbstractMockTest {
+
+    @Mock
+    private SysRoleMapper sysRoleMapper;
+    @Mock
+    private SysRoleInheritMapper sysRoleInheritMapper;
+    @Mock
+    private SysRoleClosureMapper sysRoleClosureMapper;
+    @Mock
+    private SysRoleAuthorityMapper sysRoleAuthorityMapper;
+    @InjectMocks
+    private SysRoleHierarchyService hierarchyService;
+
+    @BeforeAll
+    static void initTableInfo() {
+        MybatisPlusTestSupport.initTableInfo(SysRole.class, SysRoleInherit.class, SysRoleClosure.class,
+                SysRoleAuthority.class);
+    }
+
+    private static SysRole role(String roleId) {
+        SysRole role = new SysRole();
+        role.setRoleId(roleId);
+        return role;
+    }
+
+    @Test
+    @DisplayName("Should add path products for every ancestor and descendant pair")
+    @SuppressWarnings("unchecked")
+    void shouldAddPathProducts() {
+        // Given - ADMIN(1) -> AUDITOR(3) exists; adding AUDITOR(3) -> USER(2) where USER already inherits GUEST(4)
+        when(sysRoleClosureMapper.selectList(any())).thenReturn(
+                List.of(SysRoleClosure.of("3", "3", 1), SysRoleClosure.of("1", "3", 1)),
+                List.of(SysRoleClosure.of("2", "2", 1), SysRoleClosure.of("2", "4", 1)));
+        when(sysRoleClosureMapper.selectObjs(any())).thenReturn(List.of("1", "3"));
+        ArgumentCaptor<Collection<SysRoleClosure>> deltas = ArgumentCaptor.forClass(Collection.class);
+
+        // When
+        hierarchyService.addInheritance("3", "2");
+
+        // Then
+        verify(sysRoleInheritMapper).insert(argThat((SysRoleInherit edge) ->
+                "3".equals(edge.getParentId()) && "2".equals(edge.getChildId())));
+        verify(sysRoleClosureMapper).addPaths(deltas.capture());
+        assertThat(deltas.getValue())
+                .extracting(SysRoleClosure::getAncestorId, SysRoleClosure::getDescendantId, SysRoleClosure::getPathCount)
+                .containsExactlyInAnyOrder(
+                        tuple("3", "2", 1L), tuple("3", "4", 1L), tuple("1", "2", 1L), tuple("1", "4", 1L));
+        verify(sysRoleAuthorityMapper).insertEffectiveAuthorities(Set.of("1", "3"));
+    }
+
+    @Test
+    @DisplayName("Should reject edges that would create a cycle")
+    void shouldRejectCycle() {
+        // Given - USER(2) is already an ancestor of AUDITOR(3)
+        when(sysRoleClosureMapper.selectList(any())).thenReturn(
+                List.of(SysRoleClosure.of("3", "3", 1), SysRoleClosure.of("2", "3", 1)));
+
+        // When & Then
+        assertThatThrownBy(() -> hierarchyService.addInheritance("3", "2"))
+                .isInstanceOf(AppException.class)
+                .satisfies(e -> assertThat(((AppException) e).getErrorCode()).isEqualTo(ErrorCode.BUSINESS_ERROR));
+        assertThatThrownBy(() -> hierarchyService.addInheritance("3", "3"))
+                .isInstanceOf(AppException.class);
+        verify(sysRoleInheritMapper, never()).insert(any(SysRoleInherit.class));
+        verify(sysRoleClosureMapper, never()).addPaths(any());
+    }
+
+    @Test
+    @DisplayName("Should reject duplicate edges")
+    void shouldRejectDuplicateEdge() {
+        // Given
+        when(sysRoleClosureMapper.selectList(any())).thenReturn(List.of(SysRoleClosure.of("1", "1", 1)));
+        when(sysRoleInheritMapper.selectCount(any())).thenReturn(1L);
+
+        // When & Then
+        assertThatThrownBy(() -> hierarchyService.addInheritance("1", "2"))
+                .isInstanceOf(AppException.class)
+                .satisfies(e -> assertThat(((AppException) e).getErrorCode()).isEqualTo(ErrorCode.DATA_ALREADY_EXISTS));
+    }
+
+    @Test
+    @DisplayName("Should subtract paths and drop exhausted rows when an edge is removed")
+    @SuppressWarnings("unchecked")
+    void shouldSubtractPathsOnRemove() {
+        // Given - diamond: 1 reaches 3 through two paths
+        when(sysRoleInheritMapper.selectCount(any())).thenReturn(1L);
+        when(sysRoleClosureMapper.selectList(any())).thenReturn(
+                List.of(SysRoleClosure.of("2", "2", 1), SysRoleClosure.of("1", "2", 1)),
+                List.of(SysRoleClosure.of("3", "3", 1)));
+        when(sysRoleClosureMapper.selectObjs(any())).thenReturn(List.of("1", "2"));
+        ArgumentCaptor<Collection<SysRoleClosure>> deltas = ArgumentCaptor.forClass(Collection.class);
+
+        // When
+        Set<String> affected = hierarchyService.removeInheritance("2", "3");
+
+        // Then
+        assertThat(affected).containsExactlyInAnyOrder("1", "2");
+        verify(sysRoleInheritMapper).delete(any());
+        verify(sysRoleClosureMapper).addPaths(deltas.capture());
+        assertThat(deltas.getValue()).extracting(SysRoleClosure::getPathCount).containsOnly(-1L);
+        verify(sysRoleClosureMapper).delete(any());
+        verify(sysRoleAuthorityMapper).insertEffectiveAuthorities(Set.of("1", "2"));
+    }
+
+    @Test
+    @DisplayName("Should reject removal of a missing edge")
+    void shouldRejectMissingEdge() {
+        assertThatThrownBy(() -> hierarchyService.removeInheritance("1", "2"))
+                .isInstanceOf(AppException.class)
+                .satisfies(e -> assertThat(((AppException) e).getErrorCode()).isEqualTo(ErrorCode.DATA_NOT_FOUND));
+    }
+
+    @Test
+    @DisplayName("Should rebuild closure with path counts across a diamond")
+    @SuppressWarnings("unchecked")
+    void shouldRebuildDiamond() {
+        // Given - 1 -> 2, 1 -> 3, 2 -> 4, 3 -> 4
+        when(sysRoleMapper.selectList(any())).thenReturn(List.of(role("1"), role("2"), role("3"), role("4")));
+        when(sysRoleInheritMapper.selectList(any())).thenReturn(List.of(
+                SysRoleInherit.of("1", "2"), SysRoleInherit.of("1", "3"),
+                SysRoleInherit.of("2", "4"), SysRoleInherit.of("3", "4")));
+        ArgumentCaptor<Collection<SysRoleClosure>> rows = ArgumentCaptor.forClass(Collection.class);
+
+        // When
+        int written = hierarchyService.rebuild();
+
+        // Then
+        verify(sysRoleClosureMapper).insert(rows.capture(), eq(SysRoleService.BATCH_SIZE));
+        assertThat(written).isEqualTo(9);
+        assertThat(rows.getValue())
+                .extracting(SysRoleClosure::getAncestorId, SysRoleClosure::getDescendantId, SysRoleClosure::getPathCount)
+                .contains(tuple("1", "1", 1L), tuple("1", "4", 2L), tuple("2", "4", 1L), tuple("4", "4", 1L));
+        verify(sysRoleAuthorityMapper).insertEffectiveAuthorities(List.of("1", "2", "3", "4"));
+    }
+
+    @Test
+    @DisplayName("Should detach all edges when a role is removed")
+    void shouldDetachEdgesOnRemoveRole() {
+        // Given - role 2 sits between 1 and 3
+        when(sysRoleClosureMapper.selectObjs(any())).thenReturn(List.of("1", "2"));
+        when(sysRoleInheritMapper.selectList(any())).thenReturn(List.of(
+                SysRoleInherit.of("1", "2"), SysRoleInherit.of("2", "3")));
+        when(sysRoleClosureMapper.selectList(any())).thenReturn(List.of(SysRoleClosure.of("2", "2", 1)));
+
+        // When
+        Set<String> formerAncestors = hierarchyService.removeRole("2");
+
+        // Then
+        assertThat(formerAncestors).containsExactly("1");
+        verify(sysRoleInheritMapper, times(2)).delete(any());
+        verify(sysRoleClosureMapper, times(2)).addPaths(any());
+    }
+
+    @Test
+    @DisplayName("Should skip authority refresh when nothing changed")
+    void shouldSkipEmptyRefresh() {
+        hierarchyService.refreshAuthorities(List.of());
+        verifyNoInteractions(sysRoleAuthorityMapper);
+    }
+}
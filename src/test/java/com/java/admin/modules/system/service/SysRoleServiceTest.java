@@ -0,0 +1,395 @@
+package com.java.admin.modules.system.service;
+
+import com.java.admin.infrastructure.constants.ErrorCode;
+import com.java.admin.infrastructure.datascope.DataScope;
+import com.java.admin.infrastructure.exception.AppException;
+import com.java.admin.modules.system.dto.RoleAssignmentRequestDTO;
+import com.java.admin.modules.system.dto.RoleAssignmentResultDTO;
+import com.java.admin.modules.system.dto.RoleRequestDTO;
+import com.java.admin.modules.system.mapper.SessionMapper;
+import com.java.admin.modules.system.mapper.SysPermMapper;
+import com.java.admin.modules.system.mapper.SysRoleMapper;
+import com.java.admin.modules.system.mapper.SysRolePermMapper;
+import com.java.admin.modules.system.mapper.SysUserRoleMapper;
+import com.java.admin.modules.system.model.SysPerm;
+import com.java.admin.modules.system.model.SysRole;
+import com.java.admin.modules.system.model.SysRolePerm;
+import com.java.admin.modules.system.model.SysUserRole;
+import com.java.admin.testutil.AbstractMockTest;
+import com.java.admin.testutil.MybatisPlusTestSupport;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * SysRoleService Unit Tests
+ *
+ * <p>Test Coverage:
+ * <ul>
+ *   <li>Role CRUD and built-in role protection</li>
+ *   <li>Role permission replacement</li>
+ *   <li>Bulk assignment in JDBC batches and revocation</li>
+ *   <li>Role inheritance delegation and session revocation of affected users</li>
+ * </ul>
+ *
+ * <p>Coverage Target: 90%+
+ */
+@DisplayName("SysRoleService Unit Tests")
+@org.mockito.junit.jupiter.MockitoSettings(strictness = org.mockito.quality.Strictness.LENIENT)
+class SysRoleServiceTest extends AbstractMockTest {
+
+    @Mock
+    private SysRoleMapper sysRoleMapper;
+    @Mock
+    private SysPermMapper sysPermMapper;
+    @Mock
+    private SysUserRoleMapper sysUserRoleMapper;
+    @Mock
+    private SysRolePermMapper sysRolePermMapper;
+    @Mock
+    private SysUserService sysUserService;
+    @Mock
+    private SessionMapper sessionMapper;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private SysRoleHierarchyService sysRoleHierarchyService;
+    @InjectMocks
+    private SysRoleService sysRoleService;
+
+    @BeforeAll
+    static void initTableInfo() {
+        MybatisPlusTestSupport.initTableInfo(SysRole.class, SysUserRole.class, SysRolePerm.class);
+    }
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(mock(TransactionStatus.class)));
+        doAnswer(invocation -> {
+            ((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        // Flat hierarchy unless a test says otherwise
+        when(sysRoleHierarchyService.findAncestorIds(anyCollection())).thenAnswer(invocation ->
+                new HashSet<>((Collection<String>) invocation.getArgument(0)));
+    }
+
+    private static SysRole role(String roleId, String roleName) {
+        SysRole role = new SysRole();
+        role.setRoleId(roleId);
+        role.setRoleName(roleName);
+        role.setRoleDesc(roleName);
+        return role;
+    }
+
+    private static RoleRequestDTO roleRequest(String roleName) {
+        RoleRequestDTO dto = new RoleRequestDTO();
+        dto.setRoleName(roleName);
+        dto.setRoleDesc("description");
+        return dto;
+    }
+
+    private static RoleAssignmentRequestDTO assignment(RoleAssignmentRequestDTO.Action action,
+                                                       List<String> userIds, List<String> roleIds) {
+        RoleAssignmentRequestDTO dto = new RoleAssignmentRequestDTO();
+        dto.setAction(action);
+        dto.setUserIds(userIds);
+        dto.setRoleIds(roleIds);
+        return dto;
+    }
+
+    @Test
+    @DisplayName("Should map duplicate role names to DATA_ALREADY_EXISTS")
+    void shouldRejectDuplicateRoleName() {
+        // Given
+        when(sysRoleMapper.insert(any(SysRole.class))).thenThrow(new DuplicateKeyException("uk_role_name"));
+
+        // When & Then
+        assertThatThrownBy(() -> sysRoleService.createRole(roleRequest("USER")))
+                .isInstanceOf(AppException.class)
+                .satisfies(e -> assertThat(((AppException) e).getErrorCode()).isEqualTo(ErrorCode.DATA_ALREADY_EXISTS));
+    }
+
+    @Test
+    @DisplayName("Should throw DATA_NOT_FOUND for unknown role")
+    void shouldThrowWhenRoleNotFound() {
+        assertThatThrownBy(() -> sysRoleService.getRole("404"))
+                .isInstanceOf(AppException.class)
+                .satisfies(e -> assertThat(((AppException) e).getErrorCode()).isEqualTo(ErrorCode.DATA_NOT_FOUND));
+    }
+
+    @Test
+    @DisplayName("Should refuse to rename or delete the built-in ADMIN role")
+    void shouldProtectAdminRole() {
+        // Given
+        when(sysRoleMapper.selectById("1")).thenReturn(role("1", "ADMIN"));
+
+        // When & Then
+        assertThatThrownBy(() -> sysRoleService.updateRole("1", roleRequest("ROOT")))
+                .isInstanceOf(AppException.class)
+                .satisfies(e -> assertThat(((AppException) e).getErrorCode()).isEqualTo(ErrorCode.BUSINESS_ERROR));
+        assertThatThrownBy(() -> sysRoleService.deleteRole("1"))
+                .isInstanceOf(AppException.class)
+                .satisfies(e -> assertThat(((AppException) e).getErrorCode()).isEqualTo(ErrorCode.BUSINESS_ERROR));
+        verify(sysRoleMapper, never()).deleteById(anyString());
+    }
+
+    @Test
+    @DisplayName("Should revoke sessions of holders when a role is renamed")
+    void shouldRevokeSessionsOnRename() {
+        // Given
+        when(sysRoleMapper.selectById("3")).thenReturn(role("3", "AUDITOR"));
+        when(sysUserRoleMapper.selectObjs(any())).thenReturn(List.of("2", "5"));
+
+        // When
+        sysRoleService.updateRole("3", roleRequest("REVIEWER"));
+
+        // Then
+        verify(sysRoleMapper).updateById(argThat((SysRole r) -> "REVIEWER".equals(r.getRoleName())));
+        verify(sessionMapper).deleteAll(Set.of("2", "5"));
+        // Role names appear in user pages
+        verify(sysUserService).invalidatePages();
+    }
+
+    @Test
+    @DisplayName("Should revoke sessions only when the data scope narrows")
+    void shouldRevokeSessionsWhenDataScopeNarrows() {
+        // Given
+        SysRole role = role("3", "AUDITOR");
+        role.setDataScope(DataScope.CREATED.getCode());
+        when(sysRoleMapper.selectById("3")).thenReturn(role);
+        when(sysUserRoleMapper.selectObjs(any())).thenReturn(List.of("2"));
+        RoleRequestDTO widen = roleRequest("AUDITOR");
+        widen.setDataScope(DataScope.ALL.getCode());
+        RoleRequestDTO narrow = roleRequest("AUDITOR");
+        narrow.setDataScope(DataScope.SELF.getCode());
+
+        // When - widening keeps sessions
+        sysRoleService.updateRole("3", widen);
+
+        // Then
+        verify(sessionMapper, never()).deleteAll(any());
+
+        // When - narrowing back below the stored scope signs holders out
+        role.setDataScope(DataScope.CREATED.getCode());
+        sysRoleService.updateRole("3", narrow);
+
+        // Then
+        verify(sysRoleMapper, times(2)).updateById(any(SysRole.class));
+        verify(sessionMapper).deleteAll(Set.of("2"));
+        verify(sysUserService, never()).invalidatePages();
+    }
+
+    @Test
+    @DisplayName("Should delete role, assignments and grants in one transaction")
+    void shouldDeleteRoleWithAssignments() {
+        // Given
+        when(sysRoleMapper.selectById("3")).thenReturn(role("3", "AUDITOR"));
+        when(sysUserRoleMapper.selectObjs(any())).thenReturn(List.of("2"));
+
+        // When
+        sysRoleService.deleteRole("3");
+
+        // Then
+        verify(transactionTemplate, times(1)).execute(any());
+        verify(sysUserRoleMapper).delete(any());
+        verify(sysRolePermMapper).delete(any());
+        verify(sysRoleMapper).deleteById("3");
+        verify(sessionMapper).deleteAll(Set.of("2"));
+        verify(sysUserService).invalidatePages();
+    }
+
+    @Test
+    @DisplayName("Should replace role permissions with one delete and one batch insert")
+    @SuppressWarnings("unchecked")
+    void shouldReplaceRolePerms() {
+        // Given
+        when(sysRoleMapper.selectById("3")).thenReturn(role("3", "AUDITOR"));
+        when(sysPermMapper.selectByIds(anyCollection())).thenReturn(List.of(new SysPerm(), new SysPerm()));
+
+        // When
+        sysRoleService.replaceRolePerms("3", List.of("1", "2", "1"));
+
+        // Then
+        verify(sysRolePermMapper).delete(any());
+        verify(sysRolePermMapper).insert((Collection<SysRolePerm>) argThat(rows -> ((Collection<?>) rows).size() == 2),
+                eq(SysRoleService.BATCH_SIZE));
+    }
+
+    @Test
+    @DisplayName("Should reject unknown permissions")
+    void shouldRejectUnknownPerms() {
+        // Given
+        when(sysRoleMapper.selectById("3")).thenReturn(role("3", "AUDITOR"));
+        when(sysPermMapper.selectByIds(anyCollection())).thenReturn(List.of(new SysPerm()));
+
+        // When & Then
+        assertThatThrownBy(() -> sysRoleService.replaceRolePerms("3", List.of("1", "404")))
+                .isInstanceOf(AppException.class)
+                .satisfies(e -> assertThat(((AppException) e).getErrorCode()).isEqualTo(ErrorCode.DATA_NOT_FOUND));
+        verifyNoInteractions(sysRolePermMapper);
+    }
+
+    @Test
+    @DisplayName("Should assign thousands of pairs in JDBC batches, skipping existing ones")
+    @SuppressWarnings("unchecked")
+    void shouldAssignInBatches() {
+        // Given
+        List<String> userIds = IntStream.range(0, 2500).mapToObj(i -> "u" + i).toList();
+        when(sysRoleMapper.selectByIds(anyCollection())).thenReturn(List.of(role("3", "AUDITOR")));
+        when(sysUserService.findExistingUserIds(anyCollection())).thenReturn(Set.copyOf(userIds));
+        when(sysUserRoleMapper.selectList(any())).thenReturn(List.of(SysUserRole.of("u0", "3")), List.of(), List.of());
+
+        // When
+        RoleAssignmentResultDTO result = sysRoleService.updateAssignments(
+                assignment(RoleAssignmentRequestDTO.Action.ASSIGN, userIds, List.of("3")));
+
+        // Then
+        assertThat(result.getRequested()).isEqualTo(2500);
+        assertThat(result.getChanged()).isEqualTo(2499);
+        verify(transactionTemplate, times(1)).execute(any());
+        verify(sysUserRoleMapper, times(3)).selectList(any());
+        verify(sysUserRoleMapper, times(1)).insert((Collection<SysUserRole>) argThat(rows ->
+                ((Collection<?>) rows).size() == 2499), eq(SysRoleService.BATCH_SIZE));
+        verifyNoInteractions(sessionMapper);
+        verify(sysUserService).invalidatePages();
+    }
+
+    @Test
+    @DisplayName("Should reject assignment to unknown users before writing")
+    void shouldRejectUnknownUsers() {
+        // Given
+        when(sysRoleMapper.selectByIds(anyCollection())).thenReturn(List.of(role("3", "AUDITOR")));
+        when(sysUserService.findExistingUserIds(anyCollection())).thenReturn(Set.of("2"));
+
+        // When & Then
+        assertThatThrownBy(() -> sysRoleService.updateAssignments(
+                assignment(RoleAssignmentRequestDTO.Action.ASSIGN, List.of("2", "404"), List.of("3"))))
+                .isInstanceOf(AppException.class)
+                .hasMessageContaining("404");
+        verifyNoInteractions(sysUserRoleMapper);
+    }
+
+    @Test
+    @DisplayName("Should reject unknown roles")
+    void shouldRejectUnknownRoles() {
+        assertThatThrownBy(() -> sysRoleService.updateAssignments(
+                assignment(RoleAssignmentRequestDTO.Action.ASSIGN, List.of("2"), List.of("404"))))
+                .isInstanceOf(AppException.class)
+                .satisfies(e -> assertThat(((AppException) e).getErrorCode()).isEqualTo(ErrorCode.DATA_NOT_FOUND));
+    }
+
+    @Test
+    @DisplayName("Should map a concurrent duplicate assignment to DATA_CONFLICT")
+    @SuppressWarnings("unchecked")
+    void shouldMapDuplicateAssignmentToConflict() {
+        // Given
+        when(sysRoleMapper.selectByIds(anyCollection())).thenReturn(List.of(role("3", "AUDITOR")));
+        when(sysUserService.findExistingUserIds(anyCollection())).thenReturn(Set.of("2"));
+        when(sysUserRoleMapper.insert(any(Collection.class), anyInt())).thenThrow(new DuplicateKeyException("PRIMARY"));
+
+        // When & Then
+        assertThatThrownBy(() -> sysRoleService.updateAssignments(
+                assignment(RoleAssignmentRequestDTO.Action.ASSIGN, List.of("2"), List.of("3"))))
+                .isInstanceOf(AppException.class)
+                .satisfies(e -> assertThat(((AppException) e).getErrorCode()).isEqualTo(ErrorCode.DATA_CONFLICT));
+    }
+
+    @Test
+    @DisplayName("Should revoke in chunked deletes and sign out affected users")
+    void shouldRevokeAndSignOutUsers() {
+        // Given
+        List<String> userIds = IntStream.range(0, 1500).mapToObj(i -> "u" + i).toList();
+        when(sysRoleMapper.selectByIds(anyCollection())).thenReturn(List.of(role("3", "AUDITOR")));
+        when(sysUserRoleMapper.delete(any())).thenReturn(1000, 200);
+
+        // When
+        RoleAssignmentResultDTO result = sysRoleService.updateAssignments(
+                assignment(RoleAssignmentRequestDTO.Action.REVOKE, userIds, List.of("3")));
+
+        // Then
+        assertThat(result.getChanged()).isEqualTo(1200);
+        verify(sysUserRoleMapper, times(2)).delete(any());
+        verify(sessionMapper).deleteAll(argThat(ids -> ids.size() == 1500));
+        verify(sysUserService).invalidatePages();
+        verifyNoMoreInteractions(sysUserService);
+    }
+
+    @Test
+    @DisplayName("Should register new roles in the hierarchy within the insert transaction")
+    void shouldRegisterNewRoleInHierarchy() {
+        // Given
+        doAnswer(invocation -> {
+            ((SysRole) invocation.getArgument(0)).setRoleId("3");
+            return 1;
+        }).when(sysRoleMapper).insert(any(SysRole.class));
+
+        // When
+        SysRole role = sysRoleService.createRole(roleRequest("AUDITOR"));
+
+        // Then
+        assertThat(role.getRoleId()).isEqualTo("3");
+        verify(sysRoleHierarchyService).addRole("3");
+    }
+
+    @Test
+    @DisplayName("Should sign out holders of the parent and its ancestors when inheritance is removed")
+    void shouldRevokeSessionsOnInheritanceRemoval() {
+        // Given
+        when(sysRoleHierarchyService.removeInheritance("3", "2")).thenReturn(Set.of("1", "3"));
+        when(sysUserRoleMapper.selectObjs(any())).thenReturn(List.of("7"));
+
+        // When
+        sysRoleService.removeInheritance("3", "2");
+
+        // Then
+        verify(sessionMapper).deleteAll(Set.of("7"));
+    }
+
+    @Test
+    @DisplayName("Should check both roles before adding inheritance")
+    void shouldCheckRolesBeforeAddingInheritance() {
+        // Given
+        when(sysRoleMapper.selectById("3")).thenReturn(role("3", "AUDITOR"));
+
+        // When & Then
+        assertThatThrownBy(() -> sysRoleService.addInheritance("3", "404"))
+                .isInstanceOf(AppException.class)
+                .satisfies(e -> assertThat(((AppException) e).getErrorCode()).isEqualTo(ErrorCode.DATA_NOT_FOUND));
+        verify(sysRoleHierarchyService, never()).addInheritance(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should include holders of inheriting roles when revoking sessions")
+    void shouldRevokeSessionsOfInheritingRoles() {
+        // Given
+        when(sysRoleHierarchyService.findAncestorIds(List.of("2"))).thenReturn(Set.of("1", "2"));
+        when(sysUserRoleMapper.selectObjs(any())).thenReturn(List.of("1", "2"));
+
+        // When
+        sysRoleService.revokeSessionsOfRoles(List.of("2"));
+
+        // Then
+        verify(sessionMapper).deleteAll(Set.of("1", "2"));
+    }
+}
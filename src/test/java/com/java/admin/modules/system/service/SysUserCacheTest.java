@@ -0,0 +1,429 @@
+package com.java.admin.modules.system.service;
+
+import com.java.admin.config.UserCacheProperties;
+import com.java.admin.modules.system.mapper.UserCacheMapper;
+import com.java.admin.modules.system.model.SysUser;
+import com.java.admin.modules.system.model.SysUserCacheEntry;
+import com.java.admin.testutil.AbstractMockTest;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * SysUserCache Unit Tests
+ *
+ * <p>Test Coverage:
+ * <ul>
+ *   <li>Read-through across local and Redis tiers</li>
+ *   <li>Negative caching and single-flight loading</li>
+ *   <li>Bulk lookups with partial hits</li>
+ *   <li>Local and cross-node invalidation, stale write-back after eviction</li>
+ *   <li>Redis failure fallback and metrics</li>
+ *   <li>User page generation</li>
+ * </ul>
+ *
+ * <p>Coverage Target: 90%+
+ */
+@DisplayName("SysUserCache Unit Tests")
+@org.mockito.junit.jupiter.MockitoSettings(strictness = org.mockito.quality.Strictness.LENIENT)
+class SysUserCacheTest extends AbstractMockTest {
+
+    @Mock
+    private UserCacheMapper userCacheMapper;
+
+    private MeterRegistry meterRegistry;
+    private SysUserCache sysUserCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sysUserCache = new SysUserCache(userCacheMapper, new UserCacheProperties(), meterRegistry);
+    }
+
+    private static SysUser user(String userId, String username) {
+        SysUser user = new SysUser();
+        user.setUserId(userId);
+        user.setUserName(username);
+        return user;
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(new byte[0], body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Should load from database once and serve later reads locally")
+    void shouldLoadOnceAndServeLocally() {
+        // Given
+        SysUser user = user("2", "alice");
+        AtomicInteger loads = new AtomicInteger();
+        Function<String, SysUser> loader = id -> {
+            loads.incrementAndGet();
+            return user;
+        };
+
+        // When
+        SysUser first = sysUserCache.getById("2", loader);
+        SysUser second = sysUserCache.getById("2", loader);
+
+        // Then
+        assertThat(first.getUserName()).isEqualTo("alice");
+        assertThat(second).isNotSameAs(first);
+        assertThat(loads).hasValue(1);
+        verify(userCacheMapper, times(1)).findUser("2");
+        verify(userCacheMapper, times(1)).saveUser(eq("2"), argThat(SysUserCacheEntry::isFound), eq(Duration.ofMinutes(10)));
+    }
+
+    @Test
+    @DisplayName("Should serve Redis hits without touching the database")
+    void shouldServeRedisHits() {
+        // Given
+        SysUser user = user("2", "alice");
+        user.setPassword("hash");
+        when(userCacheMapper.findUser("2")).thenReturn(SysUserCacheEntry.of(user));
+
+        // When
+        SysUser cached = sysUserCache.getById("2", id -> {
+            throw new AssertionError("database must not be queried");
+        });
+
+        // Then
+        assertThat(cached.getPassword()).isEqualTo("hash");
+        assertThat(meterRegistry.get("user.cache.remote.gets").tag("result", "hit").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should cache unknown IDs as negative entries with the negative TTL")
+    void shouldCacheNegativeEntries() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        SysUser first = sysUserCache.getById("404", id -> {
+            loads.incrementAndGet();
+            return null;
+        });
+        SysUser second = sysUserCache.getById("404", id -> {
+            loads.incrementAndGet();
+            return null;
+        });
+
+        // Then
+        assertThat(first).isNull();
+        assertThat(second).isNull();
+        assertThat(loads).hasValue(1);
+        verify(userCacheMapper).saveUser(eq("404"), argThat(entry -> !entry.isFound()), eq(Duration.ofSeconds(30)));
+    }
+
+    @Test
+    @DisplayName("Should resolve username through the ID tier and seed it")
+    void shouldResolveUsernameThroughIdTier() {
+        // Given
+        SysUser user = user("2", "alice");
+        when(userCacheMapper.saveUser(eq("2"), any(SysUserCacheEntry.class), any(Duration.class))).thenReturn(true);
+
+        // When
+        SysUser byName = sysUserCache.getByUsername("Alice", name -> user, id -> {
+            throw new AssertionError("ID tier should be seeded by the username load");
+        });
+        SysUser byId = sysUserCache.getById("2", id -> {
+            throw new AssertionError("ID tier should be seeded by the username load");
+        });
+
+        // Then
+        assertThat(byName.getUserId()).isEqualTo("2");
+        assertThat(byId.getUserName()).isEqualTo("alice");
+        verify(userCacheMapper).saveUserId("alice", "2", Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("Should run a single load for concurrent misses on the same key")
+    void shouldSingleFlightConcurrentMisses() throws Exception {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Function<String, SysUser> slowLoader = id -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return user(id, "alice");
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            // When
+            Future<SysUser> first = executor.submit(() -> sysUserCache.getById("2", slowLoader));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            List<Future<SysUser>> others = List.of(
+                    executor.submit(() -> sysUserCache.getById("2", slowLoader)),
+                    executor.submit(() -> sysUserCache.getById("2", slowLoader)));
+            release.countDown();
+
+            // Then
+            assertThat(first.get(5, TimeUnit.SECONDS).getUserId()).isEqualTo("2");
+            for (Future<SysUser> other : others) {
+                assertThat(other.get(5, TimeUnit.SECONDS).getUserId()).isEqualTo("2");
+            }
+            assertThat(loads).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should evict shared and local entries and notify other nodes on write")
+    void shouldEvictOnWrite() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        Function<String, SysUser> loader = id -> {
+            loads.incrementAndGet();
+            return user(id, "alice");
+        };
+        sysUserCache.getById("2", loader);
+
+        // When
+        sysUserCache.evictUsers(List.of("2", "3"));
+        sysUserCache.getById("2", loader);
+
+        // Then
+        assertThat(loads).hasValue(2);
+        verify(userCacheMapper).evictUsers(List.of("2", "3"), Duration.ofSeconds(5));
+        verify(userCacheMapper).publishInvalidation("id:2,3");
+    }
+
+    @Test
+    @DisplayName("Should not seed the ID tier when an eviction raced the username load")
+    void shouldNotSeedIdTierOverEviction() {
+        // Given: the shared ID key already holds a tombstone, so the write-back is refused
+        AtomicInteger loads = new AtomicInteger();
+        Function<String, SysUser> idLoader = id -> {
+            loads.incrementAndGet();
+            return user(id, "alice-renamed");
+        };
+
+        // When
+        sysUserCache.getByUsername("alice", name -> user("2", "alice"), idLoader);
+        SysUser byId = sysUserCache.getById("2", idLoader);
+
+        // Then
+        assertThat(byId.getUserName()).isEqualTo("alice-renamed");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should drop negative username entries when users are created")
+    void shouldEvictUsernamesOnCreate() {
+        // Given
+        sysUserCache.getByUsername("bob", name -> null, id -> null);
+
+        // When
+        sysUserCache.evictUsernames(List.of("Bob"));
+        SysUser created = sysUserCache.getByUsername("bob",
+                name -> user("5", "bob"), id -> user(id, "bob"));
+
+        // Then
+        assertThat(created.getUserId()).isEqualTo("5");
+        verify(userCacheMapper).evictUsernames(List.of("bob"), Duration.ofSeconds(5));
+        verify(userCacheMapper).publishInvalidation("name:bob");
+    }
+
+    @Test
+    @DisplayName("Should drop local entries on invalidation messages from other nodes")
+    void shouldHandleInvalidationMessages() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        Function<String, SysUser> loader = id -> {
+            loads.incrementAndGet();
+            return user(id, "alice");
+        };
+        sysUserCache.getById("2", loader);
+
+        // When
+        sysUserCache.onMessage(message("id:2"), null);
+        sysUserCache.onMessage(message("garbage"), null);
+        sysUserCache.getById("2", loader);
+
+        // Then
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the database when Redis is unavailable")
+    void shouldFallBackWhenRedisFails() {
+        // Given
+        when(userCacheMapper.findUser(any())).thenThrow(new RedisConnectionFailureException("down"));
+        doThrow(new RedisConnectionFailureException("down")).when(userCacheMapper).publishInvalidation(any());
+
+        // When
+        SysUser user = sysUserCache.getById("2", id -> user(id, "alice"));
+        sysUserCache.evictUsers(List.of("2"));
+
+        // Then
+        assertThat(user.getUserName()).isEqualTo("alice");
+    }
+
+    @Test
+    @DisplayName("Should bypass both tiers when disabled")
+    void shouldBypassWhenDisabled() {
+        // Given
+        UserCacheProperties properties = new UserCacheProperties();
+        properties.setEnabled(false);
+        SysUserCache disabled = new SysUserCache(userCacheMapper, properties, meterRegistry);
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        disabled.getById("2", id -> user(id, "alice" + loads.incrementAndGet()));
+        disabled.getById("2", id -> user(id, "alice" + loads.incrementAndGet()));
+        disabled.evictUsers(List.of("2"));
+
+        // Then
+        assertThat(loads).hasValue(2);
+        verifyNoInteractions(userCacheMapper);
+    }
+
+    @Test
+    @DisplayName("Should expose local hit ratio")
+    void shouldExposeHitRatio() {
+        // Given
+        sysUserCache.getById("2", id -> user(id, "alice"));
+        sysUserCache.getById("2", id -> user(id, "alice"));
+
+        // Then
+        assertThat(meterRegistry.get("user.cache.hit.ratio").tag("cache", "user.id").gauge().value())
+                .isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("Should resolve bulk lookups from local, Redis and one database call")
+    void shouldResolveBulkLookupsAcrossTiers() {
+        // Given
+        sysUserCache.getById("1", id -> user("1", "admin"));
+        when(userCacheMapper.findUsers(anyList())).thenReturn(Map.of("2", SysUserCacheEntry.of(user("2", "alice"))));
+        AtomicInteger loads = new AtomicInteger();
+        AtomicReference<Collection<String>> loadedIds = new AtomicReference<>();
+
+        // When
+        Map<String, SysUser> users = sysUserCache.getAllById(List.of("3", "1", "2", "404", "3"), ids -> {
+            loads.incrementAndGet();
+            loadedIds.set(List.copyOf(ids));
+            return Map.of("3", user("3", "bob"));
+        });
+
+        // Then
+        assertThat(users).containsOnlyKeys("3", "1", "2");
+        assertThat(users.keySet()).containsExactly("3", "1", "2");
+        assertThat(loads).hasValue(1);
+        assertThat(loadedIds.get()).containsExactlyInAnyOrder("3", "404");
+        verify(userCacheMapper).findUsers(argThat(ids -> ids.size() == 3 && !ids.contains("1")));
+        verify(userCacheMapper).saveUsers(argThat(entries -> entries.get("3").isFound() && !entries.get("404").isFound()),
+                eq(Duration.ofMinutes(10)), eq(Duration.ofSeconds(30)));
+    }
+
+    @Test
+    @DisplayName("Should serve repeated bulk lookups, including misses, locally")
+    void shouldServeRepeatedBulkLookupsLocally() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        Function<Collection<String>, Map<String, SysUser>> loader = ids -> {
+            loads.incrementAndGet();
+            return Map.of("2", user("2", "alice"));
+        };
+
+        // When
+        sysUserCache.getAllById(List.of("2", "404"), loader);
+        Map<String, SysUser> second = sysUserCache.getAllById(List.of("2", "404"), loader);
+
+        // Then
+        assertThat(second).containsOnlyKeys("2");
+        assertThat(loads).hasValue(1);
+        verify(userCacheMapper, times(1)).findUsers(anyList());
+    }
+
+    @Test
+    @DisplayName("Should fall back to the database for bulk lookups when Redis is down")
+    void shouldFallBackToDatabaseForBulkLookups() {
+        // Given
+        when(userCacheMapper.findUsers(anyList())).thenThrow(new RedisConnectionFailureException("down"));
+        doThrow(new RedisConnectionFailureException("down")).when(userCacheMapper).saveUsers(anyMap(), any(), any());
+
+        // When
+        Map<String, SysUser> users = sysUserCache.getAllById(List.of("2"), ids -> Map.of("2", user("2", "alice")));
+
+        // Then
+        assertThat(users.get("2").getUserName()).isEqualTo("alice");
+    }
+
+    @Test
+    @DisplayName("Should pass bulk lookups straight to the loader when disabled")
+    void shouldPassBulkLookupsThroughWhenDisabled() {
+        // Given
+        UserCacheProperties properties = new UserCacheProperties();
+        properties.setEnabled(false);
+        SysUserCache disabled = new SysUserCache(userCacheMapper, properties, new SimpleMeterRegistry());
+
+        // When
+        Map<String, SysUser> users = disabled.getAllById(List.of("2"), ids -> Map.of("2", user("2", "alice")));
+
+        // Then
+        assertThat(users).containsOnlyKeys("2");
+        verifyNoInteractions(userCacheMapper);
+    }
+
+    @Test
+    @DisplayName("Should start a new page generation on every eviction")
+    void shouldInvalidatePagesOnEviction() {
+        // When
+        sysUserCache.evictUsers(List.of("2"));
+        sysUserCache.evictUsernames(List.of("alice"));
+
+        // Then
+        ArgumentCaptor<String> generations = ArgumentCaptor.forClass(String.class);
+        verify(userCacheMapper, times(2)).savePageGeneration(generations.capture(), any(Duration.class));
+        assertThat(generations.getAllValues().get(0)).isNotEqualTo(generations.getAllValues().get(1));
+    }
+
+    @Test
+    @DisplayName("Should have no page generation when disabled or Redis fails")
+    void shouldHaveNoPageGenerationWithoutRedis() {
+        // Given
+        UserCacheProperties properties = new UserCacheProperties();
+        properties.setEnabled(false);
+        SysUserCache disabled = new SysUserCache(userCacheMapper, properties, new SimpleMeterRegistry());
+        when(userCacheMapper.findOrCreatePageGeneration(anyString(), any(Duration.class)))
+                .thenReturn("g1")
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        // When & Then
+        assertThat(disabled.pageGeneration()).isNull();
+        assertThat(sysUserCache.pageGeneration()).isEqualTo("g1");
+        assertThat(sysUserCache.pageGeneration()).isNull();
+    }
+}
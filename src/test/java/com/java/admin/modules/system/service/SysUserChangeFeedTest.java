@@ -0,0 +1,328 @@
+package com.java.admin.modules.system.service;
+
+import com.java.admin.config.ShardingProperties;
+import com.java.admin.config.UserFeedProperties;
+import com.java.admin.infrastructure.constants.ErrorCode;
+import com.java.admin.infrastructure.datasource.ShardContextHolder;
+import com.java.admin.infrastructure.datasource.ShardRouter;
+import com.java.admin.infrastructure.exception.AppException;
+import com.java.admin.modules.system.dto.UserChangeFeedDTO;
+import com.java.admin.modules.system.mapper.SysUserOutboxMapper;
+import com.java.admin.modules.system.model.SysUserOutbox;
+import com.java.admin.testutil.AbstractMockTest;
+import com.java.admin.testutil.MybatisPlusTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * SysUserChangeFeed Unit Tests
+ *
+ * <p>Test Coverage:
+ * <ul>
+ *   <li>Outbox writes bound to the surrounding transaction</li>
+ *   <li>Cursor reads, per-shard positions and cursor validation</li>
+ *   <li>Per-shard event ID order when created_at runs backwards</li>
+ *   <li>Holding back events behind an ID gap until the gap timeout</li>
+ *   <li>Long polls completed by a dispatch round or by the wait timeout</li>
+ *   <li>Stream writes kept off the dispatch thread</li>
+ * </ul>
+ *
+ * <p>Coverage Target: 90%+
+ */
+@DisplayName("SysUserChangeFeed Unit Tests")
+class SysUserChangeFeedTest extends AbstractMockTest {
+
+    @Mock
+    private SysUserOutboxMapper sysUserOutboxMapper;
+
+    private final List<SysUserChangeFeed> feeds = new ArrayList<>();
+    private final List<ShardRouter> routers = new ArrayList<>();
+
+    @BeforeAll
+    static void initTableInfo() {
+        MybatisPlusTestSupport.initTableInfo(SysUserOutbox.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        feeds.forEach(SysUserChangeFeed::shutdown);
+        routers.forEach(ShardRouter::shutdown);
+    }
+
+    private SysUserChangeFeed feed(int shardCount) {
+        ShardingProperties sharding = new ShardingProperties();
+        if (shardCount > 1) {
+            sharding.setEnabled(true);
+            for (int i = 0; i < shardCount; i++) {
+                sharding.getShards().add(new ShardingProperties.Shard());
+            }
+        }
+        ShardRouter router = new ShardRouter(sharding);
+        routers.add(router);
+
+        // Rounds are driven by the tests
+        UserFeedProperties properties = new UserFeedProperties();
+        properties.setPollInterval(Duration.ofHours(1));
+        properties.setMaxBatchSize(100);
+        SysUserChangeFeed feed = new SysUserChangeFeed(sysUserOutboxMapper, router, properties);
+        feeds.add(feed);
+        return feed;
+    }
+
+    private static SysUserOutbox event(long eventId, String userId, long createdAt) {
+        SysUserOutbox event = SysUserOutbox.of(userId, SysUserOutbox.Type.UPDATED);
+        event.setEventId(eventId);
+        event.setCreatedAt(new Date(createdAt));
+        return event;
+    }
+
+    @Test
+    @DisplayName("Should write one outbox row and wake consumers after commit")
+    void shouldRecordWithinTransaction() {
+        // Given
+        SysUserChangeFeed feed = feed(1);
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            // When
+            feed.record(SysUserOutbox.Type.CREATED, List.of("7"));
+
+            // Then
+            verify(sysUserOutboxMapper).insert(argThat((SysUserOutbox event) ->
+                    "7".equals(event.getUserId()) && "CREATED".equals(event.getEventType())));
+            assertThat(TransactionSynchronizationManager.getSynchronizations()).hasSize(1);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should batch outbox rows for many users and skip empty input")
+    void shouldBatchOutboxRows() {
+        // Given
+        SysUserChangeFeed feed = feed(1);
+
+        // When
+        feed.record(SysUserOutbox.Type.DELETED, List.of("7", "8"));
+        feed.record(SysUserOutbox.Type.DELETED, List.of());
+
+        // Then
+        verify(sysUserOutboxMapper).insert(argThat((List<SysUserOutbox> events) -> events.size() == 2), eq(1000));
+        verify(sysUserOutboxMapper, never()).insert(any(SysUserOutbox.class));
+    }
+
+    @Test
+    @DisplayName("Should return changes after the cursor with per-change cursors")
+    void shouldReadAfterCursor() {
+        // Given
+        SysUserChangeFeed feed = feed(1);
+        when(sysUserOutboxMapper.selectList(any())).thenReturn(List.of(event(5, "1", 1000), event(6, "2", 2000)));
+
+        // When
+        UserChangeFeedDTO batch = feed.read("4", 10);
+
+        // Then
+        assertThat(batch.getChanges()).extracting(UserChangeFeedDTO.Change::getUserId).containsExactly("1", "2");
+        assertThat(batch.getChanges()).extracting(UserChangeFeedDTO.Change::getCursor).containsExactly("5", "6");
+        assertThat(batch.getCursor()).isEqualTo("6");
+    }
+
+    @Test
+    @DisplayName("Should interleave shards by time and only advance past returned changes")
+    void shouldAdvancePerShard() {
+        // Given - shard 0 holds events 3 and 4, shard 1 holds event 9 in between
+        SysUserChangeFeed feed = feed(2);
+        when(sysUserOutboxMapper.selectList(any())).thenAnswer(invocation -> ShardContextHolder.get() == 0
+                ? List.of(event(3, "a", 1000), event(4, "b", 3000))
+                : List.of(event(9, "c", 2000)));
+
+        // When
+        UserChangeFeedDTO batch = feed.read("2-8", 2);
+
+        // Then
+        assertThat(batch.getChanges()).extracting(UserChangeFeedDTO.Change::getUserId).containsExactly("a", "c");
+        assertThat(batch.getCursor()).isEqualTo("3-9");
+    }
+
+    @Test
+    @DisplayName("Should keep each shard in event ID order when created_at runs backwards")
+    void shouldKeepShardOrderWithOutOfOrderTimes() {
+        // Given - on shard 0, event 4 has an earlier created_at than event 3 (a batch insert that
+        // started first but allocated later); shard 1 holds event 9 in between
+        SysUserChangeFeed feed = feed(2);
+        when(sysUserOutboxMapper.selectList(any())).thenAnswer(invocation -> ShardContextHolder.get() == 0
+                ? List.of(event(3, "a", 2000), event(4, "b", 1000))
+                : List.of(event(9, "c", 1500)));
+
+        // When
+        UserChangeFeedDTO limited = feed.read("2-8", 2);
+        UserChangeFeedDTO all = feed.read("2-8", 10);
+
+        // Then - event 3 is never skipped and the shard 0 position never moves back
+        assertThat(limited.getChanges()).extracting(UserChangeFeedDTO.Change::getUserId).containsExactly("c", "a");
+        assertThat(limited.getCursor()).isEqualTo("3-9");
+        assertThat(all.getChanges()).extracting(UserChangeFeedDTO.Change::getCursor)
+                .containsExactly("2-9", "3-9", "4-9");
+        assertThat(all.getCursor()).isEqualTo("4-9");
+    }
+
+    @Test
+    @DisplayName("Should stop before a recent ID gap and pass it once the gap timeout has elapsed")
+    void shouldWaitForRecentGaps() {
+        // Given - event 7 may still be committing; 6 and 8 are already visible
+        SysUserChangeFeed feed = feed(1);
+        long now = System.currentTimeMillis();
+        when(sysUserOutboxMapper.selectList(any()))
+                .thenReturn(List.of(event(6, "1", now), event(8, "2", now)))
+                .thenReturn(List.of(event(8, "2", now - Duration.ofSeconds(10).toMillis())));
+
+        // When
+        UserChangeFeedDTO recent = feed.read("5", 10);
+        UserChangeFeedDTO settled = feed.read(recent.getCursor(), 10);
+
+        // Then
+        assertThat(recent.getChanges()).extracting(UserChangeFeedDTO.Change::getUserId).containsExactly("1");
+        assertThat(recent.getCursor()).isEqualTo("6");
+        assertThat(settled.getChanges()).extracting(UserChangeFeedDTO.Change::getUserId).containsExactly("2");
+        assertThat(settled.getCursor()).isEqualTo("8");
+    }
+
+    @Test
+    @DisplayName("Should reject malformed cursors")
+    void shouldRejectMalformedCursor() {
+        SysUserChangeFeed feed = feed(1);
+        for (String cursor : List.of("abc", "1-2")) {
+            assertThatThrownBy(() -> feed.read(cursor, 10))
+                    .isInstanceOf(AppException.class)
+                    .satisfies(e -> assertThat(((AppException) e).getErrorCode()).isEqualTo(ErrorCode.PARAM_VALIDATION_ERROR));
+        }
+    }
+
+    @Test
+    @DisplayName("Should hold a long poll until a dispatch round finds new changes")
+    void shouldCompleteLongPollOnDispatch() throws Exception {
+        // Given
+        SysUserChangeFeed feed = feed(1);
+        when(sysUserOutboxMapper.selectList(any()))
+                .thenReturn(List.of())
+                .thenReturn(List.of(event(8, "3", 1000)));
+        when(sysUserOutboxMapper.selectObjs(any())).thenReturn(List.of(8L));
+
+        // When
+        CompletableFuture<UserChangeFeedDTO> future = feed.poll("7", 10, Duration.ofSeconds(10));
+
+        // Then
+        assertThat(future).isNotDone();
+        feed.dispatch();
+        UserChangeFeedDTO batch = future.get(1, TimeUnit.SECONDS);
+        assertThat(batch.getChanges()).extracting(UserChangeFeedDTO.Change::getUserId).containsExactly("3");
+        assertThat(batch.getCursor()).isEqualTo("8");
+    }
+
+    @Test
+    @DisplayName("Should answer an empty batch with the same cursor when the wait elapses")
+    void shouldTimeOutLongPoll() throws Exception {
+        // Given
+        SysUserChangeFeed feed = feed(1);
+        when(sysUserOutboxMapper.selectList(any())).thenReturn(List.of());
+
+        // When
+        UserChangeFeedDTO batch = feed.poll("7", 10, Duration.ofMillis(50)).get(1, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(batch.getChanges()).isEmpty();
+        assertThat(batch.getCursor()).isEqualTo("7");
+    }
+
+    @Test
+    @DisplayName("Should keep completing long polls while a stream client is slow to read")
+    void shouldNotBlockDispatchOnSlowStream() throws Exception {
+        // Given - a stream whose socket write blocks, and a long poll waiting next to it
+        SysUserChangeFeed feed = feed(1);
+        AtomicReference<List<SysUserOutbox>> events = new AtomicReference<>(List.of());
+        AtomicLong head = new AtomicLong(7);
+        when(sysUserOutboxMapper.selectList(any())).thenAnswer(invocation -> events.get());
+        when(sysUserOutboxMapper.selectObjs(any())).thenAnswer(invocation -> List.of(head.get()));
+        SlowEmitter emitter = new SlowEmitter();
+        CompletableFuture<UserChangeFeedDTO> first = feed.poll("7", 10, Duration.ofSeconds(10));
+        feed.stream("7", emitter);
+
+        try {
+            // When - two commits, each waking a dispatch round
+            events.set(List.of(event(8, "1", 1000)));
+            head.set(8);
+            feed.record(SysUserOutbox.Type.UPDATED, List.of("1"));
+            UserChangeFeedDTO firstBatch = first.get(5, TimeUnit.SECONDS);
+            assertThat(emitter.entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+            events.set(List.of());
+            CompletableFuture<UserChangeFeedDTO> second = feed.poll("8", 10, Duration.ofSeconds(10));
+            events.set(List.of(event(9, "2", 2000)));
+            head.set(9);
+            feed.record(SysUserOutbox.Type.UPDATED, List.of("2"));
+            UserChangeFeedDTO secondBatch = second.get(5, TimeUnit.SECONDS);
+
+            // Then - both polls answered while the stream write is still blocked, and the busy
+            // stream was not handed a second write
+            assertThat(firstBatch.getCursor()).isEqualTo("8");
+            assertThat(secondBatch.getCursor()).isEqualTo("9");
+            assertThat(emitter.sends).hasValue(1);
+        } finally {
+            emitter.release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should not query heads when nobody is waiting")
+    void shouldSkipDispatchWithoutSubscribers() {
+        // Given
+        SysUserChangeFeed feed = feed(1);
+
+        // When
+        feed.dispatch();
+
+        // Then
+        verifyNoInteractions(sysUserOutboxMapper);
+    }
+
+    /**
+     * Emitter whose writes block until released, like a client that stopped reading
+     */
+    private static final class SlowEmitter extends SseEmitter {
+
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger sends = new AtomicInteger();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            sends.incrementAndGet();
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
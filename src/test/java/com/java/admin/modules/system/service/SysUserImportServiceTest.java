@@ -0,0 +1,309 @@
+package com.java.admin.modules.system.service;
+
+import com.java.admin.config.ShardingProperties;
+import com.java.admin.config.UserImportProperties;
+import com.java.admin.infrastructure.constants.ErrorCode;
+import com.java.admin.infrastructure.datasource.ShardRouter;
+import com.java.admin.infrastructure.exception.AppException;
+import com.java.admin.modules.system.dto.ImportUserResultDTO;
+import com.java.admin.modules.system.mapper.SysUserMapper;
+import com.java.admin.modules.system.model.SysUser;
+import com.java.admin.modules.system.model.SysUserOutbox;
+import com.java.admin.testutil.AbstractMockTest;
+import com.java.admin.testutil.MybatisPlusTestSupport;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * SysUserImportService Unit Tests
+ *
+ * <p>Test Coverage:
+ * <ul>
+ *   <li>CSV and NDJSON parsing</li>
+ *   <li>Batching and JDBC batch insert</li>
+ *   <li>Per-row failure reporting (validation, duplicates, batch fallback)</li>
+ *   <li>Duplicates across batches reported from the database, not an upload-wide set</li>
+ * </ul>
+ *
+ * <p>Coverage Target: 90%+
+ */
+@DisplayName("SysUserImportService Unit Tests")
+@org.mockito.junit.jupiter.MockitoSettings(strictness = org.mockito.quality.Strictness.LENIENT)
+class SysUserImportServiceTest extends AbstractMockTest {
+
+    private static final Validator VALIDATOR = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Mock
+    private SysUserMapper sysUserMapper;
+    @Mock
+    private PasswordEncoder passwordEncoder;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private SysUserCache sysUserCache;
+    @Mock
+    private SysUserShardWriter sysUserShardWriter;
+    @Mock
+    private SysUserChangeFeed sysUserChangeFeed;
+
+    private SysUserImportService importService;
+
+    @BeforeAll
+    static void initTableInfo() {
+        MybatisPlusTestSupport.initTableInfo(SysUser.class);
+    }
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        UserImportProperties properties = new UserImportProperties();
+        properties.setBatchSize(2);
+        properties.setHashThreads(2);
+        properties.setMaxReportedFailures(10);
+        importService = new SysUserImportService(sysUserMapper, passwordEncoder, VALIDATOR,
+                transactionTemplate, properties, sysUserCache, new ShardRouter(new ShardingProperties()),
+                sysUserShardWriter, sysUserChangeFeed);
+
+        when(passwordEncoder.encode(anyString())).thenAnswer(invocation -> "hashed-" + invocation.getArgument(0));
+        when(sysUserMapper.selectList(any())).thenReturn(List.of());
+        doAnswer(invocation -> {
+            ((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        importService.shutdown();
+    }
+
+    private static InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Should import CSV rows in batches")
+    @SuppressWarnings("unchecked")
+    void shouldImportCsvRowsInBatches() throws Exception {
+        // Given
+        String csv = """
+                username,password,email
+                alice,Password123,alice@example.com
+                bob,Password123,
+                carol,Password123,"carol@example.com"
+                """;
+
+        // When
+        ImportUserResultDTO result = importService.importUsers(body(csv), SysUserImportService.Format.CSV);
+
+        // Then
+        assertThat(result.getTotal()).isEqualTo(3);
+        assertThat(result.getSucceeded()).isEqualTo(3);
+        assertThat(result.getFailed()).isZero();
+        // batch size 2 -> one full batch and one trailing batch
+        verify(sysUserMapper, times(2)).insert(any(Collection.class), eq(2));
+        verify(sysUserMapper, never()).insert(any(SysUser.class));
+        verify(sysUserCache, times(2)).evictUsernames(anyList());
+        // One CREATED event per batch, written in the batch transaction
+        verify(sysUserChangeFeed, times(2)).record(eq(SysUserOutbox.Type.CREATED), anyList());
+    }
+
+    @Test
+    @DisplayName("Should set hashed password and email on inserted users")
+    @SuppressWarnings("unchecked")
+    void shouldSetHashedPasswordOnInsertedUsers() throws Exception {
+        // Given
+        String ndjson = "{\"username\":\"alice\",\"password\":\"Password123\",\"email\":\"alice@example.com\"}\n";
+
+        // When
+        importService.importUsers(body(ndjson), SysUserImportService.Format.NDJSON);
+
+        // Then
+        verify(sysUserMapper).insert(argThat((Collection<SysUser> users) -> {
+            SysUser user = users.iterator().next();
+            return users.size() == 1
+                    && "alice".equals(user.getUserName())
+                    && "hashed-Password123".equals(user.getPassword())
+                    && "alice@example.com".equals(user.getEmail());
+        }), eq(2));
+    }
+
+    @Test
+    @DisplayName("Should report malformed and invalid rows with line numbers")
+    void shouldReportInvalidRows() throws Exception {
+        // Given
+        String ndjson = """
+                {"username":"alice","password":"Password123"}
+                not-json
+                {"username":"bo","password":"weak"}
+                """;
+
+        // When
+        ImportUserResultDTO result = importService.importUsers(body(ndjson), SysUserImportService.Format.NDJSON);
+
+        // Then
+        assertThat(result.getTotal()).isEqualTo(3);
+        assertThat(result.getSucceeded()).isEqualTo(1);
+        assertThat(result.getFailed()).isEqualTo(2);
+        assertThat(result.getFailures()).extracting(ImportUserResultDTO.Failure::getLine).containsExactly(2L, 3L);
+        assertThat(result.getFailures()).extracting(ImportUserResultDTO.Failure::getCode)
+                .containsOnly(ErrorCode.PARAM_VALIDATION_ERROR.getCode());
+        verify(passwordEncoder, times(1)).encode(anyString());
+    }
+
+    @Test
+    @DisplayName("Should reject duplicate usernames within the upload and in the database")
+    void shouldRejectDuplicateUsernames() throws Exception {
+        // Given
+        SysUser existing = new SysUser();
+        existing.setUserName("Admin");
+        when(sysUserMapper.selectList(any())).thenReturn(List.of(existing));
+
+        String csv = """
+                username,password
+                alice,Password123
+                ALICE,Password123
+                admin,Password123
+                """;
+
+        // When
+        ImportUserResultDTO result = importService.importUsers(body(csv), SysUserImportService.Format.CSV);
+
+        // Then
+        assertThat(result.getSucceeded()).isEqualTo(1);
+        assertThat(result.getFailed()).isEqualTo(2);
+        assertThat(result.getFailures()).extracting(ImportUserResultDTO.Failure::getUsername)
+                .containsExactlyInAnyOrder("ALICE", "admin");
+        assertThat(result.getFailures()).extracting(ImportUserResultDTO.Failure::getCode)
+                .containsOnly(ErrorCode.USERNAME_ALREADY_EXISTS.getCode());
+    }
+
+    @Test
+    @DisplayName("Should report a username repeated from an earlier batch through the database check")
+    @SuppressWarnings("unchecked")
+    void shouldRejectDuplicateFromEarlierBatch() throws Exception {
+        // Given - usernames are visible to the existence query once their batch is written
+        List<String> written = new ArrayList<>();
+        when(sysUserMapper.insert(any(Collection.class), anyInt())).thenAnswer(invocation -> {
+            invocation.<Collection<SysUser>>getArgument(0).forEach(user -> written.add(user.getUserName()));
+            return List.of();
+        });
+        when(sysUserMapper.selectList(any())).thenAnswer(invocation -> written.stream().map(username -> {
+            SysUser user = new SysUser();
+            user.setUserName(username);
+            return user;
+        }).toList());
+
+        String csv = """
+                username,password
+                alice,Password123
+                bob,Password123
+                Alice,Password123
+                """;
+
+        // When
+        ImportUserResultDTO result = importService.importUsers(body(csv), SysUserImportService.Format.CSV);
+
+        // Then
+        assertThat(result.getSucceeded()).isEqualTo(2);
+        assertThat(result.getFailures()).extracting(ImportUserResultDTO.Failure::getUsername).containsExactly("Alice");
+        assertThat(result.getFailures()).extracting(ImportUserResultDTO.Failure::getCode)
+                .containsOnly(ErrorCode.USERNAME_ALREADY_EXISTS.getCode());
+        assertThat(written).containsExactly("alice", "bob");
+    }
+
+    @Test
+    @DisplayName("Should fall back to row-by-row insert when the batch fails")
+    @SuppressWarnings("unchecked")
+    void shouldFallBackToRowByRowInsertWhenBatchFails() throws Exception {
+        // Given
+        when(sysUserMapper.insert(any(Collection.class), anyInt()))
+                .thenThrow(new DuplicateKeyException("Duplicate entry for key 'uk_username_active'"));
+        when(sysUserMapper.insert(any(SysUser.class))).thenAnswer(invocation -> {
+            SysUser user = invocation.getArgument(0);
+            if ("bob".equals(user.getUserName())) {
+                throw new DuplicateKeyException("Duplicate entry for key 'uk_username_active'");
+            }
+            // MyBatis-Plus assigns the ID on insert
+            user.setUserId("100");
+            return 1;
+        });
+
+        String csv = """
+                username,password
+                alice,Password123
+                bob,Password123
+                """;
+
+        // When
+        ImportUserResultDTO result = importService.importUsers(body(csv), SysUserImportService.Format.CSV);
+
+        // Then
+        assertThat(result.getSucceeded()).isEqualTo(1);
+        assertThat(result.getFailed()).isEqualTo(1);
+        assertThat(result.getFailures().get(0).getUsername()).isEqualTo("bob");
+        assertThat(result.getFailures().get(0).getLine()).isEqualTo(3L);
+        verify(sysUserMapper, times(2)).insert(any(SysUser.class));
+        verify(sysUserChangeFeed).record(SysUserOutbox.Type.CREATED, List.of("100"));
+    }
+
+    @Test
+    @DisplayName("Should reject CSV without required header columns")
+    void shouldRejectCsvWithoutRequiredHeader() {
+        // Given
+        String csv = "name,email\nalice,alice@example.com\n";
+
+        // When & Then
+        assertThatThrownBy(() -> importService.importUsers(body(csv), SysUserImportService.Format.CSV))
+                .isInstanceOf(AppException.class)
+                .satisfies(e -> assertThat(((AppException) e).getErrorCode()).isEqualTo(ErrorCode.PARAM_VALIDATION_ERROR));
+    }
+
+    @Test
+    @DisplayName("Should cap the number of reported failures")
+    void shouldCapReportedFailures() throws Exception {
+        // Given
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < 15; i++) {
+            ndjson.append("broken\n");
+        }
+
+        // When
+        ImportUserResultDTO result = importService.importUsers(body(ndjson.toString()), SysUserImportService.Format.NDJSON);
+
+        // Then
+        assertThat(result.getFailed()).isEqualTo(15);
+        assertThat(result.getFailures()).hasSize(10);
+    }
+
+    @Test
+    @DisplayName("Should resolve format from content type")
+    void shouldResolveFormatFromContentType() {
+        assertThat(SysUserImportService.Format.fromContentType("text/csv;charset=UTF-8"))
+                .isEqualTo(SysUserImportService.Format.CSV);
+        assertThat(SysUserImportService.Format.fromContentType("application/x-ndjson"))
+                .isEqualTo(SysUserImportService.Format.NDJSON);
+    }
+}
@@ -1,24 +1,48 @@
 package com.java.admin.modules.system.service;
 
+import com.baomidou.mybatisplus.core.conditions.Wrapper;
 import com.baomidou.mybatisplus.core.metadata.IPage;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.java.admin.config.ShardingProperties;
+import com.java.admin.config.UserCacheProperties;
 import com.java.admin.infrastructure.constants.ErrorCode;
+import com.java.admin.infrastructure.datasource.ShardContextHolder;
+import com.java.admin.infrastructure.datasource.ShardRouter;
 import com.java.admin.infrastructure.exception.AppException;
+import com.java.admin.modules.system.dto.BulkUserRequestDTO;
+import com.java.admin.modules.system.dto.BulkUserResultDTO;
 import com.java.admin.modules.system.dto.CreateUserRequestDTO;
 import com.java.admin.modules.system.dto.UpdateUserRequestDTO;
+import com.java.admin.modules.system.mapper.SessionMapper;
+import com.java.admin.modules.system.mapper.SysAuthoritiesMapper;
 import com.java.admin.modules.system.mapper.SysUserMapper;
 import com.java.admin.modules.system.model.SysUser;
+import com.java.admin.modules.system.model.SysUserOutbox;
+import com.java.admin.modules.system.model.SysUserRoleName;
 import com.java.admin.testutil.AbstractMockTest;
+import com.java.admin.testutil.MybatisPlusTestSupport;
 import com.java.admin.testutil.TestDataFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -30,7 +54,7 @@ import static org.mockito.Mockito.*;
  * <p>Test Coverage:
  * <ul>
  *   <li>User query functionality</li>
- *   <li>User pagination functionality</li>
+ *   <li>User pagination functionality (optionally with roles)</li>
  *   <li>Database interaction verification</li>
  *   <li>Log output verification</li>
  * </ul>
@@ -43,12 +67,61 @@ class SysUserServiceTest extends AbstractMockTest {
     @Mock
     private SysUserMapper sysUserMapper;
 
+    @Mock
+    private SessionMapper sessionMapper;
+
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    /**
+     * Disabled cache: lookups pass straight through to the mapper, evictions are recorded
+     */
+    @Spy
+    private SysUserCache sysUserCache = new SysUserCache(null, disabledCacheProperties(), new SimpleMeterRegistry());
+
+    /**
+     * Sharding disabled: every statement runs on the default DataSource
+     */
+    @Spy
+    private ShardRouter shardRouter = new ShardRouter(new ShardingProperties());
+
+    @Mock
+    private SysUserShardWriter sysUserShardWriter;
+
+    @Mock
+    private SysAuthoritiesMapper sysAuthoritiesMapper;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private SysUserChangeFeed sysUserChangeFeed;
+
     @InjectMocks
     private SysUserService sysUserService;
 
+    private static UserCacheProperties disabledCacheProperties() {
+        UserCacheProperties properties = new UserCacheProperties();
+        properties.setEnabled(false);
+        return properties;
+    }
+
+    @BeforeAll
+    static void initTableInfo() {
+        MybatisPlusTestSupport.initTableInfo(SysUser.class);
+    }
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUpTransactions() {
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(mock(TransactionStatus.class)));
+        lenient().doAnswer(invocation -> {
+            ((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
     @Test
     @DisplayName("Should successfully return existing user")
     void shouldReturnUserWhenUserExists() {
@@ -278,7 +351,7 @@ class SysUserServiceTest extends AbstractMockTest {
                 .thenReturn(mockPage);
 
         // When
-        IPage<SysUser> result = sysUserService.pageUsers(zeroBasedPage, size, null);
+        IPage<SysUser> result = sysUserService.pageUsers(zeroBasedPage, size, null, false, null);
 
         // Then
         assertThat(result).isNotNull();
@@ -306,7 +379,7 @@ class SysUserServiceTest extends AbstractMockTest {
                 .thenReturn(mockPage);
 
         // When
-        IPage<SysUser> result = sysUserService.pageUsers(page, size, username);
+        IPage<SysUser> result = sysUserService.pageUsers(page, size, username, false, null);
 
         // Then
         assertThat(result).isNotNull();
@@ -332,7 +405,7 @@ class SysUserServiceTest extends AbstractMockTest {
                 .thenReturn(mockPage);
 
         // When
-        IPage<SysUser> result = sysUserService.pageUsers(page, size, username);
+        IPage<SysUser> result = sysUserService.pageUsers(page, size, username, false, null);
 
         // Then
         assertThat(result).isNotNull();
@@ -357,7 +430,7 @@ class SysUserServiceTest extends AbstractMockTest {
                 .thenReturn(mockPage);
 
         // When
-        IPage<SysUser> result = sysUserService.pageUsers(page, size, null);
+        IPage<SysUser> result = sysUserService.pageUsers(page, size, null, false, null);
 
         // Then
         assertThat(result).isNotNull();
@@ -381,7 +454,7 @@ class SysUserServiceTest extends AbstractMockTest {
                 .thenReturn(mockPage);
 
         // When
-        IPage<SysUser> result = sysUserService.pageUsers(page, size, null);
+        IPage<SysUser> result = sysUserService.pageUsers(page, size, null, false, null);
 
         // Then
         assertThat(result).isNotNull();
@@ -411,7 +484,7 @@ class SysUserServiceTest extends AbstractMockTest {
                 .thenReturn(mockPage);
 
         // When
-        IPage<SysUser> result = sysUserService.pageUsers(page, size, null);
+        IPage<SysUser> result = sysUserService.pageUsers(page, size, null, false, null);
 
         // Then
         assertThat(result).isNotNull();
@@ -429,7 +502,7 @@ class SysUserServiceTest extends AbstractMockTest {
                 .thenThrow(new RuntimeException("Database error"));
 
         // When & Then
-        assertThatThrownBy(() -> sysUserService.pageUsers(0, 10, null))
+        assertThatThrownBy(() -> sysUserService.pageUsers(0, 10, null, false, null))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("Database error");
 
@@ -473,6 +546,82 @@ class SysUserServiceTest extends AbstractMockTest {
         verify(sysUserMapper, times(1)).selectById(userId);
     }
 
+    @Test
+    @DisplayName("Should resolve requested fields and reject unknown or hidden ones")
+    void shouldResolveFields() {
+        assertThat(sysUserService.resolveFields(" userId, userName ,,roles")).containsExactly("userId", "userName", "roles");
+        assertThat(sysUserService.resolveFields(" ")).isNull();
+        assertThatThrownBy(() -> sysUserService.resolveFields("userId,password"))
+                .isInstanceOf(AppException.class)
+                .hasMessageContaining("password");
+        assertThatThrownBy(() -> sysUserService.resolveFields("salary"))
+                .isInstanceOf(AppException.class)
+                .satisfies(e -> assertThat(((AppException) e).getErrorCode()).isEqualTo(ErrorCode.PARAM_VALIDATION_ERROR));
+    }
+
+    @Test
+    @DisplayName("Should select only the requested columns and the key for a page")
+    @SuppressWarnings("unchecked")
+    void shouldProjectPageQuery() {
+        // Given
+        when(sysUserMapper.selectPage(any(), any())).thenReturn(new Page<>(0, 10));
+
+        // When
+        sysUserService.pageUsers(0, 10, null, false, Set.of("userName"));
+
+        // Then
+        verify(sysUserMapper).selectPage(any(), argThat((Wrapper<SysUser> wrapper) -> {
+            String select = wrapper.getSqlSelect();
+            return select.contains("user_id") && select.contains("user_name") && !select.contains("email");
+        }));
+    }
+
+    @Test
+    @DisplayName("Should read a user with a projected select when the cache is disabled")
+    @SuppressWarnings("unchecked")
+    void shouldProjectGetUserByIdWithoutCache() {
+        // Given
+        SysUser user = TestDataFactory.createDefaultUser();
+        when(sysUserMapper.selectOne(any())).thenReturn(user);
+
+        // When
+        SysUser result = sysUserService.getUserById("123", Set.of("email"));
+
+        // Then
+        assertThat(result).isSameAs(user);
+        verify(sysUserMapper).selectOne(argThat((Wrapper<SysUser> wrapper) -> {
+            String select = wrapper.getSqlSelect();
+            // The version feeds the ETag
+            return select.contains("email") && select.contains("version") && !select.contains("user_name");
+        }));
+        verify(sysUserMapper, never()).selectById(any());
+    }
+
+    @Test
+    @DisplayName("Should serve a field-restricted user from the cache when enabled")
+    void shouldServeFieldRestrictedUserFromCache() {
+        // Given
+        doReturn(true).when(sysUserCache).isEnabled();
+        when(sysUserMapper.selectById("123")).thenReturn(TestDataFactory.createDefaultUser());
+
+        // When
+        sysUserService.getUserById("123", Set.of("email"));
+
+        // Then
+        verify(sysUserMapper, never()).selectOne(any());
+        verify(sysUserMapper).selectById("123");
+    }
+
+    @Test
+    @DisplayName("Should throw not found for a missing user with a projected select")
+    void shouldThrowNotFoundWithProjectedSelect() {
+        when(sysUserMapper.selectOne(any())).thenReturn(null);
+
+        assertThatThrownBy(() -> sysUserService.getUserById("999", Set.of("email")))
+                .isInstanceOf(AppException.class)
+                .hasMessageContaining("User not found");
+    }
+
     @Test
     @DisplayName("Should create user successfully with valid data")
     void shouldCreateUserSuccessfully() {
@@ -495,6 +644,8 @@ class SysUserServiceTest extends AbstractMockTest {
         // Then
         verify(passwordEncoder, times(1)).encode("password123");
         verify(sysUserMapper, times(1)).insert(any(SysUser.class));
+        verify(sysUserCache, times(1)).evictUsernames(List.of("newuser"));
+        verify(sysUserChangeFeed).record(SysUserOutbox.Type.CREATED, List.of("100"));
     }
 
     @Test
@@ -592,69 +743,99 @@ class SysUserServiceTest extends AbstractMockTest {
     }
 
     @Test
-    @DisplayName("Should update user email successfully")
+    @DisplayName("Should update user email with a single conditional statement")
     void shouldUpdateUserEmail() {
         // Given
         String userId = "2";
         UpdateUserRequestDTO dto = new UpdateUserRequestDTO();
         dto.setEmail("newemail@example.com");
 
-        SysUser existingUser = TestDataFactory.createDefaultUser();
-        existingUser.setUserId(userId);
-        existingUser.setEmail("old@example.com");
-
-        when(sysUserMapper.selectById(userId)).thenReturn(existingUser);
-        when(sysUserMapper.updateById(any(SysUser.class))).thenReturn(1);
+        when(sysUserMapper.update(any(SysUser.class), any())).thenReturn(1);
 
         // When
         sysUserService.updateUser(userId, dto);
 
         // Then
-        verify(sysUserMapper, times(1)).selectById(userId);
-        verify(sysUserMapper, times(1)).updateById(argThat((SysUser user) ->
+        verify(sysUserMapper, never()).selectById(any());
+        verify(sysUserMapper, times(1)).update(argThat((SysUser user) ->
                 "newemail@example.com".equals(user.getEmail())
-        ));
+        ), any());
+        verify(sysUserCache, times(1)).evictUsers(List.of(userId));
+        verify(transactionTemplate).execute(any());
+        verify(sysUserChangeFeed).record(SysUserOutbox.Type.UPDATED, List.of(userId));
     }
 
     @Test
-    @DisplayName("Should throw exception when updating non-existent user")
+    @DisplayName("Should write only changed columns")
+    void shouldWriteOnlyChangedColumns() {
+        // Given
+        String userId = "2";
+        UpdateUserRequestDTO dto = new UpdateUserRequestDTO();
+        dto.setEmail("newemail@example.com");
+
+        when(sysUserMapper.update(any(SysUser.class), any())).thenReturn(1);
+
+        // When
+        sysUserService.updateUser(userId, dto);
+
+        // Then - unchanged fields stay null so they are not part of the SET clause
+        verify(sysUserMapper).update(argThat((SysUser user) ->
+                user.getUserName() == null && user.getPassword() == null && user.getVersion() == null
+        ), any());
+    }
+
+    @Test
+    @DisplayName("Should throw not found when no row is updated and no version is given")
     void shouldThrowExceptionWhenUserNotFoundForUpdate() {
         // Given
         String userId = "999";
         UpdateUserRequestDTO dto = new UpdateUserRequestDTO();
         dto.setEmail("new@example.com");
 
-        when(sysUserMapper.selectById(userId)).thenReturn(null);
+        when(sysUserMapper.update(any(SysUser.class), any())).thenReturn(0);
 
         // When & Then
         assertThatThrownBy(() -> sysUserService.updateUser(userId, dto))
                 .isInstanceOf(AppException.class)
                 .hasMessageContaining("User not found");
 
-        verify(sysUserMapper, times(1)).selectById(userId);
-        verify(sysUserMapper, never()).updateById(any(SysUser.class));
+        verify(sysUserMapper, never()).exists(any());
+        verifyNoInteractions(sysUserChangeFeed);
     }
 
     @Test
-    @DisplayName("Should throw exception when database update fails")
-    void shouldThrowExceptionWhenUpdateFails() {
+    @DisplayName("Should throw conflict when expected version is stale")
+    void shouldThrowConflictWhenVersionIsStale() {
         // Given
         String userId = "2";
         UpdateUserRequestDTO dto = new UpdateUserRequestDTO();
         dto.setEmail("new@example.com");
+        dto.setVersion(3);
 
-        SysUser existingUser = TestDataFactory.createDefaultUser();
-        existingUser.setUserId(userId);
-
-        when(sysUserMapper.selectById(userId)).thenReturn(existingUser);
-        when(sysUserMapper.updateById(any(SysUser.class))).thenReturn(0);
+        when(sysUserMapper.update(any(SysUser.class), any())).thenReturn(0);
+        when(sysUserMapper.exists(any())).thenReturn(true);
 
         // When & Then
         assertThatThrownBy(() -> sysUserService.updateUser(userId, dto))
                 .isInstanceOf(AppException.class)
-                .hasMessageContaining("Failed to update user");
+                .satisfies(e -> assertThat(((AppException) e).getErrorCode()).isEqualTo(ErrorCode.DATA_CONFLICT));
+    }
+
+    @Test
+    @DisplayName("Should throw not found when versioned update hits a missing user")
+    void shouldThrowNotFoundWhenVersionedUpdateHitsMissingUser() {
+        // Given
+        String userId = "999";
+        UpdateUserRequestDTO dto = new UpdateUserRequestDTO();
+        dto.setVersion(3);
+
+        when(sysUserMapper.update(any(SysUser.class), any())).thenReturn(0);
+        when(sysUserMapper.exists(any())).thenReturn(false);
 
-        verify(sysUserMapper, times(1)).updateById(any(SysUser.class));
+        // When & Then
+        assertThatThrownBy(() -> sysUserService.updateUser(userId, dto))
+                .isInstanceOf(AppException.class)
+                .satisfies(e -> assertThat(((AppException) e).getErrorCode()).isEqualTo(ErrorCode.DATA_NOT_FOUND));
     }
 
     @Test
@@ -665,20 +846,13 @@ class SysUserServiceTest extends AbstractMockTest {
         UpdateUserRequestDTO dto = new UpdateUserRequestDTO();
         dto.setEmail(null);
 
-        SysUser existingUser = TestDataFactory.createDefaultUser();
-        existingUser.setUserId(userId);
-        existingUser.setEmail("existing@example.com");
-
-        when(sysUserMapper.selectById(userId)).thenReturn(existingUser);
-        when(sysUserMapper.updateById(any(SysUser.class))).thenReturn(1);
+        when(sysUserMapper.update(any(SysUser.class), any())).thenReturn(1);
 
         // When
         sysUserService.updateUser(userId, dto);
 
         // Then
-        verify(sysUserMapper, times(1)).updateById(argThat((SysUser user) ->
-                "existing@example.com".equals(user.getEmail()) // Email unchanged
-        ));
+        verify(sysUserMapper, times(1)).update(argThat((SysUser user) -> user.getEmail() == null), any());
     }
 
     @Test
@@ -689,42 +863,35 @@ class SysUserServiceTest extends AbstractMockTest {
         UpdateUserRequestDTO dto = new UpdateUserRequestDTO();
         dto.setEmail("");
 
-        SysUser existingUser = TestDataFactory.createDefaultUser();
-        existingUser.setUserId(userId);
-        existingUser.setEmail("existing@example.com");
-
-        when(sysUserMapper.selectById(userId)).thenReturn(existingUser);
-        when(sysUserMapper.updateById(any(SysUser.class))).thenReturn(1);
+        when(sysUserMapper.update(any(SysUser.class), any())).thenReturn(1);
 
         // When
         sysUserService.updateUser(userId, dto);
 
         // Then
-        verify(sysUserMapper, times(1)).updateById(argThat((SysUser user) ->
-                "existing@example.com".equals(user.getEmail()) // Email unchanged
-        ));
+        verify(sysUserMapper, times(1)).update(argThat((SysUser user) -> user.getEmail() == null), any());
     }
 
     // ========== Delete User Tests ==========
 
     @Test
-    @DisplayName("Should delete user successfully when valid")
+    @DisplayName("Should delete user with a single statement when valid")
     void shouldDeleteUserSuccessfully() {
         // Given
         String userId = "2";
         String currentUserId = "1";
-        SysUser existingUser = TestDataFactory.createDefaultUser();
-        existingUser.setUserId(userId);
 
-        when(sysUserMapper.selectById(userId)).thenReturn(existingUser);
         when(sysUserMapper.deleteById((String) any())).thenReturn(1);
 
         // When
         sysUserService.deleteUser(userId, currentUserId);
 
         // Then
-        verify(sysUserMapper, times(1)).selectById(userId);
+        verify(sysUserMapper, never()).selectById(any());
         verify(sysUserMapper, times(1)).deleteById((String) any());
+        verify(sessionMapper, times(1)).delete(userId);
+        verify(sysUserCache, times(1)).evictUsers(List.of(userId));
+        verify(sysUserChangeFeed).record(SysUserOutbox.Type.DELETED, List.of(userId));
     }
 
     @Test
@@ -746,39 +913,19 @@ class SysUserServiceTest extends AbstractMockTest {
     }
 
     @Test
-    @DisplayName("Should throw exception when deleting non-existent user")
+    @DisplayName("Should throw not found when no row is deleted")
     void shouldThrowExceptionWhenUserNotFoundForDelete() {
         // Given
         String userId = "999";
         String currentUserId = "1";
 
-        when(sysUserMapper.selectById(userId)).thenReturn(null);
-
-        // When & Then
-        assertThatThrownBy(() -> sysUserService.deleteUser(userId, currentUserId))
-                .isInstanceOf(AppException.class)
-                .hasMessageContaining("User not found");
-
-        verify(sysUserMapper, times(1)).selectById(userId);
-        verify(sysUserMapper, never()).deleteById((String) any());
-    }
-
-    @Test
-    @DisplayName("Should throw exception when database delete fails")
-    void shouldThrowExceptionWhenDeleteFails() {
-        // Given
-        String userId = "2";
-        String currentUserId = "1";
-        SysUser existingUser = TestDataFactory.createDefaultUser();
-        existingUser.setUserId(userId);
-
-        when(sysUserMapper.selectById(userId)).thenReturn(existingUser);
         when(sysUserMapper.deleteById((String) any())).thenReturn(0);
 
         // When & Then
         assertThatThrownBy(() -> sysUserService.deleteUser(userId, currentUserId))
                 .isInstanceOf(AppException.class)
-                .hasMessageContaining("Failed to delete user");
+                .hasMessageContaining("User not found")
+                .satisfies(e -> assertThat(((AppException) e).getErrorCode()).isEqualTo(ErrorCode.DATA_NOT_FOUND));
 
         verify(sysUserMapper, times(1)).deleteById((String) any());
     }
@@ -789,10 +936,7 @@ class SysUserServiceTest extends AbstractMockTest {
         // Given
         String adminUserId = "1";
         String targetUserId = "2";
-        SysUser targetUser = TestDataFactory.createDefaultUser();
-        targetUser.setUserId(targetUserId);
 
-        when(sysUserMapper.selectById(targetUserId)).thenReturn(targetUser);
         when(sysUserMapper.deleteById((String) any())).thenReturn(1);
 
         // When
@@ -809,17 +953,362 @@ class SysUserServiceTest extends AbstractMockTest {
         String userId = "1";
         String differentUserId = "2";
 
-        // When & Then - Different IDs should not throw exception
+        // When & Then - Same IDs should throw exception
         assertThatThrownBy(() -> sysUserService.deleteUser(userId, userId))
                 .isInstanceOf(AppException.class);
 
         // Different IDs should proceed
-        SysUser existingUser = TestDataFactory.createDefaultUser();
-        existingUser.setUserId(userId);
-        when(sysUserMapper.selectById(userId)).thenReturn(existingUser);
         when(sysUserMapper.deleteById((String) any())).thenReturn(1);
 
         sysUserService.deleteUser(userId, differentUserId);
         verify(sysUserMapper, times(1)).deleteById((String) any());
     }
+
+    // ========== Bulk Operation Tests ==========
+
+    private static BulkUserRequestDTO bulkRequest(BulkUserRequestDTO.Action action, String... userIds) {
+        BulkUserRequestDTO dto = new BulkUserRequestDTO();
+        dto.setAction(action);
+        dto.setUserIds(List.of(userIds));
+        return dto;
+    }
+
+    private static SysUser userWithId(String userId) {
+        SysUser user = new SysUser();
+        user.setUserId(userId);
+        return user;
+    }
+
+    @Test
+    @DisplayName("Should bulk delete existing users with one update and one session revocation")
+    @SuppressWarnings("unchecked")
+    void shouldBulkDeleteExistingUsers() {
+        // Given
+        when(sysUserMapper.selectList(any())).thenReturn(List.of(userWithId("2"), userWithId("3")));
+        when(sysUserMapper.update(any(SysUser.class), any())).thenReturn(2);
+
+        // When
+        BulkUserResultDTO result = sysUserService.bulkUpdateUsers(
+                bulkRequest(BulkUserRequestDTO.Action.DELETE, "2", "3"), "1");
+
+        // Then
+        assertThat(result.getSucceeded()).isEqualTo(2);
+        assertThat(result.getFailed()).isZero();
+        assertThat(result.getResults()).allMatch(BulkUserResultDTO.Item::isSuccess);
+        verify(sysUserMapper, times(1)).update(any(SysUser.class), argThat((Wrapper<SysUser> wrapper) ->
+                wrapper.getSqlSet().contains("version = version + 1")));
+        verify(sessionMapper, times(1)).deleteAll((Collection<String>) argThat(ids ->
+                ((Collection<String>) ids).containsAll(Set.of("2", "3"))));
+        verify(sysUserCache, times(1)).evictUsers((Collection<String>) argThat(ids ->
+                ((Collection<String>) ids).containsAll(Set.of("2", "3"))));
+        verify(sysUserChangeFeed).record(SysUserOutbox.Type.DELETED, Set.of("2", "3"));
+    }
+
+    @Test
+    @DisplayName("Should report self and unknown IDs as failures in request order")
+    void shouldReportSelfAndUnknownIds() {
+        // Given
+        when(sysUserMapper.selectList(any())).thenReturn(List.of(userWithId("2")));
+        when(sysUserMapper.update(any(SysUser.class), any())).thenReturn(1);
+
+        // When
+        BulkUserResultDTO result = sysUserService.bulkUpdateUsers(
+                bulkRequest(BulkUserRequestDTO.Action.DISABLE, "1", "2", "999", "2"), "1");
+
+        // Then - duplicate IDs are collapsed
+        assertThat(result.getResults()).extracting(BulkUserResultDTO.Item::getUserId)
+                .containsExactly("1", "2", "999");
+        assertThat(result.getResults()).extracting(BulkUserResultDTO.Item::getCode)
+                .containsExactly(ErrorCode.CANNOT_DELETE_YOURSELF.getCode(), null, ErrorCode.DATA_NOT_FOUND.getCode());
+        assertThat(result.getSucceeded()).isEqualTo(1);
+        assertThat(result.getFailed()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should lock the rows and report and record only the users the update changed")
+    void shouldReportOnlyChangedUsers() {
+        // Given - user 3 is already disabled
+        SysUser disabled = userWithId("3");
+        disabled.setStatus(1);
+        when(sysUserMapper.selectList(any())).thenReturn(List.of(userWithId("2"), disabled));
+        when(sysUserMapper.update(any(SysUser.class), any())).thenReturn(1);
+
+        // When
+        BulkUserResultDTO result = sysUserService.bulkUpdateUsers(
+                bulkRequest(BulkUserRequestDTO.Action.DISABLE, "2", "3"), "1");
+
+        // Then
+        assertThat(result.getResults()).extracting(BulkUserResultDTO.Item::getCode)
+                .containsExactly(null, ErrorCode.DATA_CONFLICT.getCode());
+        assertThat(result.getSucceeded()).isEqualTo(1);
+        verify(sysUserMapper).selectList(argThat((Wrapper<SysUser> wrapper) ->
+                wrapper.getCustomSqlSegment().endsWith("FOR UPDATE")));
+        verify(sysUserMapper).update(any(SysUser.class), argThat((Wrapper<SysUser> wrapper) ->
+                wrapper.getCustomSqlSegment().contains("status <>")));
+        verify(sysUserChangeFeed).record(SysUserOutbox.Type.DISABLED, Set.of("2"));
+        verify(sessionMapper).deleteAll(Set.of("2"));
+    }
+
+    @Test
+    @DisplayName("Should roll back instead of recording events when the update count differs")
+    void shouldFailWhenUpdateCountDiffers() {
+        // Given
+        when(sysUserMapper.selectList(any())).thenReturn(List.of(userWithId("2"), userWithId("3")));
+        when(sysUserMapper.update(any(SysUser.class), any())).thenReturn(1);
+
+        // When & Then
+        assertThatThrownBy(() -> sysUserService.bulkUpdateUsers(
+                bulkRequest(BulkUserRequestDTO.Action.DELETE, "2", "3"), "1"))
+                .isInstanceOf(AppException.class)
+                .satisfies(e -> assertThat(((AppException) e).getErrorCode()).isEqualTo(ErrorCode.DATA_CONFLICT));
+        verify(sysUserChangeFeed, never()).record(any(), any());
+        verify(sessionMapper, never()).deleteAll(any());
+    }
+
+    @Test
+    @DisplayName("Should skip update and revocation when no requested user exists")
+    void shouldSkipUpdateWhenNoUserExists() {
+        // Given
+        when(sysUserMapper.selectList(any())).thenReturn(List.of());
+
+        // When
+        BulkUserResultDTO result = sysUserService.bulkUpdateUsers(
+                bulkRequest(BulkUserRequestDTO.Action.DELETE, "998", "999"), "1");
+
+        // Then
+        assertThat(result.getFailed()).isEqualTo(2);
+        verify(sysUserMapper, never()).update(any(SysUser.class), any());
+        verify(sessionMapper, never()).deleteAll(any());
+    }
+
+    @Test
+    @DisplayName("Should not query the database when only the current user is requested")
+    void shouldNotQueryWhenOnlySelfRequested() {
+        // When
+        BulkUserResultDTO result = sysUserService.bulkUpdateUsers(
+                bulkRequest(BulkUserRequestDTO.Action.DELETE, "1"), "1");
+
+        // Then
+        assertThat(result.getFailed()).isEqualTo(1);
+        verifyNoInteractions(sysUserMapper, sessionMapper);
+    }
+
+    private static ShardRouter shardedRouter(int shardCount) {
+        ShardingProperties properties = new ShardingProperties();
+        properties.setEnabled(true);
+        for (int i = 0; i < shardCount; i++) {
+            properties.getShards().add(new ShardingProperties.Shard());
+        }
+        return new ShardRouter(properties);
+    }
+
+    private SysUserService shardedService(ShardRouter router) {
+        return new SysUserService(sysUserMapper, sessionMapper, passwordEncoder, sysUserCache, router, sysUserShardWriter,
+                sysAuthoritiesMapper, transactionTemplate, sysUserChangeFeed);
+    }
+
+    @Test
+    @DisplayName("Should scatter page queries to all shards and merge by user ID")
+    @SuppressWarnings("unchecked")
+    void shouldMergeShardPagesInUserIdOrder() {
+        // Given
+        ShardRouter router = shardedRouter(3);
+        List<List<String>> idsByShard = List.of(List.of("1", "4", "7"), List.of("2", "5"), List.of("3", "6"));
+        when(sysUserMapper.selectPage(any(Page.class), any())).thenAnswer(invocation -> {
+            List<String> ids = idsByShard.get(ShardContextHolder.get());
+            Page<SysUser> shardPage = new Page<>(1, ((Page<SysUser>) invocation.getArgument(0)).getSize(), ids.size());
+            shardPage.setRecords(ids.stream().map(SysUserServiceTest::userWithId).toList());
+            return shardPage;
+        });
+
+        try {
+            // When
+            Page<SysUser> result = shardedService(router).pageUsers(2, 3, null, false, null);
+
+            // Then - each shard is asked for its first page * size rows
+            assertThat(result.getTotal()).isEqualTo(7);
+            assertThat(result.getCurrent()).isEqualTo(2);
+            assertThat(result.getRecords()).extracting(SysUser::getUserId).containsExactly("4", "5", "6");
+            verify(sysUserMapper, times(3)).selectPage(argThat((Page<SysUser> p) -> p.getSize() == 6), any());
+        } finally {
+            router.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should create user through the directory when sharded")
+    void shouldCreateUserThroughDirectoryWhenSharded() {
+        // Given
+        ShardRouter router = shardedRouter(2);
+        CreateUserRequestDTO dto = new CreateUserRequestDTO();
+        dto.setUsername("newuser");
+        dto.setPassword("password123");
+        doThrow(new DuplicateKeyException("Duplicate entry 'newuser' for key 'PRIMARY'"))
+                .when(sysUserShardWriter).insert(any(SysUser.class));
+
+        // When & Then
+        assertThatThrownBy(() -> shardedService(router).createUser(dto))
+                .isInstanceOf(AppException.class)
+                .satisfies(e -> assertThat(((AppException) e).getErrorCode()).isEqualTo(ErrorCode.USERNAME_ALREADY_EXISTS));
+        verify(sysUserMapper, never()).insert(any(SysUser.class));
+    }
+
+    @Test
+    @DisplayName("Should delete on the user's shard and release the username when sharded")
+    void shouldReleaseUsernameOnDeleteWhenSharded() {
+        // Given
+        ShardRouter router = shardedRouter(4);
+        String userId = "1234567890";
+        int expectedShard = router.shardOf(userId);
+        when(sysUserMapper.deleteById((String) any())).thenAnswer(invocation ->
+                ShardContextHolder.get() == expectedShard ? 1 : 0);
+
+        // When
+        shardedService(router).deleteUser(userId, "1");
+
+        // Then
+        verify(sysUserShardWriter, times(1)).deleteDirectory(List.of(userId));
+        verify(sessionMapper, times(1)).delete(userId);
+    }
+
+    @Test
+    @DisplayName("Should run one select and one update per shard for bulk operations")
+    @SuppressWarnings("unchecked")
+    void shouldBulkUpdatePerShard() {
+        // Given
+        ShardRouter router = shardedRouter(2);
+        List<String> ids = List.of("10", "11", "12", "13", "14", "15");
+        when(sysUserMapper.selectList(any())).thenAnswer(invocation -> ids.stream()
+                .filter(id -> router.shardOf(id) == ShardContextHolder.get())
+                .map(SysUserServiceTest::userWithId)
+                .toList());
+        when(sysUserMapper.update(any(SysUser.class), any())).thenAnswer(invocation -> (int) ids.stream()
+                .filter(id -> router.shardOf(id) == ShardContextHolder.get())
+                .count());
+        long shardsUsed = ids.stream().map(router::shardOf).distinct().count();
+
+        // When
+        BulkUserResultDTO result = shardedService(router).bulkUpdateUsers(
+                bulkRequest(BulkUserRequestDTO.Action.DELETE, ids.toArray(String[]::new)), "1");
+
+        // Then
+        assertThat(result.getSucceeded()).isEqualTo(6);
+        verify(sysUserMapper, times((int) shardsUsed)).selectList(any());
+        verify(sysUserMapper, times((int) shardsUsed)).update(any(SysUser.class), any());
+        verify(sysUserShardWriter, times(1)).deleteDirectory((Collection<String>) argThat(c ->
+                ((Collection<String>) c).size() == 6));
+    }
+
+    @Test
+    @DisplayName("Should resolve many IDs with one IN query and omit unknown IDs")
+    void shouldGetUsersByIdsWithOneQuery() {
+        // Given
+        when(sysUserMapper.selectByIds(anyCollection())).thenReturn(List.of(userWithId("3"), userWithId("1")));
+
+        // When
+        Map<String, SysUser> users = sysUserService.getUsersByIds(List.of("1", "3", "404", "1"));
+
+        // Then
+        assertThat(users.keySet()).containsExactly("1", "3");
+        verify(sysUserMapper, times(1)).selectByIds(argThat((Collection<String> ids) -> ids.size() == 3));
+    }
+
+    @Test
+    @DisplayName("Should reject multi-get requests above the ID limit")
+    void shouldRejectTooManyIds() {
+        // Given
+        List<String> ids = IntStream.rangeClosed(1, SysUserService.MAX_BATCH_IDS + 1).mapToObj(String::valueOf).toList();
+
+        // When & Then
+        assertThatThrownBy(() -> sysUserService.getUsersByIds(ids))
+                .isInstanceOf(AppException.class)
+                .satisfies(e -> assertThat(((AppException) e).getErrorCode()).isEqualTo(ErrorCode.PARAM_VALIDATION_ERROR));
+        verifyNoInteractions(sysUserMapper);
+    }
+
+    @Test
+    @DisplayName("Should run one IN query per shard for multi-get when sharded")
+    void shouldGetUsersByIdsPerShard() {
+        // Given
+        ShardRouter router = shardedRouter(2);
+        List<String> ids = List.of("10", "11", "12", "13", "14", "15");
+        when(sysUserMapper.selectByIds(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> shardIds = invocation.getArgument(0);
+            assertThat(shardIds).allMatch(id -> router.shardOf(id) == ShardContextHolder.get());
+            return shardIds.stream().map(SysUserServiceTest::userWithId).toList();
+        });
+        long shardsUsed = ids.stream().map(router::shardOf).distinct().count();
+
+        // When
+        Map<String, SysUser> users = shardedService(router).getUsersByIds(ids);
+
+        // Then
+        assertThat(users).hasSize(6);
+        verify(sysUserMapper, times((int) shardsUsed)).selectByIds(anyCollection());
+    }
+
+    private static SysUserRoleName roleName(String userId, String roleName) {
+        SysUserRoleName row = new SysUserRoleName();
+        row.setUserId(userId);
+        row.setRoleName(roleName);
+        return row;
+    }
+
+    @Test
+    @DisplayName("Should attach roles to a page with one grouped query")
+    void shouldAttachRolesWithOneQuery() {
+        // Given
+        Page<SysUser> mockPage = new Page<>(1, 10, 3);
+        mockPage.setRecords(List.of(userWithId("1"), userWithId("2"), userWithId("3")));
+        when(sysUserMapper.selectPage(any(), any())).thenReturn(mockPage);
+        when(sysAuthoritiesMapper.selectRoleNamesByUserIds(anyCollection())).thenReturn(List.of(
+                roleName("1", "ADMIN"), roleName("1", "USER"), roleName("2", "USER")));
+
+        // When
+        Page<SysUser> result = sysUserService.pageUsers(1, 10, null, true, null);
+
+        // Then
+        assertThat(result.getRecords()).extracting(SysUser::getRoles)
+                .containsExactly(List.of("ADMIN", "USER"), List.of("USER"), List.of());
+        verify(sysAuthoritiesMapper, times(1)).selectRoleNamesByUserIds(
+                argThat((Collection<String> ids) -> ids.size() == 3));
+    }
+
+    @Test
+    @DisplayName("Should not query roles unless requested or when the page is empty")
+    void shouldSkipRoleQueryWhenNotNeeded() {
+        // Given
+        Page<SysUser> emptyPage = new Page<>(1, 10, 0);
+        Page<SysUser> mockPage = new Page<>(1, 10, 1);
+        mockPage.setRecords(List.of(userWithId("1")));
+        when(sysUserMapper.selectPage(any(), any())).thenReturn(mockPage, emptyPage);
+
+        // When
+        Page<SysUser> withoutRoles = sysUserService.pageUsers(1, 10, null, false, null);
+        sysUserService.pageUsers(1, 10, null, true, null);
+
+        // Then
+        assertThat(withoutRoles.getRecords().get(0).getRoles()).isNull();
+        verifyNoInteractions(sysAuthoritiesMapper);
+    }
+
+    @Test
+    @DisplayName("Should resolve existing user IDs with one query per shard")
+    void shouldFindExistingUserIdsPerShard() {
+        // Given
+        ShardRouter router = shardedRouter(2);
+        List<String> ids = List.of("10", "11", "12", "13");
+        when(sysUserMapper.selectObjs(any())).thenAnswer(invocation -> ids.stream()
+                .filter(id -> router.shardOf(id) == ShardContextHolder.get())
+                .filter(id -> !"13".equals(id))
+                .toList());
+        long shardsUsed = ids.stream().map(router::shardOf).distinct().count();
+
+        // When
+        Set<String> existing = shardedService(router).findExistingUserIds(ids);
+
+        // Then
+        assertThat(existing).containsExactlyInAnyOrder("10", "11", "12");
+        verify(sysUserMapper, times((int) shardsUsed)).selectObjs(any());
+    }
 }
@@ -0,0 +1,217 @@
+package com.java.admin.modules.system.service;
+
+import com.java.admin.config.ShardingProperties;
+import com.java.admin.infrastructure.datasource.ShardContextHolder;
+import com.java.admin.infrastructure.datasource.ShardRouter;
+import com.java.admin.modules.system.mapper.SysUserDirectoryMapper;
+import com.java.admin.modules.system.mapper.SysUserMapper;
+import com.java.admin.modules.system.model.SysUser;
+import com.java.admin.modules.system.model.SysUserDirectory;
+import com.java.admin.modules.system.model.SysUserOutbox;
+import com.java.admin.testutil.AbstractMockTest;
+import com.java.admin.testutil.MybatisPlusTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * SysUserShardWriter Unit Tests
+ *
+ * <p>Test Coverage:
+ * <ul>
+ *   <li>Directory lookup followed by one shard query</li>
+ *   <li>Directory-first inserts with compensation</li>
+ *   <li>Per-shard batches</li>
+ * </ul>
+ *
+ * <p>Coverage Target: 90%+
+ */
+@DisplayName("SysUserShardWriter Unit Tests")
+@org.mockito.junit.jupiter.MockitoSettings(strictness = org.mockito.quality.Strictness.LENIENT)
+class SysUserShardWriterTest extends AbstractMockTest {
+
+    @Mock
+    private SysUserMapper sysUserMapper;
+    @Mock
+    private SysUserDirectoryMapper sysUserDirectoryMapper;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private SysUserChangeFeed sysUserChangeFeed;
+
+    private ShardRouter shardRouter;
+    private SysUserShardWriter writer;
+
+    @BeforeAll
+    static void initTableInfo() {
+        MybatisPlusTestSupport.initTableInfo(SysUser.class, SysUserDirectory.class);
+    }
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ShardingProperties properties = new ShardingProperties();
+        properties.setEnabled(true);
+        for (int i = 0; i < 4; i++) {
+            properties.getShards().add(new ShardingProperties.Shard());
+        }
+        shardRouter = new ShardRouter(properties);
+        writer = new SysUserShardWriter(sysUserMapper, sysUserDirectoryMapper, shardRouter, transactionTemplate,
+                sysUserChangeFeed);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(mock(TransactionStatus.class)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        shardRouter.shutdown();
+    }
+
+    private static SysUser user(String userName) {
+        SysUser user = new SysUser();
+        user.setUserName(userName);
+        return user;
+    }
+
+    @Test
+    @DisplayName("Should resolve username through the directory and query only the user's shard")
+    void shouldSelectByUsernameInOneHop() {
+        // Given
+        SysUserDirectory entry = new SysUserDirectory();
+        entry.setUserName("admin");
+        entry.setUserId("1");
+        AtomicReference<Integer> directoryShard = new AtomicReference<>(-1);
+        when(sysUserDirectoryMapper.selectById("admin")).thenAnswer(invocation -> {
+            directoryShard.set(ShardContextHolder.get());
+            return entry;
+        });
+        SysUser stored = user("admin");
+        when(sysUserMapper.selectById("1")).thenAnswer(invocation ->
+                ShardContextHolder.get() == shardRouter.shardOf("1") ? stored : null);
+
+        // When
+        SysUser found = writer.selectByUsername("admin");
+
+        // Then
+        assertThat(found).isSameAs(stored);
+        assertThat(directoryShard.get()).isNull();
+        verify(sysUserMapper, times(1)).selectById("1");
+    }
+
+    @Test
+    @DisplayName("Should return null without touching shards for unknown usernames")
+    void shouldReturnNullForUnknownUsername() {
+        assertThat(writer.selectByUsername("ghost")).isNull();
+        verifyNoInteractions(sysUserMapper);
+    }
+
+    @Test
+    @DisplayName("Should write the directory row before the user row")
+    void shouldInsertDirectoryThenUser() {
+        // Given
+        SysUser user = user("alice");
+        AtomicReference<Integer> userShard = new AtomicReference<>();
+        when(sysUserMapper.insert(any(SysUser.class))).thenAnswer(invocation -> {
+            userShard.set(ShardContextHolder.get());
+            return 1;
+        });
+
+        // When
+        writer.insert(user);
+
+        // Then
+        assertThat(user.getUserId()).isNotNull();
+        assertThat(userShard.get()).isEqualTo(shardRouter.shardOf(user.getUserId()));
+        verify(sysUserDirectoryMapper).insert(argThat((SysUserDirectory entry) ->
+                "alice".equals(entry.getUserName()) && user.getUserId().equals(entry.getUserId())));
+        verify(sysUserChangeFeed).record(SysUserOutbox.Type.CREATED, List.of(user.getUserId()));
+    }
+
+    @Test
+    @DisplayName("Should not touch shards when the username is taken")
+    void shouldRejectTakenUsername() {
+        // Given
+        when(sysUserDirectoryMapper.insert(any(SysUserDirectory.class)))
+                .thenThrow(new DuplicateKeyException("Duplicate entry 'alice' for key 'PRIMARY'"));
+
+        // When & Then
+        assertThatThrownBy(() -> writer.insert(user("alice"))).isInstanceOf(DuplicateKeyException.class);
+        verifyNoInteractions(sysUserMapper);
+    }
+
+    @Test
+    @DisplayName("Should remove the directory row when the shard insert fails")
+    @SuppressWarnings("unchecked")
+    void shouldCompensateDirectoryOnShardFailure() {
+        // Given
+        when(sysUserMapper.insert(any(SysUser.class))).thenThrow(new DataAccessResourceFailureException("shard down"));
+
+        // When & Then
+        assertThatThrownBy(() -> writer.insert(user("alice"))).isInstanceOf(DataAccessResourceFailureException.class);
+        verify(sysUserDirectoryMapper).deleteByIds((Collection<String>) argThat(names ->
+                ((Collection<String>) names).contains("alice")));
+    }
+
+    @Test
+    @DisplayName("Should assign IDs and write one directory batch and one shard batch per group")
+    @SuppressWarnings("unchecked")
+    void shouldInsertBatchPerShard() {
+        // Given
+        List<SysUser> users = List.of(user("a"), user("b"), user("c"), user("d"), user("e"));
+        Map<Integer, List<SysUser>> groups = writer.groupByShard(users);
+
+        // When
+        groups.forEach((shard, group) -> writer.insertBatch(shard, group, 100));
+
+        // Then
+        assertThat(users).allMatch(user -> user.getUserId() != null);
+        verify(sysUserDirectoryMapper, times(groups.size())).insert(any(Collection.class), eq(100));
+        verify(sysUserMapper, times(groups.size())).insert(any(Collection.class), eq(100));
+    }
+
+    @Test
+    @DisplayName("Should remove the group's directory rows when the shard batch fails")
+    @SuppressWarnings("unchecked")
+    void shouldCompensateBatchOnShardFailure() {
+        // Given
+        List<SysUser> users = List.of(user("a"), user("b"));
+        users.forEach(user -> user.setUserId("1"));
+        when(sysUserMapper.insert(any(Collection.class), anyInt()))
+                .thenThrow(new DataAccessResourceFailureException("shard down"));
+
+        // When & Then
+        assertThatThrownBy(() -> writer.insertBatch(shardRouter.shardOf("1"), users, 100))
+                .isInstanceOf(DataAccessResourceFailureException.class);
+        verify(sysUserDirectoryMapper).deleteByIds((Collection<String>) argThat(names ->
+                ((Collection<String>) names).containsAll(List.of("a", "b"))));
+    }
+
+    @Test
+    @DisplayName("Should report taken usernames lower-cased")
+    void shouldSelectExistingUsernames() {
+        // Given
+        SysUserDirectory entry = new SysUserDirectory();
+        entry.setUserName("Admin");
+        when(sysUserDirectoryMapper.selectList(any())).thenReturn(List.of(entry));
+
+        // Then
+        assertThat(writer.selectExistingUsernames(List.of("admin", "bob"))).containsExactly("admin");
+    }
+}
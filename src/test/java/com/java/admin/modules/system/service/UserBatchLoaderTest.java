@@ -0,0 +1,121 @@
+package com.java.admin.modules.system.service;
+
+import com.java.admin.infrastructure.constants.ErrorCode;
+import com.java.admin.infrastructure.exception.AppException;
+import com.java.admin.modules.system.model.SysUser;
+import com.java.admin.testutil.AbstractMockTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * UserBatchLoader Unit Tests
+ *
+ * <p>Test Coverage:
+ * <ul>
+ *   <li>Coalescing pending loads into one batch call</li>
+ *   <li>Per-request memoization and chunking</li>
+ *   <li>Failure propagation</li>
+ * </ul>
+ *
+ * <p>Coverage Target: 90%+
+ */
+@DisplayName("UserBatchLoader Unit Tests")
+class UserBatchLoaderTest extends AbstractMockTest {
+
+    @Mock
+    private SysUserService sysUserService;
+
+    @InjectMocks
+    private UserBatchLoader userBatchLoader;
+
+    private static SysUser user(String userId) {
+        SysUser user = new SysUser();
+        user.setUserId(userId);
+        return user;
+    }
+
+    @Test
+    @DisplayName("Should coalesce pending loads into one lookup")
+    void shouldCoalescePendingLoads() {
+        // Given
+        when(sysUserService.getUsersByIds(List.of("1", "2", "404"))).thenReturn(Map.of("1", user("1"), "2", user("2")));
+        CompletableFuture<SysUser> first = userBatchLoader.load("1");
+        CompletableFuture<SysUser> second = userBatchLoader.load("2");
+        CompletableFuture<SysUser> missing = userBatchLoader.load("404");
+        CompletableFuture<SysUser> duplicate = userBatchLoader.load("1");
+
+        // When
+        assertThat(first).isNotDone();
+        userBatchLoader.dispatch();
+
+        // Then
+        assertThat(first.join().getUserId()).isEqualTo("1");
+        assertThat(second.join().getUserId()).isEqualTo("2");
+        assertThat(missing.join()).isNull();
+        assertThat(duplicate).isSameAs(first);
+        verify(sysUserService, times(1)).getUsersByIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should memoize loaded users for the rest of the request")
+    void shouldMemoizeLoadedUsers() {
+        // Given
+        when(sysUserService.getUsersByIds(anyCollection())).thenReturn(Map.of("1", user("1")));
+
+        // When
+        SysUser first = userBatchLoader.get("1");
+        Map<String, SysUser> again = userBatchLoader.loadMany(List.of("1")).join();
+
+        // Then
+        assertThat(first.getUserId()).isEqualTo("1");
+        assertThat(again).containsOnlyKeys("1");
+        verify(sysUserService, times(1)).getUsersByIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should split large dispatches into limit-sized batches")
+    @SuppressWarnings("unchecked")
+    void shouldChunkLargeDispatches() {
+        // Given
+        when(sysUserService.getUsersByIds(anyCollection())).thenReturn(Map.of());
+        List<String> ids = IntStream.range(0, SysUserService.MAX_BATCH_IDS + 1).mapToObj(String::valueOf).toList();
+        CompletableFuture<Map<String, SysUser>> users = userBatchLoader.loadMany(ids);
+
+        // When
+        userBatchLoader.dispatch();
+
+        // Then
+        assertThat(users.join()).isEmpty();
+        verify(sysUserService, times(2)).getUsersByIds(argThat((Collection<String> batch) ->
+                batch.size() <= SysUserService.MAX_BATCH_IDS));
+    }
+
+    @Test
+    @DisplayName("Should fail pending futures and allow a retry when the lookup fails")
+    void shouldFailPendingFuturesOnError() {
+        // Given
+        when(sysUserService.getUsersByIds(anyCollection()))
+                .thenThrow(new AppException(ErrorCode.SYSTEM_ERROR))
+                .thenReturn(Map.of("1", user("1")));
+        CompletableFuture<SysUser> failed = userBatchLoader.load("1");
+
+        // When
+        userBatchLoader.dispatch();
+        SysUser retried = userBatchLoader.get("1");
+
+        // Then
+        assertThat(failed).isCompletedExceptionally();
+        assertThat(retried.getUserId()).isEqualTo("1");
+    }
+}
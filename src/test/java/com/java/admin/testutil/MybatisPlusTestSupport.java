@@ -0,0 +1,37 @@
+package com.java.admin.testutil;
+
+import com.baomidou.mybatisplus.core.MybatisConfiguration;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import org.apache.ibatis.builder.MapperBuilderAssistant;
+
+/**
+ * MyBatis-Plus metadata support for unit tests
+ *
+ * <p>Lambda wrappers that resolve columns eagerly (e.g. {@code select(SysUser::getUserName)})
+ * need the entity's table metadata, which is normally registered when mappers are scanned.
+ *
+ * <p>Usage:
+ * <pre>{@code
+ * @BeforeAll
+ * static void initTableInfo() {
+ *     MybatisPlusTestSupport.initTableInfo(SysUser.class);
+ * }
+ * }</pre>
+ */
+public class MybatisPlusTestSupport {
+
+    private static final MybatisConfiguration CONFIGURATION = new MybatisConfiguration();
+
+    /**
+     * Register table metadata for the given entity classes (idempotent)
+     *
+     * @param entityClasses entity classes
+     */
+    public static synchronized void initTableInfo(Class<?>... entityClasses) {
+        for (Class<?> entityClass : entityClasses) {
+            if (TableInfoHelper.getTableInfo(entityClass) == null) {
+                TableInfoHelper.initTableInfo(new MapperBuilderAssistant(CONFIGURATION, ""), entityClass);
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.java.admin.testutil;
+
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.otel.bridge.EventPublishingContextWrapper;
+import io.micrometer.tracing.otel.bridge.OtelCurrentTraceContext;
+import io.micrometer.tracing.otel.bridge.OtelTracer;
+import io.micrometer.tracing.otel.bridge.Slf4JEventListener;
+import io.opentelemetry.context.ContextStorage;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+
+import java.util.List;
+
+/**
+ * In-memory tracing for unit tests
+ *
+ * <p>Builds a real Micrometer {@link Tracer} on the OpenTelemetry SDK that samples every span and
+ * keeps finished spans in memory. Trace and span IDs are put into the MDC like in the application.
+ *
+ * <p>Usage:
+ * <pre>{@code
+ * private final TracingTestSupport tracing = new TracingTestSupport();
+ *
+ * // When
+ * filter.doFilter(request, response, chain);
+ *
+ * // Then
+ * assertThat(tracing.spans()).extracting(SpanData::getName).containsExactly("auth.filter");
+ * }</pre>
+ */
+public class TracingTestSupport {
+
+    static {
+        // As in the application: scope changes put trace and span IDs into the MDC
+        Slf4JEventListener mdc = new Slf4JEventListener();
+        ContextStorage.addWrapper(new EventPublishingContextWrapper(mdc::onEvent));
+    }
+
+    private final InMemorySpanExporter exporter = InMemorySpanExporter.create();
+    private final Tracer tracer;
+
+    public TracingTestSupport() {
+        SdkTracerProvider provider = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+                .build();
+        this.tracer = new OtelTracer(provider.get("test"), new OtelCurrentTraceContext(), event -> {
+        });
+    }
+
+    public Tracer tracer() {
+        return tracer;
+    }
+
+    /**
+     * Finished spans, in the order they ended
+     */
+    public List<SpanData> spans() {
+        return exporter.getFinishedSpanItems();
+    }
+
+    /**
+     * Finished span with the given name
+     */
+    public SpanData span(String name) {
+        return spans().stream()
+                .filter(span -> span.getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No span named " + name + " in " + spans()));
+    }
+}